@@ -0,0 +1,69 @@
+package abilities;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import config.GameScreen;
+import entities.Player;
+import game.GameProj;
+import headless.HeadlessEnvironment;
+
+// Lives in the abilities package so it can drive the package-private ability classes directly
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AbilitySweepBenchmark {
+    private static final int LOADED_CHUNKS = 4;
+    private static final long CHUNK_WAIT_MS = 10000L;
+
+    private GameProj gameProj;
+    private Player player;
+    private GroundSlamAbility groundSlam;
+
+    @Setup
+    public void setup() throws InterruptedException {
+        HeadlessEnvironment.init();
+        GameScreen.setGameMode(1);
+
+        gameProj = new GameProj(new FitViewport(GameScreen.SELECTED_WIDTH, GameScreen.SELECTED_HEIGHT), null, null);
+        player = gameProj.getPlayer();
+
+        // Chunks generate on the game's worker threads, so wait for them and let one frame commit their bodies
+        gameProj.generateChunksAroundPlayer();
+        long deadline = System.currentTimeMillis() + CHUNK_WAIT_MS;
+        while (gameProj.getChunks().size() < LOADED_CHUNKS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        gameProj.render(1 / 60f);
+
+        groundSlam = new GroundSlamAbility(null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gameProj.dispose();
+    }
+
+    @Benchmark
+    public void groundSlamSweep() {
+        groundSlam.execute(player, gameProj);
+        // Expire the stuns straight away so the effect slots stay the same size between calls
+        gameProj.updateStatusEffects(groundSlam.duration + 1f);
+        player.getAbilityManager().getActiveVisuals().clear();
+    }
+}
@@ -0,0 +1,95 @@
+package abilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entities.Enemy;
+import entities.EnemyStats;
+import entities.EnemyType;
+import entities.Player;
+import headless.HeadlessEnvironment;
+import managers.Box2DWorld;
+
+// Lives in the abilities package so it can create the package-private effect classes. A wave where every
+// enemy is bleeding, stunned and consecrated; the effects outlast the run and bleed does no damage, so the
+// set never changes. Run with -prof gc; gc.alloc.rate.norm should stay at ~0 B/op.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatusEffectBenchmark {
+    private static final float DURATION = 1_000_000f;
+
+    @Param({"50", "200"})
+    public int enemyCount;
+
+    private Box2DWorld world;
+    private StatusEffectSystem statusEffects;
+    private final List<Enemy> enemies = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        world = new Box2DWorld(null);
+        Player player = HeadlessEnvironment.createPlayer(world);
+        statusEffects = new StatusEffectSystem();
+
+        for (int i = 0; i < enemyCount; i++) {
+            float x = (i % 20) * 24f;
+            float y = 300f + (i / 20) * 24f;
+
+            BodyDef bodyDef = new BodyDef();
+            bodyDef.type = BodyDef.BodyType.DynamicBody;
+            bodyDef.position.set(x, y);
+            Body body = world.getWorld().createBody(bodyDef);
+            CircleShape shape = new CircleShape();
+            shape.setRadius(5f);
+            body.createFixture(shape, 1f);
+            shape.dispose();
+
+            Enemy enemy = new Enemy(new Rectangle(x - 8, y - 8, 16, 16), null, body, player,
+                    player.getAnimationManager(), EnemyStats.Factory.createWolfieEnemy(1), EnemyType.WOLFIE);
+            body.setUserData(enemy);
+            enemies.add(enemy);
+
+            StunEffect stun = new StunEffect(enemy, DURATION);
+            stun.onApply();
+            statusEffects.add(enemy, stun);
+            statusEffects.add(enemy, new BleedEffect(enemy, DURATION, 0));
+            statusEffects.add(enemy, new ConsecratedEffect(enemy, DURATION, 0));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        statusEffects.clear();
+        enemies.clear();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int updateStatusEffects() {
+        statusEffects.update(HeadlessEnvironment.STEP);
+        return statusEffects.getTargets().size();
+    }
+}
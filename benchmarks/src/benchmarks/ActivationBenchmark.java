@@ -0,0 +1,103 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entities.Enemy;
+import entities.Player;
+import headless.HeadlessEnvironment;
+import managers.ActivationRegion;
+import managers.Box2DWorld;
+import managers.Chunk;
+
+// One overworld frame of enemy AI plus the physics step, with the whole map loaded and the player in the middle
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActivationBenchmark {
+    private static final int MAP_SIZE_CHUNKS = 5;
+    private static final int CHUNK_SIZE = 32;
+    private static final int TILE_SIZE = 16;
+
+    @Param({"false", "true"})
+    public boolean activation;
+
+    private Box2DWorld world;
+    private Player player;
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final ActivationRegion activationRegion = new ActivationRegion();
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        world = new Box2DWorld(null);
+        player = HeadlessEnvironment.createPlayer(world);
+        Player.gameStarted = true;
+
+        Random random = new Random(42L);
+        int half = MAP_SIZE_CHUNKS / 2;
+        for (int x = -half; x <= half; x++) {
+            for (int y = -half; y <= half; y++) {
+                Chunk chunk = new Chunk(x, y, CHUNK_SIZE, TILE_SIZE, random, world.getWorld(), player, player.getAnimationManager());
+                chunk.addBodiesToWorld(world.getWorld());
+                chunks.add(chunk);
+            }
+        }
+        world.step(HeadlessEnvironment.STEP);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println();
+        System.out.println("awake " + activationRegion.getActiveCount() + ", dormant " + activationRegion.getDormantCount()
+                + ", bodies " + world.getWorld().getBodyCount());
+        Player.gameStarted = false;
+        for (Chunk chunk : chunks) {
+            chunk.dispose();
+        }
+        chunks.clear();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int frame() {
+        if (activation) {
+            Vector2 playerPos = player.getBody().getPosition();
+            activationRegion.update(chunks, playerPos.x, playerPos.y);
+        }
+
+        int updated = 0;
+        for (int c = 0; c < chunks.size(); c++) {
+            List<Enemy> enemies = chunks.get(c).getEnemies();
+            for (int i = 0; i < enemies.size(); i++) {
+                Enemy enemy = enemies.get(i);
+                if (!enemy.isDormant()) {
+                    enemy.update(HeadlessEnvironment.STEP);
+                    updated++;
+                }
+            }
+        }
+
+        world.step(HeadlessEnvironment.STEP);
+        return updated;
+    }
+}
@@ -0,0 +1,95 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entities.Player;
+import headless.HeadlessEnvironment;
+import managers.BodyCommandBuffer;
+import managers.Box2DWorld;
+import managers.ItemSpawner;
+import managers.LootTable;
+
+// An AoE that kills 20 enemies around the player, followed by the frames it takes the magnet to collect
+// their coins. The background stacks lie elsewhere on the map; with the grid they should not change the cost.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoinPickupBenchmark {
+    private static final int KILLS = 20;
+
+    @Param({"0", "500"})
+    public int backgroundStacks;
+
+    private Box2DWorld world;
+    private Player player;
+    private ItemSpawner itemSpawner;
+    private LootTable table;
+    private int restingStacks;
+    private final Vector2 dropPosition = new Vector2();
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        world = new Box2DWorld(null);
+        player = HeadlessEnvironment.createPlayer(world);
+        itemSpawner = new ItemSpawner(world.getWorld());
+        // Only the coin part of the basic enemy table, so no other drops get bodies
+        table = new LootTable()
+                .setGuaranteedCoins(1)
+                .addDrop("coin", 0.1f, 1, 1);
+
+        Random random = new Random(42L);
+        Vector2 center = player.getPosition();
+        for (int i = 0; i < backgroundStacks; i++) {
+            float x = center.x + 500f + random.nextFloat() * 3000f;
+            float y = center.y + 500f + random.nextFloat() * 3000f;
+            itemSpawner.dropCoins(dropPosition.set(x, y), 1);
+        }
+        // Some of them merge, so count what is actually left
+        restingStacks = itemSpawner.getCoinDrops().getActiveCount();
+    }
+
+    @TearDown
+    public void tearDown() {
+        itemSpawner.clear();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int aoeKillAndCollect() {
+        Vector2 center = player.getPosition();
+        for (int i = 0; i < KILLS; i++) {
+            float angle = i * MathUtils.PI2 / KILLS;
+            dropPosition.set(center.x + MathUtils.cos(angle) * 40f, center.y + MathUtils.sin(angle) * 40f);
+            table.spawnLoot(itemSpawner, dropPosition);
+        }
+
+        int frames = 0;
+        while (itemSpawner.getCoinDrops().getActiveCount() > restingStacks && frames < 120) {
+            itemSpawner.update(HeadlessEnvironment.STEP, player);
+            itemSpawner.checkPickups(player, player.getInventory());
+            BodyCommandBuffer.getInstance().flush();
+            frames++;
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,90 @@
+package benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entities.Player;
+import headless.HeadlessEnvironment;
+import managers.BodyCommandBuffer;
+import managers.Box2DWorld;
+import managers.Dungeon;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DungeonBenchmark {
+    private static final int DUNGEON_SIZE = 100;
+    private static final int TILE_SIZE = 16;
+    private static final long SEED = 1234L;
+
+    private Box2DWorld world;
+    private Player player;
+    private Dungeon dungeon;
+    private Vector2 pathStart;
+    private Vector2 pathEnd;
+    private long generationSeed;
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        world = new Box2DWorld(null);
+        player = HeadlessEnvironment.createPlayer(world);
+        dungeon = new Dungeon(DUNGEON_SIZE, DUNGEON_SIZE, TILE_SIZE, new Random(SEED), world.getWorld(), player, player.getAnimationManager());
+
+        // Longest straight-line route in the layout: spawn point to the farthest walkable tile
+        pathStart = new Vector2(dungeon.getSpawnPoint());
+        pathEnd = new Vector2(pathStart);
+        float farthest = 0f;
+        for (int x = 0; x < DUNGEON_SIZE; x++) {
+            for (int y = 0; y < DUNGEON_SIZE; y++) {
+                if (dungeon.getTileType(x, y) == 0) continue;
+
+                float worldX = x * TILE_SIZE + TILE_SIZE / 2f;
+                float worldY = y * TILE_SIZE + TILE_SIZE / 2f;
+                float dist = pathStart.dst2(worldX, worldY);
+                if (dist > farthest) {
+                    farthest = dist;
+                    pathEnd.set(worldX, worldY);
+                }
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        dungeon.dispose();
+        world.dispose();
+    }
+
+    @Benchmark
+    public List<Vector2> findPath() {
+        return dungeon.findPath(pathStart, pathEnd);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int generateDungeon() {
+        Dungeon generated = new Dungeon(DUNGEON_SIZE, DUNGEON_SIZE, TILE_SIZE, new Random(generationSeed++), world.getWorld(), player, player.getAnimationManager());
+        int enemies = generated.getEnemies().size();
+        generated.dispose();
+        BodyCommandBuffer.getInstance().flush();
+        return enemies;
+    }
+}
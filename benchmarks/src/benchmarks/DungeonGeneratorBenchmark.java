@@ -0,0 +1,95 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import managers.BspLayout;
+import managers.CellularLayout;
+import managers.DungeonGenerator;
+import managers.DungeonLayout;
+
+// The generator stages on their own, no physics world involved
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DungeonGeneratorBenchmark {
+    private static final int TILE_SIZE = 13;
+
+    @Param({"bsp", "cellular"})
+    public String algorithm;
+
+    @Param({"100", "300"})
+    public int size;
+
+    private DungeonGenerator generator;
+    private long seed;
+
+    // Each stage gets a fresh copy of the layout as the stages before it left it
+    private DungeonLayout carved;
+    private DungeonLayout connected;
+    private DungeonLayout landmarked;
+    private DungeonLayout connectInput;
+    private DungeonLayout landmarkInput;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        generator = new DungeonGenerator(size, size, TILE_SIZE,
+                algorithm.equals("bsp") ? new BspLayout() : new CellularLayout());
+
+        carved = generator.layout(1234L);
+        connected = carved.copy();
+        generator.connect(connected);
+        landmarked = connected.copy();
+        generator.placeLandmarks(landmarked);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        connectInput = carved.copy();
+        landmarkInput = connected.copy();
+    }
+
+    @Benchmark
+    public DungeonLayout layout() {
+        return generator.layout(seed++);
+    }
+
+    @Benchmark
+    public DungeonLayout connect() {
+        generator.connect(connectInput);
+        return connectInput;
+    }
+
+    @Benchmark
+    public DungeonLayout placeLandmarks() {
+        generator.placeLandmarks(landmarkInput);
+        return landmarkInput;
+    }
+
+    @Benchmark
+    public int placeSpawns() {
+        // The spawn stage starts by clearing what a previous run placed
+        generator.placeSpawns(landmarked, seed++);
+        return landmarked.getEnemyCount();
+    }
+
+    @Benchmark
+    public DungeonLayout generate() {
+        return generator.generate(seed++);
+    }
+}
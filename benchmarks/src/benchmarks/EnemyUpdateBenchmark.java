@@ -0,0 +1,119 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entities.Enemy;
+import entities.EnemyStats;
+import entities.EnemyType;
+import entities.Player;
+import headless.HeadlessEnvironment;
+import managers.Box2DWorld;
+
+// Steady-state AI cost for a crowd of chasing enemies. Run with -prof gc; gc.alloc.rate.norm should stay at ~0 B/op.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnemyUpdateBenchmark {
+    private static final int ENEMY_COUNT = 500;
+
+    private Box2DWorld world;
+    private Player player;
+    private final List<Enemy> enemies = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        world = new Box2DWorld(null);
+        player = HeadlessEnvironment.createPlayer(world);
+        Player.gameStarted = true;
+
+        // Spread outside attack range but inside detection radius, so every enemy is chasing every tick.
+        // The world is never stepped, so they stay where they are.
+        Random random = new Random(42L);
+        Vector2 center = player.getPosition();
+        for (int i = 0; i < ENEMY_COUNT; i++) {
+            float angle = random.nextFloat() * MathUtils.PI2;
+            float distance = 60f + random.nextFloat() * 80f;
+            float x = center.x + MathUtils.cos(angle) * distance;
+            float y = center.y + MathUtils.sin(angle) * distance;
+
+            EnemyType type;
+            EnemyStats stats;
+            switch (i % 3) {
+                case 0:
+                    type = EnemyType.WOLFIE;
+                    stats = EnemyStats.Factory.createWolfieEnemy(1);
+                    break;
+                case 1:
+                    type = EnemyType.HEDGEHOG;
+                    stats = EnemyStats.Factory.createHedgehogEnemy(1);
+                    break;
+                default:
+                    type = EnemyType.MUSHIE;
+                    stats = EnemyStats.Factory.createMushieEnemy(1);
+                    break;
+            }
+
+            Body body = createBody(x, y);
+            Enemy enemy = new Enemy(new Rectangle(x - 8, y - 8, 16, 16), null, body, player,
+                    player.getAnimationManager(), stats, type);
+            body.setUserData(enemy);
+            enemies.add(enemy);
+        }
+    }
+
+    private Body createBody(float x, float y) {
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        bodyDef.position.set(x, y);
+        Body body = world.getWorld().createBody(bodyDef);
+
+        CircleShape shape = new CircleShape();
+        shape.setRadius(5f);
+        body.createFixture(shape, 1f);
+        shape.dispose();
+        return body;
+    }
+
+    @TearDown
+    public void tearDown() {
+        Player.gameStarted = false;
+        enemies.clear();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int updateEnemies() {
+        int attacking = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            enemy.update(HeadlessEnvironment.STEP);
+            if (enemy.isAttacking()) attacking++;
+        }
+        return attacking;
+    }
+}
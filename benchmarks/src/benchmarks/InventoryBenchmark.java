@@ -0,0 +1,65 @@
+package benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import headless.HeadlessEnvironment;
+import items.Item;
+import managers.Inventory;
+import managers.ItemRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InventoryBenchmark {
+    private static final int INVENTORY_SLOTS = 28;
+
+    private Inventory inventory;
+    private final List<Item> items = new ArrayList<>();
+    private final Vector2 itemPosition = new Vector2(100f, 100f);
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        inventory = new Inventory();
+
+        ItemRegistry registry = ItemRegistry.getInstance();
+        String[] ids = registry.getAllItemIds();
+        Random random = new Random(99L);
+        while (items.size() < INVENTORY_SLOTS) {
+            Item item = registry.createItem(ids[random.nextInt(ids.length)], itemPosition);
+            if (item != null && item.getType() != Item.ItemType.COIN) {
+                items.add(item);
+            }
+        }
+    }
+
+    @Benchmark
+    public Inventory fillAndSortInventory() {
+        for (Item item : items) {
+            inventory.addItem(item);
+        }
+        inventory.sortInventory();
+        for (int i = 0; i < INVENTORY_SLOTS; i++) {
+            inventory.removeItemCompletely(i);
+        }
+        return inventory;
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import headless.HeadlessEnvironment;
+import managers.BodyCommandBuffer;
+import managers.Box2DWorld;
+import managers.ItemSpawner;
+import managers.LootTable;
+import managers.LootTableRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LootBenchmark {
+    @Param({"basic_enemy", "dungeon_enemy", "boss", "destructible"})
+    public String lootTable;
+
+    private Box2DWorld world;
+    private ItemSpawner itemSpawner;
+    private LootTable table;
+    private final Vector2 dropPosition = new Vector2(100f, 100f);
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        world = new Box2DWorld(null);
+        itemSpawner = new ItemSpawner(world.getWorld());
+        table = LootTableRegistry.getInstance().getLootTable(lootTable);
+    }
+
+    @TearDown
+    public void tearDown() {
+        itemSpawner.clear();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int spawnLoot() {
+        table.spawnLoot(itemSpawner, dropPosition);
+        itemSpawner.update(0f, null);
+        int spawned = itemSpawner.getWorldItems().size() + itemSpawner.getCoinDrops().getActiveCount();
+        itemSpawner.clear();
+        BodyCommandBuffer.getInstance().flush();
+        return spawned;
+    }
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entities.Player;
+import headless.HeadlessEnvironment;
+import managers.Box2DWorld;
+import managers.ProjectileSystem;
+
+// A boss spiral pattern kept topped up to a fixed number of projectiles in flight. Run with -prof gc;
+// once the arrays have grown, gc.alloc.rate.norm should stay at ~0 B/op.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectileBenchmark {
+    @Param({"100", "500", "2000"})
+    public int inFlight;
+
+    private Box2DWorld world;
+    private Player player;
+    private ProjectileSystem projectiles;
+    private float angle;
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        world = new Box2DWorld(null);
+        player = HeadlessEnvironment.createPlayer(world);
+        projectiles = ProjectileSystem.getInstance();
+        projectiles.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        projectiles.clear();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int updateProjectiles() {
+        // Fired outwards from just around the player, so they expire by range instead of hitting
+        Vector2 center = player.getPosition();
+        while (projectiles.getActiveCount() < inFlight) {
+            angle += 7.5f;
+            float dirX = MathUtils.cosDeg(angle);
+            float dirY = MathUtils.sinDeg(angle);
+            projectiles.fire(center.x + dirX * 30f, center.y + dirY * 30f, dirX, dirY,
+                    120f, 300f, 1, Color.WHITE, null);
+        }
+
+        projectiles.update(HeadlessEnvironment.STEP, world.getWorld(), player);
+        return projectiles.getActiveCount();
+    }
+}
@@ -0,0 +1,78 @@
+package benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import config.SaveCodec;
+import config.SaveData;
+import config.SaveManager;
+import headless.HeadlessEnvironment;
+import managers.ItemRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SaveBenchmark {
+    private SaveData saveData;
+    private String encoded;
+    private byte[] encodedBinary;
+
+    // A save with every storage and stash slot filled, so the item ids weigh in like they do in a real one
+    @Setup
+    public void setup() throws Exception {
+        HeadlessEnvironment.init();
+        saveData = new SaveData();
+
+        String[] itemIds = ItemRegistry.getInstance().getAllItemIds();
+        Arrays.sort(itemIds);
+        saveData.storageSlot1 = itemIds[0];
+        saveData.storageSlot2 = itemIds[1];
+        for (int i = 0; i < saveData.safeStorageSlots.length; i++) {
+            saveData.safeStorageSlots[i] = itemIds[(i * 7) % itemIds.length];
+        }
+        for (int i = 0; i < saveData.safeStashSlots.length; i++) {
+            saveData.safeStashSlots[i] = SaveManager.encodeSafeStashValue(itemIds[(i * 5) % itemIds.length]);
+        }
+
+        encoded = SaveManager.toJson(saveData);
+        encodedBinary = SaveCodec.encode(saveData);
+        SaveCodec.decode(encodedBinary);
+        System.out.println();
+        System.out.println("json " + encoded.getBytes("UTF-8").length + " bytes, binary " + encodedBinary.length + " bytes");
+
+    }
+
+    @Benchmark
+    public String encode() {
+        return SaveManager.toJson(saveData);
+    }
+
+    @Benchmark
+    public SaveData decode() {
+        return SaveManager.fromJson(encoded);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return SaveCodec.encode(saveData);
+    }
+
+    @Benchmark
+    public SaveData decodeBinary() throws Exception {
+        return SaveCodec.decode(encodedBinary);
+    }
+}
@@ -0,0 +1,97 @@
+package benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entities.Player;
+import headless.HeadlessEnvironment;
+import managers.BodyCommandBuffer;
+import managers.Box2DWorld;
+import managers.Chunk;
+import managers.Minimap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorldBenchmark {
+    private static final int MAP_SIZE_CHUNKS = 5;
+    private static final int CHUNK_SIZE = 32;
+    private static final int TILE_SIZE = 16;
+
+    private Box2DWorld world;
+    private Player player;
+    private Minimap minimap;
+    private Random random;
+    private float[] walkX;
+    private float[] walkY;
+    private int walkIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessEnvironment.init();
+        random = new Random(42L);
+
+        // A fixed random walk across the whole map so exploration keeps hitting new and known tiles
+        int steps = 4096;
+        float half = MAP_SIZE_CHUNKS * CHUNK_SIZE * TILE_SIZE / 2f;
+        walkX = new float[steps];
+        walkY = new float[steps];
+        float x = 0f, y = 0f;
+        Random walkRandom = new Random(7L);
+        for (int i = 0; i < steps; i++) {
+            x = Math.max(-half, Math.min(half, x + (walkRandom.nextFloat() - 0.5f) * TILE_SIZE * 4f));
+            y = Math.max(-half, Math.min(half, y + (walkRandom.nextFloat() - 0.5f) * TILE_SIZE * 4f));
+            walkX[i] = x;
+            walkY[i] = y;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() {
+        // Fresh world per iteration so bodies from generated chunks don't pile up
+        world = new Box2DWorld(null);
+        player = HeadlessEnvironment.createPlayer(world);
+        minimap = new Minimap(MAP_SIZE_CHUNKS, CHUNK_SIZE, TILE_SIZE, player);
+        walkIndex = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public Chunk generateChunk() {
+        int chunkX = random.nextInt(MAP_SIZE_CHUNKS) - MAP_SIZE_CHUNKS / 2;
+        int chunkY = random.nextInt(MAP_SIZE_CHUNKS) - MAP_SIZE_CHUNKS / 2;
+        Chunk chunk = new Chunk(chunkX, chunkY, CHUNK_SIZE, TILE_SIZE, random, world.getWorld(), player, player.getAnimationManager());
+        chunk.addBodiesToWorld(world.getWorld());
+        chunk.dispose();
+        BodyCommandBuffer.getInstance().flush();
+        return chunk;
+    }
+
+    @Benchmark
+    public void minimapExploration() {
+        int i = walkIndex;
+        walkIndex = (walkIndex + 1) % walkX.length;
+        player.getBody().setTransform(walkX[i], walkY[i], 0f);
+        minimap.update();
+    }
+}
@@ -0,0 +1,72 @@
+package managers;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import entities.EndlessEnemy;
+import entities.Player;
+import headless.HeadlessEnvironment;
+
+// Lives in the managers package so it can spawn clumps at a chosen wave. Run with -prof gc: once the pools
+// are warm, wave 50 should allocate the same bytes per clump as wave 1.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndlessWaveBenchmark {
+    @Param({"1", "50"})
+    public int wave;
+
+    private Box2DWorld world;
+    private EndlessRoom room;
+
+    @Setup
+    public void setup() {
+        HeadlessEnvironment.init();
+        world = new Box2DWorld(null);
+        Player player = HeadlessEnvironment.createPlayer(world);
+        room = new EndlessRoom(13, world.getWorld(), player, new AnimationManager());
+        room.setWave(wave);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (TrackedPool<?> pool : TrackedPool.getPools()) {
+            System.out.println(pool);
+        }
+        room.dispose();
+        world.dispose();
+    }
+
+    @Benchmark
+    public int spawnAndKillClump() {
+        // Stepping matters: the body commands and Box2D's proxy move buffer are only flushed by a step, like every game frame does
+        room.spawnEnemyClump();
+        world.step(HeadlessEnvironment.STEP);
+
+        List<EndlessEnemy> enemies = room.getEnemies();
+        int spawned = enemies.size();
+        while (!enemies.isEmpty()) {
+            EndlessEnemy enemy = enemies.get(enemies.size() - 1);
+            enemy.markForRemoval();
+            room.releaseEnemy(enemy);
+        }
+        world.step(HeadlessEnvironment.STEP);
+        return spawned;
+    }
+}
@@ -9,12 +9,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import config.Storage;
 import entities.DestructibleObject;
-import entities.Herman;
+import entities.HostileEntity;
 import entities.Player;
 import entities.PlayerClass;
 import game.GameProj;
 import items.Item;
+import managers.EntityRegistry;
 import managers.Equipment;
+import managers.LightMap;
 import managers.SoundManager;
 import config.SaveManager;
 
@@ -34,8 +36,9 @@ public class AbilityManager {
     private final SkillTree skillTree;
 
     private final Map<String, Ability> abilityRegistry;
-    private final Map<Object, List<StatusEffect>> activeEffects;
     private final List<AbilityVisual> activeVisuals;
+    private final VfxParticles particles = VfxParticles.getInstance();
+    private final List<ScheduledAction> scheduledActions = new ArrayList<>();
 
     private final ShapeRenderer shapeRenderer;
     private final BitmapFont font;
@@ -69,7 +72,6 @@ public class AbilityManager {
         this.playerClass = playerClass;
         this.abilities = new Ability[NUM_ABILITY_SLOTS];
         this.consumableSlots = new Item[NUM_CONSUMABLE_SLOTS];
-        this.activeEffects = new HashMap<>();
         this.shapeRenderer = new ShapeRenderer();
         this.font = Storage.assetManager.get("fonts/CascadiaBold.fnt", BitmapFont.class);
         this.activeVisuals = new ArrayList<>();
@@ -167,6 +169,29 @@ public class AbilityManager {
             return baseCooldown / 1.5f;
     }
 
+    // Runs an action after a delay in game time, so it pauses with the game and lands on the same tick in replays
+    public void schedule(float delay, Runnable action) {
+        scheduledActions.add(new ScheduledAction(delay, action));
+    }
+
+    private void updateScheduledActions(float delta) {
+        if (scheduledActions.isEmpty()) return;
+
+        List<ScheduledAction> due = new ArrayList<>();
+        for (int i = scheduledActions.size() - 1; i >= 0; i--) {
+            ScheduledAction scheduled = scheduledActions.get(i);
+            scheduled.remaining -= delta;
+            if (scheduled.remaining <= 0) {
+                due.add(0, scheduled);
+                scheduledActions.remove(i);
+            }
+        }
+
+        for (ScheduledAction scheduled : due) {
+            scheduled.action.run();
+        }
+    }
+
     public void update(float delta) {
         syncAbilitiesWithSkillTree();
 
@@ -180,22 +205,7 @@ public class AbilityManager {
         if (swordCooldown > 0) swordCooldown -= delta;
         if (spearCooldown > 0) spearCooldown -= delta;
 
-        for (Map.Entry<Object, List<StatusEffect>> entry : new HashMap<>(activeEffects).entrySet()) {
-            List<StatusEffect> effects = entry.getValue();
-            List<StatusEffect> toRemove = new ArrayList<>();
-
-            for (StatusEffect effect : effects) {
-                effect.onUpdate(delta);
-                if (!effect.update(delta)) {
-                    toRemove.add(effect);
-                }
-            }
-
-            effects.removeAll(toRemove);
-            if (effects.isEmpty()) {
-                activeEffects.remove(entry.getKey());
-            }
-        }
+        updateScheduledActions(delta);
 
         updateVisualEffects(delta);
         skillTree.update(delta, gameProj);
@@ -321,6 +331,10 @@ public class AbilityManager {
     }
 
     private void updateVisualEffects(float delta) {
+        if (player.getBody() != null) {
+            particles.setAim(AbilityVisual.angleToMouse(gameProj, player.getPosition()));
+        }
+        particles.update(delta);
         for (int i = activeVisuals.size() - 1; i >= 0; i--) {
             AbilityVisual visual = activeVisuals.get(i);
             visual.update(delta);
@@ -411,7 +425,7 @@ public class AbilityManager {
         SoundManager.getInstance().playHitSound("Spear");
 
         float attackRange = SPEAR_ATTACK_RANGE;
-        player.addAbilityVisual(AbilityVisual.SpearJab.createWhite(player, gameProj, 0.3f, attackRange, 0f));
+        VfxEmitter.SPEAR_JAB.emit(player, 0f, attackRange, 0.3f, Color.WHITE);
 
         com.badlogic.gdx.math.Vector2 playerPos = player.getPosition();
         int playerDamage = player.getStats().getTotalDamage();
@@ -424,112 +438,15 @@ public class AbilityManager {
                 mousePos.x - playerPos.x, mousePos.y - playerPos.y
         ).nor();
 
-        // Damage overworld enemies
-        for (managers.Chunk chunk : gameProj.getChunks().values()) {
-            for (entities.Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-
-                    float distanceAlongLine = toEnemy.dot(attackDir);
-                    if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                        com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                        float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                        if (perpDistance < 15f) {
-                            enemy.takeDamage(playerDamage);
-                            player.onBasicAttackHit();
-                        }
-                    }
-                }
-            }
-
-            for (entities.Lemmy enemy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-
-                    float distanceAlongLine = toEnemy.dot(attackDir);
-                    if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                        com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                        float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                        if (perpDistance < 15f) {
-                            enemy.takeDamage(playerDamage);
-                            player.onBasicAttackHit();
-                        }
-                    }
-                }
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inLine(i, playerPos.x, playerPos.y, attackDir.x, attackDir.y, attackRange, 15f)) {
+                registry.get(i).takeDamage(playerDamage);
+                player.onBasicAttackHit();
             }
         }
 
-        // Damage Herman
-        if (gameProj.isHermanSpawned()) {
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = herman.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                    com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < 15f) {
-                        herman.takeDamage(playerDamage);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = hermanDuplicate.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                    com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < 15f) {
-                        hermanDuplicate.takeDamage(playerDamage);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-        }
-
-        // Damage dungeon enemies
         if (gameProj.getCurrentDungeon() != null) {
-            for (entities.DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-
-                    float distanceAlongLine = toEnemy.dot(attackDir);
-                    if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                        com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                        float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                        if (perpDistance < 15f) {
-                            enemy.takeDamage(playerDamage);
-                            player.onBasicAttackHit();
-                        }
-                    }
-                }
-            }
-
             for (DestructibleObject obj : new ArrayList<>(gameProj.getCurrentDungeon().getDestructables())) {
                 if (obj == null || obj.isMarkedForRemoval()) continue;
 
@@ -553,88 +470,6 @@ public class AbilityManager {
             }
         }
 
-        // Damage boss room enemies
-        if (gameProj.getCurrentBossRoom() != null) {
-            entities.BossKitty boss = gameProj.getCurrentBossRoom().getBoss();
-            if (boss != null && boss.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = boss.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                    com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < 15f) {
-                        boss.takeDamage(playerDamage);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-
-            entities.Cyclops cyclops = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclops != null && cyclops.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = cyclops.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                    com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < 15f) {
-                        cyclops.takeDamage(playerDamage);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-
-            entities.GhostBoss ghostBoss = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = ghostBoss.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                    com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < 15f) {
-                        ghostBoss.takeDamage(playerDamage);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (entities.EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-
-                    float distanceAlongLine = toEnemy.dot(attackDir);
-                    if (distanceAlongLine > 0 && distanceAlongLine < attackRange) {
-                        com.badlogic.gdx.math.Vector2 projectedPoint = new com.badlogic.gdx.math.Vector2(attackDir).scl(distanceAlongLine);
-                        float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                        if (perpDistance < 15f) {
-                            enemy.takeDamage(playerDamage);
-                            player.onBasicAttackHit();
-                        }
-                    }
-                }
-            }
-        }
-
         spearCooldown = getEffectiveCooldown(BASE_SPEAR_COOLDOWN_TIME);
     }
 
@@ -646,9 +481,9 @@ public class AbilityManager {
         float attackRange = SWORD_ATTACK_RANGE;
         if (player.isHolySwordActive()) {
             attackRange *= player.getHolySwordConeMultiplier();
-            player.addAbilityVisual(AbilityVisual.SwordSlash.createHoly(player, gameProj, 0.15f, attackRange));
+            VfxEmitter.HOLY_SLASH.emit(player, 0f, attackRange, 0.15f, VfxEmitter.HOLY);
         } else {
-            player.addAbilityVisual(AbilityVisual.SwordSlash.createWhite(player, gameProj, 0.15f, attackRange));
+            VfxEmitter.SWORD_SLASH.emit(player, 0f, attackRange, 0.15f, Color.WHITE);
         }
 
         com.badlogic.gdx.math.Vector2 playerPos = player.getPosition();
@@ -662,79 +497,15 @@ public class AbilityManager {
                 mousePos.x - playerPos.x, mousePos.y - playerPos.y
         ).nor();
 
-        // Damage overworld enemies
-        for (managers.Chunk chunk : gameProj.getChunks().values()) {
-            for (entities.Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-
-                    if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(playerDamage);
-                        player.onBasicAttackHit();
-                    }
-                }
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inCone(i, playerPos.x, playerPos.y, attackDir.x, attackDir.y, attackRange, 0.5f)) {
+                registry.get(i).takeDamage(playerDamage);
+                player.onBasicAttackHit();
             }
         }
 
-        for (entities.Lemmy enemy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-            if (enemy.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    enemy.takeDamage(playerDamage);
-                    player.onBasicAttackHit();
-                }
-            }
-        }
-
-        // Damage Herman
-        if (gameProj.isHermanSpawned()) {
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = herman.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    herman.takeDamage(playerDamage);
-                    player.onBasicAttackHit();
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = hermanDuplicate.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    hermanDuplicate.takeDamage(playerDamage);
-                    player.onBasicAttackHit();
-                }
-            }
-        }
-
-        // Damage dungeon enemies
         if (gameProj.getCurrentDungeon() != null) {
-            for (entities.DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-                    if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(playerDamage);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-
             for (DestructibleObject obj : new ArrayList<>(gameProj.getCurrentDungeon().getDestructables())) {
                 if (obj == null || obj.isMarkedForRemoval()) continue;
 
@@ -749,66 +520,12 @@ public class AbilityManager {
             }
         }
 
-        // Damage boss room enemies
-        if (gameProj.getCurrentBossRoom() != null) {
-            entities.BossKitty boss = gameProj.getCurrentBossRoom().getBoss();
-            if (boss != null && boss.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = boss.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    boss.takeDamage(playerDamage);
-                    player.onBasicAttackHit();
-                }
-            }
-
-            entities.Cyclops cyclops = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclops != null && cyclops.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = cyclops.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    cyclops.takeDamage(playerDamage);
-                    player.onBasicAttackHit();
-                }
-            }
-
-            entities.GhostBoss ghostBoss = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = ghostBoss.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    ghostBoss.takeDamage(playerDamage);
-                    player.onBasicAttackHit();
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (entities.EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-                    if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(playerDamage);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-        }
-
         swordCooldown = getEffectiveCooldown(BASE_SWORD_COOLDOWN_TIME);
     }
 
     private void performShieldBash() {
         SoundManager.getInstance().playHitSound("Shield");
-        player.addAbilityVisual(AbilityVisual.ShieldBash.createWhite(player, gameProj, 0.15f));
+        VfxEmitter.SHIELD_BASH.emit(player, 0f, 0f, 0.15f, Color.WHITE);
 
         com.badlogic.gdx.math.Vector2 playerPos = player.getPosition();
         float attackRange = 45f;
@@ -822,92 +539,19 @@ public class AbilityManager {
                 mousePos.x - playerPos.x, mousePos.y - playerPos.y
         ).nor();
 
-        // Damage and stun overworld enemies
-        for (managers.Chunk chunk : gameProj.getChunks().values()) {
-            for (entities.Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-                    if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(shieldDamage);
-                        StunEffect stun = new StunEffect(enemy, 1f);
-                        stun.onApply();
-                        gameProj.addStatusEffect(enemy, stun);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-        }
-
-        for (entities.Lemmy enemy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-            if (enemy.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    enemy.takeDamage(shieldDamage);
-                    StunEffect stun = new StunEffect(enemy, 1f);
-                    stun.onApply();
-                    gameProj.addStatusEffect(enemy, stun);
-                    player.onBasicAttackHit();
-                }
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inCone(i, playerPos.x, playerPos.y, attackDir.x, attackDir.y, attackRange, 0.5f)) {
+                HostileEntity enemy = registry.get(i);
+                enemy.takeDamage(shieldDamage);
+                StunEffect stun = new StunEffect(enemy, registry.isBoss(i) ? 0.5f : 1f);
+                stun.onApply();
+                gameProj.addStatusEffect(enemy, stun);
+                player.onBasicAttackHit();
             }
         }
 
-        // Herman
-        if (gameProj.isHermanSpawned()) {
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = herman.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    herman.takeDamage(shieldDamage);
-                    StunEffect stun = new StunEffect(herman, 1f);
-                    stun.onApply();
-                    gameProj.addStatusEffect(herman, stun);
-                    player.onBasicAttackHit();
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = hermanDuplicate.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    hermanDuplicate.takeDamage(shieldDamage);
-                    StunEffect stun = new StunEffect(hermanDuplicate, 1f);
-                    stun.onApply();
-                    gameProj.addStatusEffect(hermanDuplicate, stun);
-                    player.onBasicAttackHit();
-                }
-            }
-        }
-
-        // Dungeon enemies
         if (gameProj.getCurrentDungeon() != null) {
-            for (entities.DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-                    if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(shieldDamage);
-                        StunEffect stun = new StunEffect(enemy, 1f);
-                        stun.onApply();
-                        gameProj.addStatusEffect(enemy, stun);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
-
             for (DestructibleObject obj : new ArrayList<>(gameProj.getCurrentDungeon().getDestructables())) {
                 if (obj == null || obj.isMarkedForRemoval()) continue;
 
@@ -920,81 +564,11 @@ public class AbilityManager {
                     player.onBasicAttackHit();
                 }
             }
-
-        }
-
-        // Boss room
-        if (gameProj.getCurrentBossRoom() != null) {
-            entities.BossKitty boss = gameProj.getCurrentBossRoom().getBoss();
-            if (boss != null && boss.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = boss.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    boss.takeDamage(shieldDamage);
-                    StunEffect stun = new StunEffect(boss, 0.5f);
-                    stun.onApply();
-                    addStatusEffect(boss, stun);
-                    player.onBasicAttackHit();
-                }
-            }
-
-            entities.Cyclops cyclops = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclops != null && cyclops.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = cyclops.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    cyclops.takeDamage(shieldDamage);
-                    StunEffect stun = new StunEffect(cyclops, 0.5f);
-                    stun.onApply();
-                    gameProj.addStatusEffect(cyclops, stun);
-                    player.onBasicAttackHit();
-                }
-            }
-
-            entities.GhostBoss ghostBoss = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                com.badlogic.gdx.math.Vector2 enemyPos = ghostBoss.getBody().getPosition();
-                com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                        enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                );
-                if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    ghostBoss.takeDamage(shieldDamage);
-                    StunEffect stun = new StunEffect(ghostBoss, 0.5f);
-                    stun.onApply();
-                    gameProj.addStatusEffect(ghostBoss, stun);
-                    player.onBasicAttackHit();
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (entities.EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    com.badlogic.gdx.math.Vector2 enemyPos = enemy.getBody().getPosition();
-                    com.badlogic.gdx.math.Vector2 toEnemy = new com.badlogic.gdx.math.Vector2(
-                            enemyPos.x - playerPos.x, enemyPos.y - playerPos.y
-                    );
-                    if (toEnemy.len() < attackRange && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(shieldDamage);
-                        StunEffect stun = new StunEffect(enemy, 1f);
-                        stun.onApply();
-                        gameProj.addStatusEffect(enemy, stun);
-                        player.onBasicAttackHit();
-                    }
-                }
-            }
         }
     }
 
-    public void addStatusEffect(Object target, StatusEffect effect) {
-        if (!activeEffects.containsKey(target)) {
-            activeEffects.put(target, new ArrayList<>());
-        }
-        activeEffects.get(target).add(effect);
+    public void addStatusEffect(StatusEffectTarget target, StatusEffect effect) {
+        gameProj.addStatusEffect(target, effect);
     }
 
     public void addAbilityVisual(AbilityVisual visual) {
@@ -1002,8 +576,9 @@ public class AbilityManager {
     }
 
     public void renderAbilityEffects(SpriteBatch batch) {
-        for (AbilityVisual visual : activeVisuals) {
-            visual.render(batch);
+        particles.render(batch);
+        for (int i = 0; i < activeVisuals.size(); i++) {
+            activeVisuals.get(i).render(batch);
         }
     }
 
@@ -1522,7 +1097,13 @@ public class AbilityManager {
         batch.begin();
     }
 
-    public Map<Object, List<StatusEffect>> getActiveEffects() { return activeEffects; }
+
+    public void submitLights(LightMap lights) {
+        particles.submitLights(lights);
+        for (int i = 0; i < activeVisuals.size(); i++) {
+            activeVisuals.get(i).submitLight(lights);
+        }
+    }
 
     public List<AbilityVisual> getActiveVisuals() {
         return activeVisuals;
@@ -1535,5 +1116,16 @@ public class AbilityManager {
             visual.dispose();
         }
         activeVisuals.clear();
+        particles.clear();
+    }
+
+    private static class ScheduledAction {
+        float remaining;
+        final Runnable action;
+
+        ScheduledAction(float delay, Runnable action) {
+            this.remaining = delay;
+            this.action = action;
+        }
     }
 }
@@ -1,17 +1,16 @@
 package abilities;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import config.Storage;
 import entities.*;
 import game.GameProj;
-import managers.Chunk;
+import managers.EntityRegistry;
 import managers.SoundManager;
 
-import java.util.ArrayList;
-
 public abstract class MercenaryAbilities { }
 
 class DoubleSwingAbility extends Ability {
@@ -38,26 +37,14 @@ class DoubleSwingAbility extends Ability {
         SoundManager.getInstance().playAbilitySound("DoubleSwing");
 
         // First swing - rotated 25 degrees up
-        AbilityVisual.SpearJab firstSwing = AbilityVisual.SpearJab.createWhite(player, gameProj, 0.15f, distance, 25f);
-        player.addAbilityVisual(firstSwing);
+        VfxEmitter.SPEAR_JAB.emit(player, 25f, distance, 0.15f, Color.WHITE);
         dealDamageInArea(player, swingDamage, gameProj);
 
         // Second swing after 0.15s - rotated 50 degrees down from first (so -25 degrees from neutral)
-        new Thread(() -> {
-            try {
-                Thread.sleep(150);
-
-                Gdx.app.postRunnable(() -> {
-                    if (player != null) {
-                        AbilityVisual.SpearJab secondSwing = AbilityVisual.SpearJab.createWhite(player, gameProj, 0.15f, distance, -25f);
-                        player.addAbilityVisual(secondSwing);
-                        dealDamageInArea(player, swingDamage, gameProj);
-                    }
-                });
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        player.getAbilityManager().schedule(0.15f, () -> {
+            VfxEmitter.SPEAR_JAB.emit(player, -25f, distance, 0.15f, Color.WHITE);
+            dealDamageInArea(player, swingDamage, gameProj);
+        });
     }
 
     private void dealDamageInArea(Player player, int damage, GameProj gameProj) {
@@ -69,109 +56,11 @@ class DoubleSwingAbility extends Ability {
         Vector2 mousePos = new Vector2(mousePos3D.x, mousePos3D.y);
         Vector2 attackDir = new Vector2(mousePos.x - playerPos.x, mousePos.y - playerPos.y).nor();
 
-        if (!gameProj.isInDungeon() && !gameProj.isInBossRoom() && !gameProj.isInEndlessRoom()) {
-            for (Chunk chunk : gameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        Vector2 enemyPos = enemy.getBody().getPosition();
-                        Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                        if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                            enemy.takeDamage(damage + (player.getLevel() * 5));
-                        }
-                    }
-                }
-            }
-
-            for (Lemmy lemmy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    Vector2 enemyPos = lemmy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                    if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        lemmy.takeDamage(damage + (player.getLevel() * 5));
-                    }
-                }
-            }
-
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                Vector2 enemyPos = herman.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    herman.takeDamage(damage + (player.getLevel() * 5));
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                Vector2 enemyPos = hermanDuplicate.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    hermanDuplicate.takeDamage(damage + (player.getLevel() * 5));
-                }
-            }
-        }
-
-
-        if (gameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    Vector2 enemyPos = enemy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                    if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(damage + (player.getLevel() * 5));
-                    }
-                }
-            }
-        }
-
-        // Check boss room bosses
-        if (gameProj.getCurrentBossRoom() != null) {
-            BossKitty bossRoomBoss = gameProj.getCurrentBossRoom().getBoss();
-            if (bossRoomBoss != null && bossRoomBoss.getBody() != null) {
-                Vector2 enemyPos = bossRoomBoss.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    bossRoomBoss.takeDamage(damage + (player.getLevel() * 5));
-                }
-            }
-
-            Cyclops cyclopsRoomBoss = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclopsRoomBoss != null && cyclopsRoomBoss.getBody() != null) {
-                Vector2 enemyPos = cyclopsRoomBoss.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    cyclopsRoomBoss.takeDamage(damage + (player.getLevel() * 5));
-                }
-            }
-
-            GhostBoss ghostBossRoom = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBossRoom != null && ghostBossRoom.getBody() != null) {
-                Vector2 enemyPos = ghostBossRoom.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    ghostBossRoom.takeDamage(damage + (player.getLevel() * 5));
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    Vector2 enemyPos = enemy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                    if (toEnemy.len() < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(damage + (player.getLevel() * 5));
-                    }
-                }
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        int hitDamage = damage + (player.getLevel() * 5);
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inCone(i, playerPos.x, playerPos.y, attackDir.x, attackDir.y, distance, 0.5f)) {
+                registry.get(i).takeDamage(hitDamage);
             }
         }
     }
@@ -202,8 +91,7 @@ class RendAbility extends Ability {
         SoundManager.getInstance().playHitSound("Spear");
 
         // Red spear jab visual
-        AbilityVisual.SpearJab indicator = AbilityVisual.SpearJab.createRed(player, gameProj, 0.3f, distance, 0f);
-        player.addAbilityVisual(indicator);
+        VfxEmitter.SPEAR_JAB.emit(player, 0f, distance, 0.3f, VfxEmitter.RED);
 
         Vector3 mousePos3D = gameProj.getCamera().unproject(
                 new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0)
@@ -211,153 +99,16 @@ class RendAbility extends Ability {
         Vector2 mousePos = new Vector2(mousePos3D.x, mousePos3D.y);
         Vector2 attackDir = new Vector2(mousePos.x - playerPos.x, mousePos.y - playerPos.y).nor();
 
-        if (!gameProj.isInDungeon() && !gameProj.isInBossRoom() && !gameProj.isInEndlessRoom()) {
-            for (Chunk chunk : gameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        Vector2 enemyPos = enemy.getBody().getPosition();
-                        Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                        float dist = toEnemy.len();
-
-                        if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                            enemy.takeDamage(damage);
-
-                            BleedEffect bleed = new BleedEffect(enemy, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                            bleed.onApply();
-                            gameProj.addStatusEffect(enemy, bleed);
-                        }
-                    }
-                }
-            }
-
-            for (Lemmy lemmy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    Vector2 enemyPos = lemmy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                    float dist = toEnemy.len();
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        int bleedDamage = BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3);
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inCone(i, playerPos.x, playerPos.y, attackDir.x, attackDir.y, distance, 0.5f)) {
+                HostileEntity enemy = registry.get(i);
+                enemy.takeDamage(damage);
 
-                    if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        lemmy.takeDamage(damage);
-
-                        BleedEffect bleed = new BleedEffect(lemmy, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                        bleed.onApply();
-                        gameProj.addStatusEffect(lemmy, bleed);
-                    }
-                }
-            }
-
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                Vector2 enemyPos = herman.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                float dist = toEnemy.len();
-
-                if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    herman.takeDamage(damage);
-
-                    BleedEffect bleed = new BleedEffect(herman, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                    bleed.onApply();
-                    gameProj.addStatusEffect(herman, bleed);
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                Vector2 enemyPos = hermanDuplicate.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                float dist = toEnemy.len();
-
-                if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    hermanDuplicate.takeDamage(damage);
-
-                    BleedEffect bleed = new BleedEffect(hermanDuplicate, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                    bleed.onApply();
-                    gameProj.addStatusEffect(hermanDuplicate, bleed);
-                }
-            }
-        }
-
-        // Hit ALL enemies in dungeon
-        if (gameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    Vector2 enemyPos = enemy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                    float dist = toEnemy.len();
-
-                    if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(damage);
-
-                        BleedEffect bleed = new BleedEffect(enemy, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                        bleed.onApply();
-                        gameProj.addStatusEffect(enemy, bleed);
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentBossRoom() != null) {
-            BossKitty bossRoomBoss = gameProj.getCurrentBossRoom().getBoss();
-            if (bossRoomBoss != null && bossRoomBoss.getBody() != null) {
-                Vector2 enemyPos = bossRoomBoss.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                float dist = toEnemy.len();
-
-                if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    bossRoomBoss.takeDamage(damage);
-
-                    BleedEffect bleed = new BleedEffect(bossRoomBoss, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                    bleed.onApply();
-                    gameProj.addStatusEffect(bossRoomBoss, bleed);
-                }
-            }
-
-            Cyclops cyclopsRoomBoss = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclopsRoomBoss != null && cyclopsRoomBoss.getBody() != null) {
-                Vector2 enemyPos = cyclopsRoomBoss.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                float dist = toEnemy.len();
-
-                if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    cyclopsRoomBoss.takeDamage(damage);
-
-                    BleedEffect bleed = new BleedEffect(cyclopsRoomBoss, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                    bleed.onApply();
-                    gameProj.addStatusEffect(cyclopsRoomBoss, bleed);
-                }
-            }
-
-            GhostBoss ghostRoomBoss = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostRoomBoss != null && ghostRoomBoss.getBody() != null) {
-                Vector2 enemyPos = ghostRoomBoss.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                float dist = toEnemy.len();
-
-                if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                    ghostRoomBoss.takeDamage(damage);
-
-                    BleedEffect bleed = new BleedEffect(ghostRoomBoss, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                    bleed.onApply();
-                    gameProj.addStatusEffect(ghostRoomBoss, bleed);
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    Vector2 enemyPos = enemy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-                    float dist = toEnemy.len();
-
-                    if (dist < distance && toEnemy.nor().dot(attackDir) > 0.5f) {
-                        enemy.takeDamage(damage);
-
-                        BleedEffect bleed = new BleedEffect(enemy, BLEED_DURATION, BLEED_DAMAGE_PER_TICK + (player.getLevel() * 3));
-                        bleed.onApply();
-                        gameProj.addStatusEffect(enemy, bleed);
-                    }
-                }
+                BleedEffect bleed = new BleedEffect(enemy, BLEED_DURATION, bleedDamage);
+                bleed.onApply();
+                gameProj.addStatusEffect(enemy, bleed);
             }
         }
     }
@@ -388,113 +139,17 @@ class GroundSlamAbility extends Ability {
         Vector2 playerPos = player.getPosition();
 
         // Ground slam visual
-        AbilityVisual.GroundSlam slamVisual = new AbilityVisual.GroundSlam(player, SLAM_RADIUS, 0.5f);
-        player.addAbilityVisual(slamVisual);
-
-        // Stun enemies in overworld
-        if (!gameProj.isInDungeon() && !gameProj.isInBossRoom() && !gameProj.isInEndlessRoom()) {
-            for (Chunk chunk : gameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        float dist = playerPos.dst(enemy.getBody().getPosition());
-                        if (dist < SLAM_RADIUS) {
-                            StunEffect stun = new StunEffect(enemy, STUN_DURATION);
-                            stun.onApply();
-                            gameProj.addStatusEffect(enemy, stun);
-                        }
-                    }
-                }
-            }
-
-            for (Lemmy lemmy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    float dist = playerPos.dst(lemmy.getBody().getPosition());
-                    if (dist < SLAM_RADIUS) {
-                        StunEffect stun = new StunEffect(lemmy, STUN_DURATION);
-                        stun.onApply();
-                        gameProj.addStatusEffect(lemmy, stun);
-                    }
-                }
-            }
-
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                float dist = playerPos.dst(herman.getBody().getPosition());
-                if (dist < SLAM_RADIUS) {
-                    StunEffect stun = new StunEffect(herman, STUN_DURATION);
-                    stun.onApply();
-                    gameProj.addStatusEffect(herman, stun);
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                float dist = playerPos.dst(hermanDuplicate.getBody().getPosition());
-                if (dist < SLAM_RADIUS) {
-                    StunEffect stun = new StunEffect(hermanDuplicate, STUN_DURATION);
-                    stun.onApply();
-                    gameProj.addStatusEffect(hermanDuplicate, stun);
-                }
-            }
-        }
-
-        // Stun dungeon enemies
-        if (gameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < SLAM_RADIUS) {
-                        StunEffect stun = new StunEffect(enemy, STUN_DURATION);
-                        stun.onApply();
-                        gameProj.addStatusEffect(enemy, stun);
-                    }
-                }
-            }
-        }
-
-        // Stun boss room enemies
-        if (gameProj.getCurrentBossRoom() != null) {
-            BossKitty boss = gameProj.getCurrentBossRoom().getBoss();
-            if (boss != null && boss.getBody() != null) {
-                float dist = playerPos.dst(boss.getBody().getPosition());
-                if (dist < SLAM_RADIUS) {
-                    StunEffect stun = new StunEffect(boss, STUN_DURATION * 0.5f); // Bosses get reduced stun
-                    stun.onApply();
-                    gameProj.addStatusEffect(boss, stun);
-                }
-            }
-
-            Cyclops cyclops = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclops != null && cyclops.getBody() != null) {
-                float dist = playerPos.dst(cyclops.getBody().getPosition());
-                if (dist < SLAM_RADIUS) {
-                    StunEffect stun = new StunEffect(cyclops, STUN_DURATION * 0.5f);
-                    stun.onApply();
-                    gameProj.addStatusEffect(cyclops, stun);
-                }
-            }
-
-            GhostBoss ghostBoss = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                float dist = playerPos.dst(ghostBoss.getBody().getPosition());
-                if (dist < SLAM_RADIUS) {
-                    StunEffect stun = new StunEffect(ghostBoss, STUN_DURATION * 0.5f);
-                    stun.onApply();
-                    gameProj.addStatusEffect(ghostBoss, stun);
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < SLAM_RADIUS) {
-                        StunEffect stun = new StunEffect(enemy, STUN_DURATION);
-                        stun.onApply();
-                        gameProj.addStatusEffect(enemy, stun);
-                    }
-                }
+        VfxEmitter.GROUND_SLAM.emit(player, SLAM_RADIUS, 0.5f);
+
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inRadius(i, playerPos.x, playerPos.y, SLAM_RADIUS)) {
+                HostileEntity enemy = registry.get(i);
+                // Bosses get reduced stun
+                float stunDuration = registry.isBoss(i) ? STUN_DURATION * 0.5f : STUN_DURATION;
+                StunEffect stun = new StunEffect(enemy, stunDuration);
+                stun.onApply();
+                gameProj.addStatusEffect(enemy, stun);
             }
         }
     }
@@ -511,7 +166,6 @@ class WhirlwindAbility extends Ability {
     private float whirlwindTimer;
     private float tickTimer;
     private boolean isActive;
-    private AbilityVisual.Whirlwind whirlwindVisual;
 
     public WhirlwindAbility(Texture iconTexture) {
         super(
@@ -538,8 +192,7 @@ class WhirlwindAbility extends Ability {
         tickTimer = 0f;
         isActive = true;
 
-        whirlwindVisual = new AbilityVisual.Whirlwind(player, WHIRLWIND_RADIUS, WHIRLWIND_DURATION);
-        player.addAbilityVisual(whirlwindVisual);
+        VfxEmitter.WHIRLWIND.emit(player, WHIRLWIND_RADIUS, WHIRLWIND_DURATION);
         damageEnemiesInRange();
     }
 
@@ -571,89 +224,10 @@ class WhirlwindAbility extends Ability {
         int actualDamage = whirlwindPlayer.getStats().getActualDamage();
         int scaledDamage = damage + actualDamage;
 
-        if (!currentGameProj.isInDungeon() && !currentGameProj.isInBossRoom() && !currentGameProj.isInEndlessRoom()) {
-            for (Chunk chunk : currentGameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        float dist = playerPos.dst(enemy.getBody().getPosition());
-                        if (dist < WHIRLWIND_RADIUS) {
-                            enemy.takeDamage(scaledDamage);
-                        }
-                    }
-                }
-            }
-
-            for (Lemmy lemmy : new ArrayList<>(currentGameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    float dist = playerPos.dst(lemmy.getBody().getPosition());
-                    if (dist < WHIRLWIND_RADIUS) {
-                        lemmy.takeDamage(scaledDamage);
-                    }
-                }
-            }
-
-            Herman herman = currentGameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                float dist = playerPos.dst(herman.getBody().getPosition());
-                if (dist < WHIRLWIND_RADIUS) {
-                    herman.takeDamage(scaledDamage);
-                }
-            }
-
-            Herman hermanDuplicate = currentGameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                float dist = playerPos.dst(hermanDuplicate.getBody().getPosition());
-                if (dist < WHIRLWIND_RADIUS) {
-                    hermanDuplicate.takeDamage(scaledDamage);
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(currentGameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < WHIRLWIND_RADIUS) {
-                        enemy.takeDamage(scaledDamage);
-                    }
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentBossRoom() != null) {
-            BossKitty boss = currentGameProj.getCurrentBossRoom().getBoss();
-            if (boss != null && boss.getBody() != null) {
-                float dist = playerPos.dst(boss.getBody().getPosition());
-                if (dist < WHIRLWIND_RADIUS) {
-                    boss.takeDamage(scaledDamage);
-                }
-            }
-
-            Cyclops cyclops = currentGameProj.getCurrentBossRoom().getCyclops();
-            if (cyclops != null && cyclops.getBody() != null) {
-                float dist = playerPos.dst(cyclops.getBody().getPosition());
-                if (dist < WHIRLWIND_RADIUS) {
-                    cyclops.takeDamage(scaledDamage);
-                }
-            }
-
-            GhostBoss ghostBoss = currentGameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                float dist = playerPos.dst(ghostBoss.getBody().getPosition());
-                if (dist < WHIRLWIND_RADIUS) {
-                    ghostBoss.takeDamage(scaledDamage);
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(currentGameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < WHIRLWIND_RADIUS) {
-                        enemy.takeDamage(scaledDamage);
-                    }
-                }
+        EntityRegistry registry = currentGameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inRadius(i, playerPos.x, playerPos.y, WHIRLWIND_RADIUS)) {
+                registry.get(i).takeDamage(scaledDamage);
             }
         }
     }
@@ -687,8 +261,7 @@ class ExecuteAbility extends Ability {
         int totalDamage = damage + actualDamage;
 
         // Red spear visual for execute
-        AbilityVisual.SpearJab executeVisual = AbilityVisual.SpearJab.createRed(player, gameProj, 0.3f, EXECUTE_RANGE, 0f);
-        player.addAbilityVisual(executeVisual);
+        VfxEmitter.SPEAR_JAB.emit(player, 0f, EXECUTE_RANGE, 0.3f, VfxEmitter.RED);
 
         Vector3 mousePos3D = gameProj.getCamera().unproject(
                 new Vector3(Gdx.input.getX(), Gdx.input.getY(), 0)
@@ -697,161 +270,10 @@ class ExecuteAbility extends Ability {
         Vector2 attackDir = new Vector2(mousePos.x - playerPos.x, mousePos.y - playerPos.y).nor();
 
         // Line attack with precise width
-        if (!gameProj.isInDungeon() && !gameProj.isInBossRoom() && !gameProj.isInEndlessRoom()) {
-            for (Chunk chunk : gameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        Vector2 enemyPos = enemy.getBody().getPosition();
-                        Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                        float distanceAlongLine = toEnemy.dot(attackDir);
-                        if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                            Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                            float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                            if (perpDistance < LINE_WIDTH) {
-                                enemy.takeDamage(totalDamage);
-                            }
-                        }
-                    }
-                }
-            }
-
-            for (Lemmy lemmy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    Vector2 enemyPos = lemmy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                    float distanceAlongLine = toEnemy.dot(attackDir);
-                    if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                        Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                        float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                        if (perpDistance < LINE_WIDTH) {
-                            lemmy.takeDamage(totalDamage);
-                        }
-                    }
-                }
-            }
-
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                Vector2 enemyPos = herman.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                    Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < LINE_WIDTH) {
-                        herman.takeDamage(totalDamage);
-                    }
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                Vector2 enemyPos = hermanDuplicate.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                    Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < LINE_WIDTH) {
-                        hermanDuplicate.takeDamage(totalDamage);
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    Vector2 enemyPos = enemy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                    float distanceAlongLine = toEnemy.dot(attackDir);
-                    if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                        Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                        float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                        if (perpDistance < LINE_WIDTH) {
-                            enemy.takeDamage(totalDamage);
-                        }
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentBossRoom() != null) {
-            BossKitty boss = gameProj.getCurrentBossRoom().getBoss();
-            if (boss != null && boss.getBody() != null) {
-                Vector2 enemyPos = boss.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                    Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < LINE_WIDTH) {
-                        boss.takeDamage(totalDamage);
-                    }
-                }
-            }
-
-            Cyclops cyclops = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclops != null && cyclops.getBody() != null) {
-                Vector2 enemyPos = cyclops.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                    Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < LINE_WIDTH) {
-                        cyclops.takeDamage(totalDamage);
-                    }
-                }
-            }
-
-            GhostBoss ghostBoss = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                Vector2 enemyPos = ghostBoss.getBody().getPosition();
-                Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                float distanceAlongLine = toEnemy.dot(attackDir);
-                if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                    Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                    float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                    if (perpDistance < LINE_WIDTH) {
-                        ghostBoss.takeDamage(totalDamage);
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    Vector2 enemyPos = enemy.getBody().getPosition();
-                    Vector2 toEnemy = new Vector2(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
-
-                    float distanceAlongLine = toEnemy.dot(attackDir);
-                    if (distanceAlongLine > 0 && distanceAlongLine < EXECUTE_RANGE) {
-                        Vector2 projectedPoint = new Vector2(attackDir).scl(distanceAlongLine);
-                        float perpDistance = toEnemy.cpy().sub(projectedPoint).len();
-
-                        if (perpDistance < LINE_WIDTH) {
-                            enemy.takeDamage(totalDamage);
-                        }
-                    }
-                }
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inLine(i, playerPos.x, playerPos.y, attackDir.x, attackDir.y, EXECUTE_RANGE, LINE_WIDTH)) {
+                registry.get(i).takeDamage(totalDamage);
             }
         }
     }
@@ -886,7 +308,6 @@ class BlazingFuryAbility extends Ability {
         furyEffect.onApply();
         gameProj.addStatusEffect(player, furyEffect);
 
-        AbilityVisual.BlazingFuryAura furyVisual = new AbilityVisual.BlazingFuryAura(player, FURY_DURATION);
-        player.addAbilityVisual(furyVisual);
+        VfxEmitter.FURY_AURA.emit(player, 0f, FURY_DURATION);
     }
 }
\ No newline at end of file
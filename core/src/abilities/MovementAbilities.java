@@ -6,10 +6,9 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import entities.*;
 import game.GameProj;
-import managers.Chunk;
+import managers.EntityRegistry;
 import managers.SoundManager;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -116,17 +115,7 @@ class ChargeAbility extends Ability {
         trailVisual = new AbilityVisual.ChargeTrail(player, CHARGE_DURATION);
         player.addAbilityVisual(trailVisual);
 
-        new Thread(() -> {
-            try {
-                Thread.sleep((long)(duration * 1000 * 2));
-
-                Gdx.app.postRunnable(() -> {
-                    player.setInvulnerable(false);
-                });
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        player.getAbilityManager().schedule(duration * 2, () -> player.setInvulnerable(false));
     }
 
     @Override
@@ -164,127 +153,15 @@ class ChargeAbility extends Ability {
 
         Set<Object> hitEnemies = chargingPlayer.getChargeHitEnemies();
 
-        if (!currentGameProj.isInDungeon() && !currentGameProj.isInBossRoom() && !currentGameProj.isInEndlessRoom()) {
-            for (Chunk chunk : currentGameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null && !hitEnemies.contains(enemy)) {
-                        float dist = playerPos.dst(enemy.getBody().getPosition());
-                        if (dist < hitRadius) {
-                            enemy.takeDamage(0);
-                            StunEffect stun = new StunEffect(enemy, STUN_DURATION);
-                            stun.onApply();
-                            currentGameProj.addStatusEffect(enemy, stun);
-                            hitEnemies.add(enemy);
-                        }
-                    }
-                }
-
-                for (Lemmy lemmy : new ArrayList<>(currentGameProj.getGlobalLemmy())) {
-                    if (lemmy != null && lemmy.getBody() != null && !hitEnemies.contains(lemmy)) {
-                        float dist = playerPos.dst(lemmy.getBody().getPosition());
-                        if (dist < hitRadius) {
-                            lemmy.takeDamage(0);
-                            StunEffect stun = new StunEffect(lemmy, STUN_DURATION);
-                            stun.onApply();
-                            currentGameProj.addStatusEffect(lemmy, stun);
-                            hitEnemies.add(lemmy);
-                        }
-                    }
-                }
-
-                Herman herman = currentGameProj.getHerman();
-                if (herman != null && herman.getBody() != null && !hitEnemies.contains(herman)) {
-                    float dist = playerPos.dst(herman.getBody().getPosition());
-                    if (dist < hitRadius) {
-                        herman.takeDamage(0);
-                        StunEffect stun = new StunEffect(herman, STUN_DURATION);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(herman, stun);
-                        hitEnemies.add(herman);
-                    }
-                }
-
-                Herman hermanDuplicate = currentGameProj.getHermanDuplicate();
-                if (hermanDuplicate != null && hermanDuplicate.getBody() != null && !hitEnemies.contains(hermanDuplicate)) {
-                    float dist = playerPos.dst(hermanDuplicate.getBody().getPosition());
-                    if (dist < hitRadius) {
-                        hermanDuplicate.takeDamage(0);
-                        StunEffect stun = new StunEffect(hermanDuplicate, STUN_DURATION);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(hermanDuplicate, stun);
-                        hitEnemies.add(hermanDuplicate);
-                    }
-                }
-            }
-        }
-
-        // Check dungeon enemies
-        if (currentGameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(currentGameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null && !hitEnemies.contains(enemy)) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < hitRadius) {
-                        enemy.takeDamage(0);
-                        StunEffect stun = new StunEffect(enemy, STUN_DURATION);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(enemy, stun);
-                        hitEnemies.add(enemy);
-                    }
-                }
-            }
-        }
-
-        // Check boss room bosses
-        if (currentGameProj.getCurrentBossRoom() != null) {
-            BossKitty bossRoomBoss = currentGameProj.getCurrentBossRoom().getBoss();
-            if (bossRoomBoss != null && bossRoomBoss.getBody() != null && !hitEnemies.contains(bossRoomBoss)) {
-                float dist = playerPos.dst(bossRoomBoss.getBody().getPosition());
-                if (dist < hitRadius) {
-                    bossRoomBoss.takeDamage(0);
-                    StunEffect stun = new StunEffect(bossRoomBoss, STUN_DURATION);
-                    stun.onApply();
-                    currentGameProj.addStatusEffect(bossRoomBoss, stun);
-                    hitEnemies.add(bossRoomBoss);
-                }
-            }
-
-            Cyclops cyclopsRoomBoss = currentGameProj.getCurrentBossRoom().getCyclops();
-            if (cyclopsRoomBoss != null && cyclopsRoomBoss.getBody() != null && !hitEnemies.contains(cyclopsRoomBoss)) {
-                float dist = playerPos.dst(cyclopsRoomBoss.getBody().getPosition());
-                if (dist < hitRadius) {
-                    cyclopsRoomBoss.takeDamage(0);
-                    StunEffect stun = new StunEffect(cyclopsRoomBoss, STUN_DURATION);
-                    stun.onApply();
-                    currentGameProj.addStatusEffect(cyclopsRoomBoss, stun);
-                    hitEnemies.add(cyclopsRoomBoss);
-                }
-            }
-
-            GhostBoss ghostBoss = currentGameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null && !hitEnemies.contains(ghostBoss)) {
-                float dist = playerPos.dst(ghostBoss.getBody().getPosition());
-                if (dist < hitRadius) {
-                    ghostBoss.takeDamage(0);
-                    StunEffect stun = new StunEffect(ghostBoss, STUN_DURATION);
-                    stun.onApply();
-                    currentGameProj.addStatusEffect(ghostBoss, stun);
-                    hitEnemies.add(ghostBoss);
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(currentGameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null && !hitEnemies.contains(enemy)) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < hitRadius) {
-                        enemy.takeDamage(0);
-                        StunEffect stun = new StunEffect(enemy, STUN_DURATION);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(enemy, stun);
-                        hitEnemies.add(enemy);
-                    }
-                }
+        EntityRegistry registry = currentGameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            HostileEntity enemy = registry.get(i);
+            if (registry.inRadius(i, playerPos.x, playerPos.y, hitRadius) && !hitEnemies.contains(enemy)) {
+                enemy.takeDamage(0);
+                StunEffect stun = new StunEffect(enemy, STUN_DURATION);
+                stun.onApply();
+                currentGameProj.addStatusEffect(enemy, stun);
+                hitEnemies.add(enemy);
             }
         }
     }
@@ -343,16 +220,7 @@ class ShadowStepAbility extends Ability {
         trailVisual = new AbilityVisual.ShadowStepTrail(player, SHADOW_STEP_DURATION);
         player.addAbilityVisual(trailVisual);
 
-        new Thread(() -> {
-            try {
-                Thread.sleep((long)(SHADOW_STEP_DURATION * 1000 + 200));
-                Gdx.app.postRunnable(() -> {
-                    player.setInvulnerable(false);
-                });
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        player.getAbilityManager().schedule(SHADOW_STEP_DURATION + 0.2f, () -> player.setInvulnerable(false));
     }
 
     @Override
@@ -424,17 +292,7 @@ class VaultAbility extends Ability {
         trailVisual = new AbilityVisual.VaultTrail(player, VAULT_DURATION);
         player.addAbilityVisual(trailVisual);
 
-        new Thread(() -> {
-            try {
-                Thread.sleep((long)(duration * 1000 * 2));
-
-                Gdx.app.postRunnable(() -> {
-                    player.setInvulnerable(false);
-                });
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        player.getAbilityManager().schedule(duration * 2, () -> player.setInvulnerable(false));
     }
 
     @Override
@@ -473,98 +331,12 @@ class VaultAbility extends Ability {
         int actualDamage = vaultingPlayer.getStats().getActualDamage();
         int totalDamage = damage + actualDamage;
 
-        if (!currentGameProj.isInBossRoom() && !currentGameProj.isInDungeon() && !currentGameProj.isInEndlessRoom()) {
-            for (Chunk chunk : currentGameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null && !hitEnemies.contains(enemy)) {
-                        float dist = playerPos.dst(enemy.getBody().getPosition());
-                        if (dist < hitRadius) {
-                            enemy.takeDamage(totalDamage);
-                            hitEnemies.add(enemy);
-                        }
-                    }
-                }
-
-                for (Lemmy lemmy : new ArrayList<>(currentGameProj.getGlobalLemmy())) {
-                    if (lemmy != null && lemmy.getBody() != null && !hitEnemies.contains(lemmy)) {
-                        float dist = playerPos.dst(lemmy.getBody().getPosition());
-                        if (dist < hitRadius) {
-                            lemmy.takeDamage(totalDamage);
-                            hitEnemies.add(lemmy);
-                        }
-                    }
-                }
-
-                Herman herman = currentGameProj.getHerman();
-                if (herman != null && herman.getBody() != null && !hitEnemies.contains(herman)) {
-                    float dist = playerPos.dst(herman.getBody().getPosition());
-                    if (dist < hitRadius) {
-                        herman.takeDamage(totalDamage);
-                        hitEnemies.add(herman);
-                    }
-                }
-
-                Herman hermanDuplicate = currentGameProj.getHermanDuplicate();
-                if (hermanDuplicate != null && hermanDuplicate.getBody() != null && !hitEnemies.contains(hermanDuplicate)) {
-                    float dist = playerPos.dst(hermanDuplicate.getBody().getPosition());
-                    if (dist < hitRadius) {
-                        hermanDuplicate.takeDamage(totalDamage);
-                        hitEnemies.add(hermanDuplicate);
-                    }
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(currentGameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null && !hitEnemies.contains(enemy)) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < hitRadius) {
-                        enemy.takeDamage(totalDamage);
-                        hitEnemies.add(enemy);
-                    }
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentBossRoom() != null) {
-            BossKitty bossRoomBoss = currentGameProj.getCurrentBossRoom().getBoss();
-            if (bossRoomBoss != null && bossRoomBoss.getBody() != null && !hitEnemies.contains(bossRoomBoss)) {
-                float dist = playerPos.dst(bossRoomBoss.getBody().getPosition());
-                if (dist < hitRadius) {
-                    bossRoomBoss.takeDamage(totalDamage);
-                    hitEnemies.add(bossRoomBoss);
-                }
-            }
-
-            Cyclops cyclopsRoomBoss = currentGameProj.getCurrentBossRoom().getCyclops();
-            if (cyclopsRoomBoss != null && cyclopsRoomBoss.getBody() != null && !hitEnemies.contains(cyclopsRoomBoss)) {
-                float dist = playerPos.dst(cyclopsRoomBoss.getBody().getPosition());
-                if (dist < hitRadius) {
-                    cyclopsRoomBoss.takeDamage(totalDamage);
-                    hitEnemies.add(cyclopsRoomBoss);
-                }
-            }
-
-            GhostBoss ghostBoss = currentGameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null && !hitEnemies.contains(ghostBoss)) {
-                float dist = playerPos.dst(ghostBoss.getBody().getPosition());
-                if (dist < hitRadius) {
-                    ghostBoss.takeDamage(totalDamage);
-                    hitEnemies.add(ghostBoss);
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(currentGameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null && !hitEnemies.contains(enemy)) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < hitRadius) {
-                        enemy.takeDamage(totalDamage);
-                        hitEnemies.add(enemy);
-                    }
-                }
+        EntityRegistry registry = currentGameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            HostileEntity enemy = registry.get(i);
+            if (registry.inRadius(i, playerPos.x, playerPos.y, hitRadius) && !hitEnemies.contains(enemy)) {
+                enemy.takeDamage(totalDamage);
+                hitEnemies.add(enemy);
             }
         }
     }
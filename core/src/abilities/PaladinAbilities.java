@@ -4,11 +4,9 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import entities.*;
 import game.GameProj;
-import managers.Chunk;
+import managers.EntityRegistry;
 import managers.SoundManager;
 
-import java.util.ArrayList;
-
 public abstract class PaladinAbilities { }
 
 class SmiteAbility extends Ability {
@@ -36,103 +34,13 @@ class SmiteAbility extends Ability {
         Vector2 playerPos = player.getPosition();
         int actualDamage = player.getStats().getActualDamage();
 
-        AbilityVisual.Smite smiteVisual = new AbilityVisual.Smite(player, SMITE_RADIUS, 0.5f);
-        player.addAbilityVisual(smiteVisual);
-
-        int enemiesHit = 0;
-
-        if (!gameProj.isInDungeon() && !gameProj.isInBossRoom() && !gameProj.isInEndlessRoom()) {
-            for (Chunk chunk : gameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        float dist = playerPos.dst(enemy.getBody().getPosition());
-                        if (dist < SMITE_RADIUS) {
-                            enemy.takeDamage(damage + actualDamage);
-                            enemiesHit++;
-                        }
-                    }
-                }
-            }
-
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                float dist = playerPos.dst(herman.getBody().getPosition());
-                if (dist < SMITE_RADIUS) {
-                    herman.takeDamage(damage + actualDamage);
-                    enemiesHit++;
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                float dist = playerPos.dst(hermanDuplicate.getBody().getPosition());
-                if (dist < SMITE_RADIUS) {
-                    hermanDuplicate.takeDamage(damage + actualDamage);
-                    enemiesHit++;
-                }
-            }
+        VfxEmitter.SMITE.emit(player, SMITE_RADIUS, 0.5f);
 
-            for (Lemmy lemmy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    float dist = playerPos.dst(lemmy.getBody().getPosition());
-                    if (dist < SMITE_RADIUS) {
-                        lemmy.takeDamage(damage + actualDamage);
-                        enemiesHit++;
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < SMITE_RADIUS) {
-                        enemy.takeDamage(damage + actualDamage);
-                        enemiesHit++;
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentBossRoom() != null) {
-            BossKitty bossRoomBoss = gameProj.getCurrentBossRoom().getBoss();
-            if (bossRoomBoss != null && bossRoomBoss.getBody() != null) {
-                float dist = playerPos.dst(bossRoomBoss.getBody().getPosition());
-                if (dist < SMITE_RADIUS) {
-                    bossRoomBoss.takeDamage(damage + actualDamage);
-                    enemiesHit++;
-                }
-            }
-
-            Cyclops cyclopsRoomBoss = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclopsRoomBoss != null && cyclopsRoomBoss.getBody() != null) {
-                float dist = playerPos.dst(cyclopsRoomBoss.getBody().getPosition());
-                if (dist < SMITE_RADIUS) {
-                    cyclopsRoomBoss.takeDamage(damage + actualDamage);
-                    enemiesHit++;
-                }
-            }
-
-            GhostBoss ghostBoss = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                float dist = playerPos.dst(ghostBoss.getBody().getPosition());
-                if (dist < SMITE_RADIUS) {
-                    ghostBoss.takeDamage(damage + actualDamage);
-                    enemiesHit++;
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < SMITE_RADIUS) {
-                        enemy.takeDamage(damage + actualDamage);
-                        enemiesHit++;
-                    }
-                }
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        int smiteDamage = damage + actualDamage;
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inRadius(i, playerPos.x, playerPos.y, SMITE_RADIUS)) {
+                registry.get(i).takeDamage(smiteDamage);
             }
         }
     }
@@ -220,114 +128,17 @@ class ConsecratedGroundAbility extends Ability {
         Vector2 playerPos = player.getPosition();
         int actualDamage = player.getStats().getActualDamage();
 
-        AbilityVisual.ConsecratedGround consecrateVisual = new AbilityVisual.ConsecratedGround(
-                player, CONSECRATE_RADIUS, CONSECRATE_DELAY
-        );
-        player.addAbilityVisual(consecrateVisual);
+        VfxEmitter.CONSECRATE.emit(player, CONSECRATE_RADIUS, 0.5f);
 
         int scaledDamage = damage + actualDamage;
 
-        if (!gameProj.isInDungeon() && !gameProj.isInBossRoom() && !gameProj.isInEndlessRoom()) {
-            for (Chunk chunk : gameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        float dist = playerPos.dst(enemy.getBody().getPosition());
-                        if (dist < CONSECRATE_RADIUS) {
-                            ConsecratedEffect effect = new ConsecratedEffect(enemy, CONSECRATE_DELAY, scaledDamage);
-                            effect.onApply();
-                            gameProj.addStatusEffect(enemy, effect);
-                        }
-                    }
-                }
-            }
-
-            Herman herman = gameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                float dist = playerPos.dst(herman.getBody().getPosition());
-                if (dist < CONSECRATE_RADIUS) {
-                    ConsecratedEffect effect = new ConsecratedEffect(herman, CONSECRATE_DELAY, scaledDamage);
-                    effect.onApply();
-                    gameProj.addStatusEffect(herman, effect);
-                }
-            }
-
-            Herman hermanDuplicate = gameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                float dist = playerPos.dst(hermanDuplicate.getBody().getPosition());
-                if (dist < CONSECRATE_RADIUS) {
-                    ConsecratedEffect effect = new ConsecratedEffect(hermanDuplicate, CONSECRATE_DELAY, scaledDamage);
-                    effect.onApply();
-                    gameProj.addStatusEffect(hermanDuplicate, effect);
-                }
-            }
-
-            for (Lemmy lemmy : new ArrayList<>(gameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    float dist = playerPos.dst(lemmy.getBody().getPosition());
-                    if (dist < CONSECRATE_RADIUS) {
-                        ConsecratedEffect effect = new ConsecratedEffect(lemmy, CONSECRATE_DELAY, scaledDamage);
-                        effect.onApply();
-                        gameProj.addStatusEffect(lemmy, effect);
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(gameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < CONSECRATE_RADIUS) {
-                        ConsecratedEffect effect = new ConsecratedEffect(enemy, CONSECRATE_DELAY, scaledDamage);
-                        effect.onApply();
-                        gameProj.addStatusEffect(enemy, effect);
-                    }
-                }
-            }
-        }
-
-        if (gameProj.getCurrentBossRoom() != null) {
-            BossKitty bossRoomBoss = gameProj.getCurrentBossRoom().getBoss();
-            if (bossRoomBoss != null && bossRoomBoss.getBody() != null) {
-                float dist = playerPos.dst(bossRoomBoss.getBody().getPosition());
-                if (dist < CONSECRATE_RADIUS) {
-                    ConsecratedEffect effect = new ConsecratedEffect(bossRoomBoss, CONSECRATE_DELAY, scaledDamage);
-                    effect.onApply();
-                    gameProj.addStatusEffect(bossRoomBoss, effect);
-                }
-            }
-
-            Cyclops cyclopsRoomBoss = gameProj.getCurrentBossRoom().getCyclops();
-            if (cyclopsRoomBoss != null && cyclopsRoomBoss.getBody() != null) {
-                float dist = playerPos.dst(cyclopsRoomBoss.getBody().getPosition());
-                if (dist < CONSECRATE_RADIUS) {
-                    ConsecratedEffect effect = new ConsecratedEffect(cyclopsRoomBoss, CONSECRATE_DELAY, scaledDamage);
-                    effect.onApply();
-                    gameProj.addStatusEffect(cyclopsRoomBoss, effect);
-                }
-            }
-
-            GhostBoss ghostBoss = gameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                float dist = playerPos.dst(ghostBoss.getBody().getPosition());
-                if (dist < CONSECRATE_RADIUS) {
-                    ConsecratedEffect effect = new ConsecratedEffect(ghostBoss, CONSECRATE_DELAY, scaledDamage);
-                    effect.onApply();
-                    gameProj.addStatusEffect(ghostBoss, effect);
-                }
-            }
-        }
-
-        if (gameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(gameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < CONSECRATE_RADIUS) {
-                        ConsecratedEffect effect = new ConsecratedEffect(enemy, CONSECRATE_DELAY, scaledDamage);
-                        effect.onApply();
-                        gameProj.addStatusEffect(enemy, effect);
-                    }
-                }
+        EntityRegistry registry = gameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inRadius(i, playerPos.x, playerPos.y, CONSECRATE_RADIUS)) {
+                HostileEntity enemy = registry.get(i);
+                ConsecratedEffect effect = new ConsecratedEffect(enemy, CONSECRATE_DELAY, scaledDamage);
+                effect.onApply();
+                gameProj.addStatusEffect(enemy, effect);
             }
         }
     }
@@ -403,89 +214,10 @@ class HolyAuraAbility extends Ability {
         int actualDamage = auraPlayer.getStats().getActualDamage();
         int scaledDamage = damage + actualDamage;
 
-        if (!currentGameProj.isInDungeon() && !currentGameProj.isInBossRoom() && !currentGameProj.isInEndlessRoom()) {
-            for (Chunk chunk : currentGameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        float dist = playerPos.dst(enemy.getBody().getPosition());
-                        if (dist < AURA_RADIUS) {
-                            enemy.takeDamage(scaledDamage);
-                        }
-                    }
-                }
-            }
-
-            Herman herman = currentGameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                float dist = playerPos.dst(herman.getBody().getPosition());
-                if (dist < AURA_RADIUS) {
-                    herman.takeDamage(scaledDamage);
-                }
-            }
-
-            Herman hermanDuplicate = currentGameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                float dist = playerPos.dst(hermanDuplicate.getBody().getPosition());
-                if (dist < AURA_RADIUS) {
-                    hermanDuplicate.takeDamage(scaledDamage);
-                }
-            }
-
-            for (Lemmy lemmy : new ArrayList<>(currentGameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    float dist = playerPos.dst(lemmy.getBody().getPosition());
-                    if (dist < AURA_RADIUS) {
-                        lemmy.takeDamage(scaledDamage);
-                    }
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(currentGameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < AURA_RADIUS) {
-                        enemy.takeDamage(scaledDamage);
-                    }
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentBossRoom() != null) {
-            BossKitty bossRoomBoss = currentGameProj.getCurrentBossRoom().getBoss();
-            if (bossRoomBoss != null && bossRoomBoss.getBody() != null) {
-                float dist = playerPos.dst(bossRoomBoss.getBody().getPosition());
-                if (dist < AURA_RADIUS) {
-                    bossRoomBoss.takeDamage(scaledDamage);
-                }
-            }
-
-            Cyclops cyclopsRoomBoss = currentGameProj.getCurrentBossRoom().getCyclops();
-            if (cyclopsRoomBoss != null && cyclopsRoomBoss.getBody() != null) {
-                float dist = playerPos.dst(cyclopsRoomBoss.getBody().getPosition());
-                if (dist < AURA_RADIUS) {
-                    cyclopsRoomBoss.takeDamage(scaledDamage);
-                }
-            }
-
-            GhostBoss ghostBoss = currentGameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                float dist = playerPos.dst(ghostBoss.getBody().getPosition());
-                if (dist < AURA_RADIUS) {
-                    ghostBoss.takeDamage(scaledDamage);
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(currentGameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    float dist = playerPos.dst(enemy.getBody().getPosition());
-                    if (dist < AURA_RADIUS) {
-                        enemy.takeDamage(scaledDamage);
-                    }
-                }
+        EntityRegistry registry = currentGameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (registry.inRadius(i, playerPos.x, playerPos.y, AURA_RADIUS)) {
+                registry.get(i).takeDamage(scaledDamage);
             }
         }
     }
@@ -7,6 +7,7 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import config.RunSnapshot;
 import config.Storage;
 import entities.Player;
 import entities.PlayerClass;
@@ -759,6 +760,36 @@ public class SkillTree {
 
     // Methods to get slotted abilities for AbilityManager integration
 
+    public void captureTo(RunSnapshot snapshot) {
+        List<String> unlocked = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        for (Skill skill : allSkillsById.values()) {
+            if (skill.unlocked) {
+                unlocked.add(skill.id);
+                slots.add(skill.slottedPosition);
+            }
+        }
+
+        snapshot.unlockedSkills = unlocked.toArray(new String[0]);
+        snapshot.skillSlots = new int[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            snapshot.skillSlots[i] = slots.get(i);
+        }
+    }
+
+    // Skill points are restored with the player's stats, so unlocking here spends none
+    public void restoreFrom(RunSnapshot snapshot) {
+        for (int i = 0; i < snapshot.unlockedSkills.length; i++) {
+            Skill skill = allSkillsById.get(snapshot.unlockedSkills[i]);
+            if (skill == null) continue;
+
+            skill.unlocked = true;
+            if (snapshot.skillSlots[i] >= 0) {
+                trySlotSkill(skill, snapshot.skillSlots[i]);
+            }
+        }
+    }
+
     public Skill getSlottedSkill(int slot) {
         if (slot >= 0 && slot < MAX_ABILITY_SLOTS) {
             return slottedAbilities[slot];
@@ -6,6 +6,7 @@ public abstract class StatusEffect {
     protected float elapsed;
     protected boolean isActive;
     protected EffectType type;
+    protected Kind kind;
 
     public enum EffectType {
         BUFF,
@@ -14,10 +15,25 @@ public abstract class StatusEffect {
         DOT
     }
 
-    public StatusEffect(String name, float duration, EffectType type) {
+    // One per effect class, so an entity can answer "has effect X" from a bit mask
+    public enum Kind {
+        BUBBLE_SHIELD,
+        BLEED,
+        STUN,
+        CONSECRATED,
+        SPRINT,
+        SMOKE_BOMB,
+        LIFE_LEECH,
+        HOLY_BLESSING,
+        HOLY_SWORD,
+        BLAZING_FURY
+    }
+
+    public StatusEffect(String name, float duration, EffectType type, Kind kind) {
         this.name = name;
         this.duration = duration;
         this.type = type;
+        this.kind = kind;
         this.elapsed = 0f;
         this.isActive = true;
     }
@@ -58,4 +74,5 @@ public abstract class StatusEffect {
     public float getTimeRemaining() { return duration - elapsed; }
     public boolean isActive() { return isActive; }
     public EffectType getType() { return type; }
+    public Kind getKind() { return kind; }
 }
\ No newline at end of file
@@ -2,12 +2,13 @@ package abilities;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
 import config.Storage;
-import entities.*;
+import entities.HostileEntity;
 
 import java.util.List;
-import java.util.Map;
 
 public class StatusEffectRenderer {
 
@@ -46,14 +47,14 @@ public class StatusEffectRenderer {
         iconsLoaded = true;
     }
 
-    public static void render(SpriteBatch batch, Map<Object, List<StatusEffect>> statusEffects, float globalTimer) {
+    public static void render(SpriteBatch batch, List<StatusEffectTarget> targets, float globalTimer) {
         if (!iconsLoaded) {
             loadIcons();
         }
 
-        for (Map.Entry<Object, List<StatusEffect>> entry : statusEffects.entrySet()) {
-            Object target = entry.getKey();
-            List<StatusEffect> effects = entry.getValue();
+        for (int t = 0; t < targets.size(); t++) {
+            StatusEffectTarget target = targets.get(t);
+            StatusEffectSlots effects = target.getStatusEffects();
 
             if (effects.isEmpty()) continue;
 
@@ -67,7 +68,8 @@ public class StatusEffectRenderer {
             float startX = position.x - totalWidth / 2f;
 
             int iconIndex = 0;
-            for (StatusEffect effect : effects) {
+            for (int e = 0; e < effects.size(); e++) {
+                StatusEffect effect = effects.get(e);
                 Texture icon = getIconForEffect(effect);
                 if (icon != null) {
                     float iconX = startX + iconIndex * (ICON_SIZE + ICON_SPACING);
@@ -110,12 +112,13 @@ public class StatusEffectRenderer {
         }
     }
 
-    public static void renderForEntity(SpriteBatch batch, Object entity, List<StatusEffect> effects, float globalTimer) {
+    public static void renderForEntity(SpriteBatch batch, StatusEffectTarget entity, float globalTimer) {
         if (!iconsLoaded) {
             loadIcons();
         }
 
-        if (effects == null || effects.isEmpty()) return;
+        StatusEffectSlots effects = entity.getStatusEffects();
+        if (effects.isEmpty()) return;
 
         Vector2 position = getEntityPosition(entity);
         float entityHeight = getEntityHeight(entity);
@@ -127,7 +130,8 @@ public class StatusEffectRenderer {
         float startX = position.x - totalWidth / 2f;
 
         int iconIndex = 0;
-        for (StatusEffect effect : effects) {
+        for (int e = 0; e < effects.size(); e++) {
+            StatusEffect effect = effects.get(e);
             Texture icon = getIconForEffect(effect);
             if (icon != null) {
                 float iconX = startX + iconIndex * (ICON_SIZE + ICON_SPACING);
@@ -164,73 +168,36 @@ public class StatusEffectRenderer {
         }
     }
 
-    private static Vector2 getEntityPosition(Object entity) {
-        if (entity instanceof Enemy) {
-            Enemy e = (Enemy) entity;
-            if (e.getBody() != null) {
-                return e.getBody().getPosition();
-            }
-        } else if (entity instanceof DungeonEnemy) {
-            DungeonEnemy e = (DungeonEnemy) entity;
-            if (e.getBody() != null) {
-                return e.getBody().getPosition();
-            }
-        } else if (entity instanceof BossKitty) {
-            BossKitty e = (BossKitty) entity;
-            if (e.getBody() != null) {
-                return e.getBody().getPosition();
-            }
-        } else if (entity instanceof Cyclops) {
-            Cyclops e = (Cyclops) entity;
-            if (e.getBody() != null) {
-                return e.getBody().getPosition();
-            }
-        } else if (entity instanceof GhostBoss) {
-            GhostBoss e = (GhostBoss) entity;
-            if (e.getBody() != null) {
-                return e.getBody().getPosition();
-            }
-        } else if (entity instanceof Herman) {
-            Herman e = (Herman) entity;
-            if (e.getBody() != null) {
-                return e.getBody().getPosition();
-            }
-        } else if (entity instanceof EndlessEnemy) {
-            EndlessEnemy e = (EndlessEnemy) entity;
-            if (e.getBody() != null) {
-                return e.getBody().getPosition();
+    private static Vector2 getEntityPosition(StatusEffectTarget entity) {
+        if (entity instanceof HostileEntity) {
+            Body body = ((HostileEntity) entity).getBody();
+            if (body != null) {
+                return body.getPosition();
             }
         }
         return null;
     }
 
-    private static float getEntityHeight(Object entity) {
-        if (entity instanceof Enemy) {
-            return ((Enemy) entity).bounds.height;
-        } else if (entity instanceof DungeonEnemy) {
-            return ((DungeonEnemy) entity).bounds.height;
-        } else if (entity instanceof BossKitty) {
-            return ((BossKitty) entity).bounds.height;
-        } else if (entity instanceof Cyclops) {
-            return ((Cyclops) entity).bounds.height;
-        } else if (entity instanceof GhostBoss) {
-            return ((GhostBoss) entity).bounds.height;
-        } else if (entity instanceof Herman) {
-            return ((Herman) entity).bounds.height;
-        } else if (entity instanceof EndlessEnemy) {
-            return ((EndlessEnemy) entity).bounds.height;
+    private static float getEntityHeight(StatusEffectTarget entity) {
+        if (entity instanceof HostileEntity) {
+            Rectangle bounds = ((HostileEntity) entity).getBounds();
+            if (bounds != null) {
+                return bounds.height;
+            }
         }
         return 16f;
     }
 
     private static Texture getIconForEffect(StatusEffect effect) {
-        if (effect instanceof BleedEffect) {
-            return bleedIcon;
-        } else if (effect instanceof StunEffect) {
-            return stunIcon;
-        } else if (effect instanceof ConsecratedEffect) {
-            return consecratedIcon;
+        switch (effect.getKind()) {
+            case BLEED:
+                return bleedIcon;
+            case STUN:
+                return stunIcon;
+            case CONSECRATED:
+                return consecratedIcon;
+            default:
+                return null;
         }
-        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package abilities;
+
+import java.util.Arrays;
+
+/*
+ * The status effects on one entity, kept in a small array on the entity itself. A bit per
+ * StatusEffect.Kind answers has() without walking the slots.
+ */
+public class StatusEffectSlots {
+    private static final int INITIAL_SLOTS = 4;
+
+    private StatusEffect[] effects = new StatusEffect[INITIAL_SLOTS];
+    private int count = 0;
+    private int kindMask = 0;
+    // Set while the entity is in StatusEffectSystem's update list
+    boolean tracked = false;
+
+    public void add(StatusEffect effect) {
+        if (count == effects.length) {
+            effects = Arrays.copyOf(effects, count * 2);
+        }
+        effects[count++] = effect;
+        kindMask |= 1 << effect.getKind().ordinal();
+    }
+
+    // Returns false once no effects are left
+    boolean update(float delta) {
+        boolean removed = false;
+        int i = 0;
+        while (i < count) {
+            StatusEffect effect = effects[i];
+            boolean wasActive = effect.isActive();
+            if (effect.update(delta)) {
+                i++;
+                continue;
+            }
+
+            // update() already expired it if it ran out; one removed early still needs onExpire
+            if (!wasActive) {
+                effect.onExpire();
+            }
+            effects[i] = effects[--count];
+            effects[count] = null;
+            removed = true;
+        }
+
+        if (removed) {
+            kindMask = 0;
+            for (int j = 0; j < count; j++) {
+                kindMask |= 1 << effects[j].getKind().ordinal();
+            }
+        }
+        return count > 0;
+    }
+
+    public boolean has(StatusEffect.Kind kind) {
+        return (kindMask & (1 << kind.ordinal())) != 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public StatusEffect get(int index) {
+        return effects[index];
+    }
+
+    // Drops the effects without expiring them, as when the entity dies
+    public void clear() {
+        Arrays.fill(effects, 0, count, null);
+        count = 0;
+        kindMask = 0;
+    }
+}
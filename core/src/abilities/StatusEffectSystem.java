@@ -0,0 +1,60 @@
+package abilities;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Updates every status effect in one pass. The effects live on the entities; this only keeps the list of
+ * entities that currently have any, so the per-frame cost follows the number of affected entities.
+ */
+public class StatusEffectSystem {
+    private final List<StatusEffectTarget> targets = new ArrayList<>();
+
+    public void add(StatusEffectTarget target, StatusEffect effect) {
+        StatusEffectSlots slots = target.getStatusEffects();
+        slots.add(effect);
+        if (!slots.tracked) {
+            slots.tracked = true;
+            targets.add(target);
+        }
+    }
+
+    public void update(float delta) {
+        int i = 0;
+        while (i < targets.size()) {
+            StatusEffectSlots slots = targets.get(i).getStatusEffects();
+            if (slots.update(delta)) {
+                i++;
+                continue;
+            }
+
+            slots.tracked = false;
+            int last = targets.size() - 1;
+            targets.set(i, targets.get(last));
+            targets.remove(last);
+        }
+    }
+
+    // Drops the target's effects without expiring them
+    public void remove(StatusEffectTarget target) {
+        StatusEffectSlots slots = target.getStatusEffects();
+        slots.clear();
+        if (slots.tracked) {
+            slots.tracked = false;
+            targets.remove(target);
+        }
+    }
+
+    public void clear() {
+        for (int i = 0; i < targets.size(); i++) {
+            StatusEffectSlots slots = targets.get(i).getStatusEffects();
+            slots.clear();
+            slots.tracked = false;
+        }
+        targets.clear();
+    }
+
+    public List<StatusEffectTarget> getTargets() {
+        return targets;
+    }
+}
@@ -0,0 +1,6 @@
+package abilities;
+
+// Anything that can carry status effects: the player, every enemy type and the bosses
+public interface StatusEffectTarget {
+    StatusEffectSlots getStatusEffects();
+}
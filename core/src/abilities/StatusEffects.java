@@ -13,7 +13,7 @@ class BubbleShieldEffect extends StatusEffect {
     private boolean wasInvulnerable;
 
     public BubbleShieldEffect(Player player, float duration) {
-        super("Bubble Shield", duration, EffectType.BUFF);
+        super("Bubble Shield", duration, EffectType.BUFF, Kind.BUBBLE_SHIELD);
         this.player = player;
     }
 
@@ -37,14 +37,14 @@ class BubbleShieldEffect extends StatusEffect {
 }
 
 class BleedEffect extends StatusEffect {
-    private Object target;
+    private HostileEntity target;
     private int damagePerTick;
     private float tickInterval;
     private float tickTimer;
     private static Texture bleedIcon;
 
-    public BleedEffect(Object target, float duration, int damagePerTick) {
-        super("Bleeding", duration, EffectType.DOT);
+    public BleedEffect(HostileEntity target, float duration, int damagePerTick) {
+        super("Bleeding", duration, EffectType.DOT, Kind.BLEED);
         this.target = target;
         this.damagePerTick = damagePerTick;
         this.tickInterval = 0.5f;
@@ -68,24 +68,7 @@ class BleedEffect extends StatusEffect {
         tickTimer += delta;
 
         if (tickTimer >= tickInterval) {
-            if (target instanceof Enemy) {
-                ((Enemy) target).takeDamage(damagePerTick);
-            } else if (target instanceof DungeonEnemy) {
-                ((DungeonEnemy) target).takeDamage(damagePerTick);
-            } else if (target instanceof BossKitty) {
-                ((BossKitty) target).takeDamage(damagePerTick);
-            } else if (target instanceof Cyclops) {
-                ((Cyclops) target).takeDamage(damagePerTick);
-            } else if (target instanceof GhostBoss) {
-                ((GhostBoss) target).takeDamage(damagePerTick);
-            } else if (target instanceof Herman) {
-                ((Herman) target).takeDamage(damagePerTick);
-            } else if (target instanceof EndlessEnemy) {
-                ((EndlessEnemy) target).takeDamage(damagePerTick);
-            } else if (target instanceof Lemmy) {
-                ((Lemmy) target).takeDamage(damagePerTick);
-            }
-
+            target.takeDamage(damagePerTick);
             tickTimer = 0f;
         }
     }
@@ -94,7 +77,7 @@ class BleedEffect extends StatusEffect {
     public void onExpire() {
     }
 
-    public Object getTarget() {
+    public HostileEntity getTarget() {
         return target;
     }
 
@@ -104,11 +87,11 @@ class BleedEffect extends StatusEffect {
 }
 
 class StunEffect extends StatusEffect {
-    private Object target;
+    private HostileEntity target;
     private static Texture stunIcon;
 
-    public StunEffect(Object target, float duration) {
-        super("Stunned", duration, EffectType.CROWD_CONTROL);
+    public StunEffect(HostileEntity target, float duration) {
+        super("Stunned", duration, EffectType.CROWD_CONTROL, Kind.STUN);
         this.target = target;
 
         if (stunIcon == null) {
@@ -122,86 +105,25 @@ class StunEffect extends StatusEffect {
 
     @Override
     public void onApply() {
-        if (target instanceof Enemy) {
-            ((Enemy) target).setStunned(true);
-        } else if (target instanceof DungeonEnemy) {
-            ((DungeonEnemy) target).setStunned(true);
-        } else if (target instanceof BossKitty) {
-            ((BossKitty) target).setStunned(true);
-        } else if (target instanceof Cyclops) {
-            ((Cyclops) target).setStunned(true);
-        } else if (target instanceof GhostBoss) {
-            ((GhostBoss) target).setStunned(true);
-        } else if (target instanceof Herman) {
-            ((Herman) target).setStunned(true);
-        } else if (target instanceof EndlessEnemy) {
-            ((EndlessEnemy) target).setStunned(true);
-        } else if (target instanceof Lemmy) {
-            ((Lemmy) target).setStunned(true);
-        }
-
-        if (target instanceof Enemy && ((Enemy) target).getBody() != null) {
-            ((Enemy) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof DungeonEnemy && ((DungeonEnemy) target).getBody() != null) {
-            ((DungeonEnemy) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof BossKitty && ((BossKitty) target).getBody() != null) {
-            ((BossKitty) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof Cyclops && ((Cyclops) target).getBody() != null) {
-            ((Cyclops) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof GhostBoss && ((GhostBoss) target).getBody() != null) {
-            ((GhostBoss) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof Herman && ((Herman) target).getBody() != null) {
-            ((Herman) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof EndlessEnemy && ((EndlessEnemy) target).getBody() != null) {
-            ((EndlessEnemy) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof Lemmy && ((Lemmy) target).getBody() != null) {
-            ((Lemmy) target).getBody().setLinearVelocity(0, 0);
+        target.setStunned(true);
+        if (target.getBody() != null) {
+            target.getBody().setLinearVelocity(0, 0);
         }
     }
 
     @Override
     public void onUpdate(float delta) {
-        if (target instanceof Enemy && ((Enemy) target).getBody() != null) {
-            ((Enemy) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof DungeonEnemy && ((DungeonEnemy) target).getBody() != null) {
-            ((DungeonEnemy) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof BossKitty && ((BossKitty) target).getBody() != null) {
-            ((BossKitty) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof Cyclops && ((Cyclops) target).getBody() != null) {
-            ((Cyclops) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof GhostBoss && ((GhostBoss) target).getBody() != null) {
-            ((GhostBoss) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof Herman && ((Herman) target).getBody() != null) {
-            ((Herman) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof EndlessEnemy && ((EndlessEnemy) target).getBody() != null) {
-            ((EndlessEnemy) target).getBody().setLinearVelocity(0, 0);
-        } else if (target instanceof Lemmy && ((Lemmy) target).getBody() != null) {
-            ((Lemmy) target).getBody().setLinearVelocity(0, 0);
+        if (target.getBody() != null) {
+            target.getBody().setLinearVelocity(0, 0);
         }
     }
 
     @Override
     public void onExpire() {
-        if (target instanceof Enemy) {
-            ((Enemy) target).setStunned(false);
-        } else if (target instanceof DungeonEnemy) {
-            ((DungeonEnemy) target).setStunned(false);
-        } else if (target instanceof BossKitty) {
-            ((BossKitty) target).setStunned(false);
-        } else if (target instanceof Cyclops) {
-            ((Cyclops) target).setStunned(false);
-        } else if (target instanceof GhostBoss) {
-            ((GhostBoss) target).setStunned(false);
-        } else if (target instanceof Herman) {
-            ((Herman) target).setStunned(false);
-        } else if (target instanceof EndlessEnemy) {
-            ((EndlessEnemy) target).setStunned(false);
-        } else if (target instanceof Lemmy) {
-            ((Lemmy) target).setStunned(false);
-        }
+        target.setStunned(false);
     }
 
-    public Object getTarget() {
+    public HostileEntity getTarget() {
         return target;
     }
 
@@ -211,14 +133,14 @@ class StunEffect extends StatusEffect {
 }
 
 class ConsecratedEffect extends StatusEffect {
-    private Object target;
+    private HostileEntity target;
     private int damage;
     private boolean damageDealt = false;
     private static Texture consecratedIcon;
     private float pulseTimer = 0f;
 
-    public ConsecratedEffect(Object target, float duration, int damage) {
-        super("Consecrated", duration, EffectType.DEBUFF);
+    public ConsecratedEffect(HostileEntity target, float duration, int damage) {
+        super("Consecrated", duration, EffectType.DEBUFF, Kind.CONSECRATED);
         this.target = target;
         this.damage = damage;
 
@@ -243,22 +165,8 @@ class ConsecratedEffect extends StatusEffect {
     @Override
     public void onExpire() {
         if (!damageDealt) {
-            if (target instanceof Enemy && !((Enemy) target).isMarkedForRemoval()) {
-                ((Enemy) target).takeDamage(damage);
-            } else if (target instanceof DungeonEnemy && !((DungeonEnemy) target).isMarkedForRemoval()) {
-                ((DungeonEnemy) target).takeDamage(damage);
-            } else if (target instanceof BossKitty && !((BossKitty) target).isMarkedForRemoval()) {
-                ((BossKitty) target).takeDamage(damage);
-            } else if (target instanceof Cyclops && !((Cyclops) target).isMarkedForRemoval()) {
-                ((Cyclops) target).takeDamage(damage);
-            } else if (target instanceof GhostBoss && !((GhostBoss) target).isMarkedForRemoval()) {
-                ((GhostBoss) target).takeDamage(damage);
-            } else if (target instanceof Herman && !((Herman) target).isMarkedForRemoval()) {
-                ((Herman) target).takeDamage(damage);
-            } else if (target instanceof EndlessEnemy && !((EndlessEnemy) target).isMarkedForRemoval()) {
-                ((EndlessEnemy) target).takeDamage(damage);
-            } else if (target instanceof Lemmy && !((Lemmy) target).isMarkedForRemoval()) {
-                ((Lemmy) target).takeDamage(damage);
+            if (!target.isMarkedForRemoval()) {
+                target.takeDamage(damage);
             }
             damageDealt = true;
 
@@ -266,7 +174,7 @@ class ConsecratedEffect extends StatusEffect {
         }
     }
 
-    public Object getTarget() {
+    public HostileEntity getTarget() {
         return target;
     }
 
@@ -285,7 +193,7 @@ class SprintEffect extends StatusEffect {
     private boolean applied = false;
 
     public SprintEffect(Player player, float duration, int dexBonus) {
-        super("Sprint", duration, EffectType.BUFF);
+        super("Sprint", duration, EffectType.BUFF, Kind.SPRINT);
         this.player = player;
         this.dexBonus = dexBonus;
     }
@@ -328,7 +236,7 @@ class SmokeBombEffect extends StatusEffect {
     private boolean wasInZone = false;
 
     public SmokeBombEffect(Player player, float duration, Vector2 zoneCenter, float zoneRadius) {
-        super("Smoke Bomb", duration, EffectType.BUFF);
+        super("Smoke Bomb", duration, EffectType.BUFF, Kind.SMOKE_BOMB);
         this.player = player;
         this.zoneCenter = new Vector2(zoneCenter);
         this.zoneRadius = zoneRadius;
@@ -384,7 +292,7 @@ class LifeLeechEffect extends StatusEffect {
     private int healPerHit;
 
     public LifeLeechEffect(Player player, float duration, int healPerHit) {
-        super("Life Leech", duration, EffectType.BUFF);
+        super("Life Leech", duration, EffectType.BUFF, Kind.LIFE_LEECH);
         this.player = player;
         this.healPerHit = healPerHit;
     }
@@ -421,7 +329,7 @@ class HolyBlessingEffect extends StatusEffect {
     private boolean applied = false;
 
     public HolyBlessingEffect(Player player, float duration, int defenseBonus, int attackBonus, int healthBonus) {
-        super("Holy Blessing", duration, EffectType.BUFF);
+        super("Holy Blessing", duration, EffectType.BUFF, Kind.HOLY_BLESSING);
         this.player = player;
         this.defenseBonus = defenseBonus;
         this.attackBonus = attackBonus;
@@ -467,7 +375,7 @@ class HolySwordEffect extends StatusEffect {
     private boolean applied = false;
 
     public HolySwordEffect(Player player, float duration, int attackBonus, float coneSizeMultiplier) {
-        super("Holy Sword", duration, EffectType.BUFF);
+        super("Holy Sword", duration, EffectType.BUFF, Kind.HOLY_SWORD);
         this.player = player;
         this.attackBonus = attackBonus;
         this.coneSizeMultiplier = coneSizeMultiplier;
@@ -512,7 +420,7 @@ class BlazingFuryEffect extends StatusEffect {
     private boolean applied = false;
 
     public BlazingFuryEffect(Player player, float duration, int attackBonus, int dexBonus) {
-        super("Blazing Fury", duration, EffectType.BUFF);
+        super("Blazing Fury", duration, EffectType.BUFF, Kind.BLAZING_FURY);
         this.player = player;
         this.attackBonus = attackBonus;
         this.dexBonus = dexBonus;
@@ -1,14 +1,14 @@
 package abilities;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
 import entities.*;
 import game.GameProj;
-import managers.Chunk;
+import managers.Dungeon;
+import managers.EntityRegistry;
 import managers.SoundManager;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -45,17 +45,7 @@ class PaladinBubbleAbility extends Ability {
         shield.onApply();
         gameProj.addStatusEffect(player, shield);
 
-        new Thread(() -> {
-            try {
-                Thread.sleep((long)(duration * 1000));
-
-                Gdx.app.postRunnable(() -> {
-                    player.setInvulnerable(false);
-                });
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-        }).start();
+        player.getAbilityManager().schedule(duration, () -> player.setInvulnerable(false));
     }
 }
 
@@ -66,8 +56,8 @@ class PullAbility extends Ability {
 
     private Player pullingPlayer;
     private GameProj currentGameProj;
-    private AbilityVisual.PullCircle pullVisual;
     private Set<Object> affectedEnemies;
+    private final Vector2 pullDirection = new Vector2();
     private float pullTimer;
     private boolean isPulling;
 
@@ -97,8 +87,7 @@ class PullAbility extends Ability {
         pullTimer = 0f;
         isPulling = true;
 
-        pullVisual = new AbilityVisual.PullCircle(player, PULL_RADIUS, PULL_DURATION);
-        player.addAbilityVisual(pullVisual);
+        VfxEmitter.PULL.emit(player, PULL_RADIUS, PULL_DURATION);
     }
 
     @Override
@@ -125,287 +114,45 @@ class PullAbility extends Ability {
         Vector2 playerPos = pullingPlayer.getPosition();
         float progress = pullTimer / PULL_DURATION;
 
-        if (!currentGameProj.isInDungeon() && !currentGameProj.isInBossRoom() && !currentGameProj.isInEndlessRoom()) {
-            for (Chunk chunk : currentGameProj.getChunks().values()) {
-                for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
-                    if (enemy.getBody() != null) {
-                        Vector2 enemyPos = enemy.getBody().getPosition();
-                        float dist = playerPos.dst(enemyPos);
-
-                        if (dist < PULL_RADIUS) {
-                            Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-
-                            Vector2 targetPos = new Vector2(
-                                    playerPos.x - direction.x * 10f,
-                                    playerPos.y - direction.y * 10f
-                            );
-
-                            Vector2 newPos = new Vector2(
-                                    enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.1f,
-                                    enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.1f
-                            );
-
-                            enemy.getBody().setTransform(newPos, enemy.getBody().getAngle());
-                            enemy.getBody().setLinearVelocity(0, 0);
-
-                            if (!affectedEnemies.contains(enemy)) {
-                                StunEffect stun = new StunEffect(enemy, 0.5f);
-                                stun.onApply();
-                                currentGameProj.addStatusEffect(enemy, stun);
-                                affectedEnemies.add(enemy);
-                            }
-                        }
-                    }
-                }
-            }
-
-            for (Lemmy lemmy : new ArrayList<>(currentGameProj.getGlobalLemmy())) {
-                if (lemmy != null && lemmy.getBody() != null) {
-                    Vector2 enemyPos = lemmy.getBody().getPosition();
-                    float dist = playerPos.dst(enemyPos);
-
-                    if (dist < PULL_RADIUS) {
-                        Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-
-                        Vector2 targetPos = new Vector2(
-                                playerPos.x - direction.x * 10f,
-                                playerPos.y - direction.y * 10f
-                        );
-
-                        Vector2 newPos = new Vector2(
-                                enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.1f,
-                                enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.1f
-                        );
-
-                        lemmy.getBody().setTransform(newPos, lemmy.getBody().getAngle());
-                        lemmy.getBody().setLinearVelocity(0, 0);
-
-                        if (!affectedEnemies.contains(lemmy)) {
-                            StunEffect stun = new StunEffect(lemmy, 0.5f);
-                            stun.onApply();
-                            currentGameProj.addStatusEffect(lemmy, stun);
-                            affectedEnemies.add(lemmy);
-                        }
-                    }
-                }
+        Dungeon dungeon = currentGameProj.getCurrentDungeon();
+        EntityRegistry registry = currentGameProj.getEntityRegistry();
+        for (int i = 0; i < registry.size(); i++) {
+            if (!registry.inRadius(i, playerPos.x, playerPos.y, PULL_RADIUS)) continue;
+
+            HostileEntity enemy = registry.get(i);
+            Body body = enemy.getBody();
+
+            // Bosses are heavier and stop further out
+            float standOff = 10f;
+            float pullStrength = 0.1f;
+            if (enemy instanceof BossKitty) {
+                standOff = 15f;
+                pullStrength = 0.05f;
+            } else if (registry.isBoss(i) || enemy instanceof Herman) {
+                standOff = 20f;
+                pullStrength = 0.03f;
             }
 
-            Herman herman = currentGameProj.getHerman();
-            if (herman != null && herman.getBody() != null) {
-                Vector2 enemyPos = herman.getBody().getPosition();
-                float dist = playerPos.dst(enemyPos);
-
-                if (dist < PULL_RADIUS) {
-                    Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-                    Vector2 targetPos = new Vector2(
-                            playerPos.x - direction.x * 20f,
-                            playerPos.y - direction.y * 20f
-                    );
-
-                    Vector2 newPos = new Vector2(
-                            enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.03f,
-                            enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.03f
-                    );
-
-                    herman.getBody().setTransform(newPos, herman.getBody().getAngle());
-                    herman.getBody().setLinearVelocity(0, 0);
-
-                    if (!affectedEnemies.contains(herman)) {
-                        StunEffect stun = new StunEffect(herman, 0.5f);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(herman, stun);
-                        affectedEnemies.add(herman);
-                    }
-                }
-            }
+            float enemyX = registry.getX(i);
+            float enemyY = registry.getY(i);
+            pullDirection.set(playerPos.x - enemyX, playerPos.y - enemyY).nor();
+            float targetX = playerPos.x - pullDirection.x * standOff;
+            float targetY = playerPos.y - pullDirection.y * standOff;
+            float newX = enemyX + (targetX - enemyX) * progress * pullStrength;
+            float newY = enemyY + (targetY - enemyY) * progress * pullStrength;
 
-            Herman hermanDuplicate = currentGameProj.getHermanDuplicate();
-            if (hermanDuplicate != null && hermanDuplicate.getBody() != null) {
-                Vector2 enemyPos = hermanDuplicate.getBody().getPosition();
-                float dist = playerPos.dst(enemyPos);
-
-                if (dist < PULL_RADIUS) {
-                    Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-                    Vector2 targetPos = new Vector2(
-                            playerPos.x - direction.x * 20f,
-                            playerPos.y - direction.y * 20f
-                    );
-
-                    Vector2 newPos = new Vector2(
-                            enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.03f,
-                            enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.03f
-                    );
-
-                    hermanDuplicate.getBody().setTransform(newPos, hermanDuplicate.getBody().getAngle());
-                    hermanDuplicate.getBody().setLinearVelocity(0, 0);
-
-                    if (!affectedEnemies.contains(hermanDuplicate)) {
-                        StunEffect stun = new StunEffect(hermanDuplicate, 0.5f);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(hermanDuplicate, stun);
-                        affectedEnemies.add(hermanDuplicate);
-                    }
-                }
+            if (dungeon != null && !dungeon.isWalkableWorld(newX, newY)) {
+                continue;
             }
-        }
 
-        if (currentGameProj.getCurrentDungeon() != null) {
-            for (DungeonEnemy enemy : new ArrayList<>(currentGameProj.getCurrentDungeon().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    Vector2 enemyPos = enemy.getBody().getPosition();
-                    float dist = playerPos.dst(enemyPos);
-
-                    if (dist < PULL_RADIUS) {
-                        Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-                        Vector2 targetPos = new Vector2(
-                                playerPos.x - direction.x * 10f,
-                                playerPos.y - direction.y * 10f
-                        );
-
-                        Vector2 newPos = new Vector2(
-                                enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.1f,
-                                enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.1f
-                        );
-
-                        if (currentGameProj.getCurrentDungeon() != null) {
-                            if (!currentGameProj.getCurrentDungeon().isWalkableWorld(newPos.x, newPos.y)) {
-                                return;
-                            }
-                        }
-
-                        enemy.getBody().setTransform(newPos, enemy.getBody().getAngle());
-                        enemy.getBody().setLinearVelocity(0, 0);
-
-                        if (!affectedEnemies.contains(enemy)) {
-                            StunEffect stun = new StunEffect(enemy, 0.5f);
-                            stun.onApply();
-                            currentGameProj.addStatusEffect(enemy, stun);
-                            affectedEnemies.add(enemy);
-                        }
-                    }
-                }
-            }
-        }
-
-        if (currentGameProj.getCurrentBossRoom() != null) {
-            BossKitty bossRoomBoss = currentGameProj.getCurrentBossRoom().getBoss();
-            if (bossRoomBoss != null && bossRoomBoss.getBody() != null) {
-                Vector2 enemyPos = bossRoomBoss.getBody().getPosition();
-                float dist = playerPos.dst(enemyPos);
-
-                if (dist < PULL_RADIUS) {
-                    Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-                    Vector2 targetPos = new Vector2(
-                            playerPos.x - direction.x * 15f,
-                            playerPos.y - direction.y * 15f
-                    );
-
-                    Vector2 newPos = new Vector2(
-                            enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.05f,
-                            enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.05f
-                    );
-
-                    bossRoomBoss.getBody().setTransform(newPos, bossRoomBoss.getBody().getAngle());
-                    bossRoomBoss.getBody().setLinearVelocity(0, 0);
-
-                    if (!affectedEnemies.contains(bossRoomBoss)) {
-                        StunEffect stun = new StunEffect(bossRoomBoss, 0.5f);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(bossRoomBoss, stun);
-                        affectedEnemies.add(bossRoomBoss);
-                    }
-                }
-            }
-
-            Cyclops cyclopsRoomBoss = currentGameProj.getCurrentBossRoom().getCyclops();
-            if (cyclopsRoomBoss != null && cyclopsRoomBoss.getBody() != null) {
-                Vector2 enemyPos = cyclopsRoomBoss.getBody().getPosition();
-                float dist = playerPos.dst(enemyPos);
-
-                if (dist < PULL_RADIUS) {
-                    Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-                    Vector2 targetPos = new Vector2(
-                            playerPos.x - direction.x * 20f,
-                            playerPos.y - direction.y * 20f
-                    );
-
-                    Vector2 newPos = new Vector2(
-                            enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.03f,
-                            enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.03f
-                    );
-
-                    cyclopsRoomBoss.getBody().setTransform(newPos, cyclopsRoomBoss.getBody().getAngle());
-                    cyclopsRoomBoss.getBody().setLinearVelocity(0, 0);
-
-                    if (!affectedEnemies.contains(cyclopsRoomBoss)) {
-                        StunEffect stun = new StunEffect(cyclopsRoomBoss, 0.5f);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(cyclopsRoomBoss, stun);
-                        affectedEnemies.add(cyclopsRoomBoss);
-                    }
-                }
-            }
-
-            GhostBoss ghostBoss = currentGameProj.getCurrentBossRoom().getGhostBoss();
-            if (ghostBoss != null && ghostBoss.getBody() != null) {
-                Vector2 enemyPos = ghostBoss.getBody().getPosition();
-                float dist = playerPos.dst(enemyPos);
-
-                if (dist < PULL_RADIUS) {
-                    Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-                    Vector2 targetPos = new Vector2(
-                            playerPos.x - direction.x * 20f,
-                            playerPos.y - direction.y * 20f
-                    );
-
-                    Vector2 newPos = new Vector2(
-                            enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.03f,
-                            enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.03f
-                    );
-
-                    ghostBoss.getBody().setTransform(newPos, ghostBoss.getBody().getAngle());
-                    ghostBoss.getBody().setLinearVelocity(0, 0);
-
-                    if (!affectedEnemies.contains(ghostBoss)) {
-                        StunEffect stun = new StunEffect(ghostBoss, 0.5f);
-                        stun.onApply();
-                        currentGameProj.addStatusEffect(ghostBoss, stun);
-                        affectedEnemies.add(ghostBoss);
-                    }
-                }
-            }
-        }
+            body.setTransform(newX, newY, body.getAngle());
+            body.setLinearVelocity(0, 0);
 
-        if (currentGameProj.getCurrentEndlessRoom() != null) {
-            for (EndlessEnemy enemy : new ArrayList<>(currentGameProj.getCurrentEndlessRoom().getEnemies())) {
-                if (enemy.getBody() != null) {
-                    Vector2 enemyPos = enemy.getBody().getPosition();
-                    float dist = playerPos.dst(enemyPos);
-
-                    if (dist < PULL_RADIUS) {
-                        Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
-
-                        Vector2 targetPos = new Vector2(
-                                playerPos.x - direction.x * 10f,
-                                playerPos.y - direction.y * 10f
-                        );
-
-                        Vector2 newPos = new Vector2(
-                                enemyPos.x + (targetPos.x - enemyPos.x) * progress * 0.1f,
-                                enemyPos.y + (targetPos.y - enemyPos.y) * progress * 0.1f
-                        );
-
-                        enemy.getBody().setTransform(newPos, enemy.getBody().getAngle());
-                        enemy.getBody().setLinearVelocity(0, 0);
-
-                        if (!affectedEnemies.contains(enemy)) {
-                            StunEffect stun = new StunEffect(enemy, 0.5f);
-                            stun.onApply();
-                            currentGameProj.addStatusEffect(enemy, stun);
-                            affectedEnemies.add(enemy);
-                        }
-                    }
-                }
+            if (!affectedEnemies.contains(enemy)) {
+                StunEffect stun = new StunEffect(enemy, 0.5f);
+                stun.onApply();
+                currentGameProj.addStatusEffect(enemy, stun);
+                affectedEnemies.add(enemy);
             }
         }
     }
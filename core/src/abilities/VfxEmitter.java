@@ -0,0 +1,274 @@
+package abilities;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import config.Storage;
+import entities.Player;
+
+/*
+ * How one kind of ability effect looks over its life: what it draws, where it sits relative to the player,
+ * and how its size and alpha change. Emitting one spawns a particle into VfxParticles, which works the
+ * shape out from these fields every frame, so a cast allocates nothing and a burst of casts only adds
+ * rows to the particle arrays.
+ *
+ * The presets are the attack and ability effects that used to be AbilityVisual classes of their own.
+ */
+public class VfxEmitter {
+    static final int SHAPE_SPRITE = 0;
+    static final int SHAPE_RING = 1;
+    static final int SHAPE_PLAYER_AURA = 2;
+
+    static final int SIZE_TEXTURE = 0;
+    static final int SIZE_FIT = 1;
+    static final int SIZE_DIAMETER = 2;
+    static final int SIZE_CONE = 3;
+
+    static final int SCALE_NONE = 0;
+    static final int SCALE_SHRINK = 1;
+    static final int SCALE_JAB = 2;
+    static final int SCALE_POP = 3;
+
+    public static final Color RED = new Color(1f, 0.2f, 0.2f, 1f);
+    public static final Color HOLY = new Color(0.988f, 0.969f, 0.529f, 1f);
+    private static final Color FURY_COLOR = new Color(1f, 0.2f, 0.1f, 1f);
+    private static final Color SMITE_COLOR = new Color(1f, 0.9f, 0.4f, 1f);
+
+    public static final VfxEmitter SWORD_SLASH = new VfxEmitter("character/abilities/SwordAttack.png")
+            .aimed().sweep(120f).fit(40f).pivot(0.15f, 0.15f).orbit(8f).rotation(-45f)
+            .alpha(0.9f).release(0.3f);
+    public static final VfxEmitter HOLY_SLASH = new VfxEmitter("character/abilities/HolySword.png")
+            .aimed().sweep(140f).fit(40f).pivot(0.15f, 0.15f).orbit(8f).rotation(-45f)
+            .alpha(0.9f).release(0.3f);
+    // Re-aimed every frame, so the jab follows the mouse while it plays
+    public static final VfxEmitter SPEAR_JAB = new VfxEmitter("icons/gear/spearVisual.png")
+            .aimed().tracking().pivot(0f, 0.5f).orbit(15f).scale(1f, 0.6f).scaleCurve(SCALE_JAB)
+            .alpha(0.8f);
+    private static final VfxEmitter SHIELD_IMPACT = new VfxEmitter(null)
+            .ring(2f, 16, 1.387f).extent(14f).orbit(18f).alpha(0.5f).fade(0.867f);
+    public static final VfxEmitter SHIELD_BASH = new VfxEmitter("character/abilities/ShieldAttack.png")
+            .aimed().fit(28f).orbit(18f).flipFacing().scaleCurve(SCALE_POP).release(0.3f)
+            .then(SHIELD_IMPACT, 0.24f, 0.26f);
+    public static final VfxEmitter CONE = new VfxEmitter("icons/abilities/Cone.png")
+            .aimed().tracking().cone().pivot(0f, 0.5f).alpha(0.5f);
+    public static final VfxEmitter WHIRLWIND = new VfxEmitter("icons/gear/spearVisual.png")
+            .spin(720f).pivot(0f, 0.5f).orbit(20f).scale(0.8f, 0.6f)
+            .alpha(0.9f).attack(0.2f).release(0.2f);
+    public static final VfxEmitter FURY_AURA = new VfxEmitter(null)
+            .playerAura(22f).tint(FURY_COLOR).alpha(0.4f).pulse(0.2f, 8f).glow(0.7f);
+    public static final VfxEmitter PULL = new VfxEmitter("character/abilities/Pull.png")
+            .diameter().scaleCurve(SCALE_SHRINK).alpha(0.7f).fade(0.3f);
+    private static final VfxEmitter SMITE_RING = new VfxEmitter(null)
+            .ring(4f, 32, 0f).tint(SMITE_COLOR).alpha(0.7f).release(1f);
+    public static final VfxEmitter SMITE = new VfxEmitter("character/abilities/Smite.png")
+            .diameter().alpha(0.7f).release(1f).pulse(0.2f, 15f)
+            .then(SMITE_RING, 0f, 1f);
+    public static final VfxEmitter GROUND_SLAM = new VfxEmitter("character/abilities/GroundSlam.png")
+            .diameter().alpha(0.9f).attack(0.2f).release(0.8f);
+    public static final VfxEmitter CONSECRATE = new VfxEmitter("character/abilities/Consecrate.png")
+            .diameter().fixed();
+
+    private final String texturePath;
+    private Texture texture;
+
+    int shape = SHAPE_SPRITE;
+    boolean anchored = true;
+    boolean aimed = false;
+    boolean tracking = false;
+    float angleOffset, sweep, spin, distance;
+
+    int sizeMode = SIZE_TEXTURE;
+    float fitSize, extent;
+    float pivotX = 0.5f, pivotY = 0.5f;
+    float scaleX = 1f, scaleY = 1f;
+    float rotationOffset;
+    boolean flipFacing;
+    int scaleCurve = SCALE_NONE;
+
+    Color tint;
+    float peakAlpha = 1f;
+    float attack, release, fade;
+    float pulseAmount, pulseSpeed;
+
+    float ringThickness, ringGrowth;
+    int ringSegments;
+    float glow;
+
+    VfxEmitter child;
+    float childDelay, childLifetime;
+
+    public VfxEmitter(String texturePath) {
+        this.texturePath = texturePath;
+    }
+
+    // Spawns the effect for the player. angle is in degrees: the facing of a fixed-facing effect, or an
+    // offset from the aim of one that tracks the mouse. extent is a radius or range depending on the preset.
+    public void emit(Player player, float angle, float extent, float duration, Color color) {
+        VfxParticles particles = VfxParticles.getInstance();
+        particles.spawn(this, player, angle, extent, 0f, duration, color);
+        if (child != null) {
+            particles.spawn(child, player, angle, extent, duration * childDelay, duration * childLifetime, color);
+        }
+    }
+
+    public void emit(Player player, float extent, float duration) {
+        emit(player, 0f, extent, duration, Color.WHITE);
+    }
+
+    // Null for shapes drawn without a texture, or if the texture never loaded
+    Texture getTexture() {
+        if (texture == null && texturePath != null && Storage.assetManager.isLoaded(texturePath)) {
+            texture = Storage.assetManager.get(texturePath, Texture.class);
+        }
+        return texture;
+    }
+
+    // Faces the mouse at the moment it is emitted
+    public VfxEmitter aimed() {
+        this.aimed = true;
+        return this;
+    }
+
+    // Faces the mouse for as long as it lives
+    public VfxEmitter tracking() {
+        this.tracking = true;
+        return this;
+    }
+
+    // Stays where the player was when it was emitted
+    public VfxEmitter fixed() {
+        this.anchored = false;
+        return this;
+    }
+
+    // Swings through the arc over its life, starting at half the arc ahead of the facing
+    public VfxEmitter sweep(float arc) {
+        this.angleOffset = arc / 2f;
+        this.sweep = -arc;
+        return this;
+    }
+
+    public VfxEmitter spin(float degreesPerSecond) {
+        this.spin = degreesPerSecond;
+        return this;
+    }
+
+    public VfxEmitter orbit(float distance) {
+        this.distance = distance;
+        return this;
+    }
+
+    public VfxEmitter fit(float size) {
+        this.sizeMode = SIZE_FIT;
+        this.fitSize = size;
+        return this;
+    }
+
+    public VfxEmitter diameter() {
+        this.sizeMode = SIZE_DIAMETER;
+        return this;
+    }
+
+    // extent long and 0.8 extent wide
+    public VfxEmitter cone() {
+        this.sizeMode = SIZE_CONE;
+        return this;
+    }
+
+    // Overrides the extent passed to emit
+    public VfxEmitter extent(float extent) {
+        this.extent = extent;
+        return this;
+    }
+
+    public VfxEmitter pivot(float x, float y) {
+        this.pivotX = x;
+        this.pivotY = y;
+        return this;
+    }
+
+    public VfxEmitter scale(float x, float y) {
+        this.scaleX = x;
+        this.scaleY = y;
+        return this;
+    }
+
+    public VfxEmitter rotation(float offset) {
+        this.rotationOffset = offset;
+        return this;
+    }
+
+    // Mirrored instead of upside down when facing left
+    public VfxEmitter flipFacing() {
+        this.flipFacing = true;
+        return this;
+    }
+
+    public VfxEmitter scaleCurve(int curve) {
+        this.scaleCurve = curve;
+        return this;
+    }
+
+    // Overrides the color passed to emit
+    public VfxEmitter tint(Color tint) {
+        this.tint = tint;
+        return this;
+    }
+
+    public VfxEmitter alpha(float peak) {
+        this.peakAlpha = peak;
+        return this;
+    }
+
+    // Fraction of the life spent fading in
+    public VfxEmitter attack(float fraction) {
+        this.attack = fraction;
+        return this;
+    }
+
+    // Fraction of the life spent fading out at the end
+    public VfxEmitter release(float fraction) {
+        this.release = fraction;
+        return this;
+    }
+
+    // Fraction of the alpha lost linearly over the whole life
+    public VfxEmitter fade(float amount) {
+        this.fade = amount;
+        return this;
+    }
+
+    public VfxEmitter pulse(float amount, float speed) {
+        this.pulseAmount = amount;
+        this.pulseSpeed = speed;
+        return this;
+    }
+
+    // A circle of line segments with the extent as its radius, growing by that fraction of it over its life
+    public VfxEmitter ring(float thickness, int segments, float growth) {
+        this.shape = SHAPE_RING;
+        this.ringThickness = thickness;
+        this.ringSegments = segments;
+        this.ringGrowth = growth;
+        return this;
+    }
+
+    // The player's own frame, tinted
+    public VfxEmitter playerAura(float size) {
+        this.shape = SHAPE_PLAYER_AURA;
+        this.fitSize = size;
+        return this;
+    }
+
+    public VfxEmitter glow(float intensity) {
+        this.glow = intensity;
+        return this;
+    }
+
+    // Emitted along with this one, starting and lasting the given fractions of its duration
+    public VfxEmitter then(VfxEmitter child, float delay, float lifetime) {
+        this.child = child;
+        this.childDelay = delay;
+        this.childLifetime = lifetime;
+        return this;
+    }
+}
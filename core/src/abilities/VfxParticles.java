@@ -0,0 +1,343 @@
+package abilities;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import config.Storage;
+import entities.Player;
+import managers.LightMap;
+
+/*
+ * Short-lived ability effects kept as parallel arrays and drawn in one pass ahead of the visuals that
+ * still have state of their own. There are two kinds of particle:
+ *
+ * - Trail particles, the tinted sprites a charge or vault leaves behind. They sit still and fade out.
+ * - Emitter particles, spawned by a VfxEmitter for a slash, jab, cone, whirlwind and the like. The
+ *   emitter's fields say where the particle is and how it looks at each point of its life, so all a
+ *   particle stores is its emitter, the player it follows, its angle and extent, and its tint.
+ *
+ * A particle can be spawned with a delay, which is added to its life and skipped when drawing, so an
+ * effect made of several parts is still emitted all at once.
+ *
+ * Expired particles are compacted away in order, so older ones keep drawing under newer ones. The arrays
+ * only grow, doubling when full, so spawning never allocates once they have reached the peak count.
+ */
+public class VfxParticles {
+    private static VfxParticles instance;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int count = 0;
+    private TextureRegion[] regions;
+    private VfxEmitter[] emitters;
+    private Player[] anchors;
+    private float[] x, y;
+    private float[] size;
+    private float[] angle;
+    private float[] life, maxLife;
+    private float[] r, g, b, alpha;
+
+    // Angle from the player to the mouse this frame, for emitters that face the mouse
+    private float aim = 0f;
+    private Texture whitePixel;
+
+    private VfxParticles() {
+        regions = new TextureRegion[INITIAL_CAPACITY];
+        emitters = new VfxEmitter[INITIAL_CAPACITY];
+        anchors = new Player[INITIAL_CAPACITY];
+        x = new float[INITIAL_CAPACITY];
+        y = new float[INITIAL_CAPACITY];
+        size = new float[INITIAL_CAPACITY];
+        angle = new float[INITIAL_CAPACITY];
+        life = new float[INITIAL_CAPACITY];
+        maxLife = new float[INITIAL_CAPACITY];
+        r = new float[INITIAL_CAPACITY];
+        g = new float[INITIAL_CAPACITY];
+        b = new float[INITIAL_CAPACITY];
+        alpha = new float[INITIAL_CAPACITY];
+    }
+
+    public static VfxParticles getInstance() {
+        if (instance == null) {
+            instance = new VfxParticles();
+        }
+        return instance;
+    }
+
+    public void setAim(float degrees) {
+        aim = degrees;
+    }
+
+    public void spawn(TextureRegion region, float x, float y, float size, float lifetime, Color color, float alpha) {
+        if (region == null || lifetime <= 0f) return;
+
+        int i = add(lifetime, 0f, color);
+        regions[i] = region;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.size[i] = size;
+        this.alpha[i] = alpha;
+    }
+
+    void spawn(VfxEmitter emitter, Player player, float angle, float extent, float delay, float lifetime, Color color) {
+        if (player == null || lifetime <= 0f) return;
+
+        int i = add(lifetime, delay, emitter.tint != null ? emitter.tint : color);
+        emitters[i] = emitter;
+        anchors[i] = emitter.anchored ? player : null;
+        Vector2 pos = player.getPosition();
+        x[i] = pos.x;
+        y[i] = pos.y;
+        size[i] = emitter.extent > 0f ? emitter.extent : extent;
+        // Mouse-tracking emitters keep the offset and add the aim when drawn
+        this.angle[i] = emitter.aimed && !emitter.tracking ? aim + angle : angle;
+    }
+
+    private int add(float lifetime, float delay, Color color) {
+        if (count == x.length) {
+            grow();
+        }
+
+        int i = count++;
+        regions[i] = null;
+        emitters[i] = null;
+        anchors[i] = null;
+        angle[i] = 0f;
+        life[i] = lifetime + delay;
+        maxLife[i] = lifetime;
+        r[i] = color.r;
+        g[i] = color.g;
+        b[i] = color.b;
+        alpha[i] = 1f;
+        return i;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        regions = Arrays.copyOf(regions, capacity);
+        emitters = Arrays.copyOf(emitters, capacity);
+        anchors = Arrays.copyOf(anchors, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        size = Arrays.copyOf(size, capacity);
+        angle = Arrays.copyOf(angle, capacity);
+        life = Arrays.copyOf(life, capacity);
+        maxLife = Arrays.copyOf(maxLife, capacity);
+        r = Arrays.copyOf(r, capacity);
+        g = Arrays.copyOf(g, capacity);
+        b = Arrays.copyOf(b, capacity);
+        alpha = Arrays.copyOf(alpha, capacity);
+    }
+
+    public void update(float delta) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            life[i] -= delta;
+            if (life[i] <= 0f) continue;
+
+            if (kept != i) {
+                regions[kept] = regions[i];
+                emitters[kept] = emitters[i];
+                anchors[kept] = anchors[i];
+                x[kept] = x[i];
+                y[kept] = y[i];
+                size[kept] = size[i];
+                angle[kept] = angle[i];
+                life[kept] = life[i];
+                maxLife[kept] = maxLife[i];
+                r[kept] = r[i];
+                g[kept] = g[i];
+                b[kept] = b[i];
+                alpha[kept] = alpha[i];
+            }
+            kept++;
+        }
+        Arrays.fill(regions, kept, count, null);
+        Arrays.fill(emitters, kept, count, null);
+        Arrays.fill(anchors, kept, count, null);
+        count = kept;
+    }
+
+    public void render(SpriteBatch batch) {
+        if (count == 0) return;
+
+        for (int i = 0; i < count; i++) {
+            if (emitters[i] == null) {
+                float half = size[i] / 2f;
+                batch.setColor(r[i], g[i], b[i], alpha[i] * (life[i] / maxLife[i]));
+                batch.draw(regions[i], x[i] - half, y[i] - half, size[i], size[i]);
+            } else if (life[i] <= maxLife[i]) {
+                renderEmitted(batch, i);
+            }
+        }
+        batch.setColor(1f, 1f, 1f, 1f);
+    }
+
+    private void renderEmitted(SpriteBatch batch, int i) {
+        VfxEmitter emitter = emitters[i];
+        Player anchor = anchors[i];
+        if (anchor != null && anchor.getBody() == null) return;
+
+        float elapsed = maxLife[i] - life[i];
+        float progress = elapsed / maxLife[i];
+        float extent = size[i];
+
+        float ramp = 1f;
+        if (emitter.attack > 0f && progress < emitter.attack) {
+            ramp = progress / emitter.attack;
+        }
+        if (emitter.release > 0f && progress > 1f - emitter.release) {
+            ramp = Math.min(ramp, (1f - progress) / emitter.release);
+        }
+        float a = emitter.peakAlpha * ramp * (1f - emitter.fade * progress);
+        if (emitter.pulseAmount != 0f) {
+            a += emitter.pulseAmount * MathUtils.sin(elapsed * emitter.pulseSpeed);
+        }
+        a = MathUtils.clamp(a, 0f, 1f);
+
+        if (emitter.shape == VfxEmitter.SHAPE_PLAYER_AURA) {
+            if (anchor != null) {
+                AbilityVisual.drawPlayerAura(batch, anchor, r[i], g[i], b[i], a, emitter.fitSize);
+            }
+            return;
+        }
+
+        float facing = emitter.tracking ? aim + angle[i] : angle[i];
+        float direction = facing + emitter.angleOffset + emitter.sweep * progress + emitter.spin * elapsed;
+        float cx = anchor != null ? anchor.getPosition().x : x[i];
+        float cy = anchor != null ? anchor.getPosition().y : y[i];
+        if (emitter.distance != 0f) {
+            cx += MathUtils.cosDeg(direction) * emitter.distance;
+            cy += MathUtils.sinDeg(direction) * emitter.distance;
+        }
+
+        batch.setColor(r[i], g[i], b[i], a);
+        if (emitter.shape == VfxEmitter.SHAPE_RING) {
+            renderRing(batch, cx, cy, extent * (1f + emitter.ringGrowth * progress),
+                    emitter.ringSegments, emitter.ringThickness);
+            return;
+        }
+
+        Texture texture = emitter.getTexture();
+        if (texture == null) return;
+        int textureWidth = texture.getWidth();
+        int textureHeight = texture.getHeight();
+
+        float width, height;
+        switch (emitter.sizeMode) {
+            case VfxEmitter.SIZE_FIT: {
+                float fit = emitter.fitSize / Math.max(textureWidth, textureHeight);
+                width = textureWidth * fit;
+                height = textureHeight * fit;
+                break;
+            }
+            case VfxEmitter.SIZE_DIAMETER:
+                width = height = extent * 2f;
+                break;
+            case VfxEmitter.SIZE_CONE:
+                width = extent;
+                height = extent * 0.8f;
+                break;
+            default:
+                width = textureWidth;
+                height = textureHeight;
+                break;
+        }
+
+        float scaleX = emitter.scaleX;
+        float scaleY = emitter.scaleY;
+        switch (emitter.scaleCurve) {
+            case VfxEmitter.SCALE_SHRINK:
+                width *= 1f - progress;
+                height *= 1f - progress;
+                break;
+            case VfxEmitter.SCALE_JAB:
+                scaleX *= jabScale(progress, extent);
+                break;
+            case VfxEmitter.SCALE_POP: {
+                float pop = popScale(progress);
+                scaleX *= pop;
+                scaleY *= pop;
+                break;
+            }
+            default:
+                break;
+        }
+
+        float rotation = direction + emitter.rotationOffset;
+        boolean flip = false;
+        if (emitter.flipFacing) {
+            float normalized = ((direction % 360f) + 360f) % 360f;
+            flip = normalized > 90f && normalized < 270f;
+            if (flip) rotation -= 180f;
+        }
+
+        float originX = width * emitter.pivotX;
+        float originY = height * emitter.pivotY;
+        batch.draw(texture, cx - originX, cy - originY, originX, originY, width, height, scaleX, scaleY,
+                rotation, 0, 0, textureWidth, textureHeight, flip, false);
+    }
+
+    // Held short, thrust out further the longer the reach, then eased back to full length
+    private static float jabScale(float progress, float range) {
+        float reach = range / 300f;
+        if (progress < 0.16f) return 0.5f;
+        if (progress < 0.44f) return 0.5f + reach * (progress - 0.16f) / 0.28f;
+        float settle = (progress - 0.44f) / 0.56f;
+        return (1f + reach) * (1f - settle) + settle;
+    }
+
+    // Eases out to the peak at 0.3 of the life, then eases back in below the starting size
+    private static float popScale(float progress) {
+        if (progress < 0.3f) {
+            float t = 1f - progress / 0.3f;
+            return 0.6f + 0.8f * (1f - t * t);
+        }
+        float t = (progress - 0.3f) / 0.7f;
+        return 1.4f - (1.4f - 0.48f) * t * t;
+    }
+
+    private void renderRing(SpriteBatch batch, float cx, float cy, float radius, int segments, float thickness) {
+        if (whitePixel == null) {
+            whitePixel = Storage.assetManager.get("white_pixel.png", Texture.class);
+        }
+
+        // Each side is a rotated quad from one point on the circle to the next
+        float step = 360f / segments;
+        float side = 2f * radius * MathUtils.sinDeg(step / 2f);
+        for (int s = 0; s < segments; s++) {
+            float from = s * step;
+            float x1 = cx + MathUtils.cosDeg(from) * radius;
+            float y1 = cy + MathUtils.sinDeg(from) * radius;
+            batch.draw(whitePixel, x1, y1 - thickness / 2f, 0f, thickness / 2f, side, thickness, 1f, 1f,
+                    from + 90f + step / 2f, 0, 0, whitePixel.getWidth(), whitePixel.getHeight(), false, false);
+        }
+    }
+
+    // Glow for the emitters that light up the player, such as the Blazing Fury aura
+    public void submitLights(LightMap lights) {
+        for (int i = 0; i < count; i++) {
+            VfxEmitter emitter = emitters[i];
+            if (emitter == null || emitter.glow <= 0f || anchors[i] == null || life[i] > maxLife[i]) continue;
+
+            Vector2 pos = anchors[i].getPosition();
+            lights.add(pos.x, pos.y, AbilityVisual.AURA_GLOW_RADIUS, r[i], g[i], b[i], emitter.glow);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(regions, 0, count, null);
+        Arrays.fill(emitters, 0, count, null);
+        Arrays.fill(anchors, 0, count, null);
+        count = 0;
+    }
+
+    public int getActiveCount() {
+        return count;
+    }
+}
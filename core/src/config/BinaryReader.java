@@ -0,0 +1,91 @@
+package config;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * The other half of BinaryWriter. Every read is bounds checked against the payload, so a damaged file
+ * fails with an IOException instead of reading past its end.
+ */
+class BinaryReader {
+    private final byte[] bytes;
+    private int position;
+    private final int end;
+
+    private int schemaVersion;
+
+    private BinaryReader(byte[] bytes, int position, int end) {
+        this.bytes = bytes;
+        this.position = position;
+        this.end = end;
+    }
+
+    // Checks the header written by BinaryWriter.framed() and returns a reader over the payload
+    static BinaryReader open(byte[] bytes, byte[] magic, int maxSchemaVersion) throws IOException {
+        int header = BinaryWriter.HEADER_SIZE;
+        if (bytes.length < header || bytes[0] != magic[0] || bytes[1] != magic[1]
+                || bytes[2] != magic[2] || bytes[3] != magic[3]) {
+            throw new IOException("not a save file");
+        }
+
+        int schema = BinaryWriter.getInt(bytes, 4);
+        int length = BinaryWriter.getInt(bytes, 8);
+        int crc = BinaryWriter.getInt(bytes, 12);
+        if (schema < 1 || schema > maxSchemaVersion) {
+            throw new IOException("unsupported schema version " + schema);
+        }
+        if (length < 0 || header + length != bytes.length) {
+            throw new IOException("truncated save file");
+        }
+        if ((int) BinaryWriter.checksum(bytes, header, length) != crc) {
+            throw new IOException("checksum mismatch");
+        }
+
+        BinaryReader reader = new BinaryReader(bytes, header, header + length);
+        reader.schemaVersion = schema;
+        return reader;
+    }
+
+    int schemaVersion() {
+        return schemaVersion;
+    }
+
+    int varint() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (position >= end) throw new IOException("unexpected end of save data");
+            int b = bytes[position++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("malformed varint");
+    }
+
+    boolean bool() throws IOException {
+        if (position >= end) throw new IOException("unexpected end of save data");
+        return bytes[position++] != 0;
+    }
+
+    float floatBits() throws IOException {
+        if (position + 4 > end) throw new IOException("unexpected end of save data");
+        float value = Float.intBitsToFloat(BinaryWriter.getInt(bytes, position));
+        position += 4;
+        return value;
+    }
+
+    long longBits() throws IOException {
+        if (position + 8 > end) throw new IOException("unexpected end of save data");
+        long high = BinaryWriter.getInt(bytes, position) & 0xFFFFFFFFL;
+        long low = BinaryWriter.getInt(bytes, position + 4) & 0xFFFFFFFFL;
+        position += 8;
+        return (high << 32) | low;
+    }
+
+    String string() throws IOException {
+        int length = varint();
+        if (length < 0 || position + length > end) throw new IOException("unexpected end of save data");
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package config;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/*
+ * Payload writer shared by the save formats. Integers go out as varints, floats and longs as raw bits.
+ * framed() puts the common header in front: magic, schema version, payload length and a CRC32 of the
+ * payload, each int big-endian. BinaryReader.open() checks it on the way back in.
+ */
+class BinaryWriter {
+    static final int HEADER_SIZE = 4 + 4 + 4 + 4;
+
+    private byte[] bytes = new byte[256];
+    private int size = 0;
+
+    private void ensure(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    // Unsigned LEB128; negative values take the full five bytes
+    void varint(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[size++] = (byte) value;
+    }
+
+    void bool(boolean value) {
+        ensure(1);
+        bytes[size++] = (byte) (value ? 1 : 0);
+    }
+
+    void floatBits(float value) {
+        ensure(4);
+        putInt(bytes, size, Float.floatToIntBits(value));
+        size += 4;
+    }
+
+    void longBits(long value) {
+        ensure(8);
+        putInt(bytes, size, (int) (value >>> 32));
+        putInt(bytes, size + 4, (int) value);
+        size += 8;
+    }
+
+    void string(String value) {
+        byte[] utf = value.getBytes(StandardCharsets.UTF_8);
+        varint(utf.length);
+        ensure(utf.length);
+        System.arraycopy(utf, 0, bytes, size, utf.length);
+        size += utf.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    byte[] framed(byte[] magic, int schemaVersion) {
+        byte[] result = new byte[HEADER_SIZE + size];
+        System.arraycopy(magic, 0, result, 0, 4);
+        putInt(result, 4, schemaVersion);
+        putInt(result, 8, size);
+        putInt(result, 12, (int) checksum(bytes, 0, size));
+        System.arraycopy(bytes, 0, result, HEADER_SIZE, size);
+        return result;
+    }
+
+    static long checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+
+    static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    static int getInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+}
\ No newline at end of file
@@ -20,5 +20,6 @@ public class Boot extends Game {
 	@Override
 	public void dispose () {
 		super.dispose();
+		SaveManager.flush();
 	}
 }
@@ -11,6 +11,8 @@ import com.badlogic.gdx.utils.viewport.Viewport;
 import game.GameProj;
 import game.PostGame;
 import game.StartScreen;
+import managers.ReplayManager;
+import managers.SoundManager;
 
 public class GameScreen implements Screen {
 	private Game game;
@@ -70,6 +72,7 @@ public class GameScreen implements Screen {
 				gameP.dispose();
 				gameP = null;
 			}
+			ReplayManager.getInstance().endRun();
 		} else if (currentState == START && newState != START) {
 			if (startScreen != null) {
 				startScreen.dispose();
@@ -90,6 +93,7 @@ public class GameScreen implements Screen {
 				Gdx.input.setInputProcessor(startScreen.getStage());
 				break;
 			case HOME:
+				ReplayManager.getInstance().beginRun();
 				gameP = new GameProj(viewport, game, this);
 				Gdx.input.setInputProcessor(gameP.stage);
 				break;
@@ -113,6 +117,7 @@ public class GameScreen implements Screen {
 				if (currentState == HOME && gameP != null) {
 					gameP.dispose();
 					gameP = null;
+					ReplayManager.getInstance().endRun();
 				}
 
 				currentState = POSTGAME;
@@ -160,6 +165,8 @@ public class GameScreen implements Screen {
 	public void render(float delta) {
 		if (isDisposed) return;
 
+		SoundManager.getInstance().update(delta);
+
 		Gdx.gl.glClearColor(55 / 255f, 55 / 255f, 55 / 255f, 1);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
@@ -171,7 +178,7 @@ public class GameScreen implements Screen {
 				break;
 			case HOME:
 				if (gameP != null) {
-					gameP.render(delta);
+					gameP.render(ReplayManager.getInstance().beginTick(delta));
 				}
 				break;
 			case POSTGAME:
@@ -225,6 +232,7 @@ public class GameScreen implements Screen {
 			gameP.dispose();
 			gameP = null;
 		}
+		ReplayManager.getInstance().endRun();
 
 		if (postGameScreen != null) {
 			postGameScreen.dispose();
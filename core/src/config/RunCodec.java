@@ -0,0 +1,209 @@
+package config;
+
+import java.io.IOException;
+import java.util.BitSet;
+
+/*
+ * The binary formats of a run snapshot: one file for the RunSnapshot and one per chunk that has changed,
+ * holding the chunk's generation seed and which of its enemies are dead. Both are framed like the main
+ * save, under their own magic.
+ */
+public class RunCodec {
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final byte[] RUN_MAGIC = {'T', 'P', 'R', 'N'};
+    private static final byte[] CHUNK_MAGIC = {'T', 'P', 'C', 'K'};
+    private static final int MAX_COUNT = 1 << 16;
+
+    public static byte[] encodeRun(RunSnapshot run) {
+        BinaryWriter out = new BinaryWriter();
+        out.varint(run.gameMode);
+        optionalString(out, run.playerClass);
+        out.varint(run.location);
+        out.floatBits(run.totalGameTime);
+        out.varint(run.enemiesKilled);
+        out.longBits(run.worldSeed);
+        out.longBits(run.dungeonSeed);
+        out.floatBits(run.playerX);
+        out.floatBits(run.playerY);
+
+        out.varint(run.level);
+        out.varint(run.experience);
+        out.varint(run.experienceToNextLevel);
+        out.varint(run.currentHealth);
+        out.varint(run.allocatedHealthPoints);
+        out.varint(run.allocatedAttackPoints);
+        out.varint(run.allocatedDefensePoints);
+        out.varint(run.allocatedDexPoints);
+        out.floatBits(run.allocatedAttackSpeed);
+        out.varint(run.availableStatPoints);
+        out.varint(run.availableSkillPoints);
+        out.varint(run.totalSkillPointsEarned);
+
+        out.varint(run.unlockedSkills.length);
+        for (int i = 0; i < run.unlockedSkills.length; i++) {
+            out.string(run.unlockedSkills[i]);
+            out.varint(run.skillSlots[i] + 1);
+        }
+
+        out.varint(run.coins);
+        out.varint(run.inventoryItems.length);
+        for (int i = 0; i < run.inventoryItems.length; i++) {
+            optionalString(out, run.inventoryItems[i]);
+            out.varint(run.inventoryCounts[i]);
+        }
+        writeIds(out, run.equippedItems);
+        out.varint(run.buffTimers.length);
+        for (float timer : run.buffTimers) {
+            out.floatBits(timer);
+        }
+
+        out.bool(run.hasMerchant);
+        out.floatBits(run.merchantX);
+        out.floatBits(run.merchantY);
+        writeIds(out, run.shopItems);
+
+        out.varint(run.portalX.length);
+        for (int i = 0; i < run.portalX.length; i++) {
+            out.floatBits(run.portalX[i]);
+            out.floatBits(run.portalY[i]);
+            out.bool(run.portalCleared[i]);
+        }
+
+        out.bool(run.bossKittyDefeated);
+        out.bool(run.cyclopsDefeated);
+        out.bool(run.ghostBossDefeated);
+
+        out.varint(run.endlessWave);
+        out.varint(run.endlessKills);
+        out.floatBits(run.endlessTimeSurvived);
+        return out.framed(RUN_MAGIC, SCHEMA_VERSION);
+    }
+
+    public static RunSnapshot decodeRun(byte[] bytes) throws IOException {
+        BinaryReader in = BinaryReader.open(bytes, RUN_MAGIC, SCHEMA_VERSION);
+        RunSnapshot run = new RunSnapshot();
+        run.gameMode = in.varint();
+        run.playerClass = optionalString(in);
+        run.location = in.varint();
+        run.totalGameTime = in.floatBits();
+        run.enemiesKilled = in.varint();
+        run.worldSeed = in.longBits();
+        run.dungeonSeed = in.longBits();
+        run.playerX = in.floatBits();
+        run.playerY = in.floatBits();
+
+        run.level = in.varint();
+        run.experience = in.varint();
+        run.experienceToNextLevel = in.varint();
+        run.currentHealth = in.varint();
+        run.allocatedHealthPoints = in.varint();
+        run.allocatedAttackPoints = in.varint();
+        run.allocatedDefensePoints = in.varint();
+        run.allocatedDexPoints = in.varint();
+        run.allocatedAttackSpeed = in.floatBits();
+        run.availableStatPoints = in.varint();
+        run.availableSkillPoints = in.varint();
+        run.totalSkillPointsEarned = in.varint();
+
+        int skills = count(in);
+        run.unlockedSkills = new String[skills];
+        run.skillSlots = new int[skills];
+        for (int i = 0; i < skills; i++) {
+            run.unlockedSkills[i] = in.string();
+            run.skillSlots[i] = in.varint() - 1;
+        }
+
+        run.coins = in.varint();
+        int slots = count(in);
+        run.inventoryItems = new String[slots];
+        run.inventoryCounts = new int[slots];
+        for (int i = 0; i < slots; i++) {
+            run.inventoryItems[i] = optionalString(in);
+            run.inventoryCounts[i] = in.varint();
+        }
+        run.equippedItems = readIds(in);
+        run.buffTimers = new float[count(in)];
+        for (int i = 0; i < run.buffTimers.length; i++) {
+            run.buffTimers[i] = in.floatBits();
+        }
+
+        run.hasMerchant = in.bool();
+        run.merchantX = in.floatBits();
+        run.merchantY = in.floatBits();
+        run.shopItems = readIds(in);
+
+        int portals = count(in);
+        run.portalX = new float[portals];
+        run.portalY = new float[portals];
+        run.portalCleared = new boolean[portals];
+        for (int i = 0; i < portals; i++) {
+            run.portalX[i] = in.floatBits();
+            run.portalY[i] = in.floatBits();
+            run.portalCleared[i] = in.bool();
+        }
+
+        run.bossKittyDefeated = in.bool();
+        run.cyclopsDefeated = in.bool();
+        run.ghostBossDefeated = in.bool();
+
+        run.endlessWave = in.varint();
+        run.endlessKills = in.varint();
+        run.endlessTimeSurvived = in.floatBits();
+        return run;
+    }
+
+    public static byte[] encodeChunk(RunSnapshot.ChunkDelta chunk) {
+        BinaryWriter out = new BinaryWriter();
+        out.longBits(chunk.seed);
+        long[] words = chunk.killedEnemies.toLongArray();
+        out.varint(words.length);
+        for (long word : words) {
+            out.longBits(word);
+        }
+        return out.framed(CHUNK_MAGIC, SCHEMA_VERSION);
+    }
+
+    public static RunSnapshot.ChunkDelta decodeChunk(byte[] bytes) throws IOException {
+        BinaryReader in = BinaryReader.open(bytes, CHUNK_MAGIC, SCHEMA_VERSION);
+        long seed = in.longBits();
+        long[] words = new long[count(in)];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.longBits();
+        }
+        return new RunSnapshot.ChunkDelta(seed, BitSet.valueOf(words));
+    }
+
+    private static void optionalString(BinaryWriter out, String value) {
+        out.bool(value != null);
+        if (value != null) {
+            out.string(value);
+        }
+    }
+
+    private static String optionalString(BinaryReader in) throws IOException {
+        return in.bool() ? in.string() : null;
+    }
+
+    private static void writeIds(BinaryWriter out, String[] ids) {
+        out.varint(ids.length);
+        for (String id : ids) {
+            optionalString(out, id);
+        }
+    }
+
+    private static String[] readIds(BinaryReader in) throws IOException {
+        String[] ids = new String[count(in)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = optionalString(in);
+        }
+        return ids;
+    }
+
+    // Counts are checked against a sane bound before anything is allocated for them
+    private static int count(BinaryReader in) throws IOException {
+        int count = in.varint();
+        if (count < 0 || count > MAX_COUNT) throw new IOException("bad count " + count);
+        return count;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,75 @@
+package config;
+
+import java.util.BitSet;
+
+/*
+ * Everything about a run in progress that is not in a chunk delta: the player, the merchant, the portals
+ * and how far the run has got. Filled in on the render thread and encoded on the snapshot writer's, see
+ * SnapshotManager. Item slots are item ids, null when empty.
+ */
+public class RunSnapshot {
+    public static final int LOCATION_OVERWORLD = 0;
+    public static final int LOCATION_DUNGEON = 1;
+    public static final int LOCATION_BOSS_ROOM = 2;
+    public static final int LOCATION_ENDLESS = 3;
+
+    public int gameMode;
+    public String playerClass;
+    public int location;
+    public float totalGameTime;
+    public int enemiesKilled;
+    public long worldSeed;
+    public long dungeonSeed;
+
+    // Where the player stands in the overworld, or where they left it for the current room
+    public float playerX, playerY;
+
+    public int level;
+    public int experience;
+    public int experienceToNextLevel;
+    public int currentHealth;
+    public int allocatedHealthPoints;
+    public int allocatedAttackPoints;
+    public int allocatedDefensePoints;
+    public int allocatedDexPoints;
+    public float allocatedAttackSpeed;
+    public int availableStatPoints;
+    public int availableSkillPoints;
+    public int totalSkillPointsEarned;
+
+    public String[] unlockedSkills = new String[0];
+    public int[] skillSlots = new int[0];
+
+    public int coins;
+    public String[] inventoryItems = new String[0];
+    public int[] inventoryCounts = new int[0];
+    public String[] equippedItems = new String[0];
+    public float[] buffTimers = new float[0];
+
+    public boolean hasMerchant;
+    public float merchantX, merchantY;
+    public String[] shopItems = new String[0];
+
+    public float[] portalX = new float[0];
+    public float[] portalY = new float[0];
+    public boolean[] portalCleared = new boolean[0];
+
+    public boolean bossKittyDefeated;
+    public boolean cyclopsDefeated;
+    public boolean ghostBossDefeated;
+
+    public int endlessWave;
+    public int endlessKills;
+    public float endlessTimeSurvived;
+
+    // A chunk's generation seed and the indices of its spawned enemies that have been killed
+    public static class ChunkDelta {
+        public final long seed;
+        public final BitSet killedEnemies;
+
+        public ChunkDelta(long seed, BitSet killedEnemies) {
+            this.seed = seed;
+            this.killedEnemies = killedEnemies;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,156 @@
+package config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * The binary save format, framed by BinaryWriter with magic, schema version, payload length and a CRC32
+ * of the payload. Integers in the payload are varints and floats are raw bits.
+ *
+ * Item ids are written once each into a table at the start of the payload, and the slots refer to them by
+ * index, 0 meaning empty. Stash slots are stored as plain ids and encoded again on the way back in, so
+ * SaveData looks the same whichever format it came from.
+ *
+ * Decoding starts from a default SaveData, so keybindings missing from an older file keep their defaults
+ * and the slot arrays always come out at their full size.
+ */
+public class SaveCodec {
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final byte[] MAGIC = {'T', 'P', 'S', 'V'};
+
+    private static final int FLAG_MUSIC = 1;
+    private static final int FLAG_SFX = 1 << 1;
+    private static final int FLAG_FULLSCREEN = 1 << 2;
+    private static final int FLAG_SCREEN_SHAKE = 1 << 3;
+    private static final int FLAG_LEGEND = 1 << 4;
+
+    public static byte[] encode(SaveData data) {
+        String[] stashIds = new String[data.safeStashSlots.length];
+        for (int i = 0; i < stashIds.length; i++) {
+            if (data.safeStashSlots[i] != null) {
+                stashIds[i] = SaveManager.decodeSafeStashValue(data.safeStashSlots[i]);
+            }
+        }
+
+        Map<String, Integer> itemIndex = new HashMap<>();
+        List<String> itemTable = new ArrayList<>();
+        intern(data.storageSlot1, itemIndex, itemTable);
+        intern(data.storageSlot2, itemIndex, itemTable);
+        for (String id : data.safeStorageSlots) intern(id, itemIndex, itemTable);
+        for (String id : stashIds) intern(id, itemIndex, itemTable);
+
+        BinaryWriter out = new BinaryWriter();
+        out.varint(data.version);
+        out.floatBits(data.musicVolume);
+        out.floatBits(data.sfxVolume);
+
+        int flags = 0;
+        if (data.musicEnabled) flags |= FLAG_MUSIC;
+        if (data.sfxEnabled) flags |= FLAG_SFX;
+        if (data.fullscreen) flags |= FLAG_FULLSCREEN;
+        if (data.screenShakeEnabled) flags |= FLAG_SCREEN_SHAKE;
+        if (data.legendEnabled) flags |= FLAG_LEGEND;
+        out.varint(flags);
+        out.varint(data.windowWidth);
+        out.varint(data.windowHeight);
+
+        out.varint(data.keybindings.size());
+        for (Map.Entry<String, int[]> entry : data.keybindings.entrySet()) {
+            int[] keys = entry.getValue() != null ? entry.getValue() : new int[0];
+            out.string(entry.getKey());
+            out.varint(keys.length);
+            for (int key : keys) {
+                out.varint(key);
+            }
+        }
+
+        out.varint(itemTable.size());
+        for (String id : itemTable) {
+            out.string(id);
+        }
+
+        out.varint(ref(data.storageSlot1, itemIndex));
+        out.varint(ref(data.storageSlot2, itemIndex));
+        out.varint(data.safeStorageSlots.length);
+        for (String id : data.safeStorageSlots) out.varint(ref(id, itemIndex));
+        out.varint(stashIds.length);
+        for (String id : stashIds) out.varint(ref(id, itemIndex));
+
+        return out.framed(MAGIC, SCHEMA_VERSION);
+    }
+
+    public static SaveData decode(byte[] bytes) throws IOException {
+        BinaryReader in = BinaryReader.open(bytes, MAGIC, SCHEMA_VERSION);
+        SaveData data = new SaveData();
+        data.version = in.varint();
+        data.musicVolume = in.floatBits();
+        data.sfxVolume = in.floatBits();
+
+        int flags = in.varint();
+        data.musicEnabled = (flags & FLAG_MUSIC) != 0;
+        data.sfxEnabled = (flags & FLAG_SFX) != 0;
+        data.fullscreen = (flags & FLAG_FULLSCREEN) != 0;
+        data.screenShakeEnabled = (flags & FLAG_SCREEN_SHAKE) != 0;
+        data.legendEnabled = (flags & FLAG_LEGEND) != 0;
+        data.windowWidth = in.varint();
+        data.windowHeight = in.varint();
+
+        int bindings = in.varint();
+        for (int i = 0; i < bindings; i++) {
+            String action = in.string();
+            int[] keys = new int[in.varint()];
+            for (int k = 0; k < keys.length; k++) {
+                keys[k] = in.varint();
+            }
+            data.keybindings.put(action, keys);
+        }
+
+        String[] itemTable = new String[in.varint()];
+        for (int i = 0; i < itemTable.length; i++) {
+            itemTable[i] = in.string();
+        }
+
+        data.storageSlot1 = lookup(in.varint(), itemTable);
+        data.storageSlot2 = lookup(in.varint(), itemTable);
+        readSlots(in, itemTable, data.safeStorageSlots);
+
+        String[] stashIds = new String[data.safeStashSlots.length];
+        readSlots(in, itemTable, stashIds);
+        for (int i = 0; i < stashIds.length; i++) {
+            data.safeStashSlots[i] = stashIds[i] != null ? SaveManager.encodeSafeStashValue(stashIds[i]) : null;
+        }
+        return data;
+    }
+
+    private static void intern(String id, Map<String, Integer> index, List<String> table) {
+        if (id != null && !index.containsKey(id)) {
+            index.put(id, table.size());
+            table.add(id);
+        }
+    }
+
+    private static int ref(String id, Map<String, Integer> index) {
+        return id == null ? 0 : index.get(id) + 1;
+    }
+
+    private static String lookup(int ref, String[] table) throws IOException {
+        if (ref == 0) return null;
+        if (ref < 0 || ref > table.length) throw new IOException("bad item reference " + ref);
+        return table[ref - 1];
+    }
+
+    // Extra stored slots are dropped and missing ones stay empty
+    private static void readSlots(BinaryReader in, String[] table, String[] slots) throws IOException {
+        int count = in.varint();
+        for (int i = 0; i < count; i++) {
+            String id = lookup(in.varint(), table);
+            if (i < slots.length) {
+                slots[i] = id;
+            }
+        }
+    }
+}
@@ -1,13 +1,42 @@
 package config;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonWriter;
 
+/*
+ * save() only marks the data dirty. A background thread writes it out once the debounce window has passed,
+ * so a burst of setter calls, like dragging a volume slider, turns into a single write. The file is written
+ * to a temporary sibling, synced and renamed over the save, so a crash mid-write leaves the old save intact.
+ *
+ * Everything that changes the data is synchronized on the class, and so is taking the snapshot for a
+ * write. flush() writes whatever is pending on the calling thread and is called on exit.
+ *
+ * A failed write keeps the data dirty and is retried with a doubling delay, a few times at most. It is
+ * reported once, not on every retry. After that, the next save() or the flush() on exit tries again.
+ *
+ * The save itself is binary, see SaveCodec. An older JSON save is imported once when there is no binary
+ * one yet, and the JSON form can still be exported and imported by hand for debugging.
+ */
 public class SaveManager {
 
-    private static final String SAVE_FILE_NAME = "savegame.json";
+    private static final String SAVE_FILE_NAME = "savegame.dat";
+    private static final String LEGACY_SAVE_FILE_NAME = "savegame.json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long WRITE_DELAY_MS = 500;
+    private static final int MAX_WRITE_RETRIES = 6;
     private static final int SAFE_STORAGE_SLOTS = 4;
     private static final int SAFE_STASH_SLOTS = 12;
     private static final int CURRENT_SAFE_STASH_KEY_VERSION = 2;
@@ -17,33 +46,23 @@ public class SaveManager {
     };
     private static SaveData currentSaveData = null;
 
-    public static SaveData load() {
+    private static final Json json = createJson();
+    private static final Object writeLock = new Object();
+    private static ScheduledExecutorService writer;
+    private static ScheduledFuture<?> pendingWrite;
+    private static boolean dirty = false;
+    private static int failedWrites = 0;
+
+    public static synchronized SaveData load() {
         try {
             FileHandle file = Gdx.files.local(SAVE_FILE_NAME);
+            FileHandle legacyFile = Gdx.files.local(LEGACY_SAVE_FILE_NAME);
 
-            if (file.exists()) {
-                String jsonString = file.readString();
-                Json json = new Json();
-                json.setIgnoreUnknownFields(true);
-
-                currentSaveData = json.fromJson(SaveData.class, jsonString);
-
-                if (currentSaveData == null) {
-                    currentSaveData = new SaveData();
-                }
-
-                if (currentSaveData.keybindings == null) {
-                    currentSaveData.keybindings = new java.util.HashMap<>();
-                    currentSaveData.setDefaultKeybindings();
-                }
-
-                ensureAllKeybindingsExist();
-                ensureSafeStorageSlotsExist();
-                if (migrateSafeStashSlots()) {
-                    save();
-                }
-
+            if (file.exists() && loadBinary(file)) {
                 System.out.println("SaveManager: Successfully loaded save data");
+            } else if (legacyFile.exists()) {
+                adoptJson(fromJson(legacyFile.readString()));
+                System.out.println("SaveManager: Imported JSON save data");
             } else {
                 System.out.println("SaveManager: No save file found, creating default");
                 currentSaveData = new SaveData();
@@ -57,6 +76,31 @@ public class SaveManager {
         return currentSaveData;
     }
 
+    private static boolean loadBinary(FileHandle file) {
+        try {
+            currentSaveData = SaveCodec.decode(file.readBytes());
+            return true;
+        } catch (Exception e) {
+            System.err.println("SaveManager: Error reading binary save data - " + e.getMessage());
+            return false;
+        }
+    }
+
+    // JSON carries no schema, so it gets the fix-ups the binary format makes unnecessary, then a save
+    private static void adoptJson(SaveData data) {
+        currentSaveData = data != null ? data : new SaveData();
+
+        if (currentSaveData.keybindings == null) {
+            currentSaveData.keybindings = new java.util.HashMap<>();
+            currentSaveData.setDefaultKeybindings();
+        }
+
+        ensureAllKeybindingsExist();
+        ensureSafeStorageSlotsExist();
+        migrateSafeStashSlots();
+        save();
+    }
+
     private static void ensureAllKeybindingsExist() {
         if (currentSaveData == null) return;
 
@@ -120,28 +164,144 @@ public class SaveManager {
         return slots;
     }
 
-    public static boolean save() {
+    public static synchronized boolean save() {
         if (currentSaveData == null) {
             currentSaveData = new SaveData();
         }
 
+        dirty = true;
+        return scheduleWrite();
+    }
+
+    // Called holding the class lock; at most one write is waiting to run at a time. After failed writes the
+    // delay doubles with each one, 32 s at the most.
+    private static boolean scheduleWrite() {
+        if (pendingWrite == null || pendingWrite.isDone()) {
+            long delay = WRITE_DELAY_MS << Math.min(failedWrites, MAX_WRITE_RETRIES);
+            try {
+                pendingWrite = getWriter().schedule(SaveManager::writeIfDirty, delay, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                System.err.println("SaveManager: Error scheduling save - " + e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Writes any pending changes right away, waiting for a write already in progress
+    public static boolean flush() {
+        return writeIfDirty();
+    }
+
+    private static ScheduledExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "SaveWriter");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return writer;
+    }
+
+    private static boolean writeIfDirty() {
+        synchronized (writeLock) {
+            byte[] bytes;
+            synchronized (SaveManager.class) {
+                if (!dirty) return true;
+                ensureSafeStorageSlotsExist();
+                bytes = SaveCodec.encode(currentSaveData);
+                dirty = false;
+                // A change made while this write is in progress schedules one of its own
+                pendingWrite = null;
+            }
+
+            try {
+                writeAtomically(Gdx.files.local(SAVE_FILE_NAME), bytes);
+                synchronized (SaveManager.class) {
+                    if (failedWrites > 0) {
+                        System.out.println("SaveManager: Saved after " + failedWrites + " failed attempts");
+                        failedWrites = 0;
+                    }
+                }
+                return true;
+            } catch (Exception e) {
+                synchronized (SaveManager.class) {
+                    if (failedWrites == 0) {
+                        System.err.println("SaveManager: Error saving data, retrying - " + e.getMessage());
+                    }
+                    failedWrites++;
+                    // Left dirty either way, so the next save() or the flush() on exit tries again
+                    dirty = true;
+                    if (failedWrites <= MAX_WRITE_RETRIES) {
+                        scheduleWrite();
+                    }
+                }
+                return false;
+            }
+        }
+    }
+
+    static void writeAtomically(FileHandle file, byte[] bytes) throws IOException {
+        File target = file.file();
+        File temp = new File(target.getPath() + TEMP_SUFFIX);
+
         try {
-            Json json = new Json();
-            json.setOutputType(JsonWriter.OutputType.json);
+            try (FileOutputStream out = new FileOutputStream(temp)) {
+                out.write(bytes);
+                out.getFD().sync();
+            }
+
+            try {
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // Don't leave a half-written file behind; the target still holds the last good write
+            temp.delete();
+            throw e;
+        }
+    }
 
-            String jsonString = json.prettyPrint(currentSaveData);
+    private static Json createJson() {
+        Json json = new Json();
+        json.setOutputType(JsonWriter.OutputType.json);
+        json.setIgnoreUnknownFields(true);
+        return json;
+    }
 
-            FileHandle file = Gdx.files.local(SAVE_FILE_NAME);
-            file.writeString(jsonString, false);
+    public static synchronized boolean exportJson(String fileName) {
+        try {
+            Gdx.files.local(fileName).writeString(toJson(getSaveData()), false);
+            return true;
+        } catch (Exception e) {
+            System.err.println("SaveManager: Error exporting save data - " + e.getMessage());
+            return false;
+        }
+    }
+
+    public static synchronized boolean importJson(String fileName) {
+        try {
+            SaveData data = fromJson(Gdx.files.local(fileName).readString());
+            if (data == null) return false;
 
+            adoptJson(data);
             return true;
         } catch (Exception e) {
-            System.err.println("SaveManager: Error saving data - " + e.getMessage());
-            e.printStackTrace();
+            System.err.println("SaveManager: Error importing save data - " + e.getMessage());
             return false;
         }
     }
 
+    public static synchronized String toJson(SaveData data) {
+        return json.prettyPrint(data);
+    }
+
+    public static synchronized SaveData fromJson(String jsonString) {
+        return json.fromJson(SaveData.class, jsonString);
+    }
+
     public static SaveData getSaveData() {
         if (currentSaveData == null) {
             load();
@@ -149,7 +309,7 @@ public class SaveManager {
         return currentSaveData;
     }
 
-    public static void setSaveData(SaveData data) {
+    public static synchronized void setSaveData(SaveData data) {
         currentSaveData = data;
         save();
     }
@@ -158,7 +318,7 @@ public class SaveManager {
         return getSaveData().musicVolume;
     }
 
-    public static void setMusicVolume(float volume) {
+    public static synchronized void setMusicVolume(float volume) {
         getSaveData().musicVolume = Math.max(0f, Math.min(1f, volume));
         save();
     }
@@ -167,7 +327,7 @@ public class SaveManager {
         return getSaveData().sfxVolume;
     }
 
-    public static void setSfxVolume(float volume) {
+    public static synchronized void setSfxVolume(float volume) {
         getSaveData().sfxVolume = Math.max(0f, Math.min(1f, volume));
         save();
     }
@@ -176,7 +336,7 @@ public class SaveManager {
         return getSaveData().musicEnabled;
     }
 
-    public static void setMusicEnabled(boolean enabled) {
+    public static synchronized void setMusicEnabled(boolean enabled) {
         getSaveData().musicEnabled = enabled;
         save();
     }
@@ -185,7 +345,7 @@ public class SaveManager {
         return getSaveData().sfxEnabled;
     }
 
-    public static void setSfxEnabled(boolean enabled) {
+    public static synchronized void setSfxEnabled(boolean enabled) {
         getSaveData().sfxEnabled = enabled;
         save();
     }
@@ -194,7 +354,7 @@ public class SaveManager {
         return getSaveData().fullscreen;
     }
 
-    public static void setFullscreen(boolean fullscreen) {
+    public static synchronized void setFullscreen(boolean fullscreen) {
         getSaveData().fullscreen = fullscreen;
         save();
     }
@@ -207,7 +367,7 @@ public class SaveManager {
         return getSaveData().windowHeight;
     }
 
-    public static void setWindowSize(int width, int height) {
+    public static synchronized void setWindowSize(int width, int height) {
         getSaveData().windowWidth = width;
         getSaveData().windowHeight = height;
         save();
@@ -217,7 +377,7 @@ public class SaveManager {
         return getSaveData().screenShakeEnabled;
     }
 
-    public static void setScreenShakeEnabled(boolean enabled) {
+    public static synchronized void setScreenShakeEnabled(boolean enabled) {
         getSaveData().screenShakeEnabled = enabled;
         save();
     }
@@ -226,7 +386,7 @@ public class SaveManager {
         return getSaveData().legendEnabled;
     }
 
-    public static void setLegendEnabled(boolean enabled) {
+    public static synchronized void setLegendEnabled(boolean enabled) {
         getSaveData().legendEnabled = enabled;
         save();
     }
@@ -235,7 +395,7 @@ public class SaveManager {
         return getSaveData().getKeybinding(action);
     }
 
-    public static void setKeybinding(String action, int[] keys) {
+    public static synchronized void setKeybinding(String action, int[] keys) {
         getSaveData().setKeybinding(action, keys);
         save();
     }
@@ -244,7 +404,7 @@ public class SaveManager {
         return getSaveData().getKeybindingDisplayString(action);
     }
 
-    public static void resetKeybindingsToDefault() {
+    public static synchronized void resetKeybindingsToDefault() {
         getSaveData().setDefaultKeybindings();
         save();
     }
@@ -302,7 +462,7 @@ public class SaveManager {
         return getSaveData().storageSlot1;
     }
 
-    public static void setStorageSlot1(String encodedItem) {
+    public static synchronized void setStorageSlot1(String encodedItem) {
         getSaveData().storageSlot1 = encodedItem;
         save();
     }
@@ -311,29 +471,29 @@ public class SaveManager {
         return getSaveData().storageSlot2;
     }
 
-    public static void setStorageSlot2(String encodedItem) {
+    public static synchronized void setStorageSlot2(String encodedItem) {
         getSaveData().storageSlot2 = encodedItem;
         save();
     }
 
-    public static String[] getSafeStorageSlots() {
+    public static synchronized String[] getSafeStorageSlots() {
         SaveData data = getSaveData();
         ensureSafeStorageSlotsExist();
         return data.safeStorageSlots;
     }
 
-    public static void setSafeStorageSlots(String[] slots) {
+    public static synchronized void setSafeStorageSlots(String[] slots) {
         getSaveData().safeStorageSlots = normalizeSlots(slots, SAFE_STORAGE_SLOTS);
         save();
     }
 
-    public static String[] getSafeStashSlots() {
+    public static synchronized String[] getSafeStashSlots() {
         SaveData data = getSaveData();
         ensureSafeStorageSlotsExist();
         return decodeSafeStashSlots(data.safeStashSlots);
     }
 
-    public static void setSafeStashSlots(String[] slots) {
+    public static synchronized void setSafeStashSlots(String[] slots) {
         String[] normalized = normalizeSlots(slots, SAFE_STASH_SLOTS);
         getSaveData().safeStashSlots = encodeSafeStashSlots(normalized);
         save();
@@ -363,7 +523,7 @@ public class SaveManager {
         return decoded;
     }
 
-    private static String encodeSafeStashValue(String value) {
+    public static String encodeSafeStashValue(String value) {
         try {
             byte[] input = value.getBytes(java.nio.charset.StandardCharsets.UTF_8);
             byte[] key = getSafeStashKey(CURRENT_SAFE_STASH_KEY_VERSION)
@@ -381,7 +541,7 @@ public class SaveManager {
         }
     }
 
-    private static String decodeSafeStashValue(String value) {
+    public static String decodeSafeStashValue(String value) {
         try {
             int version = parseSafeStashVersion(value);
             String encoded = stripSafeStashPrefix(value, version);
@@ -436,7 +596,7 @@ public class SaveManager {
         return true;
     }
 
-    public static void resetAllData() {
+    public static synchronized void resetAllData() {
         currentSaveData = new SaveData();
         save();
     }
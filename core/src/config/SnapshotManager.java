@@ -0,0 +1,221 @@
+package config;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import managers.GameRandom;
+import managers.Profiler;
+
+/*
+ * Snapshots of the run in progress, so quitting mid-run can be resumed. A snapshot is a run file plus one
+ * file per chunk that has changed, with the chunk's seed and its dead enemies. Chunks nobody has touched
+ * are not written at all; their seed comes from the world seed in the run file.
+ *
+ * autosave() is handed a RunSnapshot already filled in on the frame, copies the chunk deltas that changed
+ * since the last one and leaves encoding and writing to a background thread. Chunk files go first and
+ * the run file last, each replaced atomically. If a write fails, the chunks not yet written are marked
+ * changed again, so the next autosave retries them.
+ *
+ * Restoring is lazy. The run file is read up front, but a chunk's file is only read when the chunk is
+ * generated, on whichever thread generates it.
+ *
+ * Seeded runs neither restore nor save, since a snapshot from another run would make them diverge.
+ */
+public class SnapshotManager {
+    private static final String RUN_DIRECTORY = "run";
+    private static final String RUN_FILE_NAME = RUN_DIRECTORY + "/run.dat";
+    private static final long FLUSH_TIMEOUT_MS = 2000;
+
+    private static ExecutorService writer;
+
+    private final boolean enabled;
+    private final long worldSeed;
+    private RunSnapshot restoredRun;
+    private boolean finished = false;
+
+    private final Map<Long, RunSnapshot.ChunkDelta> chunkDeltas = new HashMap<>();
+    private final Set<Long> dirtyChunks = new HashSet<>();
+
+    public SnapshotManager(int gameMode, String playerClass, Random random) {
+        if (GameRandom.isSeeded()) {
+            enabled = false;
+            worldSeed = GameRandom.getSeed();
+            return;
+        }
+
+        enabled = true;
+        restoredRun = readRun(gameMode, playerClass);
+        if (restoredRun != null) {
+            worldSeed = restoredRun.worldSeed;
+            System.out.println("SnapshotManager: Resuming saved run");
+        } else {
+            worldSeed = random.nextLong();
+            // Queued ahead of any write, so the new run never mixes with chunk files of an old one
+            getWriter().submit(SnapshotManager::deleteSnapshot);
+        }
+    }
+
+    private static RunSnapshot readRun(int gameMode, String playerClass) {
+        FileHandle file = Gdx.files.local(RUN_FILE_NAME);
+        if (!file.exists()) return null;
+
+        try {
+            RunSnapshot run = RunCodec.decodeRun(file.readBytes());
+            // Starting another mode or class is a new run and replaces the saved one
+            if (run.gameMode != gameMode || !playerClass.equals(run.playerClass)) return null;
+            return run;
+        } catch (Exception e) {
+            System.err.println("SnapshotManager: Error reading run snapshot - " + e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled && !finished;
+    }
+
+    // The snapshot this run was restored from, or null for a new run
+    public RunSnapshot getRestoredRun() {
+        return restoredRun;
+    }
+
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    // Called from the chunk generator threads
+    public synchronized RunSnapshot.ChunkDelta getChunkDelta(int chunkX, int chunkY) {
+        long key = key(chunkX, chunkY);
+        RunSnapshot.ChunkDelta delta = chunkDeltas.get(key);
+        if (delta == null) {
+            if (restoredRun != null) {
+                delta = readChunk(chunkX, chunkY);
+            }
+            if (delta == null) {
+                delta = new RunSnapshot.ChunkDelta(GameRandom.chunkSeed(worldSeed, chunkX, chunkY), new BitSet());
+            }
+            chunkDeltas.put(key, delta);
+        }
+        return delta;
+    }
+
+    private static RunSnapshot.ChunkDelta readChunk(int chunkX, int chunkY) {
+        FileHandle file = Gdx.files.local(chunkFileName(chunkX, chunkY));
+        if (!file.exists()) return null;
+
+        try {
+            return RunCodec.decodeChunk(file.readBytes());
+        } catch (Exception e) {
+            System.err.println("SnapshotManager: Error reading chunk snapshot - " + e.getMessage());
+            return null;
+        }
+    }
+
+    public synchronized void onEnemyKilled(int chunkX, int chunkY, int spawnIndex) {
+        if (!isEnabled() || spawnIndex < 0) return;
+
+        long key = key(chunkX, chunkY);
+        RunSnapshot.ChunkDelta delta = chunkDeltas.get(key);
+        if (delta != null) {
+            delta.killedEnemies.set(spawnIndex);
+            dirtyChunks.add(key);
+        }
+    }
+
+    public synchronized void autosave(RunSnapshot run) {
+        if (!isEnabled()) return;
+
+        run.worldSeed = worldSeed;
+        final List<RunSnapshot.ChunkDelta> deltas = new ArrayList<>(dirtyChunks.size());
+        final List<String> fileNames = new ArrayList<>(dirtyChunks.size());
+        final List<Long> keys = new ArrayList<>(dirtyChunks);
+        for (Long key : keys) {
+            RunSnapshot.ChunkDelta delta = chunkDeltas.get(key);
+            deltas.add(new RunSnapshot.ChunkDelta(delta.seed, (BitSet) delta.killedEnemies.clone()));
+            fileNames.add(chunkFileName((int) (key >> 32), (int) (long) key));
+        }
+        dirtyChunks.clear();
+
+        getWriter().submit(() -> {
+            long start = System.nanoTime();
+            int written = 0;
+            try {
+                Gdx.files.local(RUN_DIRECTORY).mkdirs();
+                for (; written < deltas.size(); written++) {
+                    SaveManager.writeAtomically(Gdx.files.local(fileNames.get(written)), RunCodec.encodeChunk(deltas.get(written)));
+                }
+                SaveManager.writeAtomically(Gdx.files.local(RUN_FILE_NAME), RunCodec.encodeRun(run));
+            } catch (Exception e) {
+                System.err.println("SnapshotManager: Error writing run snapshot - " + e.getMessage());
+                requeue(keys.subList(written, keys.size()));
+            }
+            Profiler.getInstance().addAsync(Profiler.SNAPSHOT, System.nanoTime() - start);
+        });
+    }
+
+    // Chunks whose write failed go out again with the next autosave
+    private synchronized void requeue(List<Long> keys) {
+        if (!finished) {
+            dirtyChunks.addAll(keys);
+        }
+    }
+
+    // The run is over, so there is nothing left to resume
+    public synchronized void clear() {
+        if (!enabled || finished) return;
+
+        finished = true;
+        restoredRun = null;
+        dirtyChunks.clear();
+        getWriter().submit(SnapshotManager::deleteSnapshot);
+    }
+
+    // Waits for the writes queued so far, for exiting the game
+    public void flush() {
+        if (!enabled) return;
+
+        try {
+            getWriter().submit(() -> {}).get(FLUSH_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            System.err.println("SnapshotManager: Error flushing run snapshot - " + e.getMessage());
+        }
+    }
+
+    private static void deleteSnapshot() {
+        FileHandle directory = Gdx.files.local(RUN_DIRECTORY);
+        if (directory.exists()) {
+            directory.deleteDirectory();
+        }
+    }
+
+    private static synchronized ExecutorService getWriter() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "SnapshotWriter");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return writer;
+    }
+
+    private static long key(int chunkX, int chunkY) {
+        return ((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL);
+    }
+
+    private static String chunkFileName(int chunkX, int chunkY) {
+        return RUN_DIRECTORY + "/chunk_" + chunkX + "_" + chunkY + ".dat";
+    }
+}
\ No newline at end of file
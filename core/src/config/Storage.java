@@ -164,67 +164,16 @@ public class Storage {
         assetManager.load("character/Dying.png", Texture.class);
         assetManager.load("character/Sprite-0002.png", Texture.class);
 
-        assetManager.load("character/Paladin/Walking.png", Texture.class);
-        assetManager.load("character/Paladin/Idle.png", Texture.class);
         assetManager.load("character/Paladin/Dying.png", Texture.class);
         assetManager.load("character/Paladin/Gobbo.png", Texture.class);
 
-        assetManager.load("character/Mercenary/Walking.png", Texture.class);
-        assetManager.load("character/Mercenary/Idle.png", Texture.class);
-        assetManager.load("character/Mercenary/Dying.png", Texture.class);
         assetManager.load("character/Mercenary/Mercenary.png", Texture.class);
 
-        assetManager.load("enemies/Mushie/Walking.png", Texture.class);
-        assetManager.load("enemies/Mushie/Idle.png", Texture.class);
+        // Animation strips are not loaded here, AnimationManager packs them into its own atlas
         assetManager.load("enemies/Mushie/Dying.png", Texture.class);
-        assetManager.load("enemies/Mushie/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/Skeleton/Walking.png", Texture.class);
-        assetManager.load("enemies/Skeleton/Idle.png", Texture.class);
-        assetManager.load("enemies/Skeleton/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/SkeletonRogue/Walking.png", Texture.class);
-        assetManager.load("enemies/SkeletonRogue/Idle.png", Texture.class);
-        assetManager.load("enemies/SkeletonRogue/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/SkeletonMage/Walking.png", Texture.class);
-        assetManager.load("enemies/SkeletonMage/Idle.png", Texture.class);
-        assetManager.load("enemies/SkeletonMage/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/Hedgehog/Walking.png", Texture.class);
-        assetManager.load("enemies/Hedgehog/Idle.png", Texture.class);
-        assetManager.load("enemies/Hedgehog/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/Lemmy/Walking.png", Texture.class);
-        assetManager.load("enemies/Lemmy/Idle.png", Texture.class);
-
-        assetManager.load("enemies/Wolfie/Walking.png", Texture.class);
-        assetManager.load("enemies/Wolfie/Idle.png", Texture.class);
-        assetManager.load("enemies/Wolfie/Attacking.png", Texture.class);
-        
-        assetManager.load("enemies/BossKitty/Walking.png", Texture.class);
-        assetManager.load("enemies/BossKitty/Dying.png", Texture.class);
         assetManager.load("enemies/BossKitty/Charg.png", Texture.class);
         assetManager.load("enemies/BossKitty/Kitty.png", Texture.class);
 
-        assetManager.load("enemies/Cyclops/Walking.png", Texture.class);
-        assetManager.load("enemies/Cyclops/Idle.png", Texture.class);
-        assetManager.load("enemies/Cyclops/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/Ghost/Walking.png", Texture.class);
-        assetManager.load("enemies/Ghost/Idle.png", Texture.class);
-        assetManager.load("enemies/Ghost/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/GhostBoss/Walking.png", Texture.class);
-        assetManager.load("enemies/GhostBoss/Idle.png", Texture.class);
-        assetManager.load("enemies/GhostBoss/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/Herman/SpecialAttack.png", Texture.class);
-        assetManager.load("enemies/Herman/Idle.png", Texture.class);
-        assetManager.load("enemies/Herman/Attacking.png", Texture.class);
-
-        assetManager.load("enemies/Merchant/Idle.png", Texture.class);
-        
         assetManager.load("enemy.png", Texture.class);
         assetManager.load("title.png", Texture.class);
         assetManager.load("white_pixel.png", Texture.class);
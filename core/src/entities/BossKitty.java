@@ -8,13 +8,16 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.utils.Array;
 
+import abilities.StatusEffectSlots;
 import config.Storage;
 import managers.AnimationManager;
 import managers.AnimationManager.State;
+import managers.BodyCommandBuffer;
 import managers.SoundManager;
 import ui.ScreenShake;
 
-public class BossKitty {
+public class BossKitty implements HostileEntity {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     public Rectangle bounds;
     private Body body;
     private final Player player;
@@ -23,6 +26,10 @@ public class BossKitty {
     private boolean markForRemoval = false;
     private boolean isMoving = false;
     private final AnimationManager animationManager;
+    private State animationState;
+    private int animation;
+    private float animationStart;
+    private final TextureRegion frameRegion = new TextureRegion();
     private boolean isFlipped = false;
     private boolean isStunned = false;
 
@@ -104,7 +111,20 @@ public class BossKitty {
         this.healthBarTexture = Storage.assetManager.get("tiles/green_tile.png", Texture.class);
         this.whitePixelTexture = Storage.assetManager.get("white_pixel.png", Texture.class);
 
-        getAnimationManager().setState(State.IDLE, "BossKitty");
+        setAnimationState(State.IDLE);
+    }
+
+    // Timed from the shared clock the player advances, like the player's own animation
+    private void setAnimationState(State state) {
+        if (animationState != state) {
+            animationState = state;
+            animation = animationManager.getAnimation(EnemyType.BOSS_KITTY, state);
+            animationStart = animationManager.getTime();
+        }
+    }
+
+    private TextureRegion getCurrentFrame() {
+        return animationManager.getKeyFrame(animation, animationManager.getTime() - animationStart);
     }
 
     public void update(float delta) {
@@ -114,8 +134,8 @@ public class BossKitty {
 
         if (isStunned) {
             body.setLinearVelocity(0, 0);
-//            if (getAnimationManager().getState("BossKitty") != State.IDLE) {
-//                getAnimationManager().setState(State.IDLE, "BossKitty");
+//            if (animationState != State.IDLE) {
+//                setAnimationState(State.IDLE);
 //            }
             bounds.setPosition(body.getPosition().x - bounds.width / 2f,
                     body.getPosition().y - bounds.height / 2f);
@@ -186,16 +206,16 @@ public class BossKitty {
                 moveTowardsPlayer();
                 isMoving = true;
 
-                if (getAnimationManager().getState("BossKitty") != State.RUNNING) {
-                    getAnimationManager().setState(State.RUNNING, "BossKitty");
+                if (animationState != State.RUNNING) {
+                    setAnimationState(State.RUNNING);
                 }
             }
         } else {
             body.setLinearVelocity(0, 0);
             isMoving = false;
 
-            if (getAnimationManager().getState("BossKitty") != State.IDLE) {
-                getAnimationManager().setState(State.IDLE, "BossKitty");
+            if (animationState != State.IDLE) {
+                setAnimationState(State.IDLE);
             }
         }
     }
@@ -215,7 +235,7 @@ public class BossKitty {
 
         body.setLinearVelocity(chargeDirection.x * CHARGE_SPEED, chargeDirection.y * CHARGE_SPEED);
 
-        getAnimationManager().setState(State.DYING, "BossKitty");
+        setAnimationState(State.DYING);
 
         System.out.println("Boss started CHARGE attack!");
     }
@@ -255,7 +275,7 @@ public class BossKitty {
         hasDealtDamage = false;
         body.setLinearVelocity(0, 0);
 
-        getAnimationManager().setState(State.RUNNING, "BossKitty");
+        setAnimationState(State.RUNNING);
         System.out.println("Boss CHARGE ended!");
     }
 
@@ -268,7 +288,7 @@ public class BossKitty {
         showMeleeIndicator = true;
         body.setLinearVelocity(0, 0);
 
-        getAnimationManager().setState(State.DYING, "BossKitty");
+        setAnimationState(State.DYING);
     }
 
     private void updateMeleeAttack(float delta) {
@@ -304,7 +324,7 @@ public class BossKitty {
         hasDealtDamage = false;
         showMeleeIndicator = false;
 
-        getAnimationManager().setState(State.RUNNING, "BossKitty");
+        setAnimationState(State.RUNNING);
     }
 
     private void startSpecialAbility() {
@@ -315,7 +335,7 @@ public class BossKitty {
         hasDealtDamage = false;
         body.setLinearVelocity(0, 0);
 
-        getAnimationManager().setState(State.DYING, "BossKitty");
+        setAnimationState(State.DYING);
     }
 
     private void updateSpecialAbility(float delta) {
@@ -340,7 +360,7 @@ public class BossKitty {
         specialAbilityCooldown = SPECIAL_ABILITY_COOLDOWN;
         hasDealtDamage = false;
 
-        getAnimationManager().setState(State.RUNNING, "BossKitty");
+        setAnimationState(State.RUNNING);
     }
 
     public void render(SpriteBatch batch) {
@@ -359,7 +379,8 @@ public class BossKitty {
         if (isJustHit) {
             batch.setColor(1f, 0.5f, 0.5f, 1f);
         }
-        TextureRegion currentFrame = new TextureRegion(getAnimationManager().getBossKittyCurrentFrame());
+        TextureRegion currentFrame = frameRegion;
+        currentFrame.setRegion(getCurrentFrame());
         currentFrame.flip(isFlipped, false);
         batch.draw(currentFrame, bounds.x, bounds.y, bounds.width, bounds.height);
         if (isJustHit) {
@@ -370,7 +391,7 @@ public class BossKitty {
     private void renderChargeTrail(SpriteBatch batch) {
         if (chargeTrailPoints.size == 0) return;
 
-        TextureRegion frame = getAnimationManager().getBossKittyCurrentFrame();
+        TextureRegion frame = getCurrentFrame();
         float size = bounds.width * 0.8f;
 
         for (TrailPoint point : chargeTrailPoints) {
@@ -494,7 +515,7 @@ public class BossKitty {
             hitFlashTimer = HIT_FLASH_DURATION;
 
             ScreenShake.rumble(0.6f, 0.3f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         }
 
         if (stats.isDead()) {
@@ -523,7 +544,7 @@ public class BossKitty {
 
     public void removeEnemies() {
         if (body != null) {
-            body.getWorld().destroyBody(body);
+            BodyCommandBuffer.getInstance().destroy(body);
             body = null;
         }
     }
@@ -544,6 +565,10 @@ public class BossKitty {
         return stats;
     }
 
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
     public boolean isAttacking() {
         return isAttacking || isCharging;
     }
@@ -571,4 +596,9 @@ public class BossKitty {
     }
 
     public boolean isStunned() { return isStunned; }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
\ No newline at end of file
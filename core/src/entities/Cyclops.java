@@ -7,13 +7,16 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
+import abilities.StatusEffectSlots;
 import config.Storage;
 import managers.AnimationManager;
 import managers.AnimationManager.State;
+import managers.BodyCommandBuffer;
 import managers.SoundManager;
 import ui.ScreenShake;
 
-public class Cyclops {
+public class Cyclops implements HostileEntity {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     public Rectangle bounds;
     private Body body;
     private final Player player;
@@ -22,6 +25,10 @@ public class Cyclops {
     private boolean markForRemoval = false;
     private boolean isMoving = false;
     private final AnimationManager animationManager;
+    private State animationState;
+    private int animation;
+    private float animationStart;
+    private final TextureRegion frameRegion = new TextureRegion();
     private boolean isFlipped = false;
     private boolean isStunned = false;
 
@@ -89,7 +96,20 @@ public class Cyclops {
         this.healthBarTexture = Storage.assetManager.get("tiles/green_tile.png", Texture.class);
         this.whitePixelTexture = Storage.assetManager.get("white_pixel.png", Texture.class);
 
-        getAnimationManager().setState(State.IDLE, "Cyclops");
+        setAnimationState(State.IDLE);
+    }
+
+    // Timed from the shared clock the player advances, like the player's own animation
+    private void setAnimationState(State state) {
+        if (animationState != state) {
+            animationState = state;
+            animation = animationManager.getAnimation(EnemyType.CYCLOPS, state);
+            animationStart = animationManager.getTime();
+        }
+    }
+
+    private TextureRegion getCurrentFrame() {
+        return animationManager.getKeyFrame(animation, animationManager.getTime() - animationStart);
     }
 
     public void update(float delta) {
@@ -99,8 +119,8 @@ public class Cyclops {
 
         if (isStunned) {
             body.setLinearVelocity(0, 0);
-            if (getAnimationManager().getState("Cyclops") != State.IDLE) {
-                getAnimationManager().setState(State.IDLE, "Cyclops");
+            if (animationState != State.IDLE) {
+                setAnimationState(State.IDLE);
             }
             bounds.setPosition(body.getPosition().x - bounds.width / 2f,
                     body.getPosition().y - bounds.height / 2f);
@@ -162,16 +182,16 @@ public class Cyclops {
                 moveTowardsPlayer();
                 isMoving = true;
 
-                if (getAnimationManager().getState("Cyclops") != State.RUNNING) {
-                    getAnimationManager().setState(State.RUNNING, "Cyclops");
+                if (animationState != State.RUNNING) {
+                    setAnimationState(State.RUNNING);
                 }
             }
         } else {
             body.setLinearVelocity(0, 0);
             isMoving = false;
 
-            if (getAnimationManager().getState("Cyclops") != State.IDLE) {
-                getAnimationManager().setState(State.IDLE, "Cyclops");
+            if (animationState != State.IDLE) {
+                setAnimationState(State.IDLE);
             }
         }
     }
@@ -186,7 +206,7 @@ public class Cyclops {
         currentPulseRadius = 0f;
         body.setLinearVelocity(0, 0);
 
-        getAnimationManager().setState(State.ATTACKING, "Cyclops");
+        setAnimationState(State.ATTACKING);
     }
 
     private void updateGroundPound(float delta) {
@@ -247,7 +267,7 @@ public class Cyclops {
         firstPulseDamageDealt = false;
         secondPulseDamageDealt = false;
 
-        getAnimationManager().setState(State.RUNNING, "Cyclops");
+        setAnimationState(State.RUNNING);
     }
 
     private void startMeleeAttack() {
@@ -258,7 +278,7 @@ public class Cyclops {
         showMeleeIndicator = true;
         body.setLinearVelocity(0, 0);
 
-        getAnimationManager().setState(State.ATTACKING, "Cyclops");
+        setAnimationState(State.ATTACKING);
     }
 
     private void updateMeleeAttack(float delta) {
@@ -294,7 +314,7 @@ public class Cyclops {
         hasDealtDamage = false;
         showMeleeIndicator = false;
 
-        getAnimationManager().setState(State.RUNNING, "Cyclops");
+        setAnimationState(State.RUNNING);
     }
 
     private void startSpecialAbility() {
@@ -305,7 +325,7 @@ public class Cyclops {
         hasDealtDamage = false;
         body.setLinearVelocity(0, 0);
 
-        getAnimationManager().setState(State.ATTACKING, "Cyclops");
+        setAnimationState(State.ATTACKING);
     }
 
     private void updateSpecialAbility(float delta) {
@@ -332,7 +352,7 @@ public class Cyclops {
         specialAbilityCooldown = SPECIAL_ABILITY_COOLDOWN;
         hasDealtDamage = false;
 
-        getAnimationManager().setState(State.RUNNING, "Cyclops");
+        setAnimationState(State.RUNNING);
     }
 
     public void render(SpriteBatch batch) {
@@ -354,7 +374,8 @@ public class Cyclops {
         if (isJustHit) {
             batch.setColor(1f, 0.5f, 0.5f, 1f);
         }
-        TextureRegion currentFrame = new TextureRegion(getAnimationManager().getCyclopsCurrentFrame());
+        TextureRegion currentFrame = frameRegion;
+        currentFrame.setRegion(getCurrentFrame());
         currentFrame.flip(isFlipped, false);
         batch.draw(currentFrame, bounds.x, bounds.y, bounds.width, bounds.height);
         if (isJustHit) {
@@ -517,7 +538,7 @@ public class Cyclops {
             hitFlashTimer = HIT_FLASH_DURATION;
 
             ScreenShake.rumble(0.6f, 0.3f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         }
 
         if (stats.isDead()) {
@@ -546,7 +567,7 @@ public class Cyclops {
 
     public void removeEnemies() {
         if (body != null) {
-            body.getWorld().destroyBody(body);
+            BodyCommandBuffer.getInstance().destroy(body);
             body = null;
         }
     }
@@ -567,6 +588,10 @@ public class Cyclops {
         return stats;
     }
 
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
     public boolean isAttacking() {
         return isAttacking || groundPoundPhase != GroundPoundPhase.NONE;
     }
@@ -595,4 +620,9 @@ public class Cyclops {
     }
 
     public boolean isStunned() { return isStunned; }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
\ No newline at end of file
@@ -5,21 +5,23 @@ import java.util.List;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
+import abilities.StatusEffectSlots;
 import config.Storage;
 import managers.AnimationManager;
 import managers.AnimationManager.State;
 import managers.Dungeon;
+import managers.ProjectileSystem;
 import managers.SoundManager;
 import ui.ScreenShake;
 
-public class DungeonEnemy {
+public class DungeonEnemy implements HostileEntity {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     public Rectangle bounds;
     private Body body;
     private final Player player;
@@ -32,7 +34,6 @@ public class DungeonEnemy {
     private boolean isMoving = false;
     private final AnimationManager animationManager;
     private boolean isFlipped = false;
-    private Projectile projectile;
     private boolean isKnockedBack = false;
     private float knockbackTimer = 0f;
     private Vector2 knockbackVelocity = new Vector2();
@@ -43,6 +44,7 @@ public class DungeonEnemy {
 
     private float animationTime = 0f;
     private State currentState = State.IDLE;
+    private int animation;
 
     private List<Vector2> currentPath;
     private int currentPathIndex = 0;
@@ -59,6 +61,7 @@ public class DungeonEnemy {
     private final Vector2[] velocityHistory = new Vector2[5];
     private int velocityHistoryIndex = 0;
     private Vector2 averageVelocity = new Vector2();
+    private final Vector2 moveDirection = new Vector2();
 
     private EnemyStats stats;
     private Texture healthBarTexture;
@@ -114,30 +117,12 @@ public class DungeonEnemy {
         // Load projectile textures
         loadProjectileTextures();
 
-        // Create pooled projectile if this is a ranged enemy
-        if (stats.getAttackType() == AttackType.RANGED) {
-            Texture projectileTexture = (enemyType == EnemyType.SKELETON_MAGE) ? fireballTexture : poisonBallTexture;
-            Color projectileColor = (enemyType == EnemyType.SKELETON_MAGE) ? MAGE_PROJECTILE_COLOR : MUSHIE_PROJECTILE_COLOR;
-
-            this.projectile = new Projectile(
-                    body.getWorld(),
-                    new Vector2(body.getPosition()),
-                    new Vector2(1, 0),
-                    stats.getProjectileSpeed(),
-                    stats.getAttackRange() * 2f,
-                    stats.getDamage(),
-                    projectileColor,
-                    this,
-                    projectileTexture
-            );
-            this.projectile.setActive(false);
-        }
-
         for (int i = 0; i < velocityHistory.length; i++) {
             velocityHistory[i] = new Vector2();
         }
 
         this.currentState = State.IDLE;
+        this.animation = animationManager.getAnimation(enemyType, State.IDLE);
         this.animationTime = 0f;
     }
 
@@ -182,25 +167,18 @@ public class DungeonEnemy {
     private void setState(State newState) {
         if (currentState != newState) {
             currentState = newState;
+            animation = animationManager.getAnimation(enemyType, newState);
             animationTime = 0f;
         }
     }
 
     private TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
-            return animation.getKeyFrame(animationTime, loop);
-        }
-        return null;
+        boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
+        return animationManager.getKeyFrame(animation, animationTime, loop);
     }
 
     private boolean isCurrentAnimationFinished() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            return animation.isAnimationFinished(animationTime);
-        }
-        return true;
+        return animationManager.isAnimationFinished(animation, animationTime);
     }
 
     public void update(float delta) {
@@ -270,8 +248,6 @@ public class DungeonEnemy {
             updateMovement(delta);
         }
 
-        updateProjectile(delta);
-
         isFlipped = body.getPosition().x > player.getBody().getPosition().x;
         updateStuckDetection(delta);
     }
@@ -310,10 +286,9 @@ public class DungeonEnemy {
         }
         averageVelocity.scl(1f / velocityHistory.length);
 
-        float distanceMoved = currentPos.dst(lastPosition);
-        boolean tryingToMove = averageVelocity.len() > 15f;
+        boolean tryingToMove = averageVelocity.len2() > 15f * 15f;
 
-        if (tryingToMove && distanceMoved < STUCK_DISTANCE) {
+        if (tryingToMove && currentPos.dst2(lastPosition) < STUCK_DISTANCE * STUCK_DISTANCE) {
             stuckTimer += delta;
         } else {
             stuckTimer = Math.max(0, stuckTimer - delta * 2f);
@@ -434,7 +409,7 @@ public class DungeonEnemy {
         }
         Vector2 currentPos = body.getPosition();
         Vector2 targetNode = currentPath.get(currentPathIndex);
-        return currentPos.dst(targetNode) > 50f;
+        return currentPos.dst2(targetNode) > 50f * 50f;
     }
 
     private void updateAttack(float delta) {
@@ -488,33 +463,15 @@ public class DungeonEnemy {
     }
 
     private void fireProjectile() {
-        if (projectile == null) return;
-
-        Vector2 startPos = new Vector2(body.getPosition());
+        Vector2 startPos = body.getPosition();
         Vector2 playerPos = player.getPosition();
-        Vector2 direction = new Vector2(playerPos.x - startPos.x, playerPos.y - startPos.y).nor();
-
-        // Reset and reuse the pooled projectile
-        projectile.reset(startPos, direction);
-    }
-
-    private void updateProjectile(float delta) {
-        if (projectile == null || !projectile.isActive()) return;
-
-        projectile.update(delta);
-
-        if (!projectile.isMarkedForRemoval() && projectile.getPosition() != null) {
-            float dist = projectile.getPosition().dst(player.getPosition());
-            if (dist < 10f) {
-                player.getStats().takeDamage(projectile.getDamage());
-                player.onTakeDamage();
-                projectile.setActive(false);
-            }
-        }
+        boolean mage = enemyType == EnemyType.SKELETON_MAGE;
 
-        if (projectile.isMarkedForRemoval()) {
-            projectile.setActive(false);
-        }
+        ProjectileSystem.getInstance().fire(startPos.x, startPos.y,
+                playerPos.x - startPos.x, playerPos.y - startPos.y,
+                stats.getProjectileSpeed(), stats.getAttackRange() * 2f, stats.getDamage(),
+                mage ? MAGE_PROJECTILE_COLOR : MUSHIE_PROJECTILE_COLOR,
+                mage ? fireballTexture : poisonBallTexture);
     }
 
     private boolean canDamagePlayer() {
@@ -553,10 +510,11 @@ public class DungeonEnemy {
 
     private void startChargeAttack() {
         Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-        Vector2 direction = new Vector2(playerPosition.x - enemyPosition.x,
+        Vector2 enemyPosition = body.getPosition();
+        moveDirection.set(playerPosition.x - enemyPosition.x,
                 playerPosition.y - enemyPosition.y).nor();
-        body.setLinearVelocity(direction.scl(stats.getChargeSpeed()));
+        float chargeSpeed = stats.getChargeSpeed();
+        body.setLinearVelocity(moveDirection.x * chargeSpeed, moveDirection.y * chargeSpeed);
     }
 
     private void endAttack() {
@@ -575,11 +533,13 @@ public class DungeonEnemy {
         }
     }
 
+    private float distanceToPlayerSquared() {
+        return body.getPosition().dst2(player.getPosition());
+    }
+
     private boolean isPlayerInAttackRange() {
-        Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-        float distance = playerPosition.dst(enemyPosition);
-        return distance <= stats.getAttackRange();
+        float range = stats.getAttackRange();
+        return distanceToPlayerSquared() <= range * range;
     }
 
     private boolean isPlayerInAttackCone() {
@@ -588,26 +548,21 @@ public class DungeonEnemy {
         }
 
         Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
+        Vector2 enemyPosition = body.getPosition();
+        float dx = playerPosition.x - enemyPosition.x;
+        float dy = playerPosition.y - enemyPosition.y;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
 
-        Vector2 toPlayer = new Vector2(
-                playerPosition.x - enemyPosition.x,
-                playerPosition.y - enemyPosition.y
-        ).nor();
-
-        Vector2 facingDirection = new Vector2(isFlipped ? -1 : 1, 0);
-
-        float dotProduct = toPlayer.dot(facingDirection);
+        // Facing is always along x, so the dot product with the normalized direction is just its x component
+        float dotProduct = length > 0 ? (isFlipped ? -dx : dx) / length : 0f;
         float angleToPlayer = (float) Math.toDegrees(Math.acos(Math.min(1f, Math.max(-1f, dotProduct))));
 
         return angleToPlayer <= stats.getAttackConeAngle();
     }
 
     private boolean isPlayerInAoeRange() {
-        Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-        float distance = playerPosition.dst(enemyPosition);
-        return distance <= stats.getAoeRadius();
+        float radius = stats.getAoeRadius();
+        return distanceToPlayerSquared() <= radius * radius;
     }
 
     private boolean wasPlayerHitDuringCharge() {
@@ -626,7 +581,7 @@ public class DungeonEnemy {
             int closestIndex = 0;
 
             for (int i = 0; i < currentPath.size(); i++) {
-                float dist = enemyPos.dst(currentPath.get(i));
+                float dist = enemyPos.dst2(currentPath.get(i));
                 if (dist < closestDist) {
                     closestDist = dist;
                     closestIndex = i;
@@ -656,7 +611,7 @@ public class DungeonEnemy {
             distanceToNode = currentPos.dst(targetNode);
         }
 
-        Vector2 direction = new Vector2(targetNode.x - currentPos.x,
+        moveDirection.set(targetNode.x - currentPos.x,
                 targetNode.y - currentPos.y).nor();
 
         float adjustedSpeed = speed;
@@ -665,12 +620,11 @@ public class DungeonEnemy {
             adjustedSpeed = Math.max(adjustedSpeed, speed * 0.5f);
         }
 
-        body.setLinearVelocity(direction.scl(adjustedSpeed));
+        body.setLinearVelocity(moveDirection.x * adjustedSpeed, moveDirection.y * adjustedSpeed);
     }
 
     private void attemptDirectMovement() {
-        Vector2 targetPosition = new Vector2(player.getPosition().x + 10, player.getPosition().y + 10);
-        body.setTransform(targetPosition, 1f);
+        body.setTransform(player.getPosition().x + 10, player.getPosition().y + 10, 1f);
     }
 
     public void render(SpriteBatch batch) {
@@ -696,11 +650,6 @@ public class DungeonEnemy {
             }
 
             renderHealthBar(batch);
-
-            // Render projectile if active
-            if (projectile != null && projectile.isActive()) {
-                projectile.render(batch);
-            }
         }
     }
 
@@ -749,14 +698,10 @@ public class DungeonEnemy {
         Vector2 enemyPos = body.getPosition();
         Vector2 playerPos = player.getPosition();
 
-        Vector2 knockbackDir = new Vector2(
-                enemyPos.x - playerPos.x,
-                enemyPos.y - playerPos.y
-        );
+        knockbackVelocity.set(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
 
-        if (knockbackDir.len() > 0) {
-            knockbackDir.nor();
-            knockbackVelocity.set(knockbackDir.x * KNOCKBACK_FORCE, knockbackDir.y * KNOCKBACK_FORCE);
+        if (!knockbackVelocity.isZero()) {
+            knockbackVelocity.nor().scl(KNOCKBACK_FORCE);
             isKnockedBack = true;
             knockbackTimer = KNOCKBACK_DURATION;
         }
@@ -770,7 +715,7 @@ public class DungeonEnemy {
 
             applyKnockback();
             ScreenShake.rumble(0.6f, 0.3f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
 
         }
 
@@ -795,10 +740,6 @@ public class DungeonEnemy {
     }
 
     public void dispose() {
-        // Projectile body is destroyed by World, just clear reference
-        if (projectile != null) {
-            projectile = null;
-        }
     }
 
     public void markForRemoval() {
@@ -830,10 +771,7 @@ public class DungeonEnemy {
     }
 
     private boolean isPlayerInRadius() {
-        Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-        float distance = playerPosition.dst(enemyPosition);
-        return distance <= detectionRadius;
+        return distanceToPlayerSquared() <= detectionRadius * detectionRadius;
     }
 
     public void setStunned(boolean stunned) {
@@ -843,13 +781,14 @@ public class DungeonEnemy {
         }
     }
 
-    public Projectile getProjectile() {
-        return projectile;
-    }
-
     public boolean isStunned() { return isStunned; }
 
     public Rectangle getBounds() {
         return bounds;
     }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
\ No newline at end of file
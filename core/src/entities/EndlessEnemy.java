@@ -2,20 +2,22 @@ package entities;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
+import abilities.StatusEffectSlots;
 import config.Storage;
 import managers.AnimationManager;
 import managers.AnimationManager.State;
+import managers.ProjectileSystem;
 import managers.SoundManager;
 import ui.ScreenShake;
 
-public class EndlessEnemy {
+public class EndlessEnemy implements HostileEntity {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     public Rectangle bounds;
     private Body body;
     private final Player player;
@@ -29,6 +31,7 @@ public class EndlessEnemy {
     private boolean isKnockedBack = false;
     private float knockbackTimer = 0f;
     private Vector2 knockbackVelocity = new Vector2();
+    private final Vector2 moveDirection = new Vector2();
     private static final float KNOCKBACK_DURATION = 0.15f;
     private static final float KNOCKBACK_FORCE = 150f;
 
@@ -36,6 +39,7 @@ public class EndlessEnemy {
 
     private float animationTime = 0f;
     private State currentState = State.IDLE;
+    private int animation;
 
     private EnemyStats stats;
     private Texture healthBarTexture;
@@ -45,8 +49,12 @@ public class EndlessEnemy {
     private boolean isAttacking = false;
     private float attackTimer = 0f;
 
-    private Projectile projectile;
+    private boolean isRanged;
     private Texture projectileTexture;
+    private Color projectileColor;
+    private static final Color MUSHIE_PROJECTILE_COLOR = new Color(0.5f, 0.8f, 0.3f, 1f);
+    private static final Color MAGE_PROJECTILE_COLOR = new Color(1f, 0.5f, 0.1f, 1f);
+    private static final Color GHOST_PROJECTILE_COLOR = new Color(0.5f, 0.2f, 0.8f, 1f);
 
     private boolean isJustHit = false;
     private float hitFlashTimer = 0f;
@@ -56,17 +64,35 @@ public class EndlessEnemy {
                         AnimationManager animationManager, EnemyStats stats, EnemyType enemyType) {
         this.animationManager = animationManager;
         this.bounds = bounds;
-        this.body = body;
         this.player = player;
         this.stats = stats;
-        this.enemyType = enemyType;
 
         this.healthBarTexture = Storage.assetManager.get("tiles/green_tile.png", Texture.class);
 
-        boolean isRanged = (enemyType == EnemyType.MUSHIE ||
+        configure(body, enemyType);
+    }
+
+    // Brings a pooled enemy back to life with a new body, stats copied from the template and a fresh state
+    public void respawn(Body body, EnemyStats template, EnemyType enemyType) {
+        stats.copyFrom(template);
+        configure(body, enemyType);
+    }
+
+    private void configure(Body body, EnemyType enemyType) {
+        this.body = body;
+        this.enemyType = enemyType;
+
+        if (body != null) {
+            bounds.setPosition(body.getPosition().x - bounds.width / 2f,
+                    body.getPosition().y - bounds.height / 2f);
+        }
+
+        this.isRanged = (enemyType == EnemyType.MUSHIE ||
                 enemyType == EnemyType.SKELETON_MAGE ||
                 enemyType == EnemyType.GHOST);
 
+        this.projectileTexture = null;
+        this.projectileColor = Color.WHITE;
         if (isRanged) {
             try {
                 if (enemyType == EnemyType.MUSHIE) {
@@ -78,49 +104,44 @@ public class EndlessEnemy {
                 this.projectileTexture = null;
             }
 
-            Color projectileColor;
             if (enemyType == EnemyType.MUSHIE) {
-                projectileColor = new Color(0.5f, 0.8f, 0.3f, 1f);
+                projectileColor = MUSHIE_PROJECTILE_COLOR;
             } else if (enemyType == EnemyType.SKELETON_MAGE) {
-                projectileColor = new Color(1f, 0.5f, 0.1f, 1f);
+                projectileColor = MAGE_PROJECTILE_COLOR;
             } else if (enemyType == EnemyType.GHOST) {
-                projectileColor = new Color(0.5f, 0.2f, 0.8f, 1f);
-            } else {
-                projectileColor = Color.WHITE;
+                projectileColor = GHOST_PROJECTILE_COLOR;
             }
-
-            this.projectile = new Projectile(
-                    body.getWorld(),
-                    new Vector2(body.getPosition()),
-                    new Vector2(1, 0),
-                    stats.getProjectileSpeed(),
-                    stats.getAttackRange(),
-                    stats.getDamage(),
-                    projectileColor,
-                    this,
-                    projectileTexture
-            );
-            this.projectile.setActive(false);
         }
 
+        markForRemoval = false;
+        isMoving = false;
+        isFlipped = false;
+        isStunned = false;
+        isKnockedBack = false;
+        knockbackTimer = 0f;
+        knockbackVelocity.setZero();
+        attackCooldown = 0f;
+        isAttacking = false;
+        attackTimer = 0f;
+        isJustHit = false;
+        hitFlashTimer = 0f;
+
         this.currentState = State.IDLE;
+        this.animation = animationManager.getAnimation(enemyType, State.IDLE);
         this.animationTime = 0f;
     }
 
     private void setState(State newState) {
         if (currentState != newState) {
             currentState = newState;
+            animation = animationManager.getAnimation(enemyType, newState);
             animationTime = 0f;
         }
     }
 
     private TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
-            return animation.getKeyFrame(animationTime, loop);
-        }
-        return null;
+        boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
+        return animationManager.getKeyFrame(animation, animationTime, loop);
     }
 
     public void update(float delta) {
@@ -179,8 +200,6 @@ public class EndlessEnemy {
             attackCooldown -= delta;
         }
 
-        updateProjectile(delta);
-
         isFlipped = body.getPosition().x > player.getBody().getPosition().x;
 
         bounds.setPosition(body.getPosition().x - bounds.width / 2f,
@@ -189,11 +208,12 @@ public class EndlessEnemy {
         if (isAttacking) {
             updateAttack(delta);
         } else if (isPlayerInRadius()) {
-            float distanceToPlayer = getDistanceToPlayer();
+            float distanceSquared = getDistanceToPlayerSquared();
+            float attackRange = stats.getAttackRange();
 
-            if (attackCooldown <= 0 && distanceToPlayer <= stats.getAttackRange()) {
+            if (attackCooldown <= 0 && distanceSquared <= attackRange * attackRange) {
                 startAttack();
-            } else if (distanceToPlayer > stats.getAttackRange() * 0.8f) {
+            } else if (distanceSquared > (attackRange * 0.8f) * (attackRange * 0.8f)) {
                 moveTowardsPlayer();
                 isMoving = true;
 
@@ -254,31 +274,34 @@ public class EndlessEnemy {
     }
 
     private void fireProjectile() {
-        if (projectile == null) return;
+        if (!isRanged) return;
 
-        Vector2 enemyPos = new Vector2(body.getPosition().x, body.getPosition().y);
+        Vector2 enemyPos = body.getPosition();
         Vector2 playerPos = player.getPosition();
-        Vector2 direction = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
 
-        projectile.reset(enemyPos, direction);
+        ProjectileSystem.getInstance().fire(enemyPos.x, enemyPos.y,
+                playerPos.x - enemyPos.x, playerPos.y - enemyPos.y,
+                stats.getProjectileSpeed(), stats.getAttackRange(), stats.getDamage(),
+                projectileColor, projectileTexture);
     }
 
     private void meleeDamagePlayer() {
-        float dist = getDistanceToPlayer();
-        if (dist <= stats.getAttackRange()) {
+        float range = stats.getAttackRange();
+        if (getDistanceToPlayerSquared() <= range * range) {
             damagePlayer();
         }
     }
 
     private void conalDamagePlayer() {
-        Vector2 enemyPos = new Vector2(body.getPosition().x, body.getPosition().y);
+        Vector2 enemyPos = body.getPosition();
         Vector2 playerPos = player.getPosition();
-        Vector2 toPlayer = new Vector2(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y);
-        float dist = toPlayer.len();
+        float dx = playerPos.x - enemyPos.x;
+        float dy = playerPos.y - enemyPos.y;
+        float dist = (float) Math.sqrt(dx * dx + dy * dy);
 
         if (dist <= stats.getAttackRange()) {
-            Vector2 facing = new Vector2(isFlipped ? -1 : 1, 0);
-            float dot = toPlayer.nor().dot(facing);
+            // Facing is always along x, so the dot product with the normalized direction is just its x component
+            float dot = dist > 0 ? (isFlipped ? -dx : dx) / dist : 0f;
             float angleThreshold = (float) Math.cos(Math.toRadians(stats.getAttackConeAngle() / 2f));
 
             if (dot > angleThreshold) {
@@ -288,8 +311,8 @@ public class EndlessEnemy {
     }
 
     private void aoeDamagePlayer() {
-        float dist = getDistanceToPlayer();
-        if (dist <= stats.getAoeRadius() / 3) {
+        float radius = stats.getAoeRadius() / 3;
+        if (getDistanceToPlayerSquared() <= radius * radius) {
             damagePlayer();
         }
     }
@@ -307,34 +330,9 @@ public class EndlessEnemy {
         setState(State.IDLE);
     }
 
-    private void updateProjectile(float delta) {
-        if (projectile == null || !projectile.isActive()) return;
-
-        projectile.update(delta);
-
-        if (!projectile.isMarkedForRemoval() && projectile.getPosition() != null) {
-            float dist = projectile.getPosition().dst(player.getPosition());
-            if (dist < 10f) {
-                if (!player.isInvulnerable()) {
-                    player.getStats().takeDamage(projectile.getDamage());
-                    player.onTakeDamage();
-                }
-                projectile.setActive(false);
-            }
-        }
-
-        if (projectile.isMarkedForRemoval()) {
-            projectile.setActive(false);
-        }
-    }
-
     public void render(SpriteBatch batch) {
         if (markForRemoval) return;
 
-        if (projectile != null && projectile.isActive()) {
-            projectile.render(batch);
-        }
-
         TextureRegion currentFrame = getCurrentFrame();
         if (currentFrame != null) {
             TextureRegion frame = new TextureRegion(currentFrame);
@@ -373,24 +371,22 @@ public class EndlessEnemy {
         batch.setColor(1f, 1f, 1f, 1f);
     }
 
-    private float getDistanceToPlayer() {
-        Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-        return playerPosition.dst(enemyPosition);
+    private float getDistanceToPlayerSquared() {
+        return body.getPosition().dst2(player.getPosition());
     }
 
     private boolean isPlayerInRadius() {
-        return getDistanceToPlayer() <= detectionRadius;
+        return getDistanceToPlayerSquared() <= detectionRadius * detectionRadius;
     }
 
     private void moveTowardsPlayer() {
         Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
+        Vector2 enemyPosition = body.getPosition();
 
-        Vector2 direction = new Vector2(playerPosition.x - enemyPosition.x,
+        moveDirection.set(playerPosition.x - enemyPosition.x,
                 playerPosition.y - enemyPosition.y).nor();
 
-        body.setLinearVelocity(direction.scl(speed));
+        body.setLinearVelocity(moveDirection.x * speed, moveDirection.y * speed);
     }
 
     private void applyKnockback() {
@@ -399,14 +395,10 @@ public class EndlessEnemy {
         Vector2 enemyPos = body.getPosition();
         Vector2 playerPos = player.getPosition();
 
-        Vector2 knockbackDir = new Vector2(
-                enemyPos.x - playerPos.x,
-                enemyPos.y - playerPos.y
-        );
+        knockbackVelocity.set(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
 
-        if (knockbackDir.len() > 0) {
-            knockbackDir.nor();
-            knockbackVelocity.set(knockbackDir.x * KNOCKBACK_FORCE, knockbackDir.y * KNOCKBACK_FORCE);
+        if (!knockbackVelocity.isZero()) {
+            knockbackVelocity.nor().scl(KNOCKBACK_FORCE);
             isKnockedBack = true;
             knockbackTimer = KNOCKBACK_DURATION;
         }
@@ -420,7 +412,7 @@ public class EndlessEnemy {
 
             applyKnockback();
             ScreenShake.rumble(0.6f, 0.3f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         }
 
         if (stats.isDead()) {
@@ -433,9 +425,6 @@ public class EndlessEnemy {
     }
 
     public void dispose() {
-        if (projectile != null) {
-            projectile = null;
-        }
     }
 
     public void markForRemoval() {
@@ -454,12 +443,12 @@ public class EndlessEnemy {
         return stats;
     }
 
-    public boolean isAttacking() {
-        return isAttacking;
+    public Rectangle getBounds() {
+        return bounds;
     }
 
-    public Projectile getProjectile() {
-        return projectile;
+    public boolean isAttacking() {
+        return isAttacking;
     }
 
     public EnemyType getEnemyType() {
@@ -480,4 +469,9 @@ public class EndlessEnemy {
     public boolean isStunned() {
         return isStunned;
     }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
\ No newline at end of file
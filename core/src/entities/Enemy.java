@@ -2,20 +2,24 @@ package entities;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
+import abilities.StatusEffectSlots;
 import config.Storage;
 import managers.AnimationManager;
 import managers.AnimationManager.State;
+import managers.BodyCommandBuffer;
+import managers.ProjectileSystem;
+import managers.RenderQueue;
 import managers.SoundManager;
 import ui.ScreenShake;
 
-public class Enemy {
+public class Enemy implements HostileEntity, RenderQueue.Drawable {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     public Rectangle bounds;
     private final Texture texture;
     private Body body;
@@ -23,6 +27,8 @@ public class Enemy {
     private final float detectionRadius = 150f;
     private final float speed = 70f;
     private boolean isStunned = false;
+    private boolean isDormant = false;
+    private int spawnIndex = -1;
     private boolean markForRemoval = false;
     private boolean isMoving = false;
     private final AnimationManager animationManager;
@@ -37,6 +43,7 @@ public class Enemy {
 
     private float animationTime = 0f;
     private State currentState = State.IDLE;
+    private int animation;
 
     private EnemyStats stats;
     private Texture healthBarTexture;
@@ -46,7 +53,6 @@ public class Enemy {
     private boolean isAttacking = false;
     private boolean hasDealtDamage = false;
 
-    private Projectile projectile;
     private static final Color MUSHIE_PROJECTILE_COLOR = new Color(0.2f, 0.8f, 0.2f, 1f);
 
     private static Texture poisonBallTexture;
@@ -55,6 +61,7 @@ public class Enemy {
     private float hitFlashTimer = 0f;
     private static final float HIT_FLASH_DURATION = 0.3f;
     private Vector2 attackDirection = new Vector2();
+    private final Vector2 moveDirection = new Vector2();
 
     public Enemy(Rectangle bounds, Texture texture, Body body, Player player,
                  AnimationManager animationManager, EnemyStats stats, EnemyType enemyType) {
@@ -71,22 +78,8 @@ public class Enemy {
 
         loadProjectileTextures();
 
-        if (stats.getAttackType() == AttackType.RANGED) {
-            this.projectile = new Projectile(
-                    body.getWorld(),
-                    new Vector2(body.getPosition()),
-                    new Vector2(1, 0),
-                    stats.getProjectileSpeed(),
-                    stats.getAttackRange() * 2f,
-                    stats.getDamage(),
-                    MUSHIE_PROJECTILE_COLOR,
-                    this,
-                    poisonBallTexture
-            );
-            this.projectile.setActive(false);
-        }
-
         this.currentState = State.IDLE;
+        this.animation = animationManager.getAnimation(enemyType, State.IDLE);
         this.animationTime = 0f;
     }
 
@@ -103,25 +96,18 @@ public class Enemy {
     private void setState(State newState) {
         if (currentState != newState) {
             currentState = newState;
+            animation = animationManager.getAnimation(enemyType, newState);
             animationTime = 0f;
         }
     }
 
     private TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
-            return animation.getKeyFrame(animationTime, loop);
-        }
-        return null;
+        boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
+        return animationManager.getKeyFrame(animation, animationTime, loop);
     }
 
     private boolean isCurrentAnimationFinished() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            return animation.isAnimationFinished(animationTime);
-        }
-        return true;
+        return animationManager.isAnimationFinished(animation, animationTime);
     }
 
     public void update(float delta) {
@@ -186,8 +172,6 @@ public class Enemy {
             updateMovement(delta);
         }
 
-        updateProjectile(delta);
-
         bounds.setPosition(body.getPosition().x - bounds.width / 2f,
                 body.getPosition().y - bounds.height / 2f);
 
@@ -290,38 +274,18 @@ public class Enemy {
 
     private void updateAttackDirection() {
         Vector2 playerPos = player.getPosition();
-        Vector2 enemyPos = new Vector2(body.getPosition().x, body.getPosition().y);
+        Vector2 enemyPos = body.getPosition();
         attackDirection.set(playerPos.x - enemyPos.x, playerPos.y - enemyPos.y).nor();
     }
 
     private void fireProjectile() {
-        if (projectile == null) return;
-
-        Vector2 startPos = new Vector2(body.getPosition());
+        Vector2 startPos = body.getPosition();
         Vector2 playerPos = player.getPosition();
-        Vector2 direction = new Vector2(playerPos.x - startPos.x, playerPos.y - startPos.y).nor();
 
-        // Reset and reuse the pooled projectile
-        projectile.reset(startPos, direction);
-    }
-
-    private void updateProjectile(float delta) {
-        if (projectile == null || !projectile.isActive()) return;
-
-        projectile.update(delta);
-
-        if (!projectile.isMarkedForRemoval() && projectile.getPosition() != null) {
-            float dist = projectile.getPosition().dst(player.getPosition());
-            if (dist < 10f) {
-                player.getStats().takeDamage(projectile.getDamage());
-                player.onTakeDamage();
-                projectile.setActive(false);
-            }
-        }
-
-        if (projectile.isMarkedForRemoval()) {
-            projectile.setActive(false);
-        }
+        ProjectileSystem.getInstance().fire(startPos.x, startPos.y,
+                playerPos.x - startPos.x, playerPos.y - startPos.y,
+                stats.getProjectileSpeed(), stats.getAttackRange() * 2f, stats.getDamage(),
+                MUSHIE_PROJECTILE_COLOR, poisonBallTexture);
     }
 
     private void endAttack() {
@@ -333,12 +297,13 @@ public class Enemy {
     }
 
 
-    private boolean isPlayerInAttackRange() {
-        Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
+    private float distanceToPlayerSquared() {
+        return body.getPosition().dst2(player.getPosition());
+    }
 
-        float distance = playerPosition.dst(enemyPosition);
-        return distance <= stats.getAttackRange();
+    private boolean isPlayerInAttackRange() {
+        float range = stats.getAttackRange();
+        return distanceToPlayerSquared() <= range * range;
     }
 
     private boolean isPlayerInAttackCone() {
@@ -347,27 +312,21 @@ public class Enemy {
         }
 
         Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-
-        Vector2 toPlayer = new Vector2(
-                playerPosition.x - enemyPosition.x,
-                playerPosition.y - enemyPosition.y
-        ).nor();
-
-        Vector2 facingDirection = new Vector2(isFlipped ? -1 : 1, 0);
+        Vector2 enemyPosition = body.getPosition();
+        float dx = playerPosition.x - enemyPosition.x;
+        float dy = playerPosition.y - enemyPosition.y;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
 
-        float dotProduct = toPlayer.dot(facingDirection);
+        // Facing is always along x, so the dot product with the normalized direction is just its x component
+        float dotProduct = length > 0 ? (isFlipped ? -dx : dx) / length : 0f;
         float angleToPlayer = (float) Math.toDegrees(Math.acos(Math.min(1f, Math.max(-1f, dotProduct))));
 
         return angleToPlayer <= stats.getAttackConeAngle();
     }
 
     private boolean isPlayerInAoeRange() {
-        Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-
-        float distance = playerPosition.dst(enemyPosition);
-        return distance <= stats.getAoeRadius();
+        float radius = stats.getAoeRadius();
+        return distanceToPlayerSquared() <= radius * radius;
     }
 
     private boolean wasPlayerHitDuringCharge() {
@@ -398,11 +357,6 @@ public class Enemy {
 
             // Render health bar
             renderHealthBar(batch);
-
-            // Render projectile if active
-            if (projectile != null && projectile.isActive()) {
-                projectile.render(batch);
-            }
         }
     }
 
@@ -432,14 +386,10 @@ public class Enemy {
         Vector2 enemyPos = body.getPosition();
         Vector2 playerPos = player.getPosition();
 
-        Vector2 knockbackDir = new Vector2(
-                enemyPos.x - playerPos.x,
-                enemyPos.y - playerPos.y
-        );
+        knockbackVelocity.set(enemyPos.x - playerPos.x, enemyPos.y - playerPos.y);
 
-        if (knockbackDir.len() > 0) {
-            knockbackDir.nor();
-            knockbackVelocity.set(knockbackDir.x * KNOCKBACK_FORCE, knockbackDir.y * KNOCKBACK_FORCE);
+        if (!knockbackVelocity.isZero()) {
+            knockbackVelocity.nor().scl(KNOCKBACK_FORCE);
             isKnockedBack = true;
             knockbackTimer = KNOCKBACK_DURATION;
         }
@@ -453,7 +403,7 @@ public class Enemy {
 
             applyKnockback();
             ScreenShake.rumble(0.6f, 0.3f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         }
 
         if (stats.isDead()) {
@@ -473,14 +423,11 @@ public class Enemy {
     }
 
     public void dispose() {
-        if (projectile != null) {
-            projectile = null;
-        }
     }
 
     public void removeEnemies() {
         if (body != null) {
-            body.getWorld().destroyBody(body);
+            BodyCommandBuffer.getInstance().destroy(body);
             body = null;
         }
     }
@@ -508,6 +455,10 @@ public class Enemy {
         return stats;
     }
 
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
     public boolean isAttacking() {
         return isAttacking;
     }
@@ -521,22 +472,17 @@ public class Enemy {
     }
 
     private boolean isPlayerInRadius() {
-        Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-
-        float distance = playerPosition.dst(enemyPosition);
-
-        return distance <= detectionRadius;
+        return distanceToPlayerSquared() <= detectionRadius * detectionRadius;
     }
 
     private void moveTowardsPlayer() {
         Vector2 playerPosition = player.getPosition();
-        Vector2 enemyPosition = new Vector2(body.getPosition().x, body.getPosition().y);
+        Vector2 enemyPosition = body.getPosition();
 
-        Vector2 direction = new Vector2(playerPosition.x - enemyPosition.x,
+        moveDirection.set(playerPosition.x - enemyPosition.x,
                 playerPosition.y - enemyPosition.y).nor();
 
-        body.setLinearVelocity(direction.scl(speed));
+        body.setLinearVelocity(moveDirection.x * speed, moveDirection.y * speed);
     }
 
     public void setStunned(boolean stunned) {
@@ -550,9 +496,18 @@ public class Enemy {
         return animationManager;
     }
 
-    public Projectile getProjectile() {
-        return projectile;
-    }
-
     public boolean isStunned() { return isStunned; }
+
+    // Set by ActivationRegion while the enemy is too far from the player to be simulated
+    public void setDormant(boolean dormant) { this.isDormant = dormant; }
+    public boolean isDormant() { return isDormant; }
+
+    // Position in its chunk's spawn list, which is how a snapshot remembers it was killed
+    public void setSpawnIndex(int spawnIndex) { this.spawnIndex = spawnIndex; }
+    public int getSpawnIndex() { return spawnIndex; }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
\ No newline at end of file
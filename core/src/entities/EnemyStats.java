@@ -8,7 +8,7 @@ public class EnemyStats {
     private int defense;
     private int expReward;
     private int level;
-    private String lootTableType;
+    private LootTableType lootTableType;
 
     // Attack attributes
     private float attackCooldown;
@@ -21,10 +21,10 @@ public class EnemyStats {
     private float chargeSpeed;
 
     public EnemyStats(String enemyName, int level) {
-        this(enemyName, level, AttackType.MELEE, "basic_enemy");
+        this(enemyName, level, AttackType.MELEE, LootTableType.BASIC_ENEMY);
     }
 
-    public EnemyStats(String enemyName, int level, AttackType attackType, String lootTableType) {
+    public EnemyStats(String enemyName, int level, AttackType attackType, LootTableType lootTableType) {
         this.enemyName = enemyName;
         this.level = level;
         this.attackType = attackType;
@@ -86,7 +86,7 @@ public class EnemyStats {
     }
 
     public EnemyStats(String enemyName, int maxHealth, int damage, int defense,
-                      int expReward, int level, AttackType attackType, String lootTableType,
+                      int expReward, int level, AttackType attackType, LootTableType lootTableType,
                       float attackCooldown, float attackRange, float attackSpeed,
                       float attackConeAngle, float aoeRadius, float projectileSpeed, float chargeSpeed) {
         this.enemyName = enemyName;
@@ -107,6 +107,26 @@ public class EnemyStats {
         this.chargeSpeed = chargeSpeed;
     }
 
+    // Copies every attribute from the template and restores full health, for pooled enemies
+    public void copyFrom(EnemyStats template) {
+        this.enemyName = template.enemyName;
+        this.maxHealth = template.maxHealth;
+        this.currentHealth = template.maxHealth;
+        this.damage = template.damage;
+        this.defense = template.defense;
+        this.expReward = template.expReward;
+        this.level = template.level;
+        this.attackType = template.attackType;
+        this.lootTableType = template.lootTableType;
+        this.attackCooldown = template.attackCooldown;
+        this.attackRange = template.attackRange;
+        this.attackSpeed = template.attackSpeed;
+        this.attackConeAngle = template.attackConeAngle;
+        this.aoeRadius = template.aoeRadius;
+        this.projectileSpeed = template.projectileSpeed;
+        this.chargeSpeed = template.chargeSpeed;
+    }
+
     public void takeDamage(int incomingDamage) {
         int actualDamage = Math.max(1, incomingDamage - defense);
         currentHealth = Math.max(0, currentHealth - actualDamage);
@@ -132,7 +152,7 @@ public class EnemyStats {
     public int getDefense() { return defense; }
     public int getExpReward() { return expReward; }
     public int getLevel() { return level; }
-    public String getLootTableType() { return lootTableType; }
+    public LootTableType getLootTableType() { return lootTableType; }
     public float getAttackCooldown() { return attackCooldown; }
     public float getAttackRange() { return attackRange; }
     public float getAttackSpeed() { return attackSpeed; }
@@ -177,7 +197,7 @@ public class EnemyStats {
                     10 + (level * 8),
                     level,
                     AttackType.RANGED,
-                    "ranged_enemy",
+                    LootTableType.RANGED_ENEMY,
                     2.0f,
                     120f,
                     1.0f,
@@ -197,7 +217,7 @@ public class EnemyStats {
                     10 + (level * 8),
                     level,
                     AttackType.MELEE,
-                    "melee_enemy",
+                    LootTableType.MELEE_ENEMY,
                     1f,
                     35f,
                     1.0f,
@@ -217,7 +237,7 @@ public class EnemyStats {
                     15 + (level * 10),
                     level,
                     AttackType.CONAL,
-                    "dungeon_enemy",
+                    LootTableType.DUNGEON_ENEMY,
                     1f,
                     35f,
                     1.0f,
@@ -237,7 +257,7 @@ public class EnemyStats {
                     12 + (level * 8),
                     level,
                     AttackType.MELEE,
-                    "dungeon_enemy",
+                    LootTableType.DUNGEON_ENEMY,
                     0.8f,
                     30f,
                     0.8f,
@@ -257,7 +277,7 @@ public class EnemyStats {
                     18 + (level * 12),
                     level,
                     AttackType.RANGED,
-                    "dungeon_enemy",
+                    LootTableType.DUNGEON_ENEMY,
                     2f,
                     150f,
                     1.0f,
@@ -277,7 +297,7 @@ public class EnemyStats {
                     1500 + (level * 50),
                     level,
                     AttackType.MELEE,
-                    "boss",
+                    LootTableType.BOSS,
                     1f,
                     60f,
                     1f,
@@ -297,7 +317,7 @@ public class EnemyStats {
                     5000 + (level * 100),
                     level,
                     AttackType.AOE,
-                    "boss",
+                    LootTableType.BOSS,
                     1.4f,
                     60f,
                     1.4f,
@@ -317,7 +337,7 @@ public class EnemyStats {
                     15 + (level * 8),
                     level,
                     AttackType.AOE,
-                    "dungeon_enemy",
+                    LootTableType.DUNGEON_ENEMY,
                     1.0f,
                     60f,
                     1.0f,
@@ -337,7 +357,7 @@ public class EnemyStats {
                     5 + (level * 3),
                     level,
                     AttackType.AOE,
-                    "ghost_enemy",
+                    LootTableType.GHOST_ENEMY,
                     1.0f,
                     60f,
                     1.0f,
@@ -357,7 +377,7 @@ public class EnemyStats {
                     4500 + (level * 55),
                     level,
                     AttackType.RANGED,
-                    "boss",
+                    LootTableType.BOSS,
                     0.35f,
                     300f,
                     0.35f,
@@ -377,7 +397,7 @@ public class EnemyStats {
                     12 + (level * 8),
                     level,
                     AttackType.AOE,
-                    "melee_enemy",
+                    LootTableType.MELEE_ENEMY,
                     2.5f,
                     30f,
                     1.2f,
@@ -397,7 +417,7 @@ public class EnemyStats {
                     25 + (level * 15),
                     level,
                     AttackType.MELEE,
-                    "loot_goblin",
+                    LootTableType.LOOT_GOBLIN,
                     0f,
                     0f,
                     0f,
@@ -417,7 +437,7 @@ public class EnemyStats {
                     6000 + (level * 100),
                     level,
                     AttackType.RANGED,
-                    "mega_boss",
+                    LootTableType.MEGA_BOSS,
                     0.2f,
                     400f,
                     0.2f,
@@ -437,7 +457,7 @@ public class EnemyStats {
                     0,
                     1,
                     AttackType.MELEE,
-                    "destructible",
+                    LootTableType.DESTRUCTIBLE,
                     0f, 0f, 0f, 0f, 0f, 0f, 0f
             );
         }
@@ -1,28 +1,79 @@
 package entities;
 
+import managers.AnimationManager.State;
+import managers.AnimationSet;
+
 public enum EnemyType {
-    MUSHIE("Mushie"),
-    WOLFIE("Wolfie"),
-    SKELETON("Skeleton"),
-    BOSS_KITTY("BossKitty"),
-    CYCLOPS("Cyclops"),
-    MERCHANT("Merchant"),
-    SKELETON_ROGUE("Skeleton Rogue"),
-    SKELETON_MAGE("Skeleton Mage"),
-    GHOST("Ghost"),
-    GHOST_BOSS("GhostBoss"),
-    HERMAN("Herman"),
-    HEDGEHOG("Hedgehog"),
-    LEMMY("Lemmy"),
-    DESTRUCTABLE_OBJECT("Destructable");
+    MUSHIE("Mushie", new AnimationSet()
+            .loop(State.RUNNING, "enemies/Mushie/Walking.png", 0.4f)
+            .loop(State.IDLE, "enemies/Mushie/Idle.png", 0.4f)
+            .once(State.ATTACKING, "enemies/Mushie/Attacking.png", 0.25f)),
+    WOLFIE("Wolfie", new AnimationSet()
+            .loop(State.RUNNING, "enemies/Wolfie/Walking.png", 0.25f)
+            .loop(State.IDLE, "enemies/Wolfie/Idle.png", 0.4f)
+            .once(State.ATTACKING, "enemies/Wolfie/Attacking.png", 0.25f)),
+    SKELETON("Skeleton", new AnimationSet()
+            .loop(State.RUNNING, "enemies/Skeleton/Walking.png", 0.4f)
+            .loop(State.IDLE, "enemies/Skeleton/Idle.png", 0.4f)
+            .once(State.ATTACKING, "enemies/Skeleton/Attacking.png", 0.2f)),
+    BOSS_KITTY("BossKitty", new AnimationSet()
+            .loop(State.RUNNING, "enemies/BossKitty/Walking.png", 0.5f)
+            .once(State.DYING, "enemies/BossKitty/Dying.png", 1f)
+            .defaultState(State.RUNNING)),
+    CYCLOPS("Cyclops", new AnimationSet()
+            .loop(State.RUNNING, "enemies/Cyclops/Walking.png", 0.5f)
+            .loop(State.IDLE, "enemies/Cyclops/Idle.png", 0.5f)
+            .once(State.ATTACKING, "enemies/Cyclops/Attacking.png", 0.2f)),
+    MERCHANT("Merchant", new AnimationSet()
+            .loop(State.IDLE, "enemies/Merchant/Idle.png", 0.4f)),
+    SKELETON_ROGUE("Skeleton Rogue", new AnimationSet()
+            .loop(State.RUNNING, "enemies/SkeletonRogue/Walking.png", 0.3f)
+            .loop(State.IDLE, "enemies/SkeletonRogue/Idle.png", 0.4f)
+            .once(State.ATTACKING, "enemies/SkeletonRogue/Attacking.png", 0.15f)),
+    SKELETON_MAGE("Skeleton Mage", new AnimationSet()
+            .loop(State.RUNNING, "enemies/SkeletonMage/Walking.png", 0.4f)
+            .loop(State.IDLE, "enemies/SkeletonMage/Idle.png", 0.4f)
+            .once(State.ATTACKING, "enemies/SkeletonMage/Attacking.png", 0.3f)),
+    GHOST("Ghost", new AnimationSet()
+            .loop(State.RUNNING, "enemies/Ghost/Walking.png", 0.3f)
+            .loop(State.IDLE, "enemies/Ghost/Idle.png", 0.4f)
+            .once(State.ATTACKING, "enemies/Ghost/Attacking.png", 0.25f)
+            .fallback(MUSHIE.animations)),
+    GHOST_BOSS("GhostBoss", new AnimationSet()
+            .loop(State.RUNNING, "enemies/GhostBoss/Walking.png", 0.4f)
+            .loop(State.IDLE, "enemies/GhostBoss/Idle.png", 0.4f)
+            .once(State.ATTACKING, "enemies/GhostBoss/Attacking.png", 0.3f)
+            .fallback(BOSS_KITTY.animations)),
+    HERMAN("Herman", new AnimationSet()
+            .loop(State.IDLE, "enemies/Herman/Idle.png", 0.5f)
+            .once(State.ATTACKING, "enemies/Herman/Attacking.png", 0.25f)
+            .once(State.SPECIAL_ATTACK, "enemies/Herman/SpecialAttack.png", 0.3f)
+            .fallback(CYCLOPS.animations)),
+    HEDGEHOG("Hedgehog", new AnimationSet()
+            .loop(State.RUNNING, "enemies/Hedgehog/Walking.png", 0.3f)
+            .loop(State.IDLE, "enemies/Hedgehog/Idle.png", 0.4f)
+            .once(State.ATTACKING, "enemies/Hedgehog/Attacking.png", 0.2f)
+            .fallback(WOLFIE.animations)),
+    LEMMY("Lemmy", new AnimationSet()
+            .loop(State.RUNNING, "enemies/Lemmy/Walking.png", 0.25f)
+            .loop(State.IDLE, "enemies/Lemmy/Idle.png", 0.3f)
+            .fallback(MUSHIE.animations)),
+    DESTRUCTABLE_OBJECT("Destructable", new AnimationSet()
+            .fallback(MUSHIE.animations));
 
     private final String animationKey;
+    private final AnimationSet animations;
 
-    EnemyType(String animationKey) {
+    EnemyType(String animationKey, AnimationSet animations) {
         this.animationKey = animationKey;
+        this.animations = animations;
     }
 
     public String getAnimationKey() {
         return animationKey;
     }
-}
\ No newline at end of file
+
+    public AnimationSet getAnimations() {
+        return animations;
+    }
+}
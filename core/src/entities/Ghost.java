@@ -1,7 +1,6 @@
 package entities;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
@@ -25,11 +24,13 @@ public class Ghost {
     private final AnimationManager animationManager;
     private boolean isFlipped = false;
     private boolean isStunned = false;
+    private final Vector2 moveDirection = new Vector2();
 
     private EnemyType enemyType = EnemyType.GHOST;
 
     private float animationTime = 0f;
     private State currentState = State.IDLE;
+    private int animation;
 
     private EnemyStats stats;
     private Texture healthBarTexture;
@@ -58,6 +59,7 @@ public class Ghost {
         this.healthBarTexture = Storage.assetManager.get("tiles/hpBar.png", Texture.class);
 
         this.currentState = State.IDLE;
+        this.animation = animationManager.getAnimation(enemyType, State.IDLE);
         this.animationTime = 0f;
     }
 
@@ -72,25 +74,18 @@ public class Ghost {
     private void setState(State newState) {
         if (currentState != newState) {
             currentState = newState;
+            animation = animationManager.getAnimation(enemyType, newState);
             animationTime = 0f;
         }
     }
 
     private TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
-            return animation.getKeyFrame(animationTime, loop);
-        }
-        return null;
+        boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
+        return animationManager.getKeyFrame(animation, animationTime, loop);
     }
 
     private boolean isCurrentAnimationFinished() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            return animation.isAnimationFinished(animationTime);
-        }
-        return true;
+        return animationManager.isAnimationFinished(animation, animationTime);
     }
 
     public void update(float delta) {
@@ -136,9 +131,7 @@ public class Ghost {
     }
 
     private void updateMovement(float delta) {
-        float distanceToPlayer = getDistanceToPlayer();
-
-        if (distanceToPlayer <= 20f) {
+        if (getDistanceToPlayerSquared() <= 20f * 20f) {
             startExplosion();
         } else if (isPlayerInRadius()) {
             moveTowardsPlayer();
@@ -182,27 +175,25 @@ public class Ghost {
     }
 
     private boolean isPlayerInExplosionRange() {
-        return getDistanceToPlayer() <= EXPLOSION_RANGE;
+        return getDistanceToPlayerSquared() <= EXPLOSION_RANGE * EXPLOSION_RANGE;
     }
 
-    private float getDistanceToPlayer() {
-        Vector2 playerPosition = player.getPosition();
-        Vector2 ghostPosition = new Vector2(body.getPosition().x, body.getPosition().y);
-        return playerPosition.dst(ghostPosition);
+    private float getDistanceToPlayerSquared() {
+        return body.getPosition().dst2(player.getPosition());
     }
 
     private boolean isPlayerInRadius() {
-        return getDistanceToPlayer() <= detectionRadius;
+        return getDistanceToPlayerSquared() <= detectionRadius * detectionRadius;
     }
 
     private void moveTowardsPlayer() {
         Vector2 playerPosition = player.getPosition();
-        Vector2 ghostPosition = new Vector2(body.getPosition().x, body.getPosition().y);
+        Vector2 ghostPosition = body.getPosition();
 
-        Vector2 direction = new Vector2(playerPosition.x - ghostPosition.x,
+        moveDirection.set(playerPosition.x - ghostPosition.x,
                 playerPosition.y - ghostPosition.y).nor();
 
-        body.setLinearVelocity(direction.scl(speed));
+        body.setLinearVelocity(moveDirection.x * speed, moveDirection.y * speed);
     }
 
     public void render(SpriteBatch batch) {
@@ -262,7 +253,7 @@ public class Ghost {
             hitFlashTimer = HIT_FLASH_DURATION;
 
             ScreenShake.rumble(0.6f, 0.3f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         }
 
         if (stats.isDead()) {
@@ -2,7 +2,6 @@ package entities;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
@@ -17,14 +16,18 @@ import com.badlogic.gdx.physics.box2d.World;
 import java.util.ArrayList;
 import java.util.List;
 
+import abilities.StatusEffectSlots;
 import config.Storage;
 import managers.AnimationManager;
 import managers.AnimationManager.State;
+import managers.BodyCommandBuffer;
 import managers.CollisionFilter;
+import managers.ProjectileSystem;
 import managers.SoundManager;
 import ui.ScreenShake;
 
-public class GhostBoss {
+public class GhostBoss implements HostileEntity {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     public Rectangle bounds;
     private Body body;
     private final Player player;
@@ -40,6 +43,7 @@ public class GhostBoss {
 
     private float animationTime = 0f;
     private State currentState = State.IDLE;
+    private int animation;
 
     private EnemyStats stats;
     private Texture healthBarTexture;
@@ -94,8 +98,6 @@ public class GhostBoss {
     private int roomHeight;
     private int tileSize;
 
-    private Projectile[] projectilePool = new Projectile[20];
-    private int nextProjectileIndex = 0;
     private World world;
 
     private boolean isJustHit = false;
@@ -143,23 +145,8 @@ public class GhostBoss {
             this.shadowBallTexture = null;
         }
 
-        // Create pooled projectiles
-        for (int i = 0; i < projectilePool.length; i++) {
-            projectilePool[i] = new Projectile(
-                    world,
-                    new Vector2(body.getPosition()),
-                    new Vector2(1, 0),
-                    PROJECTILE_SPEED,
-                    PROJECTILE_RANGE,
-                    stats.getDamage(),
-                    SHADOW_BALL_COLOR,
-                    this,
-                    shadowBallTexture
-            );
-            projectilePool[i].setActive(false);
-        }
-
         this.currentState = State.IDLE;
+        this.animation = animationManager.getAnimation(enemyType, State.IDLE);
         this.animationTime = 0f;
     }
 
@@ -178,17 +165,14 @@ public class GhostBoss {
     private void setState(State newState) {
         if (currentState != newState) {
             currentState = newState;
+            animation = animationManager.getAnimation(enemyType, newState);
             animationTime = 0f;
         }
     }
 
     private TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
-            return animation.getKeyFrame(animationTime, loop);
-        }
-        return null;
+        boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
+        return animationManager.getKeyFrame(animation, animationTime, loop);
     }
 
     public void update(float delta) {
@@ -228,8 +212,6 @@ public class GhostBoss {
             summonCooldown -= delta;
         }
 
-        updateProjectiles(delta);
-
         updateGhostlings(delta);
 
         isFlipped = body.getPosition().x > player.getBody().getPosition().x;
@@ -251,35 +233,12 @@ public class GhostBoss {
         }
     }
 
-    private void updateProjectiles(float delta) {
-        for (Projectile projectile : projectilePool) {
-            if (!projectile.isActive()) continue;
-
-            projectile.update(delta);
-
-            if (!projectile.isMarkedForRemoval() && projectile.getPosition() != null) {
-                float dist = projectile.getPosition().dst(player.getPosition());
-                if (dist < 10f) {
-                    if (!player.isInvulnerable()) {
-                        player.getStats().takeDamage(projectile.getDamage());
-                        player.onTakeDamage();
-                    }
-                    projectile.setActive(false);
-                }
-            }
-
-            if (projectile.isMarkedForRemoval()) {
-                projectile.setActive(false);
-            }
-        }
-    }
-
     private void updateGhostlings(float delta) {
         for (int i = spawnedGhostlings.size() - 1; i >= 0; i--) {
             Ghost ghost = spawnedGhostlings.get(i);
             if (ghost.isMarkedForRemoval()) {
                 if (ghost.getBody() != null) {
-                    world.destroyBody(ghost.getBody());
+                    BodyCommandBuffer.getInstance().destroy(ghost.getBody());
                     ghost.clearBody();
                 }
                 spawnedGhostlings.remove(i);
@@ -326,33 +285,16 @@ public class GhostBoss {
     }
 
     private void fireProjectile() {
-        fireProjectileFrom(new Vector2(body.getPosition().x, body.getPosition().y));
+        fireProjectileFrom(body.getPosition());
         setState(State.ATTACKING);
     }
 
     private void fireProjectileFrom(Vector2 position) {
-        Projectile projectile = getNextAvailableProjectile();
-        if (projectile != null) {
-            Vector2 playerPos = player.getPosition();
-            Vector2 direction = new Vector2(playerPos.x - position.x, playerPos.y - position.y).nor();
-            projectile.reset(position, direction);
-        }
-    }
-
-    private Projectile getNextAvailableProjectile() {
-        int startIndex = nextProjectileIndex;
-        do {
-            if (!projectilePool[nextProjectileIndex].isActive()) {
-                Projectile result = projectilePool[nextProjectileIndex];
-                nextProjectileIndex = (nextProjectileIndex + 1) % projectilePool.length;
-                return result;
-            }
-            nextProjectileIndex = (nextProjectileIndex + 1) % projectilePool.length;
-        } while (nextProjectileIndex != startIndex);
-
-        Projectile result = projectilePool[nextProjectileIndex];
-        nextProjectileIndex = (nextProjectileIndex + 1) % projectilePool.length;
-        return result;
+        Vector2 playerPos = player.getPosition();
+        ProjectileSystem.getInstance().fire(position.x, position.y,
+                playerPos.x - position.x, playerPos.y - position.y,
+                PROJECTILE_SPEED, PROJECTILE_RANGE, stats.getDamage(),
+                SHADOW_BALL_COLOR, shadowBallTexture);
     }
 
     // =========================================================================
@@ -598,12 +540,6 @@ public class GhostBoss {
             ghost.render(batch);
         }
 
-        for (Projectile proj : projectilePool) {
-            if (proj.isActive()) {
-                proj.render(batch);
-            }
-        }
-
         for (GhostBossDuplicate duplicate : duplicates) {
             renderDuplicate(batch, duplicate);
         }
@@ -684,7 +620,7 @@ public class GhostBoss {
             hitFlashTimer = HIT_FLASH_DURATION;
 
             ScreenShake.rumble(0.6f, 0.3f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         }
 
         if (stats.isDead()) {
@@ -697,13 +633,9 @@ public class GhostBoss {
     }
 
     public void dispose() {
-        for (int i = 0; i < projectilePool.length; i++) {
-            projectilePool[i] = null;
-        }
-
         for (Ghost ghost : spawnedGhostlings) {
             if (ghost.getBody() != null) {
-                world.destroyBody(ghost.getBody());
+                BodyCommandBuffer.getInstance().destroy(ghost.getBody());
                 ghost.clearBody();
             }
             ghost.dispose();
@@ -729,6 +661,10 @@ public class GhostBoss {
         return stats;
     }
 
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
     public boolean isAttacking() {
         return isAttacking || summonPhase != SummonPhase.NONE || duplicationPhase != DuplicationPhase.NONE;
     }
@@ -745,10 +681,6 @@ public class GhostBoss {
         return spawnedGhostlings;
     }
 
-    public Projectile[] getProjectilePool() {
-        return projectilePool;
-    }
-
     public EnemyType getEnemyType() {
         return enemyType;
     }
@@ -771,4 +703,9 @@ public class GhostBoss {
     public boolean isInvulnerable() {
         return isInvulnerableDuringDuplication;
     }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
\ No newline at end of file
@@ -2,25 +2,28 @@ package entities;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.World;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import abilities.StatusEffectSlots;
 import config.Storage;
 import managers.AnimationManager;
 import managers.AnimationManager.State;
+import managers.ProjectileSystem;
+import managers.RenderQueue;
 import managers.SoundManager;
 import ui.ScreenShake;
 
-public class Herman {
+public class Herman implements HostileEntity, RenderQueue.Drawable {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     public Rectangle bounds;
     private Body body;
     private final Player player;
@@ -37,6 +40,7 @@ public class Herman {
 
     private float animationTime = 0f;
     private State currentState = State.IDLE;
+    private int animation;
 
     private EnemyStats stats;
     private Texture whitePixelTexture;
@@ -73,9 +77,8 @@ public class Herman {
 
     private DuplicateSpawnCallback duplicateSpawnCallback;
 
-    // Pooled projectile system - 3 projectiles for burst attack
-    private Projectile[] projectilePool = new Projectile[3];
-    private World world;
+    private static final float[] BURST_ANGLES = {-15f, 0f, 15f};
+    private static final float PROJECTILE_HIT_RADIUS = 12f;
 
     private boolean isJustHit = false;
     private float hitFlashTimer = 0f;
@@ -122,8 +125,6 @@ public class Herman {
         this.body = body;
         this.player = player;
         this.stats = stats;
-        this.world = body.getWorld();
-
         NORMAL_ATTACK_COOLDOWN = stats.getAttackCooldown();
         PROJECTILE_RANGE = stats.getAttackRange();
         PROJECTILE_SPEED = stats.getProjectileSpeed();
@@ -142,23 +143,8 @@ public class Herman {
             this.groundAttackTexture = null;
         }
 
-        // Create pooled projectiles for burst attack (3 acorns)
-        for (int i = 0; i < projectilePool.length; i++) {
-            projectilePool[i] = new Projectile(
-                    world,
-                    new Vector2(body.getPosition()),
-                    new Vector2(1, 0),
-                    PROJECTILE_SPEED,
-                    PROJECTILE_RANGE,
-                    stats.getDamage(),
-                    ACORN_COLOR,
-                    this,
-                    acornTexture
-            );
-            projectilePool[i].setActive(false);
-        }
-
         this.currentState = State.IDLE;
+        this.animation = animationManager.getAnimation(enemyType, State.IDLE);
         this.animationTime = 0f;
 
         // Herman is stationary
@@ -190,26 +176,19 @@ public class Herman {
     private void setState(State newState) {
         if (currentState != newState) {
             currentState = newState;
+            animation = animationManager.getAnimation(enemyType, newState);
             animationTime = 0f;
         }
     }
 
     private TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            // Loop IDLE and SPECIAL_ATTACK, don't loop ATTACKING
-            boolean loop = (currentState == State.IDLE || currentState == State.SPECIAL_ATTACK);
-            return animation.getKeyFrame(animationTime, loop);
-        }
-        return null;
+        // Loop IDLE and SPECIAL_ATTACK, don't loop ATTACKING
+        boolean loop = (currentState == State.IDLE || currentState == State.SPECIAL_ATTACK);
+        return animationManager.getKeyFrame(animation, animationTime, loop);
     }
 
     private boolean isCurrentAnimationFinished() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(enemyType, currentState);
-        if (animation != null) {
-            return animation.isAnimationFinished(animationTime);
-        }
-        return true;
+        return animationManager.isAnimationFinished(animation, animationTime);
     }
 
     public void update(float delta) {
@@ -255,7 +234,6 @@ public class Herman {
             specialCooldown -= delta;
         }
 
-        updateProjectiles(delta);
 
         updateGroundAttackMarkers(delta);
 
@@ -325,28 +303,21 @@ public class Herman {
     }
 
     private void fireAcornBurst() {
-        Vector2 bossPos = new Vector2(body.getPosition());
+        Vector2 bossPos = body.getPosition();
         Vector2 playerPos = player.getPosition();
-        Vector2 baseDirection = new Vector2(playerPos.x - bossPos.x, playerPos.y - bossPos.y).nor();
+        float baseX = playerPos.x - bossPos.x;
+        float baseY = playerPos.y - bossPos.y;
 
-        float[] angles = {-15f, 0f, 15f};
-
-        for (int i = 0; i < angles.length && i < projectilePool.length; i++) {
-            Vector2 direction = rotateVector(baseDirection, angles[i]);
-            projectilePool[i].reset(bossPos, direction);
+        for (float angle : BURST_ANGLES) {
+            float cos = MathUtils.cosDeg(angle);
+            float sin = MathUtils.sinDeg(angle);
+            ProjectileSystem.getInstance().fire(bossPos.x, bossPos.y,
+                    baseX * cos - baseY * sin, baseX * sin + baseY * cos,
+                    PROJECTILE_SPEED, PROJECTILE_RANGE, stats.getDamage(),
+                    ACORN_COLOR, acornTexture, PROJECTILE_HIT_RADIUS);
         }
     }
 
-    private Vector2 rotateVector(Vector2 vec, float degrees) {
-        float rad = (float) Math.toRadians(degrees);
-        float cos = (float) Math.cos(rad);
-        float sin = (float) Math.sin(rad);
-        return new Vector2(
-                vec.x * cos - vec.y * sin,
-                vec.x * sin + vec.y * cos
-        );
-    }
-
     private void endNormalAttack() {
         isAttacking = false;
         attackCooldown = NORMAL_ATTACK_COOLDOWN;
@@ -467,41 +438,11 @@ public class Herman {
         }
     }
 
-    private void updateProjectiles(float delta) {
-        for (Projectile projectile : projectilePool) {
-            if (!projectile.isActive()) continue;
-
-            projectile.update(delta);
-
-            if (!projectile.isMarkedForRemoval() && projectile.getPosition() != null) {
-                float dist = projectile.getPosition().dst(player.getPosition());
-                if (dist < 12f) {
-                    if (!player.isInvulnerable()) {
-                        player.getStats().takeDamage(projectile.getDamage());
-                        player.onTakeDamage();
-                    }
-                    projectile.setActive(false);
-                }
-            }
-
-            if (projectile.isMarkedForRemoval()) {
-                projectile.setActive(false);
-            }
-        }
-    }
-
     public void render(SpriteBatch batch) {
         if (markForRemoval) return;
 
         renderGroundAttackMarkers(batch);
 
-        // Render active projectiles
-        for (Projectile proj : projectilePool) {
-            if (proj.isActive()) {
-                proj.render(batch);
-            }
-        }
-
         TextureRegion currentFrame = getCurrentFrame();
         if (currentFrame != null) {
             TextureRegion frame = new TextureRegion(currentFrame);
@@ -630,7 +571,7 @@ public class Herman {
             hitFlashTimer = HIT_FLASH_DURATION;
 
             ScreenShake.rumble(0.6f, 0.15f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         }
 
         if (stats.isDead()) {
@@ -643,10 +584,6 @@ public class Herman {
     }
 
     public void dispose() {
-        for (int i = 0; i < projectilePool.length; i++) {
-            projectilePool[i] = null;
-        }
-
         groundAttackMarkers.clear();
     }
 
@@ -666,6 +603,10 @@ public class Herman {
         return stats;
     }
 
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
     public boolean isActivated() {
         return isActivated;
     }
@@ -686,10 +627,6 @@ public class Herman {
         return hasDuplicated;
     }
 
-    public Projectile[] getProjectilePool() {
-        return projectilePool;
-    }
-
     public EnemyType getEnemyType() {
         return enemyType;
     }
@@ -713,4 +650,9 @@ public class Herman {
     public float getActivationRadius() {
         return activationRadius;
     }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
\ No newline at end of file
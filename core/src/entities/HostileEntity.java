@@ -0,0 +1,17 @@
+package entities;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.Body;
+
+import abilities.StatusEffectTarget;
+
+// What abilities and status effects need from an enemy or boss, whichever type it is
+public interface HostileEntity extends StatusEffectTarget {
+    Body getBody();
+    Rectangle getBounds();
+    EnemyStats getStats();
+    void takeDamage(int damage);
+    void setStunned(boolean stunned);
+    void markForRemoval();
+    boolean isMarkedForRemoval();
+}
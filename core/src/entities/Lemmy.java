@@ -1,20 +1,23 @@
 package entities;
 
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
+import abilities.StatusEffectSlots;
 import config.Storage;
 import managers.AnimationManager;
 import managers.AnimationManager.State;
+import managers.RenderQueue;
 import managers.SoundManager;
 import ui.ScreenShake;
 
-public class Lemmy {
+public class Lemmy implements HostileEntity, RenderQueue.Drawable {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     private Rectangle bounds;
     private Body body;
     private final Player player;
@@ -28,6 +31,7 @@ public class Lemmy {
 
     private float animationTime = 0f;
     private State currentState = State.IDLE;
+    private int animation;
 
     private boolean isJustHit = false;
     private float hitFlashTimer = 0f;
@@ -55,27 +59,25 @@ public class Lemmy {
         pickRandomDirection();
 
         this.currentState = State.IDLE;
+        this.animation = animationManager.getAnimation(EnemyType.LEMMY, State.IDLE);
         this.animationTime = 0f;
     }
 
     private void setState(State newState) {
         if (currentState != newState) {
             currentState = newState;
+            animation = animationManager.getAnimation(EnemyType.LEMMY, newState);
             animationTime = 0f;
         }
     }
 
     private TextureRegion getCurrentFrame() {
-        Animation<TextureRegion> animation = animationManager.getAnimationForState(EnemyType.LEMMY, currentState);
-        if (animation != null) {
-            boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
-            return animation.getKeyFrame(animationTime, loop);
-        }
-        return null;
+        boolean loop = (currentState == State.IDLE || currentState == State.RUNNING);
+        return animationManager.getKeyFrame(animation, animationTime, loop);
     }
 
     private void pickRandomDirection() {
-        float angle = (float) (Math.random() * Math.PI * 2);
+        float angle = MathUtils.random(MathUtils.PI2);
         randomDirection.set((float) Math.cos(angle), (float) Math.sin(angle)).nor();
     }
 
@@ -207,10 +209,10 @@ public class Lemmy {
             }
             directionChangeTimer = 0f;
 
-            SoundManager.getInstance().playLemmyHitSound();
+            SoundManager.getInstance().playLemmyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
 
             ScreenShake.rumble(0.6f, 0.15f);
-            SoundManager.getInstance().playEnemyHitSound();
+            SoundManager.getInstance().playEnemyHitSound(bounds.x + bounds.width / 2f, bounds.y + bounds.height / 2f);
         }
 
         if (stats.isDead()) {
@@ -252,4 +254,9 @@ public class Lemmy {
     public float getCurrentSpeed() {
         return currentSpeed;
     }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package entities;
+
+public enum LootTableType {
+    BASIC_ENEMY("basic_enemy"),
+    MELEE_ENEMY("melee_enemy"),
+    RANGED_ENEMY("ranged_enemy"),
+    DUNGEON_ENEMY("dungeon_enemy"),
+    GHOST_ENEMY("ghost_enemy"),
+    BOSS("boss"),
+    MEGA_BOSS("mega_boss"),
+    LOOT_GOBLIN("loot_goblin"),
+    ELITE_ENEMY("elite_enemy"),
+    DESTRUCTIBLE("destructible");
+
+    private final String id;
+
+    LootTableType(String id) {
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public static LootTableType fromId(String id) {
+        for (LootTableType type : values()) {
+            if (type.id.equals(id)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
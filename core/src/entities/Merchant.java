@@ -7,14 +7,18 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.*;
 
 import managers.AnimationManager;
+import managers.BodyCommandBuffer;
 import managers.CollisionFilter;
+import managers.RenderQueue;
 
-public class Merchant {
+public class Merchant implements RenderQueue.Drawable {
     private Rectangle bounds;
     private Body body;
     private float stateTime = 0f;
     private boolean isActive = true;
     private final AnimationManager animationManager;
+    private final int animation;
+    private final float animationStart;
 
     private static final float INTERACTION_RADIUS = 30f;
     private static final int SIZE = 32;
@@ -24,7 +28,8 @@ public class Merchant {
         this.body = createBody(world, x, y);
         this.animationManager = animationManager;
 
-        getAnimationManager().setState(AnimationManager.State.IDLE, "Merchant");
+        this.animation = animationManager.getAnimation(EnemyType.MERCHANT, AnimationManager.State.IDLE);
+        this.animationStart = animationManager.getTime();
     }
 
     private Body createBody(World world, float x, float y) {
@@ -61,7 +66,7 @@ public class Merchant {
     public void render(SpriteBatch batch) {
         if (!isActive) return;
 
-        TextureRegion currentFrame = new TextureRegion(getAnimationManager().getMerchantCurrentFrame());
+        TextureRegion currentFrame = animationManager.getKeyFrame(animation, animationManager.getTime() - animationStart);
         batch.draw(currentFrame, bounds.x, bounds.y, SIZE, SIZE);
     }
 
@@ -83,14 +88,14 @@ public class Merchant {
     public void disable() {
         isActive = false;
         if (body != null) {
-            body.setActive(false);
+            BodyCommandBuffer.getInstance().setActive(body, false);
         }
     }
 
     public void enable() {
         isActive = true;
         if (body != null) {
-            body.setActive(true);
+            BodyCommandBuffer.getInstance().setActive(body, true);
         }
     }
 
@@ -112,7 +117,7 @@ public class Merchant {
 
     public void dispose(World world) {
         if (body != null && world != null) {
-            world.destroyBody(body);
+            BodyCommandBuffer.getInstance().destroy(body);
             body = null;
         }
     }
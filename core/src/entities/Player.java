@@ -3,6 +3,7 @@ package entities;
 import abilities.AbilityVisual;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -17,13 +18,18 @@ import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.utils.Array;
 
 import config.GameScreen;
+import config.RunSnapshot;
 import config.Storage;
 import game.GameProj;
 import items.Item;
 import managers.*;
 import abilities.AbilityManager;
+import abilities.VfxParticles;
+import abilities.StatusEffectSlots;
+import abilities.StatusEffectTarget;
 
-public class Player implements PlayerStats.SpeedChangeListener {
+public class Player implements PlayerStats.SpeedChangeListener, StatusEffectTarget {
+    private final StatusEffectSlots statusEffects = new StatusEffectSlots();
     private Body body;
     private Array<Body> spearBodies = new Array<>();
     private Array<Vector2> spearVelocities = new Array<>();
@@ -84,17 +90,12 @@ public class Player implements PlayerStats.SpeedChangeListener {
     private boolean isSRLifeLeechActive = false;
     private float srLifeLeechHealAmount = 0f;
 
-    private class Trail {
-        Vector2 position;
-        float lifetime;
-
-        public Trail(Vector2 position, float lifetime) {
-            this.position = new Vector2(position);
-            this.lifetime = lifetime;
-        }
-    }
-
-    private Array<Trail> trails = new Array<>();
+    private static final float TRAIL_SIZE = 16f;
+    private AnimationManager.State animationState;
+    private int animation;
+    private float animationStart;
+    private final TextureRegion frameRegion = new TextureRegion();
+    private final TextureRegion spearRegion = new TextureRegion();
     private float trailSpawnInterval = 0.05f;
     private float trailTimer = 0f;
     private float trailLifetime = 0.5f;
@@ -119,7 +120,7 @@ public class Player implements PlayerStats.SpeedChangeListener {
         this.speed = stats.getBaseSpeed();
         stats.setSpeedChangeListener(this);
 
-        animationManager.setPlayerClass(playerClass);
+        setAnimationState(AnimationManager.State.IDLE);
 
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.DynamicBody;
@@ -227,14 +228,6 @@ public class Player implements PlayerStats.SpeedChangeListener {
         if(playerDeath && !world.getWorld().isLocked())
             die();
 
-        for (int i = trails.size - 1; i >= 0; i--) {
-            Trail trail = trails.get(i);
-            trail.lifetime -= delta;
-            if (trail.lifetime <= 0) {
-                trails.removeIndex(i);
-            }
-        }
-
         inventory.update(delta, this, gameP);
     }
 
@@ -318,7 +311,7 @@ public class Player implements PlayerStats.SpeedChangeListener {
 
             trailTimer += delta;
             if (trailTimer >= trailSpawnInterval) {
-                trails.add(new Trail(body.getPosition(), trailLifetime));
+                spawnTrail();
                 trailTimer = 0f;
             }
 
@@ -336,7 +329,7 @@ public class Player implements PlayerStats.SpeedChangeListener {
 
             trailTimer += delta;
             if (trailTimer >= trailSpawnInterval) {
-                trails.add(new Trail(body.getPosition(), trailLifetime));
+                spawnTrail();
                 trailTimer = 0f;
             }
 
@@ -361,7 +354,7 @@ public class Player implements PlayerStats.SpeedChangeListener {
 
                 trailTimer += delta;
                 if (trailTimer >= trailSpawnInterval) {
-                    trails.add(new Trail(body.getPosition(), trailLifetime));
+                    spawnTrail();
                     trailTimer = 0f;
                 }
 
@@ -417,7 +410,7 @@ public class Player implements PlayerStats.SpeedChangeListener {
                     direction = dy > 0 ? 1 : 0;
                 }
 
-                getAnimationManager().setState(AnimationManager.State.RUNNING, "Player");
+                setAnimationState(AnimationManager.State.RUNNING);
 
                 if (!gameP.isInDungeon() && !gameP.isInBossRoom() && !gameP.isInEndlessRoom()) {
                     SoundManager.getInstance().startGrassRunning();
@@ -432,7 +425,7 @@ public class Player implements PlayerStats.SpeedChangeListener {
                         gameP.getPopupIndicator().showObjective(getPosition(), 0f, 10f, "Survive");
                 }
             } else {
-                getAnimationManager().setState(AnimationManager.State.IDLE, "Player");
+                setAnimationState(AnimationManager.State.IDLE);
                 SoundManager.getInstance().stopGrassRunning();
                 SoundManager.getInstance().stopStoneRunning();
             }
@@ -500,12 +493,12 @@ public class Player implements PlayerStats.SpeedChangeListener {
         body.setLinearVelocity(0, 0);
 
         if (!dyingAnimationStarted) {
-            getAnimationManager().setState(AnimationManager.State.DYING, "Player");
+            setAnimationState(AnimationManager.State.DYING);
             dyingAnimationStarted = true;
             return;
         }
 
-        if (getAnimationManager().isAnimationFinished()) {
+        if (animationManager.isAnimationFinished(animation, animationManager.getTime() - animationStart)) {
             playerDeath = false;
             dyingAnimationStarted = false;
             gameScreen.switchToNewState(GameScreen.POSTGAME);
@@ -524,17 +517,8 @@ public class Player implements PlayerStats.SpeedChangeListener {
     }
 
     public void cleanupSpears() {
-        if (world != null && !world.getWorld().isLocked()) {
-            for (int i = spearBodies.size - 1; i >= 0; i--) {
-                Body spearBody = spearBodies.get(i);
-                if (spearBody != null) {
-                    try {
-                        world.getWorld().destroyBody(spearBody);
-                    } catch (Exception e) {
-                        // Already destroyed
-                    }
-                }
-            }
+        for (int i = spearBodies.size - 1; i >= 0; i--) {
+            BodyCommandBuffer.getInstance().destroy(spearBodies.get(i));
         }
         spearBodies.clear();
         spearVelocities.clear();
@@ -543,12 +527,7 @@ public class Player implements PlayerStats.SpeedChangeListener {
     }
 
     public void removeSpear(Body spearBody, int i) {
-        if (spearBody != null && !world.getWorld().isLocked()) {
-            try {
-                world.getWorld().destroyBody(spearBody);
-            } catch (Exception e) {
-            }
-        }
+        BodyCommandBuffer.getInstance().destroy(spearBody);
 
         spearBodies.removeIndex(i);
         spearVelocities.removeIndex(i);
@@ -737,6 +716,41 @@ public class Player implements PlayerStats.SpeedChangeListener {
         }
     }
 
+    public void captureTo(RunSnapshot snapshot) {
+        stats.captureTo(snapshot, playerBuffs);
+        inventory.captureTo(snapshot);
+        if (abilityManager != null) {
+            abilityManager.getSkillTree().captureTo(snapshot);
+        }
+
+        BuffManager.BuffType[] buffs = BuffManager.BuffType.values();
+        snapshot.buffTimers = new float[buffs.length];
+        for (BuffManager.BuffType buff : buffs) {
+            if (playerBuffs[buff.index]) {
+                snapshot.buffTimers[buff.index] = buffManager.getBuffRemainingTime(buff);
+            }
+        }
+    }
+
+    // Stats first, then gear and potions on top of them, and the health last once the maximum is known
+    public void restoreFrom(RunSnapshot snapshot) {
+        stats.restoreFrom(snapshot);
+        inventory.restoreFrom(snapshot, this);
+        if (abilityManager != null) {
+            abilityManager.getSkillTree().restoreFrom(snapshot);
+        }
+
+        BuffManager.BuffType[] buffs = BuffManager.BuffType.values();
+        for (int i = 0; i < Math.min(buffs.length, snapshot.buffTimers.length); i++) {
+            if (snapshot.buffTimers[i] > 0f) {
+                setPlayerBuff(buffs[i].name);
+                buffManager.setRemainingTime(buffs[i].name, snapshot.buffTimers[i]);
+            }
+        }
+
+        stats.setCurrentHealth(snapshot.currentHealth);
+    }
+
     public boolean isPlayerFlipped() {
         return isFlipped;
     }
@@ -746,8 +760,8 @@ public class Player implements PlayerStats.SpeedChangeListener {
 
         getAnimationManager().update(Gdx.graphics.getDeltaTime());
 
-        TextureRegion currentFrame = getAnimationManager().getCurrentFrame();
-        TextureRegion frame = new TextureRegion(currentFrame);
+        TextureRegion frame = frameRegion;
+        frame.setRegion(getCurrentFrame());
 
         if (isFlipped) {
             if (!frame.isFlipX()) {
@@ -774,7 +788,7 @@ public class Player implements PlayerStats.SpeedChangeListener {
 
                 if (spearBody != null) {
                     Texture spearTexture = Storage.assetManager.get("icons/gear/ironSpear.png");
-                    TextureRegion spearRegion = new TextureRegion(spearTexture);
+                    spearRegion.setRegion(spearTexture);
 
                     float rotationAngle = (float) Math.toDegrees(spearBody.getAngle());
                     float posX = spearBody.getPosition().x - spearTexture.getWidth() / 8f;
@@ -805,21 +819,13 @@ public class Player implements PlayerStats.SpeedChangeListener {
                     TILE_SIZE / 2f, TILE_SIZE / 2f);
             batch.setColor(1f, 1f, 1f, 1f);
         }
+    }
 
-        if (abilityManager != null) {
-            abilityManager.renderAbilityEffects(batch);
-        }
-
-        for (Trail trail : trails) {
-            float alpha = trail.lifetime / trailLifetime;
-            batch.setColor(1, 1, 1, alpha);
-            batch.draw(getAnimationManager().getCurrentFrame(),
-                    trail.position.x - TILE_SIZE / 4f,
-                    trail.position.y - TILE_SIZE / 4f,
-                    TILE_SIZE / 2f, TILE_SIZE / 2f);
-        }
-        batch.setColor(1, 1, 1, 1);
-
+    // Afterimages go to the shared particle pass, which fades them out and draws them over the player
+    private void spawnTrail() {
+        Vector2 position = body.getPosition();
+        VfxParticles.getInstance().spawn(getCurrentFrame(),
+                position.x, position.y, TRAIL_SIZE, trailLifetime, Color.WHITE, 1f);
     }
 
     public void renderSkillBar(SpriteBatch batch) {
@@ -846,6 +852,18 @@ public class Player implements PlayerStats.SpeedChangeListener {
         return animationManager;
     }
 
+    private void setAnimationState(AnimationManager.State state) {
+        if (animationState != state) {
+            animationState = state;
+            animation = animationManager.getAnimation(playerClass, state);
+            animationStart = animationManager.getTime();
+        }
+    }
+
+    public TextureRegion getCurrentFrame() {
+        return animationManager.getKeyFrame(animation, animationManager.getTime() - animationStart);
+    }
+
     public Body getBody() {
         return body;
     }
@@ -891,4 +909,9 @@ public class Player implements PlayerStats.SpeedChangeListener {
     public void setInvisible(boolean invisible) {
         this.isInvisible = invisible;
     }
+
+    @Override
+    public StatusEffectSlots getStatusEffects() {
+        return statusEffects;
+    }
 }
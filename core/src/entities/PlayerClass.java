@@ -1,15 +1,27 @@
 package entities;
 
+import managers.AnimationManager.State;
+import managers.AnimationSet;
+
 public enum PlayerClass {
-    MERCENARY("Mercenary", ""),
-    PALADIN("Paladin", "");
+    MERCENARY("Mercenary", "", new AnimationSet()
+            .loop(State.RUNNING, "character/Mercenary/Walking.png", 0.5f)
+            .loop(State.IDLE, "character/Mercenary/Idle.png", 0.4f)
+            .once(State.DYING, "character/Mercenary/Dying.png", 0.5f)),
+    PALADIN("Paladin", "", new AnimationSet()
+            .loop(State.RUNNING, "character/Paladin/Walking.png", 0.5f)
+            .loop(State.IDLE, "character/Paladin/Idle.png", 0.4f)
+            .once(State.DYING, "character/Mercenary/Dying.png", 0.5f)
+            .fallback(MERCENARY.animations));
 
     private final String displayName;
     private final String description;
+    private final AnimationSet animations;
 
-    PlayerClass(String displayName, String description) {
+    PlayerClass(String displayName, String description, AnimationSet animations) {
         this.displayName = displayName;
         this.description = description;
+        this.animations = animations;
     }
 
     public String getDisplayName() {
@@ -19,4 +31,8 @@ public enum PlayerClass {
     public String getDescription() {
         return description;
     }
+
+    public AnimationSet getAnimations() {
+        return animations;
+    }
 }
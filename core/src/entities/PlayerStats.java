@@ -2,10 +2,12 @@ package entities;
 
 import java.util.Random;
 import config.GameScreen;
+import config.RunSnapshot;
+import managers.GameRandom;
 import managers.SoundManager;
 
 public class PlayerStats {
-    private static final Random random = new Random(System.nanoTime());
+    private final Random random = GameRandom.newRandom();
     private int maxHealth;
     private int currentHealth;
     private int baseDamage;
@@ -38,6 +40,7 @@ public class PlayerStats {
     private static int STAT_POINTS_PER_LEVEL = 5;
     private static final int ATTACK_PER_POINT = 1;
     private static final int DEFENSE_PER_POINT = 1;
+    private static final int POTION_STAT_POINTS = 5;
 
     private int gearDamage;
     private int gearDefense;
@@ -123,25 +126,25 @@ public class PlayerStats {
         switch (buff) {
             case "Attack Potion":
                 if (activate)
-                    allocatedAttackPoints += 5;
+                    allocatedAttackPoints += POTION_STAT_POINTS;
                 else
-                    allocatedAttackPoints -= 5;
+                    allocatedAttackPoints -= POTION_STAT_POINTS;
                 recalculateStats();
                 break;
             case "Defense Potion":
                 if (activate)
-                    allocatedDefensePoints += 5;
+                    allocatedDefensePoints += POTION_STAT_POINTS;
                 else
-                    allocatedDefensePoints -= 5;
+                    allocatedDefensePoints -= POTION_STAT_POINTS;
                 recalculateStats();
                 break;
             case "Dex Potion":
                 if (activate) {
-                    allocatedDexPoints += 5;
+                    allocatedDexPoints += POTION_STAT_POINTS;
                     gearAttackSpeed += 0.05f;
                 }
                 else {
-                    allocatedDexPoints -= 5;
+                    allocatedDexPoints -= POTION_STAT_POINTS;
                     gearAttackSpeed -= 0.05f;
                 }
                 recalculateStats();
@@ -493,6 +496,49 @@ public class PlayerStats {
         this.currentHealth = Math.min(currentHealth, maxHealth);
     }
 
+    // Potion points are left out, since restoring drinks the active potions again
+    public void captureTo(RunSnapshot snapshot, boolean[] activeBuffs) {
+        snapshot.level = level;
+        snapshot.experience = experience;
+        snapshot.experienceToNextLevel = experienceToNextLevel;
+        snapshot.currentHealth = currentHealth;
+        snapshot.allocatedHealthPoints = allocatedHealthPoints;
+        snapshot.allocatedAttackPoints = allocatedAttackPoints - (activeBuffs[0] ? POTION_STAT_POINTS : 0);
+        snapshot.allocatedDefensePoints = allocatedDefensePoints - (activeBuffs[1] ? POTION_STAT_POINTS : 0);
+        snapshot.allocatedDexPoints = allocatedDexPoints - (activeBuffs[2] ? POTION_STAT_POINTS : 0);
+        snapshot.allocatedAttackSpeed = allocatedAttackSpeed;
+        snapshot.availableStatPoints = availableStatPoints;
+        snapshot.availableSkillPoints = availableSkillPoints;
+        snapshot.totalSkillPointsEarned = totalSkillPointsEarned;
+    }
+
+    // Gear and potions are applied on top afterwards, by equipping and drinking them again
+    public void restoreFrom(RunSnapshot snapshot) {
+        level = snapshot.level;
+        experience = snapshot.experience;
+        experienceToNextLevel = snapshot.experienceToNextLevel;
+        allocatedHealthPoints = snapshot.allocatedHealthPoints;
+        allocatedAttackPoints = snapshot.allocatedAttackPoints;
+        allocatedDefensePoints = snapshot.allocatedDefensePoints;
+        allocatedDexPoints = snapshot.allocatedDexPoints;
+        allocatedAttackSpeed = snapshot.allocatedAttackSpeed;
+        availableStatPoints = snapshot.availableStatPoints;
+        availableSkillPoints = snapshot.availableSkillPoints;
+        totalSkillPointsEarned = snapshot.totalSkillPointsEarned;
+
+        gearDamage = 0;
+        gearDefense = 0;
+        gearVitality = 0;
+        gearDex = 0;
+        gearAttackSpeed = 0f;
+        coinMultiplier = 1.0f;
+        hasBoxingGloves = false;
+        hasBulletVest = false;
+
+        recalculateStats();
+        currentHealth = maxHealth;
+    }
+
     public void setStatPointsEndless() {
         this.availableSkillPoints = 5;
         this.totalSkillPointsEarned = 5;
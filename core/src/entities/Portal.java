@@ -11,9 +11,11 @@ import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 
 import config.Storage;
+import managers.BodyCommandBuffer;
 import managers.CollisionFilter;
+import managers.RenderQueue;
 
-public class Portal {
+public class Portal implements RenderQueue.Drawable {
     private Rectangle bounds;
     private Body body;
     private Texture texture;
@@ -92,7 +94,7 @@ public class Portal {
 
     public void dispose(World world) {
         if (body != null) {
-            world.destroyBody(body);
+            BodyCommandBuffer.getInstance().destroy(body);
             body = null;
         }
     }
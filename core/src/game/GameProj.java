@@ -20,7 +20,6 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.*;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -29,16 +28,17 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import config.GameScreen;
+import config.RunSnapshot;
 import config.SaveManager;
+import config.SnapshotManager;
 import config.Storage;
 import entities.*;
 import managers.*;
 import abilities.StatusEffect;
+import abilities.StatusEffectSystem;
+import abilities.StatusEffectTarget;
 import ui.*;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class GameProj implements Screen, ContactListener {
     private final Skin skin;
     private final Viewport viewport;
@@ -68,6 +68,8 @@ public class GameProj implements Screen, ContactListener {
     private final int PLAYER_TILE_SIZE = 32;
     private static final float MIN_ENEMY_SPAWN_DISTANCE = 100f;
     private static final int MAX_SPAWN_ATTEMPTS = 50;
+    private static final float AUTOSAVE_INTERVAL = 30f;
+    private static final float MUSIC_PREFETCH_RADIUS = 120f;
 
     private boolean inDungeon = false;
     private boolean inBossRoom = false;
@@ -104,14 +106,29 @@ public class GameProj implements Screen, ContactListener {
     private boolean merchantShopOpen = false;
     private Texture cursorTexture;
     private float cursorX = 0;
+    private float tickDelta = 0;
     private float cursorY = 0;
     private SafeStashPopup safeStashPopup;
     private PopupIndicator popupIndicator;
     private LowHealthVignette lowHealthVignette;
     private final GlyphLayout legendLayout = new GlyphLayout();
-
-
-    private Map<Object, List<StatusEffect>> statusEffects;
+    private final Profiler profiler = Profiler.getInstance();
+    private final ProjectileSystem projectiles = ProjectileSystem.getInstance();
+    private final EntityRegistry entityRegistry = new EntityRegistry();
+    private final BodyCommandBuffer bodyCommands = BodyCommandBuffer.getInstance();
+    private final ActivationRegion activationRegion = new ActivationRegion();
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final LightMap lightMap = new LightMap();
+    private final PostProcessor postProcessor = new PostProcessor();
+    private final Rectangle renderView = new Rectangle();
+    private final RenderQueue.Drawable playerDrawable = batch -> player.render(batch, PLAYER_TILE_SIZE);
+    private ProfilerOverlay profilerOverlay;
+
+
+    private StatusEffectSystem statusEffects;
+    private final SnapshotManager snapshots;
+    private float autosaveTimer = 0f;
+    private long dungeonSeed;
 
     public GameProj(Viewport viewport, Game game, GameScreen gameScreen) {
         this.gameScreen = gameScreen;
@@ -135,38 +152,50 @@ public class GameProj implements Screen, ContactListener {
         camera.setToOrtho(false, viewport.getWorldWidth() / (TILE_SIZE / 4f), viewport.getWorldHeight() / (TILE_SIZE / 4f));
         camera.update();
         world = new Box2DWorld(this);
-        random = new Random();
+        random = GameRandom.newRandom();
+        snapshots = new SnapshotManager(GameScreen.getGameMode(), Storage.getSelectedPlayerClass().name(), random);
         world.getWorld().setContactListener(this);
+        profiler.setWorld(world.getWorld());
+        profiler.setActivationRegion(activationRegion);
         Player.gameStarted = false;
 
         chunkGenerator = Executors.newFixedThreadPool(2);
 
         createComponents();
 
+        RunSnapshot restoredRun = snapshots.getRestoredRun();
         if (GameScreen.getGameMode() == 0) {
             GameScreen.setCurrentScreen(4);
             player.getStats().setStatPointsEndless();
 
             startEndlessMode();
 
-            itemSpawner.spawnItem("berserkers_iron_helmet", player.getPosition());
-            itemSpawner.spawnItem("berserkers_iron_sword", player.getPosition());
-            itemSpawner.spawnItem("berserkers_iron_boots", player.getPosition());
-            itemSpawner.spawnItem("berserkers_iron_armor", player.getPosition());
-            itemSpawner.spawnItem("berserkers_iron_shield", player.getPosition());
-            itemSpawner.spawnItem("berserkers_iron_gloves", player.getPosition());
-            itemSpawner.spawnItem("health_potion", player.getPosition());
-            itemSpawner.spawnItem("small_health_potion", player.getPosition());
+            if (restoredRun == null) {
+                itemSpawner.spawnItem("berserkers_iron_helmet", player.getPosition());
+                itemSpawner.spawnItem("berserkers_iron_sword", player.getPosition());
+                itemSpawner.spawnItem("berserkers_iron_boots", player.getPosition());
+                itemSpawner.spawnItem("berserkers_iron_armor", player.getPosition());
+                itemSpawner.spawnItem("berserkers_iron_shield", player.getPosition());
+                itemSpawner.spawnItem("berserkers_iron_gloves", player.getPosition());
+                itemSpawner.spawnItem("health_potion", player.getPosition());
+                itemSpawner.spawnItem("small_health_potion", player.getPosition());
+            }
         } else {
 //            spawnLemmys();
 //            spawnHerman();
-            itemSpawner.spawnItem("pirate_hat", player.getPosition());
-            itemSpawner.spawnItem("boxing_gloves", player.getPosition());
-            itemSpawner.spawnItem("bullet_vest", player.getPosition());
-            itemSpawner.spawnItem("speed_shoe", player.getPosition());
+            if (restoredRun == null) {
+                itemSpawner.spawnItem("pirate_hat", player.getPosition());
+                itemSpawner.spawnItem("boxing_gloves", player.getPosition());
+                itemSpawner.spawnItem("bullet_vest", player.getPosition());
+                itemSpawner.spawnItem("speed_shoe", player.getPosition());
+            }
             GameScreen.setCurrentScreen(1);
         }
 
+        if (restoredRun != null) {
+            restoreRun(restoredRun);
+        }
+
         setupCursorConfinement();
     }
 
@@ -297,9 +326,13 @@ public class GameProj implements Screen, ContactListener {
         playerHealthPopup = new PlayerHealthPopup(hudViewport, camera);
         popupIndicator = new PopupIndicator(hudViewport, camera);
         lowHealthVignette = new LowHealthVignette();
+        profilerOverlay = new ProfilerOverlay(hudViewport);
 
         player.getStats().setHealthChangeListener((amount) -> {
             playerHealthPopup.showHealthChange(amount, player.getPosition().x, player.getPosition().y);
+            if (amount < 0) {
+                postProcessor.flash(0.8f, 0.1f, 0.1f, 0.3f);
+            }
         });
         player.getStats().setLevelUpListener(() ->
             popupIndicator.showLevelUp(player.getPosition()));
@@ -318,7 +351,7 @@ public class GameProj implements Screen, ContactListener {
         itemSpawner = new ItemSpawner(world.getWorld());
         player.setItemSpawner(itemSpawner);
 
-        statusEffects = new HashMap<>();
+        statusEffects = new StatusEffectSystem();
 
         player.initializeAbilityManager(this);
 
@@ -328,14 +361,148 @@ public class GameProj implements Screen, ContactListener {
         bossHealthUI = new BossHealthUI(hudViewport);
         initializeSafeStashPopup();
 
-        setRandomPlayerSpawn();
-        if (GameScreen.getGameMode() == 1) {
-            spawnDungeonPortals();
-            spawnMerchant();
+        RunSnapshot restoredRun = snapshots.getRestoredRun();
+        if (restoredRun != null) {
+            restoreOverworld(restoredRun);
+        } else {
+            setRandomPlayerSpawn();
+            if (GameScreen.getGameMode() == 1) {
+                spawnDungeonPortals();
+                spawnMerchant();
+            }
         }
         SoundManager.getInstance().playForestMusic();
     }
 
+    // Puts back what createComponents() would otherwise place at random; the chunks come back as they stream in
+    private void restoreOverworld(RunSnapshot run) {
+        player.getBody().setTransform(run.playerX, run.playerY, 0);
+
+        for (int i = 0; i < run.portalX.length; i++) {
+            Portal portal = new Portal(run.portalX[i], run.portalY[i], 32, world.getWorld(), false);
+            portal.setIsCleared(run.portalCleared[i]);
+            dungeonPortals.add(portal);
+            if (minimap != null) {
+                minimap.setPortal(portal);
+            }
+        }
+
+        if (run.hasMerchant) {
+            placeMerchant(run.merchantX, run.merchantY);
+        }
+    }
+
+    private void restoreRun(RunSnapshot run) {
+        player.restoreFrom(run);
+        totalGameTime = run.totalGameTime;
+        enemiesKilled = run.enemiesKilled;
+        bossKittyDefeated = run.bossKittyDefeated;
+        cyclopsDefeated = run.cyclopsDefeated;
+        ghostBossDefeated = run.ghostBossDefeated;
+
+        // Rooms are rebuilt from the start; a dungeon gets its saved seed, so it has the same layout again
+        if (run.location == RunSnapshot.LOCATION_DUNGEON) {
+            enterDungeon(run.dungeonSeed);
+        } else if (run.location == RunSnapshot.LOCATION_BOSS_ROOM) {
+            overworldPlayerPosition = new Vector2(run.playerX, run.playerY);
+            enterBossRoom();
+        } else if (run.location == RunSnapshot.LOCATION_ENDLESS) {
+            if (!inEndlessRoom) {
+                enterEndlessRoom();
+            }
+            currentEndlessRoom.resumeAt(run.endlessWave, run.endlessKills);
+            endlessTimeSurvived = run.endlessTimeSurvived;
+        }
+
+        if (run.hasMerchant) {
+            placeMerchant(run.merchantX, run.merchantY);
+        }
+        merchantShop.setStock(run.shopItems);
+    }
+
+    private void placeMerchant(float x, float y) {
+        if (merchant != null) {
+            merchant.dispose(world.getWorld());
+        }
+        merchant = new Merchant(x, y, world.getWorld(), animationManager);
+        if (minimap != null) {
+            minimap.setMerchant(merchant);
+        }
+    }
+
+    private RunSnapshot captureRun() {
+        RunSnapshot run = new RunSnapshot();
+        run.gameMode = GameScreen.getGameMode();
+        run.playerClass = player.getPlayerClass().name();
+        run.totalGameTime = totalGameTime;
+        run.enemiesKilled = enemiesKilled;
+        run.dungeonSeed = dungeonSeed;
+
+        if (inBossRoom) {
+            run.location = RunSnapshot.LOCATION_BOSS_ROOM;
+        } else if (inDungeon) {
+            run.location = RunSnapshot.LOCATION_DUNGEON;
+        } else if (inEndlessRoom) {
+            run.location = RunSnapshot.LOCATION_ENDLESS;
+        } else {
+            run.location = RunSnapshot.LOCATION_OVERWORLD;
+        }
+
+        Vector2 position = run.location != RunSnapshot.LOCATION_OVERWORLD && overworldPlayerPosition != null
+                ? overworldPlayerPosition : player.getPosition();
+        run.playerX = position.x;
+        run.playerY = position.y;
+
+        player.captureTo(run);
+
+        if (merchant != null) {
+            run.hasMerchant = true;
+            run.merchantX = merchant.getBounds().x;
+            run.merchantY = merchant.getBounds().y;
+        }
+        run.shopItems = merchantShop.getStockIds();
+
+        int portals = dungeonPortals.size();
+        run.portalX = new float[portals];
+        run.portalY = new float[portals];
+        run.portalCleared = new boolean[portals];
+        for (int i = 0; i < portals; i++) {
+            Portal portal = dungeonPortals.get(i);
+            run.portalX[i] = portal.getBounds().x;
+            run.portalY[i] = portal.getBounds().y;
+            run.portalCleared[i] = portal.getIsCleared();
+        }
+
+        run.bossKittyDefeated = bossKittyDefeated;
+        run.cyclopsDefeated = cyclopsDefeated;
+        run.ghostBossDefeated = ghostBossDefeated;
+
+        if (currentEndlessRoom != null) {
+            run.endlessWave = currentEndlessRoom.getCurrentWave();
+            run.endlessKills = currentEndlessRoom.getTotalEnemiesKilled();
+            run.endlessTimeSurvived = endlessTimeSurvived;
+        }
+        return run;
+    }
+
+    // Only the capture runs on the frame; SnapshotManager encodes and writes it in the background
+    private void updateAutosave(float delta) {
+        if (!snapshots.isEnabled()) return;
+
+        if (player.getStats().isDead()) {
+            snapshots.clear();
+            return;
+        }
+
+        autosaveTimer += delta;
+        if (autosaveTimer >= AUTOSAVE_INTERVAL) {
+            autosaveTimer = 0f;
+            profiler.begin(Profiler.SNAPSHOT);
+            snapshots.autosave(captureRun());
+            profiler.end(Profiler.SNAPSHOT);
+        }
+    }
+
     public void transferToSafeStash() {
         player.getInventory().transferSafeStorageToStash();
     }
@@ -672,6 +839,10 @@ public class GameProj implements Screen, ContactListener {
     }
 
     private void enterDungeon() {
+        enterDungeon(random.nextLong());
+    }
+
+    private void enterDungeon(long seed) {
         GameScreen.setCurrentScreen(2);
 
         for (Portal portal: dungeonPortals) {
@@ -681,9 +852,7 @@ public class GameProj implements Screen, ContactListener {
         }
 
         for (Lemmy lemmy : globalLemmys) {
-            if (lemmy.getBody() != null) {
-                lemmy.getBody().setActive(false);
-            }
+            bodyCommands.setActive(lemmy.getBody(), false);
         }
 
         SoundManager.getInstance().stopGrassRunning();
@@ -692,6 +861,7 @@ public class GameProj implements Screen, ContactListener {
         inDungeon = true;
         inBossRoom = false;
         itemSpawner.clear();
+        projectiles.clear();
         overworldPlayerPosition = new Vector2(player.getPosition());
 
         for (Chunk chunk : chunks.values()) {
@@ -708,7 +878,8 @@ public class GameProj implements Screen, ContactListener {
         }
 
         int dungeonTileSize = (int) (TILE_SIZE / 1.2f);
-        currentDungeon = new Dungeon(100, 100, dungeonTileSize, random, world.getWorld(), player, animationManager);
+        dungeonSeed = seed;
+        currentDungeon = new Dungeon(100, 100, dungeonTileSize, new Random(seed), world.getWorld(), player, animationManager);
         dungeonMinimap = new DungeonMinimap(100, 100, dungeonTileSize, player, currentDungeon);
 
         Vector2 spawnPoint = currentDungeon.getSpawnPoint();
@@ -728,6 +899,7 @@ public class GameProj implements Screen, ContactListener {
         inBossRoom = true;
         inDungeon = false;
         itemSpawner.clear();
+        projectiles.clear();
 
         if (currentDungeon != null) {
             currentDungeon.dispose();
@@ -787,11 +959,10 @@ public class GameProj implements Screen, ContactListener {
         inBossRoom = false;
         inDungeon = false;
         itemSpawner.clear();
+        projectiles.clear();
 
         for (Lemmy lemmy : globalLemmys) {
-            if (lemmy.getBody() != null) {
-                lemmy.getBody().setActive(true);
-            }
+            bodyCommands.setActive(lemmy.getBody(), true);
         }
 
         GameScreen.setCurrentScreen(1);
@@ -843,15 +1014,14 @@ public class GameProj implements Screen, ContactListener {
         SoundManager.getInstance().playEndlessMusic();
 
         for (Lemmy lemmy : globalLemmys) {
-            if (lemmy.getBody() != null) {
-                lemmy.getBody().setActive(false);
-            }
+            bodyCommands.setActive(lemmy.getBody(), false);
         }
 
         inEndlessRoom = true;
         inDungeon = false;
         inBossRoom = false;
         itemSpawner.clear();
+        projectiles.clear();
         endlessTimeSurvived = 0f;
 
         overworldPlayerPosition = new Vector2(player.getPosition());
@@ -882,6 +1052,9 @@ public class GameProj implements Screen, ContactListener {
 
     @Override
     public void render(float delta) {
+        profiler.beginFrame();
+        tickDelta = delta;
+
         boolean stashPopupOpen = safeStashPopup != null && safeStashPopup.isOpen();
         if (stashPopupOpen) {
             safeStashPopup.update(delta, player.getInventory());
@@ -919,7 +1092,19 @@ public class GameProj implements Screen, ContactListener {
                 return;
             }
 
-        SoundManager.getInstance().update(delta);
+        // Profiler keys come from the real keyboard, so they work during replays and never end up in recordings
+        Input liveInput = ReplayManager.getInstance().getLiveInput();
+        if (liveInput.isKeyJustPressed(Input.Keys.F3)) {
+            profiler.toggle();
+        }
+
+        if (liveInput.isKeyJustPressed(Input.Keys.F6) && profiler.isEnabled()) {
+            profiler.toggleCsv();
+        }
+
+        if (player != null && player.getBody() != null) {
+            SoundManager.getInstance().setListenerPosition(player.getBody().getPosition().x, player.getBody().getPosition().y);
+        }
 
         if (Gdx.input.isKeyPressed(Input.Keys.F5) && !isPaused) {
             gameScreen.switchToNewState(GameScreen.START);
@@ -942,17 +1127,24 @@ public class GameProj implements Screen, ContactListener {
         updateCursorConfinement();
 
         if (!isPaused && !merchantShopOpen) {
-            world.getWorld().step(1 / 60f, 6, 2);
+            profiler.begin(Profiler.PHYSICS);
+            world.step(1 / 60f);
+            profiler.end(Profiler.PHYSICS);
 
             totalGameTime += delta;
 
             playerHealthPopup.update(delta);
             popupIndicator.update(delta);
             lowHealthVignette.update(delta, player.getStats().getHealthPercentage());
+            lowHealthVignette.apply(postProcessor);
+            postProcessor.update(delta);
+            ScreenShake.tick(delta);
 
             if (!inDungeon && !inBossRoom) {
                 if (minimap != null) {
+                    profiler.begin(Profiler.MINIMAP);
                     minimap.update();
+                    profiler.end(Profiler.MINIMAP);
                 }
 
                 if (Gdx.input.isKeyJustPressed(Input.Keys.M)) {
@@ -964,7 +1156,9 @@ public class GameProj implements Screen, ContactListener {
                 }
             } else if (inDungeon) {
                 if (dungeonMinimap != null) {
+                    profiler.begin(Profiler.MINIMAP);
                     dungeonMinimap.update();
+                    profiler.end(Profiler.MINIMAP);
                 }
 
                 if (Gdx.input.isKeyJustPressed(Input.Keys.M)) {
@@ -972,6 +1166,7 @@ public class GameProj implements Screen, ContactListener {
                 }
             }
 
+            profiler.begin(Profiler.WORLD_RENDER);
             if (!inDungeon && !inBossRoom && !inEndlessRoom) {
                 renderOverworld(delta);
             } else if (inDungeon) {
@@ -981,7 +1176,9 @@ public class GameProj implements Screen, ContactListener {
             } else {
                 renderEndlessRoom(delta);
             }
+            profiler.end(Profiler.WORLD_RENDER);
         } else {
+            profiler.begin(Profiler.WORLD_RENDER);
             if (!inDungeon && !inBossRoom && !inEndlessRoom) {
                 renderOverworld(0);
             } else if (inDungeon) {
@@ -991,12 +1188,15 @@ public class GameProj implements Screen, ContactListener {
             } else {
                 renderEndlessRoom(0);
             }
+            profiler.end(Profiler.WORLD_RENDER);
         }
 
         if (delta > 0) {
             checkForDeadEnemies();
+            updateAutosave(delta);
         }
 
+        profiler.begin(Profiler.HUD);
         if (hudStage != null) {
             hudStage.act(delta);
             hudStage.draw();
@@ -1029,8 +1229,14 @@ public class GameProj implements Screen, ContactListener {
             float cursorY = Math.max(0, Math.min(Gdx.graphics.getHeight() - Gdx.input.getY(), Gdx.graphics.getHeight()));
 
             batch.draw(cursorTexture, cursorX - cursorTexture.getWidth() / 4f, cursorY - cursorTexture.getHeight() / 3f, 32, 32);
+
+            if (profilerOverlay != null) {
+                profilerOverlay.render(batch);
+            }
             batch.end();
         }
+        profiler.end(Profiler.HUD);
+        profiler.endFrame(batch);
 
 //        if (world != null) {
 //            Box2DDebugRenderer debugRenderer = new Box2DDebugRenderer();
@@ -1072,10 +1278,6 @@ public class GameProj implements Screen, ContactListener {
         float clampedY = Math.max(endlessRoomMinY + cameraHalfHeight, Math.min(targetY, endlessRoomMaxY - cameraHalfHeight));
 
         camera.position.set(clampedX, clampedY, 0);
-
-        Vector3 shakeOffset = ScreenShake.getPos();
-        camera.position.add(shakeOffset.x, shakeOffset.y, 0);
-
         camera.update();
 
         if (delta > 0) {
@@ -1083,6 +1285,7 @@ public class GameProj implements Screen, ContactListener {
             endlessTimeSurvived += delta;
         }
 
+        postProcessor.beginWorld(viewport);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
@@ -1092,35 +1295,43 @@ public class GameProj implements Screen, ContactListener {
 
             if (delta > 0) {
                 currentEndlessRoom.renderEnemies(batch, delta);
+                profiler.begin(Profiler.AI);
                 currentEndlessRoom.update(delta);
+                profiler.end(Profiler.AI);
             } else {
                 currentEndlessRoom.renderEnemies(batch, 0);
             }
         }
 
+        updateProjectiles(delta);
+        projectiles.render(batch);
+
         if (delta > 0) {
             statusEffectTimer += delta;
         }
-        StatusEffectRenderer.render(batch, statusEffects, statusEffectTimer);
+        StatusEffectRenderer.render(batch, statusEffects.getTargets(), statusEffectTimer);
 
         player.render(batch, PLAYER_TILE_SIZE);
         player.renderAbilityEffects(batch);
 
         if (delta > 0) {
+            refreshEntityRegistry();
             player.update(delta);
             updateStatusEffects(delta);
         }
 
         if (batch != null) {
             batch.end();
+            postProcessor.endWorld(batch, camera, viewport);
 
             if (delta > 0) {
-                itemSpawner.update(delta);
+                itemSpawner.update(delta, player);
                 itemSpawner.checkPickups(player, player.getInventory());
             }
 
             batch.setProjectionMatrix(hudCamera.combined);
 
+            profiler.begin(Profiler.HUD);
             batch.begin();
             playerStatusUI.render(batch);
             player.renderSkillBar(batch);
@@ -1136,13 +1347,11 @@ public class GameProj implements Screen, ContactListener {
                 popupIndicator.render(batch);
             }
             renderLegend(batch);
-            if (lowHealthVignette != null) {
-                lowHealthVignette.render(batch, hudCamera);
-            }
             if (currentEndlessRoom != null) {
                 currentEndlessRoom.renderHUD(batch);
             }
             batch.end();
+            profiler.end(Profiler.HUD);
 
             if (player.getInventory().isOpen()) {
                 player.getInventory().render(batch, false, player);
@@ -1178,16 +1387,21 @@ public class GameProj implements Screen, ContactListener {
         if (batch == null) return;
 
         if (!inDungeon && !inBossRoom) {
+            profiler.begin(Profiler.CHUNK_COMMIT);
             while (!pendingChunks.isEmpty()) {
                 Chunk chunk = pendingChunks.poll();
                 if (chunk != null) {
                     chunk.addBodiesToWorld(world.getWorld());
                 }
             }
+            profiler.end(Profiler.CHUNK_COMMIT);
         }
 
         if (delta > 0) {
             checkForDeadEnemies();
+
+            Vector2 playerPos = player.getBody().getPosition();
+            activationRegion.update(chunks.values(), playerPos.x, playerPos.y);
         }
 
         int halfMapChunks = MAP_SIZE_CHUNKS / 2;
@@ -1206,38 +1420,19 @@ public class GameProj implements Screen, ContactListener {
         float clampedY = Math.max(mapMinY + cameraHalfHeight, Math.min(targetY, mapMaxY - cameraHalfHeight));
 
         camera.position.set(clampedX, clampedY, 0);
-
-        Vector3 shakeOffset = ScreenShake.getPos();
-        camera.position.add(shakeOffset.x, shakeOffset.y, 0);
-
         camera.update();
 
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
-
-        if (mapBoundary != null) {
-            mapBoundary.render(batch);
-        }
-
-        for (Chunk chunk : chunks.values()){
-            chunk.renderGround(batch, groundTexture);
-        }
-
-        for (Chunk chunk : chunks.values()) {
-            chunk.renderObstacles(batch, player.getPosition().y, false);
-        }
-
-        itemSpawner.render(batch);
-
-        for (Chunk chunk : chunks.values()) {
-            chunk.renderEnemies(batch, isPaused);
+        float enemyDelta = isPaused ? 0 : tickDelta;
+        if (enemyDelta > 0) {
+            for (Chunk chunk : chunks.values()) {
+                chunk.updateEnemies(enemyDelta);
+            }
         }
 
         if (merchant != null && merchant.isActive()) {
             if (delta > 0) {
                 merchant.update(delta);
             }
-            merchant.render(batch);
 
             if (!isPaused && !merchantShopOpen && merchant.isPlayerNear(player.getPosition()) &&
                     Gdx.input.isKeyJustPressed(Input.Keys.F)) {
@@ -1250,7 +1445,10 @@ public class GameProj implements Screen, ContactListener {
             if (delta > 0) {
                 portal.update(delta);
             }
-            portal.render(batch);
+
+            if (!portal.getIsCleared() && portal.isPlayerNear(player.getPosition(), MUSIC_PREFETCH_RADIUS)) {
+                SoundManager.getInstance().prefetchMusic(SoundManager.MUSIC_DUNGEON);
+            }
 
             if (!isPaused && !merchantShopOpen && portal.isPlayerNear(player.getPosition(), 20f) &&
                     Gdx.input.isKeyJustPressed(Input.Keys.F) && !portal.getIsCleared()) {
@@ -1259,9 +1457,13 @@ public class GameProj implements Screen, ContactListener {
             }
         }
 
-        if (endlessPortal != null && !isPaused && !merchantShopOpen) {
+        boolean showEndlessPortal = endlessPortal != null && !isPaused && !merchantShopOpen;
+        if (showEndlessPortal) {
             endlessPortal.update(delta);
-            endlessPortal.render(batch);
+
+            if (endlessPortal.isPlayerNear(player.getPosition(), MUSIC_PREFETCH_RADIUS)) {
+                SoundManager.getInstance().prefetchMusic(SoundManager.MUSIC_ENDLESS);
+            }
 
             if (endlessPortal.isPlayerNear(player.getPosition(), 20f) &&
                     Gdx.input.isKeyJustPressed(Input.Keys.F)) {
@@ -1269,55 +1471,93 @@ public class GameProj implements Screen, ContactListener {
             }
         }
 
-        if (herman != null && !herman.isMarkedForRemoval()) {
-            if (delta > 0) {
+        if (delta > 0) {
+            profiler.begin(Profiler.AI);
+            if (herman != null && !herman.isMarkedForRemoval()) {
                 herman.update(delta);
             }
-            herman.render(batch);
-        }
-
-        if (hermanDuplicate != null && !hermanDuplicate.isMarkedForRemoval()) {
-            if (delta > 0) {
+            if (hermanDuplicate != null && !hermanDuplicate.isMarkedForRemoval()) {
                 hermanDuplicate.update(delta);
             }
-            hermanDuplicate.render(batch);
-        }
-
-        for (Lemmy lemmy : globalLemmys) {
-            if (!lemmy.isMarkedForRemoval()) {
-                if (delta > 0) {
+            for (Lemmy lemmy : globalLemmys) {
+                if (!lemmy.isMarkedForRemoval()) {
                     lemmy.update(delta);
                 }
-                lemmy.render(batch);
             }
+            profiler.end(Profiler.AI);
         }
 
+        updateProjectiles(delta);
+
         if (delta > 0) {
             statusEffectTimer += delta;
+            refreshEntityRegistry();
+            player.update(delta);
+            updateStatusEffects(delta);
         }
-        StatusEffectRenderer.render(batch, statusEffects, statusEffectTimer);
 
-        player.render(batch, PLAYER_TILE_SIZE);
-        player.renderAbilityEffects(batch);
+        postProcessor.beginWorld(viewport);
+        batch.setProjectionMatrix(camera.combined);
+        batch.begin();
 
-        if (delta > 0) {
-            player.update(delta);
-            updateStatusEffects(delta);
+        if (mapBoundary != null) {
+            mapBoundary.render(batch);
         }
 
+        // A tile of margin so sprites hanging over the edge of their bounds (health bars, tree tops) don't pop
+        renderView.set(camera.position.x - camera.viewportWidth / 2f - TILE_SIZE,
+                camera.position.y - camera.viewportHeight / 2f - TILE_SIZE,
+                camera.viewportWidth + TILE_SIZE * 2, camera.viewportHeight + TILE_SIZE * 2);
+
+        renderQueue.begin();
         for (Chunk chunk : chunks.values()) {
-            chunk.renderObstacles(batch, player.getPosition().y, true);
+            if (chunk.overlaps(renderView)) {
+                chunk.renderGround(batch, groundTexture);
+                chunk.submit(renderQueue, renderView);
+            }
         }
 
-        if (batch != null)
-            batch.end();
+        itemSpawner.submit(renderQueue, renderView);
+
+        if (merchant != null && merchant.isActive()) {
+            submitToQueue(merchant, merchant.getBounds());
+        }
+        for (Portal portal : dungeonPortals) {
+            submitToQueue(portal, portal.getBounds());
+        }
+        if (showEndlessPortal) {
+            submitToQueue(endlessPortal, endlessPortal.getBounds());
+        }
+        if (herman != null && !herman.isMarkedForRemoval()) {
+            submitToQueue(herman, herman.getBounds());
+        }
+        if (hermanDuplicate != null && !hermanDuplicate.isMarkedForRemoval()) {
+            submitToQueue(hermanDuplicate, hermanDuplicate.getBounds());
+        }
+        for (Lemmy lemmy : globalLemmys) {
+            if (!lemmy.isMarkedForRemoval()) {
+                submitToQueue(lemmy, lemmy.getBounds());
+            }
+        }
+        renderQueue.submit(playerDrawable, RenderQueue.LAYER_WORLD, player.getPosition().y);
+
+        renderQueue.flush(batch);
+
+        projectiles.render(batch);
+        StatusEffectRenderer.render(batch, statusEffects.getTargets(), statusEffectTimer);
+        player.renderAbilityEffects(batch);
+
+        batch.end();
+        postProcessor.endWorld(batch, camera, viewport);
 
         if (delta > 0 && player != null) {
-            itemSpawner.update(delta);
+            itemSpawner.update(delta, player);
             itemSpawner.checkPickups(player, player.getInventory());
 
             if (minimap != null) {
+                profiler.begin(Profiler.MINIMAP);
                 minimap.update();
+                profiler.end(Profiler.MINIMAP);
             }
         }
 
@@ -1328,6 +1568,7 @@ public class GameProj implements Screen, ContactListener {
             }
 
             batch.setProjectionMatrix(hudCamera.combined);
+            profiler.begin(Profiler.HUD);
             batch.begin();
             playerStatusUI.render(batch);
             player.renderSkillBar(batch);
@@ -1342,19 +1583,29 @@ public class GameProj implements Screen, ContactListener {
                 popupIndicator.render(batch);
             }
             renderLegend(batch);
-            if (lowHealthVignette != null) {
-                lowHealthVignette.render(batch, hudCamera);
-            }
             batch.end();
+            profiler.end(Profiler.HUD);
 
             if (minimap != null && minimap.isMapOpen()) {
+                profiler.begin(Profiler.MINIMAP);
                 minimap.render(batch, false);
+                profiler.end(Profiler.MINIMAP);
             }
 
             batch.setProjectionMatrix(camera.combined);
         }
     }
 
+    private void renderDungeonLighting() {
+        lightMap.begin();
+        currentDungeon.submitLights(lightMap);
+        projectiles.submitLights(lightMap);
+        if (player.getAbilityManager() != null) {
+            player.getAbilityManager().submitLights(lightMap);
+        }
+        lightMap.render(batch, camera, viewport, currentDungeon.getAmbientDarkness(), postProcessor);
+    }
+
     private void renderDungeon(float delta) {
         if (batch == null) return;
 
@@ -1373,16 +1624,13 @@ public class GameProj implements Screen, ContactListener {
         float clampedY = Math.max(dungeonMinY + cameraHalfHeight, Math.min(targetY, dungeonMaxY - cameraHalfHeight));
 
         camera.position.set(clampedX, clampedY, 0);
-
-        Vector3 shakeOffset = ScreenShake.getPos();
-        camera.position.add(shakeOffset.x, shakeOffset.y, 0);
-
         camera.update();
 
         if (delta > 0) {
             checkForDeadEnemies();
         }
 
+        postProcessor.beginWorld(viewport);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
@@ -1398,11 +1646,19 @@ public class GameProj implements Screen, ContactListener {
                 currentDungeon.renderEnemies(batch, 0);
             }
 
-            currentDungeon.renderLighting(batch);
+            updateProjectiles(delta);
+            projectiles.render(batch);
+
+            renderDungeonLighting();
+
+            if (currentDungeon.isPlayerNearBossPortal(player.getPosition(), MUSIC_PREFETCH_RADIUS)) {
+                SoundManager.getInstance().prefetchMusic(SoundManager.MUSIC_BOSS);
+            }
 
             if (!isPaused && currentDungeon.isPlayerAtBossPortal(player.getPosition()) &&
                     Gdx.input.isKeyJustPressed(Input.Keys.F)) {
                 batch.end();
+                postProcessor.endWorld(batch, camera, viewport);
                 enterBossRoom();
                 return;
             }
@@ -1411,21 +1667,23 @@ public class GameProj implements Screen, ContactListener {
         if (delta > 0) {
             statusEffectTimer += delta;
         }
-        StatusEffectRenderer.render(batch, statusEffects, statusEffectTimer);
+        StatusEffectRenderer.render(batch, statusEffects.getTargets(), statusEffectTimer);
 
         player.render(batch, PLAYER_TILE_SIZE);
         player.renderAbilityEffects(batch);
 
         if (delta > 0) {
+            refreshEntityRegistry();
             player.update(delta);
             updateStatusEffects(delta);
         }
 
         if (batch != null) {
             batch.end();
+            postProcessor.endWorld(batch, camera, viewport);
 
             if (delta > 0) {
-                itemSpawner.update(delta);
+                itemSpawner.update(delta, player);
                 itemSpawner.checkPickups(player, player.getInventory());
             }
 
@@ -1438,6 +1696,7 @@ public class GameProj implements Screen, ContactListener {
 
 
             batch.setProjectionMatrix(hudCamera.combined);
+            profiler.begin(Profiler.HUD);
             batch.begin();
             playerStatusUI.render(batch);
             player.renderSkillBar(batch);
@@ -1452,13 +1711,13 @@ public class GameProj implements Screen, ContactListener {
                 popupIndicator.render(batch);
             }
             renderLegend(batch);
-            if (lowHealthVignette != null) {
-                lowHealthVignette.render(batch, hudCamera);
-            }
             batch.end();
+            profiler.end(Profiler.HUD);
 
             if (dungeonMinimap != null && dungeonMinimap.isMapOpen()) {
+                profiler.begin(Profiler.MINIMAP);
                 dungeonMinimap.render(batch, false);
+                profiler.end(Profiler.MINIMAP);
             }
         }
     }
@@ -1485,16 +1744,13 @@ public class GameProj implements Screen, ContactListener {
         float clampedY = Math.max(bossRoomMinY + cameraHalfHeight, Math.min(targetY, bossRoomMaxY - cameraHalfHeight));
 
         camera.position.set(clampedX, clampedY, 0);
-
-        Vector3 shakeOffset = ScreenShake.getPos();
-        camera.position.add(shakeOffset.x, shakeOffset.y, 0);
-
         camera.update();
 
         if (delta > 0) {
             checkForDeadEnemies();
         }
 
+        postProcessor.beginWorld(viewport);
         batch.setProjectionMatrix(camera.combined);
         batch.begin();
 
@@ -1508,6 +1764,9 @@ public class GameProj implements Screen, ContactListener {
                 currentBossRoom.renderBoss(batch, 0);
             }
 
+            updateProjectiles(delta);
+            projectiles.render(batch);
+
             if (currentBossRoom.isBossDefeated() && currentBossRoom.getExitPortal() != null) {
                 currentBossRoom.getExitPortal().render(batch);
             }
@@ -1515,6 +1774,7 @@ public class GameProj implements Screen, ContactListener {
             if (!isPaused && currentBossRoom.isPlayerAtExit(player.getPosition()) &&
                     Gdx.input.isKeyJustPressed(Input.Keys.F)) {
                 batch.end();
+                postProcessor.endWorld(batch, camera, viewport);
                 exitBossRoom();
                 return;
             }
@@ -1523,21 +1783,23 @@ public class GameProj implements Screen, ContactListener {
         if (delta > 0) {
             statusEffectTimer += delta;
         }
-        StatusEffectRenderer.render(batch, statusEffects, statusEffectTimer);
+        StatusEffectRenderer.render(batch, statusEffects.getTargets(), statusEffectTimer);
 
         player.render(batch, PLAYER_TILE_SIZE);
         player.renderAbilityEffects(batch);
 
         if (delta > 0) {
+            refreshEntityRegistry();
             player.update(delta);
             updateStatusEffects(delta);
         }
 
         if (batch != null) {
             batch.end();
+            postProcessor.endWorld(batch, camera, viewport);
 
             if (delta > 0) {
-                itemSpawner.update(delta);
+                itemSpawner.update(delta, player);
                 itemSpawner.checkPickups(player, player.getInventory());
             }
 
@@ -1547,6 +1809,7 @@ public class GameProj implements Screen, ContactListener {
                 player.getInventory().render(batch, false, player);
             }
 
+            profiler.begin(Profiler.HUD);
             batch.begin();
             playerStatusUI.render(batch);
             player.renderSkillBar(batch);
@@ -1561,10 +1824,22 @@ public class GameProj implements Screen, ContactListener {
                 popupIndicator.render(batch);
             }
             renderLegend(batch);
-            if (lowHealthVignette != null) {
-                lowHealthVignette.render(batch, hudCamera);
-            }
             batch.end();
+            profiler.end(Profiler.HUD);
+        }
+    }
+
+    private void updateProjectiles(float delta) {
+        if (delta > 0) {
+            profiler.begin(Profiler.PROJECTILES);
+            projectiles.update(delta, world.getWorld(), player);
+            profiler.end(Profiler.PROJECTILES);
+        }
+    }
+
+    private void submitToQueue(RenderQueue.Drawable drawable, Rectangle bounds) {
+        if (bounds.overlaps(renderView)) {
+            renderQueue.submit(drawable, RenderQueue.LAYER_WORLD, bounds.y + bounds.height / 2f);
         }
     }
 
@@ -1630,14 +1905,30 @@ public class GameProj implements Screen, ContactListener {
     private void scheduleChunkGeneration(int chunkX, int chunkY) {
         if (inDungeon || inBossRoom) return;
 
+        if (GameRandom.isSeeded()) {
+            // Seeded runs generate inline so chunk contents and commit order don't depend on thread timing
+            profiler.begin(Profiler.CHUNK_GEN);
+            generateChunk(chunkX, chunkY);
+            profiler.end(Profiler.CHUNK_GEN);
+            return;
+        }
+
         chunkGenerator.submit(() -> {
-            Vector2 chunkCoord = new Vector2(chunkX, chunkY);
-            Chunk newChunk = new Chunk(chunkX, chunkY, CHUNK_SIZE, TILE_SIZE, random, world.getWorld(), player, animationManager);
-            pendingChunks.add(newChunk);
-            chunks.put(chunkCoord, newChunk);
+            long start = System.nanoTime();
+            generateChunk(chunkX, chunkY);
+            profiler.addAsync(Profiler.CHUNK_GEN, System.nanoTime() - start);
         });
     }
 
+    // Every chunk has its own seed, so a restored run generates it the same way and only replays its delta
+    private void generateChunk(int chunkX, int chunkY) {
+        RunSnapshot.ChunkDelta delta = snapshots.getChunkDelta(chunkX, chunkY);
+        Chunk newChunk = new Chunk(chunkX, chunkY, CHUNK_SIZE, TILE_SIZE, new Random(delta.seed), world.getWorld(), player, animationManager);
+        newChunk.setKilledEnemies(delta.killedEnemies);
+        pendingChunks.add(newChunk);
+        chunks.put(new Vector2(chunkX, chunkY), newChunk);
+    }
+
     public void generateChunksAroundPlayer() {
         if (inDungeon || inBossRoom || isPaused) return;
 
@@ -1689,8 +1980,7 @@ public class GameProj implements Screen, ContactListener {
         if (enemy instanceof Enemy) {
             Enemy regularEnemy = (Enemy) enemy;
 
-            String lootTable = regularEnemy.getStats().getLootTableType();
-            lootTableRegistry.spawnLoot(lootTable, itemSpawner, enemyPosition);
+            lootTableRegistry.queueLoot(regularEnemy.getStats().getLootTableType(), enemyPosition.x, enemyPosition.y);
 
             player.getStats().addExperience(regularEnemy.getStats().getExpReward());
 
@@ -1699,8 +1989,7 @@ public class GameProj implements Screen, ContactListener {
         } else if (enemy instanceof BossKitty) {
             BossKitty boss = (BossKitty) enemy;
 
-            String lootTable = boss.getStats().getLootTableType();
-            lootTableRegistry.spawnLoot(lootTable, itemSpawner, enemyPosition);
+            lootTableRegistry.queueLoot(boss.getStats().getLootTableType(), enemyPosition.x, enemyPosition.y);
 
             player.getStats().addExperience(boss.getStats().getExpReward());
 
@@ -1712,8 +2001,7 @@ public class GameProj implements Screen, ContactListener {
         } else if (enemy instanceof Cyclops) {
             Cyclops cyclopsEnemy = (Cyclops) enemy;
 
-            String lootTable = cyclopsEnemy.getStats().getLootTableType();
-            lootTableRegistry.spawnLoot(lootTable, itemSpawner, enemyPosition);
+            lootTableRegistry.queueLoot(cyclopsEnemy.getStats().getLootTableType(), enemyPosition.x, enemyPosition.y);
 
             player.getStats().addExperience(cyclopsEnemy.getStats().getExpReward());
 
@@ -1725,8 +2013,7 @@ public class GameProj implements Screen, ContactListener {
         } else if (enemy instanceof GhostBoss) {
             GhostBoss ghostBoss = (GhostBoss) enemy;
 
-            String lootTable = ghostBoss.getStats().getLootTableType();
-            lootTableRegistry.spawnLoot(lootTable, itemSpawner, enemyPosition);
+            lootTableRegistry.queueLoot(ghostBoss.getStats().getLootTableType(), enemyPosition.x, enemyPosition.y);
 
             player.getStats().addExperience(ghostBoss.getStats().getExpReward());
 
@@ -1739,8 +2026,7 @@ public class GameProj implements Screen, ContactListener {
         else if (enemy instanceof Herman) {
             Herman hermanBoss = (Herman) enemy;
 
-            String lootTable = hermanBoss.getStats().getLootTableType();
-            lootTableRegistry.spawnLoot(lootTable, itemSpawner, enemyPosition);
+            lootTableRegistry.queueLoot(hermanBoss.getStats().getLootTableType(), enemyPosition.x, enemyPosition.y);
 
             player.getStats().addExperience(hermanBoss.getStats().getExpReward());
         }
@@ -1748,8 +2034,7 @@ public class GameProj implements Screen, ContactListener {
         else if (enemy instanceof DungeonEnemy) {
             DungeonEnemy dungeonEnemy = (DungeonEnemy) enemy;
 
-            String lootTable = dungeonEnemy.getStats().getLootTableType();
-            lootTableRegistry.spawnLoot(lootTable, itemSpawner, enemyPosition);
+            lootTableRegistry.queueLoot(dungeonEnemy.getStats().getLootTableType(), enemyPosition.x, enemyPosition.y);
 
             player.getStats().addExperience(dungeonEnemy.getStats().getExpReward());
         }
@@ -1757,8 +2042,7 @@ public class GameProj implements Screen, ContactListener {
         else if (enemy instanceof DestructibleObject) {
             DestructibleObject dungeonEnemy = (DestructibleObject) enemy;
 
-            String lootTable = dungeonEnemy.getStats().getLootTableType();
-            lootTableRegistry.spawnLoot(lootTable, itemSpawner, enemyPosition);
+            lootTableRegistry.queueLoot(dungeonEnemy.getStats().getLootTableType(), enemyPosition.x, enemyPosition.y);
         }
     }
 
@@ -1773,14 +2057,13 @@ public class GameProj implements Screen, ContactListener {
     }
 
     public void checkForDeadEnemies() {
-        List<Body> bodiesToDestroy = new ArrayList<>();
-
         if (!inDungeon && !inBossRoom) {
             for (Chunk chunk : chunks.values()) {
                 for (Enemy enemy : new ArrayList<>(chunk.getEnemies())) {
                     if (enemy.isMarkedForRemoval() && enemy.getBody() != null) {
                         handleEnemyDeath(enemy, enemy.getBody().getPosition(), false);
-                        bodiesToDestroy.add(enemy.getBody());
+                        snapshots.onEnemyKilled(chunk.getChunkX(), chunk.getChunkY(), enemy.getSpawnIndex());
+                        bodyCommands.destroy(enemy.getBody());
                         enemy.clearBody();
                         chunk.getEnemies().remove(enemy);
                     }
@@ -1789,7 +2072,7 @@ public class GameProj implements Screen, ContactListener {
                 if (herman != null) {
                     if (herman.isMarkedForRemoval() && herman.getBody() != null) {
                         handleEnemyDeath(herman, herman.getBody().getPosition(), true);
-                        bodiesToDestroy.add(herman.getBody());
+                        bodyCommands.destroy(herman.getBody());
                         herman.clearBody();
                         if (bossHealthUI != null) {
                             bossHealthUI.setHerman(null);
@@ -1800,7 +2083,7 @@ public class GameProj implements Screen, ContactListener {
                 if (hermanDuplicate != null) {
                     if (hermanDuplicate.isMarkedForRemoval() && hermanDuplicate.getBody() != null) {
                         handleEnemyDeath(hermanDuplicate, hermanDuplicate.getBody().getPosition(), true);
-                        bodiesToDestroy.add(hermanDuplicate.getBody());
+                        bodyCommands.destroy(hermanDuplicate.getBody());
                         hermanDuplicate.clearBody();
                         if (bossHealthUI != null) {
                             bossHealthUI.setHermanDuplicate(null);
@@ -1812,14 +2095,14 @@ public class GameProj implements Screen, ContactListener {
 
                 for (Lemmy lemmy : new ArrayList<>(globalLemmys)) {
                     if (lemmy.isMarkedForRemoval() && lemmy.getBody() != null) {
-                        String lootTable = lemmy.getStats().getLootTableType();
-                        lootTableRegistry.spawnLoot(lootTable, itemSpawner, lemmy.getBody().getPosition());
+                        Vector2 deathPosition = lemmy.getBody().getPosition();
+                        lootTableRegistry.queueLoot(lemmy.getStats().getLootTableType(), deathPosition.x, deathPosition.y);
 
                         player.getStats().addExperience(lemmy.getStats().getExpReward());
 
                         enemiesKilled++;
 
-                        bodiesToDestroy.add(lemmy.getBody());
+                        bodyCommands.destroy(lemmy.getBody());
                         lemmy.clearBody();
                         globalLemmys.remove(lemmy);
                     }
@@ -1831,7 +2114,7 @@ public class GameProj implements Screen, ContactListener {
             for (DungeonEnemy enemy : new ArrayList<>(currentDungeon.getEnemies())) {
                 if (enemy.isMarkedForRemoval() && enemy.getBody() != null) {
                     handleEnemyDeath(enemy, enemy.getBody().getPosition(), false);
-                    bodiesToDestroy.add(enemy.getBody());
+                    bodyCommands.destroy(enemy.getBody());
                     enemy.clearBody();
                     currentDungeon.getEnemies().remove(enemy);
                 }
@@ -1840,7 +2123,7 @@ public class GameProj implements Screen, ContactListener {
             for (DestructibleObject object : new ArrayList<>(currentDungeon.getDestructables())) {
                 if (object.isMarkedForRemoval() && object.getBody() != null) {
                     handleEnemyDeath(object, object.getBody().getPosition(), false);
-                    bodiesToDestroy.add(object.getBody());
+                    bodyCommands.destroy(object.getBody());
                     object.clearBody();
                     currentDungeon.getDestructables().remove(object);
                 }
@@ -1851,7 +2134,7 @@ public class GameProj implements Screen, ContactListener {
             BossKitty bossRoomBoss = currentBossRoom.getBoss();
             if (bossRoomBoss != null && bossRoomBoss.isMarkedForRemoval() && bossRoomBoss.getBody() != null) {
                 handleEnemyDeath(bossRoomBoss, bossRoomBoss.getBody().getPosition(), true);
-                bodiesToDestroy.add(bossRoomBoss.getBody());
+                bodyCommands.destroy(bossRoomBoss.getBody());
                 bossRoomBoss.clearBody();
                 currentBossRoom.setBoss(null);
                 if (bossHealthUI != null) {
@@ -1862,7 +2145,7 @@ public class GameProj implements Screen, ContactListener {
             Cyclops cyclopsRoomBoss = currentBossRoom.getCyclops();
             if (cyclopsRoomBoss != null && cyclopsRoomBoss.isMarkedForRemoval() && cyclopsRoomBoss.getBody() != null) {
                 handleEnemyDeath(cyclopsRoomBoss, cyclopsRoomBoss.getBody().getPosition(), true);
-                bodiesToDestroy.add(cyclopsRoomBoss.getBody());
+                bodyCommands.destroy(cyclopsRoomBoss.getBody());
                 cyclopsRoomBoss.clearBody();
                 currentBossRoom.setCyclops(null);
                 if (bossHealthUI != null) {
@@ -1873,7 +2156,7 @@ public class GameProj implements Screen, ContactListener {
             GhostBoss ghostBoss = currentBossRoom.getGhostBoss();
             if (ghostBoss != null && ghostBoss.isMarkedForRemoval() && ghostBoss.getBody() != null) {
                 handleEnemyDeath(ghostBoss, ghostBoss.getBody().getPosition(), true);
-                bodiesToDestroy.add(ghostBoss.getBody());
+                bodyCommands.destroy(ghostBoss.getBody());
                 ghostBoss.clearBody();
                 currentBossRoom.setGhostBoss(null);
                 if (bossHealthUI != null) {
@@ -1886,23 +2169,62 @@ public class GameProj implements Screen, ContactListener {
             for (EndlessEnemy enemy : new ArrayList<>(currentEndlessRoom.getEnemies())) {
                 if (enemy.isMarkedForRemoval() && enemy.getBody() != null) {
 
-                    String lootTable = enemy.getStats().getLootTableType();
-                    lootTableRegistry.spawnLoot(lootTable, itemSpawner, enemy.getBody().getPosition());
+                    Vector2 deathPosition = enemy.getBody().getPosition();
+                    lootTableRegistry.queueLoot(enemy.getStats().getLootTableType(), deathPosition.x, deathPosition.y);
 
                     player.getStats().addExperience(enemy.getStats().getExpReward());
 
                     currentEndlessRoom.incrementKills();
 
-                    bodiesToDestroy.add(enemy.getBody());
-                    enemy.clearBody();
-                    currentEndlessRoom.getEnemies().remove(enemy);
+                    statusEffects.remove(enemy);
+                    currentEndlessRoom.releaseEnemy(enemy);
+                }
+            }
+        }
+
+        lootTableRegistry.spawnQueuedLoot(itemSpawner);
+    }
+
+    // Everything the player's attacks can hit in the current mode, gathered after this frame's deaths and spawns
+    private void refreshEntityRegistry() {
+        entityRegistry.begin();
+
+        if (!inDungeon && !inBossRoom && !inEndlessRoom) {
+            for (Chunk chunk : chunks.values()) {
+                List<Enemy> enemies = chunk.getEnemies();
+                for (int i = 0; i < enemies.size(); i++) {
+                    Enemy enemy = enemies.get(i);
+                    if (!enemy.isDormant()) {
+                        entityRegistry.add(enemy);
+                    }
                 }
             }
+
+            for (int i = 0; i < globalLemmys.size(); i++) {
+                entityRegistry.add(globalLemmys.get(i));
+            }
+
+            entityRegistry.add(herman);
+            entityRegistry.add(hermanDuplicate);
         }
 
-        for (Body body : bodiesToDestroy) {
-            if (body != null) {
-                world.getWorld().destroyBody(body);
+        if (currentDungeon != null) {
+            List<DungeonEnemy> enemies = currentDungeon.getEnemies();
+            for (int i = 0; i < enemies.size(); i++) {
+                entityRegistry.add(enemies.get(i));
+            }
+        }
+
+        if (currentBossRoom != null) {
+            entityRegistry.add(currentBossRoom.getBoss(), true);
+            entityRegistry.add(currentBossRoom.getCyclops(), true);
+            entityRegistry.add(currentBossRoom.getGhostBoss(), true);
+        }
+
+        if (currentEndlessRoom != null) {
+            List<EndlessEnemy> enemies = currentEndlessRoom.getEnemies();
+            for (int i = 0; i < enemies.size(); i++) {
+                entityRegistry.add(enemies.get(i));
             }
         }
     }
@@ -2077,12 +2399,8 @@ public class GameProj implements Screen, ContactListener {
 
         for (Lemmy lemmy : new ArrayList<>(globalLemmys)) {
             if (lemmy != null) {
-                if (lemmy.getBody() != null && world != null && world.getWorld() != null) {
-                    try {
-                        world.getWorld().destroyBody(lemmy.getBody());
-                    } catch (Exception e) {
-                        System.err.println("Error destroying Lemmy body: " + e.getMessage());
-                    }
+                if (lemmy.getBody() != null) {
+                    bodyCommands.destroy(lemmy.getBody());
                     lemmy.clearBody();
                 }
                 lemmy.dispose();
@@ -2212,6 +2530,14 @@ public class GameProj implements Screen, ContactListener {
 
     public List<Lemmy> getGlobalLemmy() { return globalLemmys; }
 
+    public ActivationRegion getActivationRegion() {
+        return activationRegion;
+    }
+
+    public EntityRegistry getEntityRegistry() {
+        return entityRegistry;
+    }
+
     public boolean isHermanSpawned () {
         return hermanSpawned;
     }
@@ -2276,18 +2602,24 @@ public class GameProj implements Screen, ContactListener {
                 System.err.println("Error releasing cursor: " + e.getMessage());
             }
 
+            if (player != null && !player.getStats().isDead() && snapshots.isEnabled()) {
+                snapshots.autosave(captureRun());
+            }
+            snapshots.flush();
+
             if (player != null) {
                 player.cleanupSpears();
                 player = null;
             }
 
+            projectiles.clear();
+            lightMap.dispose();
+            postProcessor.dispose();
+            SaveManager.flush();
+
             for (Lemmy lemmy : new ArrayList<>(globalLemmys)) {
-                if (lemmy.getBody() != null && world != null && world.getWorld() != null) {
-                    try {
-                        world.getWorld().destroyBody(lemmy.getBody());
-                    } catch (Exception e) {
-                        System.err.println("Error destroying Lemmy body: " + e.getMessage());
-                    }
+                if (lemmy.getBody() != null) {
+                    bodyCommands.destroy(lemmy.getBody());
                     lemmy.clearBody();
                 }
                 lemmy.dispose();
@@ -2295,25 +2627,13 @@ public class GameProj implements Screen, ContactListener {
             globalLemmys.clear();
 
             if (herman != null) {
-                if (herman.getBody() != null && world != null && world.getWorld() != null) {
-                    try {
-                        world.getWorld().destroyBody(herman.getBody());
-                    } catch (Exception e) {
-                        System.err.println("Error destroying Herman body: " + e.getMessage());
-                    }
-                }
+                bodyCommands.destroy(herman.getBody());
                 herman.dispose();
                 herman = null;
             }
 
             if (hermanDuplicate != null) {
-                if (hermanDuplicate.getBody() != null && world != null && world.getWorld() != null) {
-                    try {
-                        world.getWorld().destroyBody(hermanDuplicate.getBody());
-                    } catch (Exception e) {
-                        System.err.println("Error destroying Herman duplicate body: " + e.getMessage());
-                    }
-                }
+                bodyCommands.destroy(hermanDuplicate.getBody());
                 hermanDuplicate.dispose();
                 hermanDuplicate = null;
             }
@@ -2398,10 +2718,7 @@ public class GameProj implements Screen, ContactListener {
                 safeStashPopup = null;
             }
             popupIndicator = null;
-            if (lowHealthVignette != null) {
-                lowHealthVignette.dispose();
-                lowHealthVignette = null;
-            }
+            lowHealthVignette = null;
 
             // 11. Clean up portals
             if (dungeonPortals != null) {
@@ -2454,6 +2771,8 @@ public class GameProj implements Screen, ContactListener {
             // 17. Dispose sound manager
             SoundManager.getInstance().dispose();
 
+            profiler.dispose();
+
             System.gc();
 
         } catch (Exception e) {
@@ -2466,6 +2785,13 @@ public class GameProj implements Screen, ContactListener {
     public void beginContact(Contact contact) {
         if (isPaused) return;
 
+        profiler.begin(Profiler.CONTACTS);
+        handleContact(contact);
+        profiler.end(Profiler.CONTACTS);
+    }
+
+    private void handleContact(Contact contact) {
+
         Fixture fixtureA = contact.getFixtureA();
         Fixture fixtureB = contact.getFixtureB();
 
@@ -2629,33 +2955,6 @@ public class GameProj implements Screen, ContactListener {
             );
         }
 
-        // ==== ABILITY (BUBBLE) HIT PROJECTILE ====
-        if ((categoryA == CollisionFilter.ABILITY && categoryB == CollisionFilter.PROJECTILE) ||
-                (categoryB == CollisionFilter.ABILITY && categoryA == CollisionFilter.PROJECTILE)) {
-
-            Body abilityBody = (categoryA == CollisionFilter.ABILITY) ? fixtureA.getBody() : fixtureB.getBody();
-            Body projectileBody = (categoryA == CollisionFilter.PROJECTILE) ? fixtureA.getBody() : fixtureB.getBody();
-            Fixture projectileFixture = (categoryA == CollisionFilter.PROJECTILE) ? fixtureA : fixtureB;
-
-            Vector2 abilityPos = abilityBody.getPosition();
-            Vector2 projectilePos = projectileBody.getPosition();
-            Vector2 pushDirection = new Vector2(projectilePos.x - abilityPos.x, projectilePos.y - abilityPos.y).nor();
-
-            float pushForce = 500f;
-            projectileBody.applyLinearImpulse(
-                    pushDirection.x * pushForce,
-                    pushDirection.y * pushForce,
-                    projectilePos.x,
-                    projectilePos.y,
-                    true
-            );
-
-            Filter newFilter = new Filter();
-            newFilter.categoryBits = CollisionFilter.REFLECT;
-            newFilter.maskBits = CollisionFilter.OBSTACLE | CollisionFilter.ENEMY;
-            projectileFixture.setFilterData(newFilter);
-        }
-
         if ((fixtureA.getFilterData().categoryBits & CollisionFilter.ENEMY_ENEMY) != 0 &&
                 (fixtureB.getFilterData().categoryBits & CollisionFilter.ENEMY_ENEMY) != 0) {
 
@@ -2694,33 +2993,19 @@ public class GameProj implements Screen, ContactListener {
         return chunks;
     }
 
-    public void addStatusEffect(Object target, StatusEffect effect) {
-        if (!statusEffects.containsKey(target)) {
-            statusEffects.put(target, new java.util.ArrayList<>());
-        }
-        statusEffects.get(target).add(effect);
+    public Box2DWorld getWorld() {
+        return world;
     }
 
-    public void updateStatusEffects(float delta) {
-        java.util.Iterator<java.util.Map.Entry<Object, List<StatusEffect>>> it = statusEffects.entrySet().iterator();
-        while (it.hasNext()) {
-            java.util.Map.Entry<Object, List<StatusEffect>> entry = it.next();
-            List<StatusEffect> effects = entry.getValue();
-
-            java.util.Iterator<StatusEffect> effectIt = effects.iterator();
-            while (effectIt.hasNext()) {
-                StatusEffect effect = effectIt.next();
-                effect.update(delta);
-
-                if (effect.isExpired()) {
-                    effect.onExpire();
-                    effectIt.remove();
-                }
-            }
+    public ItemSpawner getItemSpawner() {
+        return itemSpawner;
+    }
 
-            if (effects.isEmpty()) {
-                it.remove();
-            }
-        }
+    public void addStatusEffect(StatusEffectTarget target, StatusEffect effect) {
+        statusEffects.add(target, effect);
+    }
+
+    public void updateStatusEffects(float delta) {
+        statusEffects.update(delta);
     }
 }
@@ -94,16 +94,10 @@ public class PostGame implements Screen {
             useCustomCursor = true;
         } catch (Exception e) {
             System.err.println("Failed to load cursor texture: " + e.getMessage());
+            // Without the texture there is nothing to draw, so the system cursor stays visible
+            cursorTexture = null;
             useCustomCursor = false;
-
-            Pixmap pm = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-            pm.setColor(Color.WHITE);
-            pm.fillCircle(16, 16, 8);
-            pm.setColor(Color.RED);
-            pm.fillCircle(16, 16, 4);
-            cursorTexture = new Texture(pm);
-            pm.dispose();
-            useCustomCursor = true;
+            return;
         }
 
         try {
@@ -6,28 +6,15 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 
+import managers.ItemRegistry;
+
+// What an item is comes from its shared ItemDefinition; an Item only holds where it lies and whether it was picked up
 public abstract class Item {
-    protected String name;
-    protected String description;
-    protected ItemType type;
-    protected String itemId;
-    protected Texture texture;
-    protected Texture iconTexture;
-    protected Rectangle bounds;
+    protected final ItemRegistry.ItemDefinition definition;
+    protected final Rectangle bounds;
     protected Body body;
     protected boolean pickedUp = false;
 
-    // Item stats (can be 0 if not applicable)
-    protected int damage;
-    protected int defense;
-    protected int healthRestore;
-    protected int buyValue;
-    protected int sellValue;
-    protected int bonusHealth;
-    protected int bonusDex;
-    protected int bonusVitality;
-    protected String gearType;
-
     public enum ItemType {
         WEAPON,
         OFFHAND,
@@ -36,19 +23,9 @@ public abstract class Item {
         COIN
     }
 
-    public Item(String name, String description, ItemType type,
-                Texture texture, Texture iconTexture, Vector2 position) {
-        this.name = name;
-        this.description = description;
-        this.type = type;
-        this.texture = texture;
-        this.iconTexture = iconTexture;
-        this.bounds = new Rectangle(position.x, position.y, 16, 16);
-        this.damage = 0;
-        this.defense = 0;
-        this.healthRestore = 0;
-        this.buyValue = 0;
-        this.sellValue = 0;
+    protected Item(ItemRegistry.ItemDefinition definition, float x, float y) {
+        this.definition = definition;
+        this.bounds = new Rectangle(x, y, 16, 16);
     }
 
     public abstract void use(entities.Player player);
@@ -66,75 +43,56 @@ public abstract class Item {
     }
 
     public void render(SpriteBatch batch) {
-        if (!pickedUp && texture != null && bounds != null) {
-            batch.draw(texture, bounds.x, bounds.y, bounds.width, bounds.height);
+        if (!pickedUp && bounds != null) {
+            batch.draw(definition.getTexture(), bounds.x, bounds.y, bounds.width, bounds.height);
         }
     }
 
     public void renderIcon(SpriteBatch batch, float x, float y, float size) {
-        if (iconTexture != null) {
-            batch.draw(iconTexture, x, y, size, size);
-        }
+        batch.draw(definition.getIconTexture(), x, y, size, size);
     }
 
     public boolean isPlayerNear(Vector2 playerPos, float pickupRadius) {
         if (pickedUp) return false;
 
-        Vector2 itemCenter = new Vector2(
-                bounds.x + bounds.width / 2f,
-                bounds.y + bounds.height / 2f
-        );
+        float centerX = bounds.x + bounds.width / 2f;
+        float centerY = bounds.y + bounds.height / 2f;
 
-        return playerPos.dst(itemCenter) < pickupRadius;
+        return playerPos.dst2(centerX, centerY) < pickupRadius * pickupRadius;
     }
 
     public abstract Item copy();
 
     public boolean canStackWith(Item other) {
-        return this.getClass().equals(other.getClass()) &&
-                this.name.equals(other.name) &&
-                this.type != ItemType.WEAPON &&
-                this.type != ItemType.OFFHAND &&
-                this.type != ItemType.ARMOR;
+        return this.definition == other.definition &&
+                definition.type != ItemType.WEAPON &&
+                definition.type != ItemType.OFFHAND &&
+                definition.type != ItemType.ARMOR;
     }
 
     // Getters and setters
-    public String getName() { return name; }
-    public String getDescription() { return description; }
-    public ItemType getType() { return type; }
-    public String getItemId() { return itemId; }
-    public void setItemId(String itemId) { this.itemId = itemId; }
+    public ItemRegistry.ItemDefinition getDefinition() { return definition; }
+    public int getItemIndex() { return definition.index; }
+    public String getName() { return definition.name; }
+    public String getDescription() { return definition.description; }
+    public ItemType getType() { return definition.type; }
+    public String getItemId() { return definition.id; }
     public Rectangle getBounds() { return bounds; }
     public Body getBody() { return body; }
     public void setBody(Body body) { this.body = body; }
     public boolean isPickedUp() { return pickedUp; }
     public void setPickedUp(boolean pickedUp) { this.pickedUp = pickedUp; }
-    public int getDamage() { return damage; }
-    public int getDefense() { return defense; }
-    public int getHealthRestore() { return healthRestore; }
-
-    public int getBuyValue() { return buyValue; }
+    public int getDamage() { return definition.damage; }
+    public int getDefense() { return definition.defense; }
+    public int getHealthRestore() { return definition.healthRestore; }
 
-    public int getSellValue() { return sellValue; }
+    public int getBuyValue() { return definition.buyValue; }
 
-    public void setBuyValue(int buyValue) { this.buyValue = buyValue; }
-    public void setSellValue(int sellValue) { this.sellValue = sellValue; }
-
-    public void setValue(int buyValue) {
-        this.buyValue = buyValue;
-        this.sellValue = (int)(buyValue * 0.4f);
-    }
-
-    public void setValues(int buyValue, int sellValue) {
-        this.buyValue = buyValue;
-        this.sellValue = sellValue;
-    }
+    public int getSellValue() { return definition.sellValue; }
 
-    public Texture getTexture() { return texture; }
-    public Texture getIconTexture() { return iconTexture; }
-    public int getBonusHealth() { return bonusHealth; }
-    public int getBonusDex() { return bonusDex; }
-    public String getGearType() { return gearType; }
-    public void setGearType(String gearType) { this.gearType = gearType; }
-    public int getBonusVitality() { return bonusVitality; }
+    public Texture getTexture() { return definition.getTexture(); }
+    public Texture getIconTexture() { return definition.getIconTexture(); }
+    public int getBonusDex() { return definition.bonusDex; }
+    public String getGearType() { return definition.gearType; }
+    public int getBonusVitality() { return definition.bonusVitality; }
 }
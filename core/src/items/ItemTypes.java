@@ -1,23 +1,13 @@
 package items;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.math.Vector2;
-import config.Storage;
+import managers.ItemRegistry.ItemDefinition;
 
 public abstract class ItemTypes {
 
     public static class ArmorItem extends Item {
 
-        public ArmorItem(String name, String description, Texture texture,
-                         Texture iconTexture, Vector2 position, int defense, int damage,
-                         int vitality, int dex, int buyValue, int sellValue) {
-            super(name, description, ItemType.ARMOR, texture, iconTexture, position);
-            this.defense = defense;
-            this.damage = damage;
-            this.bonusVitality = vitality;
-            this.bonusDex = dex;
-            this.buyValue = buyValue;
-            this.sellValue = sellValue;
+        public ArmorItem(ItemDefinition definition, float x, float y) {
+            super(definition, x, y);
         }
 
         @Override
@@ -27,12 +17,13 @@ public abstract class ItemTypes {
 
         @Override
         public void equip(entities.Player player) {
-            if (defense > 0) player.getStats().addGearDefense(defense);
-            if (damage > 0) player.getStats().addGearDamage(damage);
-            if (bonusVitality > 0) player.getStats().addGearVitality(bonusVitality);
-            if (bonusDex > 0) player.getStats().addGearDex(bonusDex);
+            if (definition.defense > 0) player.getStats().addGearDefense(definition.defense);
+            if (definition.damage > 0) player.getStats().addGearDamage(definition.damage);
+            if (definition.bonusVitality > 0) player.getStats().addGearVitality(definition.bonusVitality);
+            if (definition.bonusDex > 0) player.getStats().addGearDex(definition.bonusDex);
 
             // SR item passives
+            String name = definition.name;
             if (name.contains("SR")) {
                 if (name.contains("Pirate")) {
                     player.setSRLifeLeechActive(true, 0.5f);
@@ -48,12 +39,13 @@ public abstract class ItemTypes {
 
         @Override
         public void unequip(entities.Player player) {
-            if (defense > 0) player.getStats().removeGearDefense(defense);
-            if (damage > 0) player.getStats().removeGearDamage(damage);
-            if (bonusVitality > 0) player.getStats().removeGearVitality(bonusVitality);
-            if (bonusDex > 0) player.getStats().removeGearDex(bonusDex);
+            if (definition.defense > 0) player.getStats().removeGearDefense(definition.defense);
+            if (definition.damage > 0) player.getStats().removeGearDamage(definition.damage);
+            if (definition.bonusVitality > 0) player.getStats().removeGearVitality(definition.bonusVitality);
+            if (definition.bonusDex > 0) player.getStats().removeGearDex(definition.bonusDex);
 
             // SR item passives
+            String name = definition.name;
             if (name.contains("SR")) {
                 if (name.contains("Pirate")) {
                     player.setSRLifeLeechActive(false, 0f);
@@ -69,23 +61,14 @@ public abstract class ItemTypes {
 
         @Override
         public Item copy() {
-            ArmorItem copy = new ArmorItem(name, description, texture, iconTexture,
-                    new Vector2(bounds.x, bounds.y), defense, damage, bonusVitality, bonusDex,
-                    buyValue, sellValue);
-            copy.setGearType(gearType);
-            copy.setItemId(itemId);
-            return copy;
+            return new ArmorItem(definition, bounds.x, bounds.y);
         }
     }
 
     public static class CoinItem extends Item {
-        private int amount;
 
-        public CoinItem(Texture texture, Texture iconTexture, Vector2 position, int amount) {
-            super("Coin", "Currency", ItemType.COIN, texture, iconTexture, position);
-            this.amount = amount;
-            this.buyValue = amount;
-            this.sellValue = amount;
+        public CoinItem(ItemDefinition definition, float x, float y) {
+            super(definition, x, y);
         }
 
         @Override
@@ -102,41 +85,33 @@ public abstract class ItemTypes {
 
         @Override
         public Item copy() {
-            CoinItem copy = new CoinItem(texture, iconTexture,
-                    new Vector2(bounds.x, bounds.y), amount);
-            copy.setItemId(itemId);
-            return copy;
+            return new CoinItem(definition, bounds.x, bounds.y);
         }
 
         public int getAmount() {
-            return amount;
+            return definition.buyValue;
         }
     }
 
     public static class ConsumableItem extends Item {
 
-        public ConsumableItem(String name, String description, Texture texture,
-                              Texture iconTexture, Vector2 position,
-                              int healthRestore, int buyValue, int sellValue) {
-            super(name, description, ItemType.CONSUMABLE, texture, iconTexture, position);
-            this.healthRestore = healthRestore;
-            this.buyValue = buyValue;
-            this.sellValue = sellValue;
+        public ConsumableItem(ItemDefinition definition, float x, float y) {
+            super(definition, x, y);
         }
 
         @Override
         public void use(entities.Player player) {
-            switch (name) {
+            switch (definition.name) {
                 case "Health Potion":
                 case "Small Health Potion":
                 case "Large Health Potion":
-                    player.getStats().heal(healthRestore);
+                    player.getStats().heal(definition.healthRestore);
                     break;
                 case "Attack Potion":
                 case "Defense Potion":
                 case "Dex Potion":
                 case "Lucky Clover":
-                    player.setPlayerBuff(name);
+                    player.setPlayerBuff(definition.name);
                     break;
             }
         }
@@ -151,26 +126,15 @@ public abstract class ItemTypes {
 
         @Override
         public Item copy() {
-            ConsumableItem copy = new ConsumableItem(name, description, texture, iconTexture,
-                    new Vector2(bounds.x, bounds.y), healthRestore, buyValue, sellValue);
-            copy.setItemId(itemId);
-            return copy;
+            return new ConsumableItem(definition, bounds.x, bounds.y);
         }
     }
 
     public static class WeaponItem extends Item {
         private int attackSpeed;
 
-        public WeaponItem(String name, String description, Texture texture,
-                          Texture iconTexture, Vector2 position, int damage, int defense,
-                          int vitality, int dex, int buyValue, int sellValue) {
-            super(name, description, ItemType.WEAPON, texture, iconTexture, position);
-            this.damage = damage;
-            this.defense = defense;
-            this.bonusVitality = vitality;
-            this.bonusDex = dex;
-            this.buyValue = buyValue;
-            this.sellValue = sellValue;
+        public WeaponItem(ItemDefinition definition, float x, float y) {
+            super(definition, x, y);
             this.attackSpeed = 100;
         }
 
@@ -181,27 +145,24 @@ public abstract class ItemTypes {
 
         @Override
         public void equip(entities.Player player) {
-            if (damage > 0) player.getStats().addGearDamage(damage);
-            if (defense > 0) player.getStats().addGearDefense(defense);
-            if (bonusVitality > 0) player.getStats().addGearVitality(bonusVitality);
-            if (bonusDex > 0) player.getStats().addGearDex(bonusDex);
+            if (definition.damage > 0) player.getStats().addGearDamage(definition.damage);
+            if (definition.defense > 0) player.getStats().addGearDefense(definition.defense);
+            if (definition.bonusVitality > 0) player.getStats().addGearVitality(definition.bonusVitality);
+            if (definition.bonusDex > 0) player.getStats().addGearDex(definition.bonusDex);
         }
 
         @Override
         public void unequip(entities.Player player) {
-            if (damage > 0) player.getStats().removeGearDamage(damage);
-            if (defense > 0) player.getStats().removeGearDefense(defense);
-            if (bonusVitality > 0) player.getStats().removeGearVitality(bonusVitality);
-            if (bonusDex > 0) player.getStats().removeGearDex(bonusDex);
+            if (definition.damage > 0) player.getStats().removeGearDamage(definition.damage);
+            if (definition.defense > 0) player.getStats().removeGearDefense(definition.defense);
+            if (definition.bonusVitality > 0) player.getStats().removeGearVitality(definition.bonusVitality);
+            if (definition.bonusDex > 0) player.getStats().removeGearDex(definition.bonusDex);
         }
 
         @Override
         public Item copy() {
-            WeaponItem copy = new WeaponItem(name, description, texture, iconTexture,
-                    new Vector2(bounds.x, bounds.y), damage, defense, bonusVitality, bonusDex,
-                    buyValue, sellValue);
-            copy.setGearType(gearType);
-            copy.setItemId(itemId);
+            WeaponItem copy = new WeaponItem(definition, bounds.x, bounds.y);
+            copy.setAttackSpeed(attackSpeed);
             return copy;
         }
 
@@ -211,16 +172,8 @@ public abstract class ItemTypes {
 
     public static class OffhandItem extends Item {
 
-        public OffhandItem(String name, String description, Texture texture,
-                           Texture iconTexture, Vector2 position, int damage, int defense,
-                           int vitality, int dex, int buyValue, int sellValue) {
-            super(name, description, ItemType.OFFHAND, texture, iconTexture, position);
-            this.damage = damage;
-            this.defense = defense;
-            this.bonusVitality = vitality;
-            this.bonusDex = dex;
-            this.buyValue = buyValue;
-            this.sellValue = sellValue;
+        public OffhandItem(ItemDefinition definition, float x, float y) {
+            super(definition, x, y);
         }
 
         @Override
@@ -230,28 +183,23 @@ public abstract class ItemTypes {
 
         @Override
         public void equip(entities.Player player) {
-            if (damage > 0) player.getStats().addGearDamage(damage);
-            if (defense > 0) player.getStats().addGearDefense(defense);
-            if (bonusVitality > 0) player.getStats().addGearVitality(bonusVitality);
-            if (bonusDex > 0) player.getStats().addGearDex(bonusDex);
+            if (definition.damage > 0) player.getStats().addGearDamage(definition.damage);
+            if (definition.defense > 0) player.getStats().addGearDefense(definition.defense);
+            if (definition.bonusVitality > 0) player.getStats().addGearVitality(definition.bonusVitality);
+            if (definition.bonusDex > 0) player.getStats().addGearDex(definition.bonusDex);
         }
 
         @Override
         public void unequip(entities.Player player) {
-            if (damage > 0) player.getStats().removeGearDamage(damage);
-            if (defense > 0) player.getStats().removeGearDefense(defense);
-            if (bonusVitality > 0) player.getStats().removeGearVitality(bonusVitality);
-            if (bonusDex > 0) player.getStats().removeGearDex(bonusDex);
+            if (definition.damage > 0) player.getStats().removeGearDamage(definition.damage);
+            if (definition.defense > 0) player.getStats().removeGearDefense(definition.defense);
+            if (definition.bonusVitality > 0) player.getStats().removeGearVitality(definition.bonusVitality);
+            if (definition.bonusDex > 0) player.getStats().removeGearDex(definition.bonusDex);
         }
 
         @Override
         public Item copy() {
-            OffhandItem copy = new OffhandItem(name, description, texture, iconTexture,
-                    new Vector2(bounds.x, bounds.y), damage, defense, bonusVitality, bonusDex,
-                    buyValue, sellValue);
-            copy.setGearType(gearType);
-            copy.setItemId(itemId);
-            return copy;
+            return new OffhandItem(definition, bounds.x, bounds.y);
         }
     }
 }
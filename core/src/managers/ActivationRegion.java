@@ -0,0 +1,74 @@
+package managers;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.physics.box2d.Body;
+
+import entities.Enemy;
+
+/*
+ * Keeps only the overworld enemies around the player simulated. An enemy further away than SLEEP_RADIUS
+ * goes dormant: its body is deactivated, which takes it out of the broadphase and the solver, and its chunk
+ * stops updating its AI. It wakes once it is back inside WAKE_RADIUS; the gap between the two keeps an enemy
+ * on the edge from flipping every frame.
+ *
+ * Both radii are well outside the camera and the enemies' detection radius, so nothing freezes on screen
+ * and an enemy chasing the player never falls asleep. Dormant enemies don't move, so their bounds are
+ * still where their bodies are and the distance check needs no body access.
+ */
+public class ActivationRegion {
+    public static final float WAKE_RADIUS = 400f;
+    public static final float SLEEP_RADIUS = 480f;
+
+    private int activeCount = 0;
+    private int dormantCount = 0;
+
+    public void update(Collection<Chunk> chunks, float playerX, float playerY) {
+        BodyCommandBuffer commands = BodyCommandBuffer.getInstance();
+        float wakeRadius2 = WAKE_RADIUS * WAKE_RADIUS;
+        float sleepRadius2 = SLEEP_RADIUS * SLEEP_RADIUS;
+
+        activeCount = 0;
+        dormantCount = 0;
+
+        for (Chunk chunk : chunks) {
+            List<Enemy> enemies = chunk.getEnemies();
+            for (int i = 0; i < enemies.size(); i++) {
+                Enemy enemy = enemies.get(i);
+                Body body = enemy.getBody();
+                if (body == null) continue;
+
+                Rectangle bounds = enemy.getBounds();
+                float dx = bounds.x + bounds.width / 2f - playerX;
+                float dy = bounds.y + bounds.height / 2f - playerY;
+                float dist2 = dx * dx + dy * dy;
+
+                if (enemy.isDormant()) {
+                    if (dist2 < wakeRadius2) {
+                        enemy.setDormant(false);
+                        commands.setActive(body, true);
+                    }
+                } else if (dist2 > sleepRadius2) {
+                    enemy.setDormant(true);
+                    commands.setActive(body, false);
+                }
+
+                if (enemy.isDormant()) {
+                    dormantCount++;
+                } else {
+                    activeCount++;
+                }
+            }
+        }
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public int getDormantCount() {
+        return dormantCount;
+    }
+}
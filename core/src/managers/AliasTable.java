@@ -0,0 +1,106 @@
+package managers;
+
+import java.util.Random;
+
+/*
+ * Walker's alias method: picks an index with probability proportional to its weight in constant time,
+ * whatever the number of weights. Built once with Vose's construction; a pick is one nextInt() for the
+ * column and one nextFloat() to choose between the column and its alias.
+ *
+ * When all weights are equal no column has an alias, and the coin flip is skipped. A uniform table then
+ * draws exactly what random.nextInt(size) would, so swapping one in keeps seeded runs unchanged.
+ */
+public class AliasTable {
+    private final float[] probability;
+    private final int[] alias;
+    private final boolean uniform;
+
+    public AliasTable(float[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("AliasTable needs at least one weight");
+        }
+
+        float total = 0f;
+        for (float weight : weights) {
+            if (weight < 0f) {
+                throw new IllegalArgumentException("AliasTable weights must not be negative");
+            }
+            total += weight;
+        }
+        if (total <= 0f) {
+            throw new IllegalArgumentException("AliasTable weights must not all be zero");
+        }
+
+        probability = new float[n];
+        alias = new int[n];
+
+        // Scaled so an average column holds exactly 1
+        float[] scaled = new float[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1f) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        // Each short column is topped up from a tall one, which may become short in turn
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1f;
+            if (scaled[more] < 1f) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1f;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1f;
+            alias[i] = i;
+        }
+
+        boolean allFull = true;
+        for (int i = 0; i < n; i++) {
+            allFull &= probability[i] >= 1f;
+        }
+        uniform = allFull;
+    }
+
+    public static AliasTable uniform(int size) {
+        float[] weights = new float[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = 1f;
+        }
+        return new AliasTable(weights);
+    }
+
+    public int sample(Random random) {
+        int column = random.nextInt(probability.length);
+        if (uniform || random.nextFloat() < probability[column]) {
+            return column;
+        }
+        return alias[column];
+    }
+
+    public int size() {
+        return probability.length;
+    }
+}
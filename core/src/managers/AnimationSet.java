@@ -0,0 +1,54 @@
+package managers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import managers.AnimationManager.State;
+
+/*
+ * The sprite strips a character animates with, declared next to the EnemyType or PlayerClass they belong to.
+ * Each clip is a horizontal strip of equal frames for one state. A state without a clip plays the default
+ * state's clip, and a set whose strips fail to load borrows its fallback's clips instead.
+ *
+ * AnimationManager reads every set once and packs the strips into a shared atlas, so a new character only
+ * needs its set declared here and its strips on disk.
+ */
+public class AnimationSet {
+    static class Clip {
+        final State state;
+        final String path;
+        final float frameDuration;
+        final boolean looping;
+
+        Clip(State state, String path, float frameDuration, boolean looping) {
+            this.state = state;
+            this.path = path;
+            this.frameDuration = frameDuration;
+            this.looping = looping;
+        }
+    }
+
+    final List<Clip> clips = new ArrayList<>();
+    State defaultState = State.IDLE;
+    AnimationSet fallback;
+
+    public AnimationSet loop(State state, String path, float frameDuration) {
+        clips.add(new Clip(state, path, frameDuration, true));
+        return this;
+    }
+
+    public AnimationSet once(State state, String path, float frameDuration) {
+        clips.add(new Clip(state, path, frameDuration, false));
+        return this;
+    }
+
+    public AnimationSet defaultState(State state) {
+        this.defaultState = state;
+        return this;
+    }
+
+    public AnimationSet fallback(AnimationSet fallback) {
+        this.fallback = fallback;
+        return this;
+    }
+}
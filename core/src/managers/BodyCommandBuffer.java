@@ -0,0 +1,135 @@
+package managers;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.World;
+
+/*
+ * Body destruction and activation toggles from every subsystem go through here. Box2DWorld.step applies
+ * them right before and right after World.step, so nothing touches the world while it is locked and a body
+ * is never destroyed twice.
+ *
+ * A body holds one pending command: the latest toggle replaces an earlier one, and a destroy replaces any
+ * toggle and ignores the ones queued after it. A toggle that finds the body already in that state is
+ * skipped, so a chunk that is disabled and re-enabled within a frame costs no proxy churn in Box2D.
+ */
+public class BodyCommandBuffer {
+    private static BodyCommandBuffer instance;
+
+    private enum Command { DESTROY, ACTIVATE, DEACTIVATE }
+
+    private final Map<Body, Command> commands = new IdentityHashMap<>();
+    private List<Body> order = new ArrayList<>();
+    private List<Body> flushing = new ArrayList<>();
+
+    // Applied since the last takeFrameOps(), for the profiler
+    private int frameOps;
+    private long destroyed;
+    private long toggled;
+    private long skipped;
+
+    private BodyCommandBuffer() {}
+
+    public static BodyCommandBuffer getInstance() {
+        if (instance == null) {
+            instance = new BodyCommandBuffer();
+        }
+        return instance;
+    }
+
+    public void destroy(Body body) {
+        if (body == null) return;
+
+        Command previous = commands.put(body, Command.DESTROY);
+        if (previous == null) {
+            order.add(body);
+        } else {
+            skipped++;
+        }
+    }
+
+    public void setActive(Body body, boolean active) {
+        if (body == null) return;
+
+        Command previous = commands.get(body);
+        if (previous == Command.DESTROY) {
+            skipped++;
+            return;
+        }
+
+        commands.put(body, active ? Command.ACTIVATE : Command.DEACTIVATE);
+        if (previous == null) {
+            order.add(body);
+        } else {
+            skipped++;
+        }
+    }
+
+    public void setActive(List<Body> bodies, boolean active) {
+        for (int i = 0; i < bodies.size(); i++) {
+            setActive(bodies.get(i), active);
+        }
+    }
+
+    public void flush() {
+        if (order.isEmpty()) return;
+
+        // Swapped first: destroying a body fires EndContact, and whatever that queues waits for the next flush
+        List<Body> pending = order;
+        order = flushing;
+        flushing = pending;
+
+        for (int i = 0; i < pending.size(); i++) {
+            Body body = pending.get(i);
+            apply(body, commands.remove(body));
+        }
+        pending.clear();
+    }
+
+    private void apply(Body body, Command command) {
+        switch (command) {
+            case DESTROY:
+                body.getWorld().destroyBody(body);
+                destroyed++;
+                frameOps++;
+                break;
+            case ACTIVATE:
+            case DEACTIVATE:
+                boolean active = command == Command.ACTIVATE;
+                if (body.isActive() == active) {
+                    skipped++;
+                } else {
+                    body.setActive(active);
+                    toggled++;
+                    frameOps++;
+                }
+                break;
+        }
+    }
+
+    // Drops everything queued for a world that is about to be disposed along with its bodies
+    public void discard(World world) {
+        for (int i = order.size() - 1; i >= 0; i--) {
+            Body body = order.get(i);
+            if (body.getWorld() == world) {
+                commands.remove(body);
+                order.remove(i);
+            }
+        }
+    }
+
+    public int takeFrameOps() {
+        int ops = frameOps;
+        frameOps = 0;
+        return ops;
+    }
+
+    @Override
+    public String toString() {
+        return destroyed + " destroyed, " + toggled + " toggled, " + skipped + " skipped";
+    }
+}
@@ -370,19 +370,25 @@ public class BossRoom {
     public void renderBoss(SpriteBatch batch, float delta) {
         if (boss != null && !boss.isMarkedForRemoval()) {
             if (delta > 0) {
+                Profiler.getInstance().begin(Profiler.AI);
                 boss.update(delta);
+                Profiler.getInstance().end(Profiler.AI);
             }
             boss.render(batch);
         }
         if (cyclops != null && !cyclops.isMarkedForRemoval()) {
             if (delta > 0) {
+                Profiler.getInstance().begin(Profiler.AI);
                 cyclops.update(delta);
+                Profiler.getInstance().end(Profiler.AI);
             }
             cyclops.render(batch);
         }
         if (ghostBoss != null && !ghostBoss.isMarkedForRemoval()) {
             if (delta > 0) {
+                Profiler.getInstance().begin(Profiler.AI);
                 ghostBoss.update(delta);
+                Profiler.getInstance().end(Profiler.AI);
             }
             ghostBoss.render(batch);
         }
@@ -470,13 +476,13 @@ public class BossRoom {
     public void dispose() {
         for (Wall wall : walls) {
             if (wall.body != null) {
-                world.destroyBody(wall.body);
+                BodyCommandBuffer.getInstance().destroy(wall.body);
             }
         }
 
         if (boss != null) {
             if (boss.getBody() != null) {
-                world.destroyBody(boss.getBody());
+                BodyCommandBuffer.getInstance().destroy(boss.getBody());
             }
             boss.dispose();
             boss = null;
@@ -484,7 +490,7 @@ public class BossRoom {
 
         if (cyclops != null) {
             if (cyclops.getBody() != null) {
-                world.destroyBody(cyclops.getBody());
+                BodyCommandBuffer.getInstance().destroy(cyclops.getBody());
             }
             cyclops.dispose();
             cyclops = null;
@@ -492,7 +498,7 @@ public class BossRoom {
 
         if (ghostBoss != null) {
             if (ghostBoss.getBody() != null) {
-                world.destroyBody(ghostBoss.getBody());
+                BodyCommandBuffer.getInstance().destroy(ghostBoss.getBody());
             }
             ghostBoss.dispose();
             ghostBoss = null;
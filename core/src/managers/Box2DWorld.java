@@ -6,14 +6,18 @@ import com.badlogic.gdx.physics.box2d.World;
 
 public class Box2DWorld {
     private World world;
+    private final BodyCommandBuffer commands = BodyCommandBuffer.getInstance();
 
     public Box2DWorld(ContactListener listener) {
         world = new World(new Vector2(0, 0), true);
         world.setContactListener(listener);
     }
 
+    // Commands queued by the last frame go in before the step, the ones from contact callbacks right after it
     public void step(float delta) {
+        commands.flush();
         world.step(delta, 6, 2);
+        commands.flush();
     }
 
     public World getWorld() {
@@ -21,7 +25,7 @@ public class Box2DWorld {
     }
 
     public void dispose() {
+        commands.discard(world);
         world.dispose();
     }
 }
-
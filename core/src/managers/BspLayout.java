@@ -0,0 +1,74 @@
+package managers;
+
+import java.util.Random;
+
+/*
+ * Binary space partition rooms. The grid is split in two along its longer side, and the halves again,
+ * until every leaf is small enough; each leaf gets one room, and at every split a corridor joins a room
+ * on one side to a room on the other. Rooms can't overlap, so nothing is placed and rejected, and the
+ * split corridors connect every room by construction.
+ */
+public class BspLayout implements DungeonLayoutAlgorithm {
+    private static final int MIN_LEAF = 17;
+    private static final int MAX_LEAF = 34;
+    private static final int MIN_ROOM = 12;
+    private static final int MAX_ROOM = 21;
+
+    @Override
+    public void carve(DungeonLayout layout, Random random) {
+        split(layout, random, 1, 1, layout.width - 2, layout.height - 2);
+    }
+
+    // Returns the room the subtree is reached through
+    private DungeonLayout.Room split(DungeonLayout layout, Random random, int x, int y, int w, int h) {
+        boolean canSplitX = w >= MIN_LEAF * 2;
+        boolean canSplitY = h >= MIN_LEAF * 2;
+        boolean small = w <= MAX_LEAF && h <= MAX_LEAF;
+
+        if (small || (!canSplitX && !canSplitY)) {
+            return placeRoom(layout, random, x, y, w, h);
+        }
+
+        boolean splitX;
+        if (canSplitX && canSplitY) {
+            splitX = w == h ? random.nextBoolean() : w > h;
+        } else {
+            splitX = canSplitX;
+        }
+
+        DungeonLayout.Room first;
+        DungeonLayout.Room second;
+        if (splitX) {
+            int at = MIN_LEAF + random.nextInt(w - MIN_LEAF * 2 + 1);
+            first = split(layout, random, x, y, at, h);
+            second = split(layout, random, x + at, y, w - at, h);
+        } else {
+            int at = MIN_LEAF + random.nextInt(h - MIN_LEAF * 2 + 1);
+            first = split(layout, random, x, y, w, at);
+            second = split(layout, random, x, y + at, w, h - at);
+        }
+
+        int corridorWidth = 2 + random.nextInt(2);
+        layout.carveCorridor(first.centerX(), first.centerY(), second.centerX(), second.centerY(),
+                corridorWidth, random.nextBoolean());
+
+        return random.nextBoolean() ? first : second;
+    }
+
+    // A one tile margin inside the leaf keeps neighbouring rooms at least two tiles apart
+    private DungeonLayout.Room placeRoom(DungeonLayout layout, Random random, int x, int y, int w, int h) {
+        int roomWidth = size(random, w - 2);
+        int roomHeight = size(random, h - 2);
+        int roomX = x + 1 + random.nextInt(w - 2 - roomWidth + 1);
+        int roomY = y + 1 + random.nextInt(h - 2 - roomHeight + 1);
+
+        layout.addRoom(roomX, roomY, roomWidth, roomHeight);
+        return layout.rooms.get(layout.rooms.size() - 1);
+    }
+
+    private int size(Random random, int available) {
+        int max = Math.min(MAX_ROOM, available);
+        int min = Math.min(MIN_ROOM, max);
+        return min + random.nextInt(max - min + 1);
+    }
+}
@@ -81,6 +81,13 @@ public class BuffManager {
         }
     }
 
+    public void setRemainingTime(String buffName, float remaining) {
+        BuffType buffType = getBuffTypeByName(buffName);
+        if (buffType != null && activeBuffs[buffType.index]) {
+            buffTimers[buffType.index] = Math.min(remaining, BUFF_DURATION);
+        }
+    }
+
     private BuffType getBuffTypeByName(String name) {
         for (BuffType buff : BuffType.values()) {
             if (buff.name.equals(name)) {
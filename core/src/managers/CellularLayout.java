@@ -0,0 +1,57 @@
+package managers;
+
+import java.util.Random;
+
+/*
+ * Caves from a cellular automaton. The inside of the grid starts as random noise, then every pass turns
+ * a tile into wall when five or more of the nine tiles around and including it are wall. A few passes
+ * smooth the noise into open caverns; the border is always wall. No rooms are recorded.
+ */
+public class CellularLayout implements DungeonLayoutAlgorithm {
+    private static final float INITIAL_WALL_CHANCE = 0.45f;
+    private static final int PASSES = 5;
+    private static final int WALL_THRESHOLD = 5;
+
+    @Override
+    public void carve(DungeonLayout layout, Random random) {
+        int width = layout.width;
+        int height = layout.height;
+        byte[] current = layout.tiles;
+        byte[] next = new byte[current.length];
+
+        for (int y = 1; y < height - 1; y++) {
+            int row = y * width;
+            for (int x = 1; x < width - 1; x++) {
+                current[row + x] = random.nextFloat() < INITIAL_WALL_CHANCE ? DungeonLayout.WALL : DungeonLayout.FLOOR;
+            }
+        }
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            step(current, next, width, height);
+            byte[] swap = current;
+            current = next;
+            next = swap;
+        }
+
+        if (current != layout.tiles) {
+            System.arraycopy(current, 0, layout.tiles, 0, current.length);
+        }
+    }
+
+    private void step(byte[] from, byte[] to, int width, int height) {
+        for (int y = 1; y < height - 1; y++) {
+            int above = (y + 1) * width;
+            int row = y * width;
+            int below = (y - 1) * width;
+            for (int x = 1; x < width - 1; x++) {
+                int walls = 0;
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (from[above + x + dx] == DungeonLayout.WALL) walls++;
+                    if (from[row + x + dx] == DungeonLayout.WALL) walls++;
+                    if (from[below + x + dx] == DungeonLayout.WALL) walls++;
+                }
+                to[row + x] = walls >= WALL_THRESHOLD ? DungeonLayout.WALL : DungeonLayout.FLOOR;
+            }
+        }
+    }
+}
@@ -1,10 +1,10 @@
 package managers;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
@@ -34,6 +34,7 @@ public class Chunk {
     private final Player player;
     private final AnimationManager animationManager;
     private boolean bodiesAdded = false;
+    private BitSet killedEnemies;
 
     private static final List<DecorationType> DECORATION_TYPES = new ArrayList<>();
 
@@ -321,7 +322,11 @@ public class Chunk {
         }
         pendingObstacles.clear();
 
-        for (EnemyInfo enemyInfo : pendingEnemies) {
+        for (int i = 0; i < pendingEnemies.size(); i++) {
+            // Enemies a restored snapshot has as killed are not spawned again
+            if (killedEnemies != null && killedEnemies.get(i)) continue;
+
+            EnemyInfo enemyInfo = pendingEnemies.get(i);
             Body body = createEnemyBody(world, enemyInfo.x, enemyInfo.y, 16, 16);
 
             EnemyStats stats;
@@ -365,7 +370,9 @@ public class Chunk {
                     break;
             }
 
-            body.setUserData(enemies.get(enemies.size() - 1));
+            Enemy enemy = enemies.get(enemies.size() - 1);
+            enemy.setSpawnIndex(i);
+            body.setUserData(enemy);
         }
         pendingEnemies.clear();
 
@@ -373,64 +380,44 @@ public class Chunk {
     }
 
     public void disableObstacles() {
-        for (Obstacle obstacle : obstacles) {
-            if (obstacle.body != null) {
-                obstacle.body.setActive(false);
-            }
-        }
+        setObstaclesActive(false);
     }
 
     public void enableObstacles() {
-        for (Obstacle obstacle : obstacles) {
-            if (obstacle.body != null) {
-                obstacle.body.setActive(true);
-            }
-        }
+        setObstaclesActive(true);
     }
 
     public void disableEnemies() {
-        for (Enemy enemy : enemies) {
-            if (enemy.getBody() != null) {
-                enemy.getBody().setActive(false);
-            }
-        }
-        for (BossKitty boss : bossKitty) {
-            if (boss.getBody() != null) {
-                boss.getBody().setActive(false);
-            }
-        }
-        for (Cyclops cyclops : cyclopsList) {
-            if (cyclops.getBody() != null) {
-                cyclops.getBody().setActive(false);
-            }
-        }
-        for (Lemmy lemmy : lemmys) {
-            if (lemmy.getBody() != null) {
-                lemmy.getBody().setActive(false);
-            }
-        }
+        setEnemiesActive(false);
     }
 
     public void enableEnemies() {
-        for (Enemy enemy : enemies) {
-            if (enemy.getBody() != null) {
-                enemy.getBody().setActive(true);
-            }
+        setEnemiesActive(true);
+    }
+
+    // Queued on the shared command buffer, so a chunk toggled more than once in a frame is only applied once
+    private void setObstaclesActive(boolean active) {
+        BodyCommandBuffer commands = BodyCommandBuffer.getInstance();
+        for (int i = 0; i < obstacles.size(); i++) {
+            commands.setActive(obstacles.get(i).body, active);
         }
-        for (BossKitty boss : bossKitty) {
-            if (boss.getBody() != null) {
-                boss.getBody().setActive(true);
-            }
+    }
+
+    private void setEnemiesActive(boolean active) {
+        BodyCommandBuffer commands = BodyCommandBuffer.getInstance();
+        for (int i = 0; i < enemies.size(); i++) {
+            // Dormant enemies stay inactive until ActivationRegion wakes them
+            Enemy enemy = enemies.get(i);
+            commands.setActive(enemy.getBody(), active && !enemy.isDormant());
         }
-        for (Cyclops cyclops : cyclopsList) {
-            if (cyclops.getBody() != null) {
-                cyclops.getBody().setActive(true);
-            }
+        for (int i = 0; i < bossKitty.size(); i++) {
+            commands.setActive(bossKitty.get(i).getBody(), active);
         }
-        for (Lemmy lemmy : lemmys) {
-            if (lemmy.getBody() != null) {
-                lemmy.getBody().setActive(true);
-            }
+        for (int i = 0; i < cyclopsList.size(); i++) {
+            commands.setActive(cyclopsList.get(i).getBody(), active);
+        }
+        for (int i = 0; i < lemmys.size(); i++) {
+            commands.setActive(lemmys.get(i).getBody(), active);
         }
     }
 
@@ -514,6 +501,13 @@ public class Chunk {
         return false;
     }
 
+    public boolean overlaps(Rectangle view) {
+        float size = chunkSize * tileSize;
+        float x = chunkX * size;
+        float y = chunkY * size;
+        return x < view.x + view.width && x + size > view.x && y < view.y + view.height && y + size > view.y;
+    }
+
     public void renderGround(SpriteBatch batch, Texture groundTexture) {
         for (int x = 0; x < chunkSize; x++) {
             for (int y = 0; y < chunkSize; y++) {
@@ -522,37 +516,40 @@ public class Chunk {
                 batch.draw(groundTexture, drawX, drawY, tileSize, tileSize);
             }
         }
-
-        for (Decoration decoration : decorations) {
-            decoration.render(batch);
-        }
     }
 
-    public void renderObstacles(SpriteBatch batch, float playerY, boolean renderBehind) {
-        for (Obstacle obstacle : obstacles) {
-            float obstacleBaseY = obstacle.bounds.y + (obstacle.bounds.height * 0.15f);
-
-            if ((renderBehind && obstacleBaseY < playerY) ||
-                    (!renderBehind && obstacleBaseY > playerY)) {
-                batch.draw(obstacle.texture, obstacle.bounds.x, obstacle.bounds.y, obstacle.bounds.width, obstacle.bounds.height);
+    // Decorations, obstacles and enemies inside the view; obstacles sort by their base, enemies by their center
+    public void submit(RenderQueue queue, Rectangle view) {
+        for (int i = 0; i < decorations.size(); i++) {
+            Decoration decoration = decorations.get(i);
+            Rectangle bounds = decoration.getBounds();
+            if (bounds.overlaps(view)) {
+                queue.submit(decoration.getTexture(), bounds.x, bounds.y, bounds.width, bounds.height,
+                        RenderQueue.LAYER_GROUND, 0f);
             }
         }
-    }
 
-    public void renderEnemies(SpriteBatch batch, boolean isPaused) {
-        float deltaTime = Gdx.graphics.getDeltaTime();
+        for (int i = 0; i < obstacles.size(); i++) {
+            Obstacle obstacle = obstacles.get(i);
+            Rectangle bounds = obstacle.bounds;
+            if (bounds.overlaps(view)) {
+                queue.submit(obstacle.texture, bounds.x, bounds.y, bounds.width, bounds.height,
+                        RenderQueue.LAYER_WORLD, bounds.y + bounds.height * 0.15f);
+            }
+        }
 
-        for (Enemy enemy : enemies) {
-            if (!isPaused) {
-                enemy.update(deltaTime);
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            Rectangle bounds = enemy.getBounds();
+            if (!enemy.isDormant() && bounds.overlaps(view)) {
+                queue.submit(enemy, RenderQueue.LAYER_WORLD, bounds.y + bounds.height / 2f);
             }
-            enemy.render(batch);
         }
     }
 
     public void dispose() {
         for (Obstacle obstacle : obstacles) {
-            world.destroyBody(obstacle.body);
+            BodyCommandBuffer.getInstance().destroy(obstacle.body);
         }
 
         for (Enemy enemy : enemies) {
@@ -569,10 +566,7 @@ public class Chunk {
 
         for (Lemmy lemmy : new ArrayList<>(lemmys)) {
             if (lemmy.getBody() != null) {
-                try {
-                    world.destroyBody(lemmy.getBody());
-                } catch (Exception e) {
-                }
+                BodyCommandBuffer.getInstance().destroy(lemmy.getBody());
                 lemmy.clearBody();
             }
             lemmy.dispose();
@@ -582,11 +576,16 @@ public class Chunk {
         decorations.clear();
     }
 
-    public void updateEnemies() {
-        enemies.removeIf(enemy -> {
-            enemy.update(Gdx.graphics.getDeltaTime());
-            return enemy.isMarkedForRemoval();
-        });
+    public void updateEnemies(float delta) {
+        Profiler profiler = Profiler.getInstance();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isDormant()) {
+                profiler.begin(Profiler.AI);
+                enemy.update(delta);
+                profiler.end(Profiler.AI);
+            }
+        }
     }
 
     private static class Obstacle {
@@ -633,6 +632,18 @@ public class Chunk {
         }
     }
 
+    public void setKilledEnemies(BitSet killedEnemies) {
+        this.killedEnemies = killedEnemies;
+    }
+
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
     public List<Enemy> getEnemies() {
         return enemies;
     }
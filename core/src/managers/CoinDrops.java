@@ -0,0 +1,234 @@
+package managers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+
+import config.Storage;
+
+/*
+ * Coins on the ground, kept out of Box2D entirely. A drop merges into any resting stack close by, so a
+ * room full of kills leaves a handful of stacks rather than a body per coin.
+ *
+ * Resting stacks sit in a hashed grid of intrusive linked lists, so merging and the magnet check only
+ * look at the cells around a point. Once the player is in magnet range a stack leaves the grid and flies
+ * to them until it is collected.
+ */
+public class CoinDrops implements RenderQueue.Drawable {
+    private static final float CELL_SIZE = 64f;
+    private static final int BUCKET_COUNT = 256;
+    private static final float MERGE_RADIUS = 20f;
+    private static final float MAGNET_RADIUS = 70f;
+    private static final float PICKUP_RADIUS = 10f;
+    private static final float MAGNET_ACCELERATION = 600f;
+    private static final float MAX_MAGNET_SPEED = 320f;
+    private static final int PILE_VALUE = 5;
+    private static final float SIZE = 16f;
+
+    private static class CoinStack {
+        float x, y;
+        int value;
+        float speed;
+        CoinStack next;
+    }
+
+    private final CoinStack[] buckets = new CoinStack[BUCKET_COUNT];
+    private final List<CoinStack> magnetized = new ArrayList<>();
+    private final TrackedPool<CoinStack> pool;
+    private int restingCount = 0;
+    private float time = 0f;
+
+    private Texture coinTexture;
+    private Texture pileTexture;
+
+    public CoinDrops() {
+        pool = new TrackedPool<CoinStack>("coin_stack", 32, 1024) {
+            @Override
+            protected CoinStack create() {
+                return new CoinStack();
+            }
+
+            @Override
+            protected void reset(CoinStack stack) {
+                stack.value = 0;
+                stack.speed = 0f;
+                stack.next = null;
+            }
+        };
+    }
+
+    public void drop(float x, float y, int value) {
+        if (value <= 0) return;
+
+        CoinStack stack = findResting(x, y, MERGE_RADIUS);
+        if (stack != null) {
+            stack.value += value;
+            return;
+        }
+
+        stack = pool.obtain();
+        stack.x = x;
+        stack.y = y;
+        stack.value = value;
+
+        int bucket = bucketFor(x, y);
+        stack.next = buckets[bucket];
+        buckets[bucket] = stack;
+        restingCount++;
+    }
+
+    // Pulls in stacks near the player and moves the ones already flying towards them
+    public void update(float delta, float playerX, float playerY) {
+        time += delta;
+        magnetize(playerX, playerY);
+
+        for (int i = 0; i < magnetized.size(); i++) {
+            CoinStack stack = magnetized.get(i);
+            float dx = playerX - stack.x;
+            float dy = playerY - stack.y;
+            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+            if (distance == 0f) continue;
+
+            stack.speed = Math.min(stack.speed + MAGNET_ACCELERATION * delta, MAX_MAGNET_SPEED);
+            float step = Math.min(stack.speed * delta, distance);
+            stack.x += dx / distance * step;
+            stack.y += dy / distance * step;
+        }
+    }
+
+    // Returns the total value of the stacks that reached the player; the caller applies any multiplier
+    public int collect(float playerX, float playerY) {
+        int collected = 0;
+        float pickup2 = PICKUP_RADIUS * PICKUP_RADIUS;
+
+        int i = 0;
+        while (i < magnetized.size()) {
+            CoinStack stack = magnetized.get(i);
+            float dx = playerX - stack.x;
+            float dy = playerY - stack.y;
+            if (dx * dx + dy * dy > pickup2) {
+                i++;
+                continue;
+            }
+
+            collected += stack.value;
+            int last = magnetized.size() - 1;
+            magnetized.set(i, magnetized.get(last));
+            magnetized.remove(last);
+            pool.free(stack);
+        }
+        return collected;
+    }
+
+    private void magnetize(float px, float py) {
+        int minX = MathUtils.floor((px - MAGNET_RADIUS) / CELL_SIZE);
+        int maxX = MathUtils.floor((px + MAGNET_RADIUS) / CELL_SIZE);
+        int minY = MathUtils.floor((py - MAGNET_RADIUS) / CELL_SIZE);
+        int maxY = MathUtils.floor((py + MAGNET_RADIUS) / CELL_SIZE);
+        float radius2 = MAGNET_RADIUS * MAGNET_RADIUS;
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                int bucket = hash(cx, cy);
+                CoinStack previous = null;
+                CoinStack stack = buckets[bucket];
+                while (stack != null) {
+                    CoinStack next = stack.next;
+                    float dx = stack.x - px;
+                    float dy = stack.y - py;
+                    if (dx * dx + dy * dy <= radius2) {
+                        if (previous == null) {
+                            buckets[bucket] = next;
+                        } else {
+                            previous.next = next;
+                        }
+                        stack.next = null;
+                        magnetized.add(stack);
+                        restingCount--;
+                    } else {
+                        previous = stack;
+                    }
+                    stack = next;
+                }
+            }
+        }
+    }
+
+    // Several cells can share a bucket, so every candidate is still checked against the real distance
+    private CoinStack findResting(float x, float y, float radius) {
+        int minX = MathUtils.floor((x - radius) / CELL_SIZE);
+        int maxX = MathUtils.floor((x + radius) / CELL_SIZE);
+        int minY = MathUtils.floor((y - radius) / CELL_SIZE);
+        int maxY = MathUtils.floor((y + radius) / CELL_SIZE);
+        float radius2 = radius * radius;
+
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (CoinStack stack = buckets[hash(cx, cy)]; stack != null; stack = stack.next) {
+                    float dx = stack.x - x;
+                    float dy = stack.y - y;
+                    if (dx * dx + dy * dy <= radius2) {
+                        return stack;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static int bucketFor(float x, float y) {
+        return hash(MathUtils.floor(x / CELL_SIZE), MathUtils.floor(y / CELL_SIZE));
+    }
+
+    private static int hash(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & (BUCKET_COUNT - 1);
+    }
+
+    public void render(SpriteBatch batch) {
+        if (restingCount == 0 && magnetized.isEmpty()) return;
+
+        if (coinTexture == null) {
+            coinTexture = Storage.assetManager.get("icons/items/Coin.png", Texture.class);
+            pileTexture = Storage.assetManager.get("icons/items/PileOfCoins.png", Texture.class);
+        }
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            for (CoinStack stack = buckets[i]; stack != null; stack = stack.next) {
+                float bob = MathUtils.sin(time * 5f + stack.x) * 1.5f;
+                draw(batch, stack, bob);
+            }
+        }
+        for (int i = 0; i < magnetized.size(); i++) {
+            draw(batch, magnetized.get(i), 0f);
+        }
+    }
+
+    private void draw(SpriteBatch batch, CoinStack stack, float yOffset) {
+        Texture texture = stack.value >= PILE_VALUE ? pileTexture : coinTexture;
+        batch.draw(texture, stack.x - SIZE / 2f, stack.y - SIZE / 2f + yOffset, SIZE, SIZE);
+    }
+
+    public int getActiveCount() {
+        return restingCount + magnetized.size();
+    }
+
+    public void clear() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            CoinStack stack = buckets[i];
+            while (stack != null) {
+                CoinStack next = stack.next;
+                pool.free(stack);
+                stack = next;
+            }
+            buckets[i] = null;
+        }
+        for (int i = 0; i < magnetized.size(); i++) {
+            pool.free(magnetized.get(i));
+        }
+        magnetized.clear();
+        restingCount = 0;
+    }
+}
@@ -18,9 +18,7 @@ import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.GL20;
 
 import config.Storage;
 import entities.DungeonEnemy;
@@ -34,7 +32,7 @@ public class Dungeon {
     private final int width;
     private final int height;
     private final int tileSize;
-    private final int[][] tiles; // 0 = wall, 1 = floor, 2 = boss portal location
+    private final byte[] tiles; // Indexed y * width + x, see DungeonLayout
     private final List<Wall> walls;
     private final List<DungeonEnemy> enemies;
     private final Player player;
@@ -44,13 +42,11 @@ public class Dungeon {
 
     private Portal bossRoomPortal;
     private Vector2 bossPortalPoint;
-    private Room bossPortalRoom;
 
-    private static final int FLOOR = 1;
-    private static final int WALL = 0;
-    private static final int BOSS_PORTAL = 2;
+    private static final int FLOOR = DungeonLayout.FLOOR;
+    private static final int WALL = DungeonLayout.WALL;
+    private static final int BOSS_PORTAL = DungeonLayout.BOSS_PORTAL;
 
-    private List<Room> generatedRooms;
     private final List<DestructibleObject> destructables = new ArrayList<>();
 
     private Texture wallTexture;
@@ -73,12 +69,12 @@ public class Dungeon {
     private TextureRegion wallEndLTexture;
     private TextureRegion wallEndRTexture;
 
-    private Texture pixel;
-    private Texture radialLightTex;
     private final ArrayList<LightSource> torchLights = new ArrayList<>();
 
     private float ambientDarkness = 0.65f; // 0 = no dark, 1 = fully black
 
+    private static final Color TORCH_COLOR = new Color(1f, 0.7f, 0.4f, 1f);
+
     private static class LightSource {
         float x, y;
         float radius;
@@ -93,30 +89,34 @@ public class Dungeon {
     }
 
     public Dungeon(int width, int height, int tileSize, Random random, World world, Player player, AnimationManager animationManager) {
-        this.width = width;
-        this.height = height;
+        this(new DungeonGenerator(width, height, tileSize, new BspLayout()).generate(random.nextLong()),
+                tileSize, world, player, animationManager);
+    }
+
+    // Builds the physics bodies and entities for a layout, which may have been generated on another thread
+    public Dungeon(DungeonLayout layout, int tileSize, World world, Player player, AnimationManager animationManager) {
+        this.width = layout.width;
+        this.height = layout.height;
         this.tileSize = tileSize;
         this.world = world;
         this.player = player;
         this.animationManager = animationManager;
-        this.tiles = new int[width][height];
+        this.tiles = layout.tiles;
         this.walls = new ArrayList<>();
         this.enemies = new ArrayList<>();
 
         loadTextures();
-        generateDungeon(random);
+        placeLandmarks(layout);
         createWalls();
-        spawnEnemies(random, generatedRooms);
-        spawnDestructibles(random, generatedRooms);
+        placeTorches(layout);
+        spawnEnemies(layout);
+        spawnDestructibles(layout);
     }
 
     private void loadTextures() {
         wallTexture = Storage.assetManager.get("tiles/wallSprite2.png", Texture.class);
         wallTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
 
-        pixel = Storage.assetManager.get("white_pixel.png", Texture.class);
-        radialLightTex = createRadialLightTexture(256);
-
 
         int tileWidth = wallTexture.getWidth() / 15;
         int tileHeight = wallTexture.getHeight();
@@ -143,186 +143,37 @@ public class Dungeon {
         exitTexture = Storage.assetManager.get("tiles/Portal.png", Texture.class);
     }
 
-    private Texture createRadialLightTexture(int sizePx) {
-        Pixmap pm = new Pixmap(sizePx, sizePx, Pixmap.Format.RGBA8888);
-        pm.setBlending(Pixmap.Blending.None);
-
-        float cx = (sizePx - 1) * 0.5f;
-        float cy = (sizePx - 1) * 0.5f;
-        float max = sizePx * 0.5f;
-
-        for (int y = 0; y < sizePx; y++) {
-            for (int x = 0; x < sizePx; x++) {
-                float dx = x - cx;
-                float dy = y - cy;
-
-                float d = (float)Math.sqrt(dx * dx + dy * dy);
-
-                float nd = d / max;
-
-                if (nd >= 1f) {
-                    pm.drawPixel(x, y, 0x00000000);
-                    continue;
-                }
-
-                float t = 1f - nd;
-
-                t = (float)Math.pow(t, 4.0);
-
-                int a = (int)(255 * t);
-                int rgba = (255 << 24) | (255 << 16) | (255 << 8) | (a);
-                pm.drawPixel(x, y, rgba);
-            }
-        }
-
-        Texture tex = new Texture(pm);
-        tex.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        pm.dispose();
-        return tex;
-    }
-
-    private void generateDungeon(Random random) {
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                tiles[x][y] = WALL;
-            }
-        }
-
-        List<Room> rooms = new ArrayList<>();
-        int numRooms = 15 + random.nextInt(6);
-        int attempts = 0;
-        int maxAttempts = 100;
-
-        while (rooms.size() < numRooms && attempts < maxAttempts) {
-            attempts++;
-
-            int roomWidth = 12 + random.nextInt(10);
-            int roomHeight = 12 + random.nextInt(10);
-
-            int roomX = 2 + random.nextInt(width - roomWidth - 4);
-            int roomY = 2 + random.nextInt(height - roomHeight - 4);
-
-            Room newRoom = new Room(roomX, roomY, roomWidth, roomHeight);
-
-            boolean overlaps = false;
-            for (Room existingRoom : rooms) {
-                if (newRoom.intersects(existingRoom)) {
-                    overlaps = true;
-                    break;
-                }
-            }
-
-            if (!overlaps) {
-                carveRoom(newRoom);
-
-                if (!rooms.isEmpty()) {
-                    Room prevRoom = rooms.get(rooms.size() - 1);
-                    createCorridor(prevRoom.centerX(), prevRoom.centerY(),
-                            newRoom.centerX(), newRoom.centerY(), random);
-                }
-
-                rooms.add(newRoom);
-            }
-        }
-
-        if (!rooms.isEmpty()) {
-            Room firstRoom = rooms.get(0);
-            spawnPoint = new Vector2(firstRoom.centerX() * tileSize, firstRoom.centerY() * tileSize);
-        }
-
-        if (rooms.size() > 1) {
-            Room furthestRoom = findFurthestRoom(rooms);
-            placeBossPortal(furthestRoom);
-        }
-
-        this.generatedRooms = rooms;
-    }
-
-    private void placeBossPortal(Room room) {
-        bossPortalRoom = room;
-        bossPortalPoint = new Vector2(room.centerX() * tileSize, room.centerY() * tileSize);
-
-        int tileX = room.centerX();
-        int tileY = room.centerY();
-        if (tileX >= 0 && tileX < width && tileY >= 0 && tileY < height) {
-            tiles[tileX][tileY] = BOSS_PORTAL;
-        }
-
-        bossRoomPortal = new Portal(
-                bossPortalPoint.x - 16,
-                bossPortalPoint.y - 16,
-                32,
-                world,
-                false
-        );
-    }
-
-    private Room findFurthestRoom(List<Room> rooms) {
-        if (rooms.isEmpty()) return null;
-
-        Room firstRoom = rooms.get(0);
-        Room furthestRoom = rooms.get(rooms.size() - 1);
-        float maxDistance = 0;
-
-        for (Room room : rooms) {
-            float dx = room.centerX() - firstRoom.centerX();
-            float dy = room.centerY() - firstRoom.centerY();
-            float distance = (float) Math.sqrt(dx * dx + dy * dy);
-
-            if (distance > maxDistance) {
-                maxDistance = distance;
-                furthestRoom = room;
-            }
+    private void placeLandmarks(DungeonLayout layout) {
+        if (layout.spawnTile != -1) {
+            spawnPoint = new Vector2((layout.spawnTile % width) * tileSize, (layout.spawnTile / width) * tileSize);
+        } else {
+            spawnPoint = new Vector2(width * tileSize / 2f, height * tileSize / 2f);
         }
 
-        return furthestRoom;
-    }
-
-    private void carveRoom(Room room) {
-        for (int x = room.x; x < room.x + room.width; x++) {
-            for (int y = room.y; y < room.y + room.height; y++) {
-                if (x >= 0 && x < width && y >= 0 && y < height) {
-                    tiles[x][y] = FLOOR;
-                }
-            }
+        if (layout.bossTile != -1) {
+            bossPortalPoint = new Vector2((layout.bossTile % width) * tileSize, (layout.bossTile / width) * tileSize);
+            bossRoomPortal = new Portal(
+                    bossPortalPoint.x - 16,
+                    bossPortalPoint.y - 16,
+                    32,
+                    world,
+                    false
+            );
         }
     }
 
-    private void createCorridor(int x1, int y1, int x2, int y2, Random random) {
-        int corridorWidth = 2 + random.nextInt(2);
-
-        if (random.nextBoolean()) {
-            carveTunnel(x1, x2, y1, true, corridorWidth);
-            carveTunnel(y1, y2, x2, false, corridorWidth);
-        } else {
-            carveTunnel(y1, y2, x1, false, corridorWidth);
-            carveTunnel(x1, x2, y2, true, corridorWidth);
-        }
-    }
-
-    private void carveTunnel(int start, int end, int fixedCoord, boolean horizontal, int width) {
-        int min = Math.min(start, end);
-        int max = Math.max(start, end);
-
-        for (int i = min; i <= max; i++) {
-            for (int w = 0; w < width; w++) {
-                if (horizontal) {
-                    if (fixedCoord + w >= 0 && fixedCoord + w < height && i >= 0 && i < this.width) {
-                        tiles[i][fixedCoord + w] = FLOOR;
-                    }
-                } else {
-                    if (fixedCoord + w >= 0 && fixedCoord + w < this.width && i >= 0 && i < height) {
-                        tiles[fixedCoord + w][i] = FLOOR;
-                    }
-                }
-            }
+    private void placeTorches(DungeonLayout layout) {
+        for (int i = 0; i < layout.torchCount; i++) {
+            int tile = layout.torchTiles[i];
+            torchLights.add(new LightSource((tile % width + 0.5f) * tileSize, (tile / width + 1) * tileSize,
+                    tileSize * 3f, 0.8f));
         }
     }
 
     private void createWalls() {
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (tiles[x][y] == WALL && isEdgeWall(x, y)) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (tiles[y * width + x] == WALL && isEdgeWall(x, y)) {
                     float worldX = x * tileSize;
                     float worldY = y * tileSize;
 
@@ -372,12 +223,12 @@ public class Dungeon {
 
     private boolean isWall(int x, int y) {
         if (x < 0 || x >= width || y < 0 || y >= height) return true;
-        return tiles[x][y] == WALL;
+        return tiles[y * width + x] == WALL;
     }
 
     private boolean isEdgeWall(int x, int y) {
         if (x < 0 || x >= width || y < 0 || y >= height) return false;
-        if (tiles[x][y] != WALL) return false;
+        if (tiles[y * width + x] != WALL) return false;
 
         int[][] allDirections = {
                 {-1, 1}, {0, 1}, {1, 1},
@@ -393,7 +244,7 @@ public class Dungeon {
                 return true;
             }
 
-            if (tiles[nx][ny] == FLOOR || tiles[nx][ny] == BOSS_PORTAL) {
+            if (tiles[ny * width + nx] == FLOOR || tiles[ny * width + nx] == BOSS_PORTAL) {
                 return true;
             }
         }
@@ -426,164 +277,45 @@ public class Dungeon {
         return body;
     }
 
-    private void spawnEnemies(Random random, List<Room> rooms) {
-        int clumpCount = 24 + random.nextInt(6);
-
-        // Track which rooms have enemies
-        HashSet<Room> roomsWithEnemies = new HashSet<>();
-
-        for (int clump = 0; clump < clumpCount; clump++) {
-            int attempts = 0;
-            boolean clumpPlaced = false;
-
-            while (!clumpPlaced && attempts < 20) {
-                attempts++;
-
-                int centerX = random.nextInt(width);
-                int centerY = random.nextInt(height);
-
-                if (tiles[centerX][centerY] == FLOOR) {
-                    float centerWorldX = centerX * tileSize;
-                    float centerWorldY = centerY * tileSize;
-
-                    if (!isNearSpawn(centerWorldX, centerWorldY, 100f) &&
-                            !isNearBossPortal(centerWorldX, centerWorldY, 80f)) {
-
-                        spawnEnemyClump(random, centerX, centerY);
-
-                        // Track which room this clump is in
-                        if (rooms != null) {
-                            for (Room room : rooms) {
-                                if (room.contains(centerX, centerY)) {
-                                    roomsWithEnemies.add(room);
-                                    break;
-                                }
-                            }
-                        }
-
-                        clumpPlaced = true;
-                    }
-                }
-            }
-        }
-
-        if (rooms != null) {
-            for (Room room : rooms) {
-                if (!roomsWithEnemies.contains(room)) {
-                    float roomCenterWorldX = room.centerX() * tileSize;
-                    float roomCenterWorldY = room.centerY() * tileSize;
-
-                    if (isNearSpawn(roomCenterWorldX, roomCenterWorldY, 100f) ||
-                            isNearBossPortal(roomCenterWorldX, roomCenterWorldY, 80f)) {
-                        continue;
-                    }
-
-                    int clumpsToSpawn = 1 + random.nextInt(2);
-                    for (int c = 0; c < clumpsToSpawn; c++) {
-                        int spawnAttempts = 0;
-                        boolean spawned = false;
+    private void spawnEnemies(DungeonLayout layout) {
+        for (int i = 0; i < layout.enemyCount; i++) {
+            int tile = layout.enemyTiles[i];
+            float worldX = (tile % width) * tileSize;
+            float worldY = (tile / width) * tileSize;
 
-                        while (!spawned && spawnAttempts < 15) {
-                            spawnAttempts++;
+            Body body = createEnemyBody(worldX, worldY);
 
-                            int spawnX = room.x + 1 + random.nextInt(Math.max(1, room.width - 2));
-                            int spawnY = room.y + 1 + random.nextInt(Math.max(1, room.height - 2));
-
-                            if (spawnX >= 0 && spawnX < width && spawnY >= 0 && spawnY < height &&
-                                    tiles[spawnX][spawnY] == FLOOR) {
-
-                                spawnEnemyClump(random, spawnX, spawnY);
-                                spawned = true;
-                            }
-                        }
-                    }
-                }
+            EnemyStats stats;
+            EnemyType enemyType;
+            switch (layout.enemyKinds[i]) {
+                case DungeonLayout.ENEMY_SKELETON_MAGE:
+                    stats = EnemyStats.Factory.createSkeletonMageEnemy(2);
+                    enemyType = EnemyType.SKELETON_MAGE;
+                    break;
+                case DungeonLayout.ENEMY_SKELETON_ROGUE:
+                    stats = EnemyStats.Factory.createSkeletonRogueEnemy(2);
+                    enemyType = EnemyType.SKELETON_ROGUE;
+                    break;
+                default:
+                    stats = EnemyStats.Factory.createSkeletonEnemy(2);
+                    enemyType = EnemyType.SKELETON;
+                    break;
             }
-        }
-    }
 
-    private void spawnEnemyClump(Random random, int centerX, int centerY) {
-        int enemiesInClump = 4 + random.nextInt(7);
-
-        for (int i = 0; i < enemiesInClump; i++) {
-            int enemyAttempts = 0;
-            boolean enemyPlaced = false;
-
-            while (!enemyPlaced && enemyAttempts < 10) {
-                enemyAttempts++;
-
-                int offsetX = random.nextInt(5) - 2;
-                int offsetY = random.nextInt(5) - 2;
-
-                int enemyX = centerX + offsetX;
-                int enemyY = centerY + offsetY;
-
-                if (enemyX >= 0 && enemyX < width && enemyY >= 0 && enemyY < height &&
-                        tiles[enemyX][enemyY] == FLOOR) {
-
-                    float worldX = enemyX * tileSize;
-                    float worldY = enemyY * tileSize;
-
-                    Body body = createEnemyBody(worldX, worldY);
-
-                    float roll = random.nextFloat();
-                    if (roll < 0.2f) {
-                        EnemyStats stats = EnemyStats.Factory.createSkeletonMageEnemy(2);
-                        enemies.add(new DungeonEnemy(
-                                new Rectangle(worldX, worldY, 16, 16),
-                                body,
-                                player,
-                                animationManager,
-                                this,
-                                stats,
-                                EnemyType.SKELETON_MAGE
-                        ));
-                    } else if (roll < 0.5f) {
-                        EnemyStats stats = EnemyStats.Factory.createSkeletonRogueEnemy(2);
-                        enemies.add(new DungeonEnemy(
-                                new Rectangle(worldX, worldY, 16, 16),
-                                body,
-                                player,
-                                animationManager,
-                                this,
-                                stats,
-                                EnemyType.SKELETON_ROGUE
-                        ));
-                    } else {
-                        EnemyStats stats = EnemyStats.Factory.createSkeletonEnemy(2);
-                        enemies.add(new DungeonEnemy(
-                                new Rectangle(worldX, worldY, 16, 16),
-                                body,
-                                player,
-                                animationManager,
-                                this,
-                                stats,
-                                EnemyType.SKELETON
-                        ));
-                    }
-
-                    enemyPlaced = true;
-                }
-            }
+            enemies.add(new DungeonEnemy(
+                    new Rectangle(worldX, worldY, 16, 16),
+                    body,
+                    player,
+                    animationManager,
+                    this,
+                    stats,
+                    enemyType
+            ));
         }
     }
 
-    private void spawnDestructibles(Random random, List<Room> rooms) {
-        if (rooms == null || rooms.isEmpty()) return;
-
+    private void spawnDestructibles(DungeonLayout layout) {
         final int OBJ_SIZE = 32;
-        final int MIN_PADDING_TILES = 1;
-
-        final int MAX_CENTER_ATTEMPTS = 20;
-        final int MAX_OBJECT_ATTEMPTS = 20;
-
-        final int CLUMPS_PER_ROOM_MIN = 3;
-        final int CLUMPS_PER_ROOM_MAX = 6;
-
-        final int OBJECTS_PER_CLUMP_MIN = 2;
-        final int OBJECTS_PER_CLUMP_MAX = 5;
-
-        final float CLUMP_RADIUS_PX = tileSize * 1.5f;
 
         Texture barrel = Storage.assetManager.get("tiles/destruct2.png", Texture.class);
         Texture crate  = Storage.assetManager.get("tiles/destruct1.png", Texture.class);
@@ -591,113 +323,37 @@ public class Dungeon {
         Texture all1  = Storage.assetManager.get("tiles/destruct4.png", Texture.class);
         Texture all2  = Storage.assetManager.get("tiles/destruct5.png", Texture.class);
 
-        for (Room room : rooms) {
-            float roomCenterWorldX = room.centerX() * tileSize;
-            float roomCenterWorldY = room.centerY() * tileSize;
-
-            if (isNearSpawn(roomCenterWorldX, roomCenterWorldY, 100f) ||
-                    isNearBossPortal(roomCenterWorldX, roomCenterWorldY, 80f)) {
-                continue;
-            }
-
-            int clumpsThisRoom = CLUMPS_PER_ROOM_MIN + random.nextInt(CLUMPS_PER_ROOM_MAX - CLUMPS_PER_ROOM_MIN + 1);
-
-            for (int c = 0; c < clumpsThisRoom; c++) {
-
-                boolean centerFound = false;
-                float centerWorldX = 0f;
-                float centerWorldY = 0f;
+        for (int i = 0; i < layout.destructibleCount; i++) {
+            int tile = layout.destructibleTiles[i];
+            float worldX = (tile % width) * tileSize;
+            float worldY = (tile / width) * tileSize;
 
-                for (int attempt = 0; attempt < MAX_CENTER_ATTEMPTS; attempt++) {
-                    int centerTileX = room.x + MIN_PADDING_TILES + random.nextInt(Math.max(1, room.width - (MIN_PADDING_TILES * 2)));
-                    int centerTileY = room.y + MIN_PADDING_TILES + random.nextInt(Math.max(1, room.height - (MIN_PADDING_TILES * 2)));
-
-                    if (centerTileX < 0 || centerTileX >= width || centerTileY < 0 || centerTileY >= height) continue;
-                    if (tiles[centerTileX][centerTileY] != FLOOR) continue;
-
-                    centerWorldX = centerTileX * tileSize;
-                    centerWorldY = centerTileY * tileSize;
-
-                    Rectangle centerBounds = new Rectangle(centerWorldX, centerWorldY, OBJ_SIZE, OBJ_SIZE);
-                    if (isOverlappingEnemyOrDestructable(centerBounds)) continue;
-
-                    centerFound = true;
+            Texture tex;
+            switch (layout.destructibleKinds[i]) {
+                case 0:
+                    tex = crate;
+                    break;
+                case 1:
+                    tex = barrel;
+                    break;
+                case 2:
+                    tex = urn;
+                    break;
+                case 3:
+                    tex = all2;
+                    break;
+                case 4:
+                default:
+                    tex = all1;
                     break;
-                }
-
-                if (!centerFound) continue;
-
-                int objectsInClump = OBJECTS_PER_CLUMP_MIN + random.nextInt(OBJECTS_PER_CLUMP_MAX - OBJECTS_PER_CLUMP_MIN + 1);
-
-                for (int i = 0; i < objectsInClump; i++) {
-
-                    for (int attempt = 0; attempt < MAX_OBJECT_ATTEMPTS; attempt++) {
-
-                        float angle = random.nextFloat() * 6.2831855f; // 2π
-                        float radius = random.nextFloat() * CLUMP_RADIUS_PX;
-
-                        float worldX = centerWorldX + (float)Math.cos(angle) * radius;
-                        float worldY = centerWorldY + (float)Math.sin(angle) * radius;
-
-                        int tileX = (int)(worldX / tileSize);
-                        int tileY = (int)(worldY / tileSize);
-
-                        tileX = Math.max(room.x + MIN_PADDING_TILES, Math.min(tileX, room.x + room.width - 1 - MIN_PADDING_TILES));
-                        tileY = Math.max(room.y + MIN_PADDING_TILES, Math.min(tileY, room.y + room.height - 1 - MIN_PADDING_TILES));
-
-                        if (tileX < 0 || tileX >= width || tileY < 0 || tileY >= height) continue;
-                        if (tiles[tileX][tileY] != FLOOR) continue;
-
-                        worldX = tileX * tileSize;
-                        worldY = tileY * tileSize;
-
-                        Rectangle objBounds = new Rectangle(worldX, worldY, OBJ_SIZE, OBJ_SIZE);
-                        if (isOverlappingEnemyOrDestructable(objBounds)) continue;
-
-                        Texture tex;
-                        switch (random.nextInt(5)) {
-                            case 0:
-                                tex = crate;
-                                break;
-                            case 1:
-                                tex = barrel;
-                                break;
-                            case 2:
-                                tex = urn;
-                                break;
-                            case 3:
-                                tex = all2;
-                                break;
-                            case 4:
-                            default:
-                                tex = all1;
-                                break;
-                        }
-
-                        Body body = createDestructableBody(worldX, worldY, OBJ_SIZE, OBJ_SIZE);
-                        EnemyStats stats = EnemyStats.Factory.createDestructible();
-
-                        DestructibleObject obj = new DestructibleObject(objBounds, tex, body, stats);
-                        destructables.add(obj);
-
-                        break;
-                    }
-                }
             }
-        }
-    }
 
-    private boolean isOverlappingEnemyOrDestructable(Rectangle bounds) {
-        // Check dungeon enemies (already spawned)
-        for (DungeonEnemy e : enemies) {
-            if (e != null && e.getBounds() != null && e.getBounds().overlaps(bounds)) return true;
-        }
+            Rectangle objBounds = new Rectangle(worldX, worldY, OBJ_SIZE, OBJ_SIZE);
+            Body body = createDestructableBody(worldX, worldY, OBJ_SIZE, OBJ_SIZE);
+            EnemyStats stats = EnemyStats.Factory.createDestructible();
 
-        for (DestructibleObject d : destructables) {
-            if (d != null && d.getBounds() != null && d.getBounds().overlaps(bounds)) return true;
+            destructables.add(new DestructibleObject(objBounds, tex, body, stats));
         }
-
-        return false;
     }
 
     private Body createDestructableBody(float x, float y, float w, float h) {
@@ -721,21 +377,6 @@ public class Dungeon {
         return body;
     }
 
-    private boolean isNearSpawn(float x, float y, float minDistance) {
-        float dx = x - spawnPoint.x;
-        float dy = y - spawnPoint.y;
-        return Math.sqrt(dx * dx + dy * dy) < minDistance;
-    }
-
-    private boolean isNearBossPortal(float x, float y, float minDistance) {
-        if (bossPortalPoint == null) return false;
-        float dx = x - bossPortalPoint.x;
-        float dy = y - bossPortalPoint.y;
-        return Math.sqrt(dx * dx + dy * dy) < minDistance;
-    }
-
-
-
     private Body createEnemyBody(float x, float y) {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.DynamicBody;
@@ -772,6 +413,13 @@ public class Dungeon {
     }
 
     public List<Vector2> findPath(Vector2 start, Vector2 end) {
+        Profiler.getInstance().begin(Profiler.PATHFINDING);
+        List<Vector2> path = searchPath(start, end);
+        Profiler.getInstance().end(Profiler.PATHFINDING);
+        return path;
+    }
+
+    private List<Vector2> searchPath(Vector2 start, Vector2 end) {
         int startX = (int) (start.x / tileSize);
         int startY = (int) (start.y / tileSize);
         int endX = (int) (end.x / tileSize);
@@ -830,7 +478,7 @@ public class Dungeon {
 
     private boolean isWalkable(int x, int y) {
         if (x < 0 || x >= width || y < 0 || y >= height) return false;
-        return tiles[x][y] != WALL;
+        return tiles[y * width + x] != WALL;
     }
 
     public boolean isWalkableWorld(float worldX, float worldY) {
@@ -879,11 +527,10 @@ public class Dungeon {
         batch.draw(pixel, 0, 0, width * tileSize, height * tileSize);
         batch.setColor(1, 1, 1, 1);
 
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                if (tiles[x][y] == FLOOR) {
-                    batch.draw(floorTexture, x * tileSize, y * tileSize, tileSize, tileSize);
-                } else if (tiles[x][y] == BOSS_PORTAL) {
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                if (tiles[row + x] != WALL) {
                     batch.draw(floorTexture, x * tileSize, y * tileSize, tileSize, tileSize);
                 }
             }
@@ -908,32 +555,29 @@ public class Dungeon {
     }
 
     public void renderEnemies(SpriteBatch batch, float delta) {
+        Profiler profiler = Profiler.getInstance();
+
         for (DungeonEnemy enemy : enemies) {
+            profiler.begin(Profiler.AI);
             enemy.update(delta);
+            profiler.end(Profiler.AI);
             enemy.render(batch);
         }
     }
 
-    public void renderLighting(SpriteBatch batch) {
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
-        batch.setColor(0f, 0f, 0f, ambientDarkness);
-        batch.draw(pixel, 0, 0, width * tileSize, height * tileSize);
-        batch.setColor(1f, 1f, 1f, 1f);
-
-        batch.setBlendFunction(GL20.GL_DST_COLOR, GL20.GL_ONE);
-
+    // The player's light and the torches; the dungeon itself only decides how dark the rest is
+    public void submitLights(LightMap lights) {
         Vector2 p = player.getPosition();
-        drawRadialLight(batch, p.x, p.y, (tileSize * 6.0f) * 0.5f, 1.0f);
+        lights.add(p.x, p.y, (tileSize * 6.0f) * 0.5f, 1f, 1f, 1f, 1f);
 
-        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        for (int i = 0; i < torchLights.size(); i++) {
+            LightSource torch = torchLights.get(i);
+            lights.add(torch.x, torch.y, torch.radius, TORCH_COLOR.r, TORCH_COLOR.g, TORCH_COLOR.b, torch.intensity);
+        }
     }
 
-    private void drawRadialLight(SpriteBatch batch, float x, float y, float radius, float intensity) {
-        float size = radius * 2f;
-
-        batch.setColor(intensity, intensity, intensity, 1f);
-        batch.draw(radialLightTex, x - radius, y - radius, size, size);
-        batch.setColor(1f, 1f, 1f, 1f);
+    public float getAmbientDarkness() {
+        return ambientDarkness;
     }
 
     public void updateEnemies() {
@@ -941,11 +585,15 @@ public class Dungeon {
     }
 
     public boolean isPlayerAtBossPortal(Vector2 playerPos) {
+        return isPlayerNearBossPortal(playerPos, tileSize);
+    }
+
+    public boolean isPlayerNearBossPortal(Vector2 playerPos, float radius) {
         if (bossPortalPoint == null || bossRoomPortal == null) return false;
 
         float dx = playerPos.x - bossPortalPoint.x;
         float dy = playerPos.y - bossPortalPoint.y;
-        return Math.sqrt(dx * dx + dy * dy) < tileSize;
+        return Math.sqrt(dx * dx + dy * dy) < radius;
     }
 
     public Portal getBossRoomPortal() {
@@ -964,7 +612,7 @@ public class Dungeon {
         if (x < 0 || x >= width || y < 0 || y >= height) {
             return WALL;
         }
-        return tiles[x][y];
+        return tiles[y * width + x];
     }
 
     public int getTileSize() {
@@ -974,14 +622,14 @@ public class Dungeon {
     public void dispose() {
         for (Wall wall : walls) {
             if (wall.body != null) {
-                world.destroyBody(wall.body);
+                BodyCommandBuffer.getInstance().destroy(wall.body);
             }
         }
         walls.clear();
 
         for (DungeonEnemy enemy : enemies) {
             if (enemy.getBody() != null) {
-                world.destroyBody(enemy.getBody());
+                BodyCommandBuffer.getInstance().destroy(enemy.getBody());
                 enemy.clearBody();
             }
             enemy.dispose();
@@ -995,7 +643,7 @@ public class Dungeon {
 
         for (DestructibleObject obj : destructables) {
             if (obj.getBody() != null) {
-                world.destroyBody(obj.getBody());
+                BodyCommandBuffer.getInstance().destroy(obj.getBody());
                 obj.clearBody();
             }
             obj.dispose();
@@ -1016,31 +664,6 @@ public class Dungeon {
         }
     }
 
-    private static class Room {
-        int x, y, width, height;
-
-        Room(int x, int y, int width, int height) {
-            this.x = x;
-            this.y = y;
-            this.width = width;
-            this.height = height;
-        }
-
-        int centerX() { return x + width / 2; }
-        int centerY() { return y + height / 2; }
-
-        boolean contains(int px, int py) {
-            return px >= x && px < x + width && py >= y && py < y + height;
-        }
-
-        boolean intersects(Room other) {
-            return x < other.x + other.width + 2 &&
-                    x + width + 2 > other.x &&
-                    y < other.y + other.height + 2 &&
-                    y + height + 2 > other.y;
-        }
-    }
-
     public List<DestructibleObject> getDestructables() {
         return destructables;
     }
@@ -0,0 +1,494 @@
+package managers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/*
+ * Builds a DungeonLayout from a seed, with no physics or textures involved, so it can run on any thread
+ * and the same seed always gives the same dungeon. It runs as stages over the flat tile grid:
+ *
+ *  - layout: the algorithm carves rooms or caves
+ *  - connect: every pocket of floor is joined to the largest one, or filled in when it is tiny
+ *  - landmarks: the spawn, and the boss portal as far from it as walking allows
+ *  - spawns: torches, enemy clumps and destructible props
+ *
+ * Each stage that rolls dice gets its own stream derived from the seed, so changing one stage doesn't
+ * reshuffle the others. Spawns are picked from lists of free tiles rather than by retrying random tiles
+ * until one fits.
+ */
+public class DungeonGenerator {
+    private static final int STREAM_LAYOUT = 1;
+    private static final int STREAM_ENEMIES = 2;
+    private static final int STREAM_DESTRUCTIBLES = 3;
+
+    // Smaller pockets are filled in rather than tunnelled to
+    private static final int MIN_POCKET_TILES = 24;
+
+    private static final float SPAWN_CLEARANCE = 100f;
+    private static final float BOSS_CLEARANCE = 80f;
+
+    private static final int TORCH_SPACING = 6;
+
+    private static final int ENEMY_CLUMPS_MIN = 24;
+    private static final int ENEMY_CLUMPS_RANDOM = 6;
+    private static final int CLUMP_SIZE_MIN = 4;
+    private static final int CLUMP_SIZE_RANDOM = 7;
+    private static final int CLUMP_SPREAD = 2;
+    private static final float ENEMY_SIZE = 16f;
+
+    private static final int PROP_CLUMPS_MIN = 3;
+    private static final int PROP_CLUMPS_MAX = 6;
+    private static final int PROPS_PER_CLUMP_MIN = 2;
+    private static final int PROPS_PER_CLUMP_MAX = 5;
+    private static final int PROP_KINDS = 5;
+    private static final float PROP_SIZE = 32f;
+    // Cave layouts have no rooms, so props get one clump per this many floor tiles instead
+    private static final int FLOOR_TILES_PER_PROP_CLUMP = 400;
+
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final DungeonLayoutAlgorithm algorithm;
+
+    public DungeonGenerator(int width, int height, int tileSize, DungeonLayoutAlgorithm algorithm) {
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.algorithm = algorithm;
+    }
+
+    public DungeonLayout generate(long seed) {
+        DungeonLayout layout = layout(seed);
+        connect(layout);
+        placeLandmarks(layout);
+        placeSpawns(layout, seed);
+        return layout;
+    }
+
+    public DungeonLayout layout(long seed) {
+        DungeonLayout layout = new DungeonLayout(width, height);
+        algorithm.carve(layout, stream(seed, STREAM_LAYOUT));
+        return layout;
+    }
+
+    public void connect(DungeonLayout layout) {
+        byte[] tiles = layout.tiles;
+        int count = tiles.length;
+        int[] region = new int[count];
+        int[] queue = new int[count];
+        Arrays.fill(region, -1);
+
+        // Label every pocket of floor and find the largest
+        int regions = 0;
+        int[] sizes = new int[16];
+        for (int i = 0; i < count; i++) {
+            if (tiles[i] == DungeonLayout.WALL || region[i] != -1) continue;
+
+            if (regions == sizes.length) {
+                sizes = Arrays.copyOf(sizes, regions * 2);
+            }
+            sizes[regions] = flood(layout, i, regions, region, queue);
+            regions++;
+        }
+        if (regions < 2) return;
+
+        int main = 0;
+        for (int r = 1; r < regions; r++) {
+            if (sizes[r] > sizes[main]) main = r;
+        }
+
+        // Filled first, so a tunnel is never cut by a pocket it passed through
+        for (int i = 0; i < count; i++) {
+            int r = region[i];
+            if (r >= 0 && r != main && sizes[r] < MIN_POCKET_TILES) {
+                tiles[i] = DungeonLayout.WALL;
+                region[i] = -1;
+            }
+        }
+
+        int[] parent = new int[count];
+        for (int r = 0; r < regions; r++) {
+            if (r != main && sizes[r] >= MIN_POCKET_TILES) {
+                tunnel(layout, r, main, region, queue, parent);
+            }
+        }
+    }
+
+    // Labels the pocket containing start and returns its size
+    private int flood(DungeonLayout layout, int start, int label, int[] region, int[] queue) {
+        byte[] tiles = layout.tiles;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        region[start] = label;
+
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+            if (x > 0) tail = visit(tiles, tile - 1, label, region, queue, tail);
+            if (x < width - 1) tail = visit(tiles, tile + 1, label, region, queue, tail);
+            if (y > 0) tail = visit(tiles, tile - width, label, region, queue, tail);
+            if (y < height - 1) tail = visit(tiles, tile + width, label, region, queue, tail);
+        }
+        return tail;
+    }
+
+    private int visit(byte[] tiles, int tile, int label, int[] region, int[] queue, int tail) {
+        if (tiles[tile] != DungeonLayout.WALL && region[tile] == -1) {
+            region[tile] = label;
+            queue[tail++] = tile;
+        }
+        return tail;
+    }
+
+    // Breadth first out of the pocket through walls until it reaches the main pocket, then carves the way back
+    private void tunnel(DungeonLayout layout, int from, int main, int[] region, int[] queue, int[] parent) {
+        int count = region.length;
+        Arrays.fill(parent, -2);
+
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < count; i++) {
+            if (region[i] == from) {
+                queue[tail++] = i;
+                parent[i] = -1;
+            }
+        }
+
+        int reached = -1;
+        while (head < tail && reached == -1) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+            for (int d = 0; d < 4; d++) {
+                int nx = x + (d == 0 ? -1 : d == 1 ? 1 : 0);
+                int ny = y + (d == 2 ? -1 : d == 3 ? 1 : 0);
+                // The border stays wall
+                if (nx < 1 || nx >= width - 1 || ny < 1 || ny >= height - 1) continue;
+
+                int next = ny * width + nx;
+                if (parent[next] != -2) continue;
+                parent[next] = tile;
+                if (region[next] == main) {
+                    reached = next;
+                    break;
+                }
+                queue[tail++] = next;
+            }
+        }
+        if (reached == -1) return;
+
+        for (int tile = parent[reached]; tile != -1 && region[tile] != from; tile = parent[tile]) {
+            layout.tiles[tile] = DungeonLayout.FLOOR;
+            region[tile] = main;
+        }
+        for (int i = 0; i < count; i++) {
+            if (region[i] == from) region[i] = main;
+        }
+    }
+
+    public void placeLandmarks(DungeonLayout layout) {
+        byte[] tiles = layout.tiles;
+        List<DungeonLayout.Room> rooms = layout.rooms;
+
+        int spawn = -1;
+        if (!rooms.isEmpty()) {
+            spawn = layout.index(rooms.get(0).centerX(), rooms.get(0).centerY());
+        } else {
+            // Caves start in the floor tile nearest the bottom left corner
+            int best = Integer.MAX_VALUE;
+            for (int i = 0; i < tiles.length; i++) {
+                if (tiles[i] == DungeonLayout.WALL) continue;
+                int corner = i % width + i / width;
+                if (corner < best) {
+                    best = corner;
+                    spawn = i;
+                }
+            }
+        }
+        layout.spawnTile = spawn;
+        if (spawn == -1 || tiles[spawn] == DungeonLayout.WALL) return;
+
+        int[] distance = walkingDistances(layout, spawn);
+        int boss = -1;
+        if (rooms.size() > 1) {
+            for (int i = 1; i < rooms.size(); i++) {
+                int center = layout.index(rooms.get(i).centerX(), rooms.get(i).centerY());
+                if (boss == -1 || distance[center] > distance[boss]) boss = center;
+            }
+        } else if (rooms.isEmpty()) {
+            for (int i = 0; i < tiles.length; i++) {
+                if (distance[i] > 0 && (boss == -1 || distance[i] > distance[boss])) boss = i;
+            }
+        }
+
+        if (boss != -1) {
+            layout.bossTile = boss;
+            tiles[boss] = DungeonLayout.BOSS_PORTAL;
+        }
+    }
+
+    // Steps from the start to every floor tile, -1 where it can't be reached
+    private int[] walkingDistances(DungeonLayout layout, int start) {
+        byte[] tiles = layout.tiles;
+        int[] distance = new int[tiles.length];
+        int[] queue = new int[tiles.length];
+        Arrays.fill(distance, -1);
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        distance[start] = 0;
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+            int next = distance[tile] + 1;
+            if (x > 0 && tiles[tile - 1] != DungeonLayout.WALL && distance[tile - 1] == -1) {
+                distance[tile - 1] = next;
+                queue[tail++] = tile - 1;
+            }
+            if (x < width - 1 && tiles[tile + 1] != DungeonLayout.WALL && distance[tile + 1] == -1) {
+                distance[tile + 1] = next;
+                queue[tail++] = tile + 1;
+            }
+            if (y > 0 && tiles[tile - width] != DungeonLayout.WALL && distance[tile - width] == -1) {
+                distance[tile - width] = next;
+                queue[tail++] = tile - width;
+            }
+            if (y < height - 1 && tiles[tile + width] != DungeonLayout.WALL && distance[tile + width] == -1) {
+                distance[tile + width] = next;
+                queue[tail++] = tile + width;
+            }
+        }
+        return distance;
+    }
+
+    public void placeSpawns(DungeonLayout layout, long seed) {
+        layout.clearSpawns();
+        placeTorches(layout);
+
+        // Tiles already taken, by an enemy's or a prop's footprint
+        boolean[] occupied = new boolean[layout.tiles.length];
+        placeEnemies(layout, stream(seed, STREAM_ENEMIES), occupied);
+        placeDestructibles(layout, stream(seed, STREAM_DESTRUCTIBLES), occupied);
+    }
+
+    // Along the top wall of every room, where the floor meets the wall
+    private void placeTorches(DungeonLayout layout) {
+        for (DungeonLayout.Room room : layout.rooms) {
+            int tileY = room.y + room.height - 1;
+            if (tileY + 1 >= height) continue;
+
+            for (int tileX = room.x + 2; tileX < room.x + room.width - 2; tileX += TORCH_SPACING) {
+                if (layout.get(tileX, tileY) != DungeonLayout.FLOOR || layout.get(tileX, tileY + 1) != DungeonLayout.WALL) continue;
+                layout.addTorch(layout.index(tileX, tileY));
+            }
+        }
+    }
+
+    private void placeEnemies(DungeonLayout layout, Random random, boolean[] occupied) {
+        byte[] tiles = layout.tiles;
+        List<DungeonLayout.Room> rooms = layout.rooms;
+
+        int[] free = new int[tiles.length];
+        int freeCount = 0;
+        for (int i = 0; i < tiles.length; i++) {
+            if (tiles[i] == DungeonLayout.FLOOR && !isNearLandmark(layout, i % width, i / width)) {
+                free[freeCount++] = i;
+            }
+        }
+
+        int[] candidates = new int[(CLUMP_SPREAD * 2 + 1) * (CLUMP_SPREAD * 2 + 1)];
+        boolean[] roomHasEnemies = new boolean[rooms.size()];
+
+        int clumps = ENEMY_CLUMPS_MIN + random.nextInt(ENEMY_CLUMPS_RANDOM);
+        for (int clump = 0; clump < clumps && freeCount > 0; clump++) {
+            // Taken out of the list so two clumps never share a center
+            int pick = random.nextInt(freeCount);
+            int center = free[pick];
+            free[pick] = free[--freeCount];
+
+            placeEnemyClump(layout, random, center, candidates, occupied);
+
+            int centerX = center % width;
+            int centerY = center / width;
+            for (int r = 0; r < rooms.size(); r++) {
+                if (rooms.get(r).contains(centerX, centerY)) {
+                    roomHasEnemies[r] = true;
+                    break;
+                }
+            }
+        }
+
+        // Every room away from the spawn and the boss gets at least one clump
+        for (int r = 0; r < rooms.size(); r++) {
+            DungeonLayout.Room room = rooms.get(r);
+            if (roomHasEnemies[r] || isNearLandmark(layout, room.centerX(), room.centerY())) continue;
+
+            int roomClumps = 1 + random.nextInt(2);
+            for (int c = 0; c < roomClumps; c++) {
+                int x = room.x + 1 + random.nextInt(Math.max(1, room.width - 2));
+                int y = room.y + 1 + random.nextInt(Math.max(1, room.height - 2));
+                if (layout.get(x, y) == DungeonLayout.FLOOR) {
+                    placeEnemyClump(layout, random, layout.index(x, y), candidates, occupied);
+                }
+            }
+        }
+    }
+
+    private void placeEnemyClump(DungeonLayout layout, Random random, int center, int[] candidates, boolean[] occupied) {
+        int centerX = center % width;
+        int centerY = center / width;
+
+        int count = 0;
+        for (int dy = -CLUMP_SPREAD; dy <= CLUMP_SPREAD; dy++) {
+            for (int dx = -CLUMP_SPREAD; dx <= CLUMP_SPREAD; dx++) {
+                if (layout.get(centerX + dx, centerY + dy) == DungeonLayout.FLOOR) {
+                    candidates[count++] = layout.index(centerX + dx, centerY + dy);
+                }
+            }
+        }
+
+        int footprint = footprint(ENEMY_SIZE);
+        int enemies = CLUMP_SIZE_MIN + random.nextInt(CLUMP_SIZE_RANDOM);
+        for (int i = 0; i < enemies; i++) {
+            int tile = candidates[random.nextInt(count)];
+
+            float roll = random.nextFloat();
+            byte kind;
+            if (roll < 0.2f) {
+                kind = DungeonLayout.ENEMY_SKELETON_MAGE;
+            } else if (roll < 0.5f) {
+                kind = DungeonLayout.ENEMY_SKELETON_ROGUE;
+            } else {
+                kind = DungeonLayout.ENEMY_SKELETON;
+            }
+            layout.addEnemy(tile, kind);
+            occupy(occupied, tile, footprint);
+        }
+    }
+
+    private void placeDestructibles(DungeonLayout layout, Random random, boolean[] occupied) {
+        int footprint = footprint(PROP_SIZE);
+
+        if (layout.rooms.isEmpty()) {
+            int clumps = layout.getFloorCount() / FLOOR_TILES_PER_PROP_CLUMP;
+            for (int c = 0; c < clumps; c++) {
+                int center = findPropTile(layout, 1, 1, width - 2, height - 2, random, occupied, footprint);
+                if (center != -1 && !isNearLandmark(layout, center % width, center / width)) {
+                    placePropClump(layout, random, center, 1, 1, width - 2, height - 2, occupied, footprint);
+                }
+            }
+            return;
+        }
+
+        for (DungeonLayout.Room room : layout.rooms) {
+            if (isNearLandmark(layout, room.centerX(), room.centerY())) continue;
+
+            // One tile of padding from the room's walls
+            int minX = room.x + 1;
+            int minY = room.y + 1;
+            int maxX = room.x + room.width - 2;
+            int maxY = room.y + room.height - 2;
+
+            int clumps = PROP_CLUMPS_MIN + random.nextInt(PROP_CLUMPS_MAX - PROP_CLUMPS_MIN + 1);
+            for (int c = 0; c < clumps; c++) {
+                int center = findPropTile(layout, minX, minY, maxX, maxY, random, occupied, footprint);
+                if (center != -1) {
+                    placePropClump(layout, random, center, minX, minY, maxX, maxY, occupied, footprint);
+                }
+            }
+        }
+    }
+
+    // A random tile in the area that a prop fits on, scanning on from a random start instead of rerolling
+    private int findPropTile(DungeonLayout layout, int minX, int minY, int maxX, int maxY, Random random,
+                             boolean[] occupied, int footprint) {
+        int areaWidth = maxX - minX + 1;
+        int areaHeight = maxY - minY + 1;
+        if (areaWidth <= 0 || areaHeight <= 0) return -1;
+
+        int area = areaWidth * areaHeight;
+        int start = random.nextInt(area);
+        for (int i = 0; i < area; i++) {
+            int cell = (start + i) % area;
+            int x = minX + cell % areaWidth;
+            int y = minY + cell / areaWidth;
+            if (propFits(layout, x, y, occupied, footprint)) {
+                return layout.index(x, y);
+            }
+        }
+        return -1;
+    }
+
+    private void placePropClump(DungeonLayout layout, Random random, int center, int minX, int minY, int maxX, int maxY,
+                                boolean[] occupied, int footprint) {
+        int centerX = center % width;
+        int centerY = center / width;
+        int[] candidates = new int[9];
+
+        int props = PROPS_PER_CLUMP_MIN + random.nextInt(PROPS_PER_CLUMP_MAX - PROPS_PER_CLUMP_MIN + 1);
+        for (int i = 0; i < props; i++) {
+            int count = 0;
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    int x = centerX + dx;
+                    int y = centerY + dy;
+                    if (x < minX || x > maxX || y < minY || y > maxY) continue;
+                    if (propFits(layout, x, y, occupied, footprint)) {
+                        candidates[count++] = layout.index(x, y);
+                    }
+                }
+            }
+            if (count == 0) return;
+
+            int tile = candidates[random.nextInt(count)];
+            layout.addDestructible(tile, (byte) random.nextInt(PROP_KINDS));
+            occupy(occupied, tile, footprint);
+        }
+    }
+
+    private boolean propFits(DungeonLayout layout, int x, int y, boolean[] occupied, int footprint) {
+        if (layout.get(x, y) != DungeonLayout.FLOOR) return false;
+        for (int dy = 0; dy < footprint; dy++) {
+            for (int dx = 0; dx < footprint; dx++) {
+                if (!layout.inBounds(x + dx, y + dy)) return false;
+                if (occupied[layout.index(x + dx, y + dy)]) return false;
+            }
+        }
+        return true;
+    }
+
+    private void occupy(boolean[] occupied, int tile, int footprint) {
+        int x = tile % width;
+        int y = tile / width;
+        for (int dy = 0; dy < footprint && y + dy < height; dy++) {
+            for (int dx = 0; dx < footprint && x + dx < width; dx++) {
+                occupied[(y + dy) * width + x + dx] = true;
+            }
+        }
+    }
+
+    // How many tiles something this many pixels across covers from a tile corner
+    private int footprint(float size) {
+        return (int) Math.ceil(size / tileSize);
+    }
+
+    private boolean isNearLandmark(DungeonLayout layout, int x, int y) {
+        return isWithin(layout.spawnTile, x, y, SPAWN_CLEARANCE) || isWithin(layout.bossTile, x, y, BOSS_CLEARANCE);
+    }
+
+    private boolean isWithin(int tile, int x, int y, float distance) {
+        if (tile == -1) return false;
+        float dx = (x - tile % width) * tileSize;
+        float dy = (y - tile / width) * tileSize;
+        return dx * dx + dy * dy < distance * distance;
+    }
+
+    private static Random stream(long seed, int stage) {
+        return new Random(GameRandom.mix(seed + stage * 0x9E3779B97F4A7C15L));
+    }
+}
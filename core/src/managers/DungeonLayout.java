@@ -0,0 +1,177 @@
+package managers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * A generated dungeon as plain data, with nothing in it that needs the physics world or a texture. Tiles
+ * are one byte each in a flat grid indexed y * width + x, so a row is contiguous and neighbours are a
+ * fixed offset away. Spawns are tile indices with a kind, in the order DungeonGenerator placed them.
+ *
+ * Dungeon builds the walls, enemies and props from this on the render thread.
+ */
+public class DungeonLayout {
+    public static final byte WALL = 0;
+    public static final byte FLOOR = 1;
+    public static final byte BOSS_PORTAL = 2;
+
+    public static final byte ENEMY_SKELETON = 0;
+    public static final byte ENEMY_SKELETON_ROGUE = 1;
+    public static final byte ENEMY_SKELETON_MAGE = 2;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    final int width;
+    final int height;
+    final byte[] tiles;
+    final List<Room> rooms = new ArrayList<>();
+
+    int spawnTile = -1;
+    int bossTile = -1;
+
+    int[] enemyTiles = new int[INITIAL_CAPACITY];
+    byte[] enemyKinds = new byte[INITIAL_CAPACITY];
+    int enemyCount = 0;
+
+    int[] destructibleTiles = new int[INITIAL_CAPACITY];
+    byte[] destructibleKinds = new byte[INITIAL_CAPACITY];
+    int destructibleCount = 0;
+
+    int[] torchTiles = new int[INITIAL_CAPACITY];
+    int torchCount = 0;
+
+    public DungeonLayout(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.tiles = new byte[width * height];
+    }
+
+    public int index(int x, int y) {
+        return y * width + x;
+    }
+
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    // Outside the grid counts as wall
+    public byte get(int x, int y) {
+        if (!inBounds(x, y)) return WALL;
+        return tiles[y * width + x];
+    }
+
+    void carveRect(int x, int y, int w, int h) {
+        int minX = Math.max(0, x);
+        int maxX = Math.min(width, x + w);
+        int minY = Math.max(0, y);
+        int maxY = Math.min(height, y + h);
+        if (minX >= maxX) return;
+
+        for (int row = minY; row < maxY; row++) {
+            Arrays.fill(tiles, row * width + minX, row * width + maxX, FLOOR);
+        }
+    }
+
+    // An L-shaped corridor between two tiles, bending at (x2, y1) or (x1, y2)
+    void carveCorridor(int x1, int y1, int x2, int y2, int corridorWidth, boolean horizontalFirst) {
+        if (horizontalFirst) {
+            carveRect(Math.min(x1, x2), y1, Math.abs(x2 - x1) + 1, corridorWidth);
+            carveRect(x2, Math.min(y1, y2), corridorWidth, Math.abs(y2 - y1) + 1);
+        } else {
+            carveRect(x1, Math.min(y1, y2), corridorWidth, Math.abs(y2 - y1) + 1);
+            carveRect(Math.min(x1, x2), y2, Math.abs(x2 - x1) + 1, corridorWidth);
+        }
+    }
+
+    void addRoom(int x, int y, int w, int h) {
+        rooms.add(new Room(x, y, w, h));
+        carveRect(x, y, w, h);
+    }
+
+    void addEnemy(int tile, byte kind) {
+        if (enemyCount == enemyTiles.length) {
+            enemyTiles = Arrays.copyOf(enemyTiles, enemyCount * 2);
+            enemyKinds = Arrays.copyOf(enemyKinds, enemyCount * 2);
+        }
+        enemyTiles[enemyCount] = tile;
+        enemyKinds[enemyCount] = kind;
+        enemyCount++;
+    }
+
+    void addDestructible(int tile, byte kind) {
+        if (destructibleCount == destructibleTiles.length) {
+            destructibleTiles = Arrays.copyOf(destructibleTiles, destructibleCount * 2);
+            destructibleKinds = Arrays.copyOf(destructibleKinds, destructibleCount * 2);
+        }
+        destructibleTiles[destructibleCount] = tile;
+        destructibleKinds[destructibleCount] = kind;
+        destructibleCount++;
+    }
+
+    void addTorch(int tile) {
+        if (torchCount == torchTiles.length) {
+            torchTiles = Arrays.copyOf(torchTiles, torchCount * 2);
+        }
+        torchTiles[torchCount++] = tile;
+    }
+
+    // Spawns are cleared so a layout can go through the spawn stage again
+    void clearSpawns() {
+        enemyCount = 0;
+        destructibleCount = 0;
+        torchCount = 0;
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public List<Room> getRooms() { return rooms; }
+    public int getSpawnTile() { return spawnTile; }
+    public int getBossTile() { return bossTile; }
+    public int getEnemyCount() { return enemyCount; }
+    public int getDestructibleCount() { return destructibleCount; }
+    public int getTorchCount() { return torchCount; }
+
+    public int getFloorCount() {
+        int count = 0;
+        for (byte tile : tiles) {
+            if (tile != WALL) count++;
+        }
+        return count;
+    }
+
+    public DungeonLayout copy() {
+        DungeonLayout copy = new DungeonLayout(width, height);
+        System.arraycopy(tiles, 0, copy.tiles, 0, tiles.length);
+        copy.rooms.addAll(rooms);
+        copy.spawnTile = spawnTile;
+        copy.bossTile = bossTile;
+        copy.enemyTiles = Arrays.copyOf(enemyTiles, enemyTiles.length);
+        copy.enemyKinds = Arrays.copyOf(enemyKinds, enemyKinds.length);
+        copy.enemyCount = enemyCount;
+        copy.destructibleTiles = Arrays.copyOf(destructibleTiles, destructibleTiles.length);
+        copy.destructibleKinds = Arrays.copyOf(destructibleKinds, destructibleKinds.length);
+        copy.destructibleCount = destructibleCount;
+        copy.torchTiles = Arrays.copyOf(torchTiles, torchTiles.length);
+        copy.torchCount = torchCount;
+        return copy;
+    }
+
+    public static class Room {
+        public final int x, y, width, height;
+
+        Room(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+
+        public int centerX() { return x + width / 2; }
+        public int centerY() { return y + height / 2; }
+
+        public boolean contains(int px, int py) {
+            return px >= x && px < x + width && py >= y && py < y + height;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package managers;
+
+import java.util.Random;
+
+/*
+ * The first stage of DungeonGenerator: carves floor into an all-wall layout and records any rooms. It may
+ * leave disconnected pockets, the connectivity stage joins or fills them afterwards.
+ */
+public interface DungeonLayoutAlgorithm {
+    void carve(DungeonLayout layout, Random random);
+}
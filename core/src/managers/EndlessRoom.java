@@ -99,6 +99,16 @@ public class EndlessRoom {
         WOLFIE, MUSHIE, SKELETON, SKELETON_MAGE, SKELETON_ROGUE, GHOST, HEDGEHOG
     }
 
+    private static final SpawnableEnemyType[] SPAWNABLE_TYPES = SpawnableEnemyType.values();
+    private static final int POOL_SIZE = (MAX_ENEMIES_PER_CLUMP + 1) * CLUMPS_PER_WAVE;
+
+    // Dead enemies and their bodies go back to these instead of being destroyed; a body waits deactivated
+    private final TrackedPool<EndlessEnemy> enemyPool;
+    private final TrackedPool<Body> bodyPool;
+    // Stats every spawn of a type copies for the current wave, rebuilt when the wave changes
+    private final EnemyStats[] statTemplates = new EnemyStats[SPAWNABLE_TYPES.length];
+    private int templateWave = -1;
+
     public EndlessRoom(int tileSize, World world, Player player, AnimationManager animationManager) {
         this.width = ROOM_WIDTH + (WALL_THICKNESS * 2);
         this.height = ROOM_HEIGHT + (WALL_THICKNESS * 2);
@@ -109,7 +119,33 @@ public class EndlessRoom {
         this.tiles = new int[width][height];
         this.walls = new ArrayList<>();
         this.enemies = new ArrayList<>();
-        this.random = new Random();
+        this.random = GameRandom.newRandom();
+
+        this.enemyPool = new TrackedPool<EndlessEnemy>("endless_enemy", 16, POOL_SIZE) {
+            @Override
+            protected EndlessEnemy create() {
+                return new EndlessEnemy(new Rectangle(0, 0, 16, 16), null, EndlessRoom.this.player,
+                        EndlessRoom.this.animationManager, new EnemyStats("Endless", 1), EnemyType.WOLFIE);
+            }
+        };
+        this.bodyPool = new TrackedPool<Body>("endless_enemy_body", 16, POOL_SIZE) {
+            @Override
+            protected Body create() {
+                return createEnemyBody(0, 0);
+            }
+
+            @Override
+            protected void reset(Body body) {
+                body.setLinearVelocity(0, 0);
+                body.setUserData(null);
+                BodyCommandBuffer.getInstance().setActive(body, false);
+            }
+
+            @Override
+            protected void discard(Body body) {
+                BodyCommandBuffer.getInstance().destroy(body);
+            }
+        };
 
         this.shapeRenderer = new ShapeRenderer();
         this.buttonFont = Storage.assetManager.get("fonts/CascadiaBold.fnt", BitmapFont.class);
@@ -308,7 +344,8 @@ public class EndlessRoom {
             onWaveComplete();
         }
 
-        for (EndlessEnemy enemy : new ArrayList<>(enemies)) {
+        for (int i = 0; i < enemies.size(); i++) {
+            EndlessEnemy enemy = enemies.get(i);
             if (!enemy.isMarkedForRemoval()) {
                 enemy.update(delta);
             }
@@ -356,7 +393,18 @@ public class EndlessRoom {
         waveInProgress = true;
     }
 
-    private void spawnEnemyClump() {
+    // Lets benchmarks start at a late wave without playing through the earlier ones
+    void setWave(int wave) {
+        currentWave = wave;
+    }
+
+    // A restored run picks up at the start of the wave it was saved in
+    public void resumeAt(int wave, int enemiesKilled) {
+        currentWave = Math.max(1, wave);
+        totalEnemiesKilled = enemiesKilled;
+    }
+
+    void spawnEnemyClump() {
         int clumpSize = MIN_ENEMIES_PER_CLUMP + random.nextInt(MAX_ENEMIES_PER_CLUMP - MIN_ENEMIES_PER_CLUMP + 1);
 
         Vector2 cornerPos = cornerPositions[random.nextInt(4)];
@@ -373,55 +421,78 @@ public class EndlessRoom {
     }
 
     private void spawnEnemy(float x, float y) {
-        SpawnableEnemyType enemyType = SpawnableEnemyType.values()[random.nextInt(SpawnableEnemyType.values().length)];
+        SpawnableEnemyType enemyType = SPAWNABLE_TYPES[random.nextInt(SPAWNABLE_TYPES.length)];
 
-        Body body = createEnemyBody(x, y);
-        EnemyStats stats;
-        EnemyType type;
+        if (templateWave != currentWave) {
+            for (SpawnableEnemyType type : SPAWNABLE_TYPES) {
+                statTemplates[type.ordinal()] = createStats(type, currentWave);
+            }
+            templateWave = currentWave;
+        }
 
-        switch (enemyType) {
+        Body body = bodyPool.obtain();
+        body.setTransform(x, y, 0);
+        body.setLinearVelocity(0, 0);
+        BodyCommandBuffer.getInstance().setActive(body, true);
+        body.setAwake(true);
+
+        EndlessEnemy enemy = enemyPool.obtain();
+        enemy.respawn(body, statTemplates[enemyType.ordinal()], toEnemyType(enemyType));
+
+        body.setUserData(enemy);
+        enemies.add(enemy);
+    }
+
+    private static EnemyStats createStats(SpawnableEnemyType type, int wave) {
+        switch (type) {
+            case MUSHIE:
+                return EnemyStats.Factory.createMushieEnemy(wave);
+            case SKELETON:
+                return EnemyStats.Factory.createSkeletonEnemy(wave);
+            case SKELETON_MAGE:
+                return EnemyStats.Factory.createSkeletonMageEnemy(wave);
+            case SKELETON_ROGUE:
+                return EnemyStats.Factory.createSkeletonRogueEnemy(wave);
+            case GHOST:
+                return EnemyStats.Factory.createGhost(wave);
+            case HEDGEHOG:
+                return EnemyStats.Factory.createHedgehogEnemy(wave);
+            case WOLFIE:
+            default:
+                return EnemyStats.Factory.createWolfieEnemy(wave);
+        }
+    }
+
+    private static EnemyType toEnemyType(SpawnableEnemyType type) {
+        switch (type) {
             case MUSHIE:
-                stats = EnemyStats.Factory.createMushieEnemy(currentWave);
-                type = EnemyType.MUSHIE;
-                break;
+                return EnemyType.MUSHIE;
             case SKELETON:
-                stats = EnemyStats.Factory.createSkeletonEnemy(currentWave);
-                type = EnemyType.SKELETON;
-                break;
+                return EnemyType.SKELETON;
             case SKELETON_MAGE:
-                stats = EnemyStats.Factory.createSkeletonMageEnemy(currentWave);
-                type = EnemyType.SKELETON_MAGE;
-                break;
+                return EnemyType.SKELETON_MAGE;
             case SKELETON_ROGUE:
-                stats = EnemyStats.Factory.createSkeletonRogueEnemy(currentWave);
-                type = EnemyType.SKELETON_ROGUE;
-                break;
+                return EnemyType.SKELETON_ROGUE;
             case GHOST:
-                stats = EnemyStats.Factory.createGhost(currentWave);
-                type = EnemyType.GHOST;
-                break;
+                return EnemyType.GHOST;
             case HEDGEHOG:
-                stats = EnemyStats.Factory.createHedgehogEnemy(currentWave);
-                type = EnemyType.HEDGEHOG;
-                break;
+                return EnemyType.HEDGEHOG;
             case WOLFIE:
             default:
-                stats = EnemyStats.Factory.createWolfieEnemy(currentWave);
-                type = EnemyType.WOLFIE;
-                break;
+                return EnemyType.WOLFIE;
         }
+    }
 
-        EndlessEnemy enemy = new EndlessEnemy(
-                new Rectangle(x - 8, y - 8, 16, 16),
-                body,
-                player,
-                animationManager,
-                stats,
-                type
-        );
+    // Takes a dead enemy out of the room and returns it and its body to the pools. Not during a world step.
+    public void releaseEnemy(EndlessEnemy enemy) {
+        enemies.remove(enemy);
 
-        body.setUserData(enemy);
-        enemies.add(enemy);
+        Body body = enemy.getBody();
+        enemy.clearBody();
+        if (body != null) {
+            bodyPool.free(body);
+        }
+        enemyPool.free(enemy);
     }
 
     private Body createEnemyBody(float x, float y) {
@@ -477,10 +548,15 @@ public class EndlessRoom {
     }
 
     public void renderEnemies(SpriteBatch batch, float delta) {
-        for (EndlessEnemy enemy : new ArrayList<>(enemies)) {
+        Profiler profiler = Profiler.getInstance();
+
+        for (int i = 0; i < enemies.size(); i++) {
+            EndlessEnemy enemy = enemies.get(i);
             if (!enemy.isMarkedForRemoval()) {
                 if (delta > 0) {
+                    profiler.begin(Profiler.AI);
                     enemy.update(delta);
+                    profiler.end(Profiler.AI);
                 }
                 enemy.render(batch);
             }
@@ -589,27 +665,22 @@ public class EndlessRoom {
 
     public void dispose() {
         for (Wall wall : walls) {
-            if (wall.body != null) {
-                try {
-                    world.destroyBody(wall.body);
-                } catch (Exception e) {
-                }
-            }
+            BodyCommandBuffer.getInstance().destroy(wall.body);
         }
         walls.clear();
 
         for (EndlessEnemy enemy : new ArrayList<>(enemies)) {
             if (enemy.getBody() != null) {
-                try {
-                    world.destroyBody(enemy.getBody());
-                } catch (Exception e) {
-                }
+                BodyCommandBuffer.getInstance().destroy(enemy.getBody());
                 enemy.clearBody();
             }
             enemy.dispose();
         }
         enemies.clear();
 
+        bodyPool.clear();
+        enemyPool.clear();
+
         if (shapeRenderer != null) {
             shapeRenderer.dispose();
             shapeRenderer = null;
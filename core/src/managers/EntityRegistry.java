@@ -0,0 +1,106 @@
+package managers;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+
+import entities.HostileEntity;
+
+/*
+ * Every hostile entity of the current mode in one flat list, with its position copied into packed arrays.
+ * GameProj gathers it once per frame, right before the player updates, so the overworld, dungeon, boss room
+ * and endless room can all be swept with a single loop instead of one per enemy list.
+ *
+ * The shape tests work on the packed positions and never touch the bodies, so a sweep that misses
+ * everything costs no JNI calls.
+ */
+public class EntityRegistry {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private HostileEntity[] entities = new HostileEntity[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private boolean[] boss = new boolean[INITIAL_CAPACITY];
+    private int count = 0;
+
+    public void begin() {
+        Arrays.fill(entities, 0, count, null);
+        count = 0;
+    }
+
+    public void add(HostileEntity entity) {
+        add(entity, false);
+    }
+
+    public void add(HostileEntity entity, boolean isBoss) {
+        if (entity == null) return;
+
+        Body body = entity.getBody();
+        if (body == null) return;
+
+        if (count == entities.length) {
+            int capacity = count * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            boss = Arrays.copyOf(boss, capacity);
+        }
+
+        Vector2 position = body.getPosition();
+        entities[count] = entity;
+        x[count] = position.x;
+        y[count] = position.y;
+        boss[count] = isBoss;
+        count++;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public HostileEntity get(int index) {
+        return entities[index];
+    }
+
+    public float getX(int index) {
+        return x[index];
+    }
+
+    public float getY(int index) {
+        return y[index];
+    }
+
+    // Only the boss room bosses; Herman counts as a regular enemy here like he always did for abilities
+    public boolean isBoss(int index) {
+        return boss[index];
+    }
+
+    public boolean inRadius(int index, float originX, float originY, float radius) {
+        float dx = x[index] - originX;
+        float dy = y[index] - originY;
+        return dx * dx + dy * dy < radius * radius;
+    }
+
+    // Within range and less than acos(minDot) off the direction, which has to be normalized
+    public boolean inCone(int index, float originX, float originY, float dirX, float dirY, float range, float minDot) {
+        float dx = x[index] - originX;
+        float dy = y[index] - originY;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length == 0f || length >= range) return false;
+
+        return (dx * dirX + dy * dirY) / length > minDot;
+    }
+
+    // Ahead of the origin along the normalized direction, up to range, and within halfWidth of the line
+    public boolean inLine(int index, float originX, float originY, float dirX, float dirY, float range, float halfWidth) {
+        float dx = x[index] - originX;
+        float dy = y[index] - originY;
+        float along = dx * dirX + dy * dirY;
+        if (along <= 0f || along >= range) return false;
+
+        float perpX = dx - dirX * along;
+        float perpY = dy - dirY * along;
+        return perpX * perpX + perpY * perpY < halfWidth * halfWidth;
+    }
+}
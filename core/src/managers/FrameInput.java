@@ -0,0 +1,223 @@
+package managers;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.AbstractInput;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+
+// Input state held fixed for a whole tick, so every system reading Gdx.input during that tick sees the same frame.
+// Key, button and mouse queries come from the frame; everything else is forwarded to the backend input, if any.
+public class FrameInput extends AbstractInput {
+    public static final int KEY_COUNT = Input.Keys.MAX_KEYCODE + 1;
+    public static final int BUTTON_COUNT = 5;
+
+    private final Input backend;
+
+    private final boolean[] keys = new boolean[KEY_COUNT];
+    private final boolean[] previousKeys = new boolean[KEY_COUNT];
+    private final boolean[] buttons = new boolean[BUTTON_COUNT];
+    private final boolean[] previousButtons = new boolean[BUTTON_COUNT];
+    private int mouseX, mouseY;
+    private int deltaX, deltaY;
+    private InputProcessor processor;
+
+    public FrameInput(Input backend) {
+        this.backend = backend;
+        if (backend != null) {
+            processor = backend.getInputProcessor();
+        }
+    }
+
+    public Input getBackend() {
+        return backend;
+    }
+
+    public void beginTick() {
+        System.arraycopy(keys, 0, previousKeys, 0, KEY_COUNT);
+        System.arraycopy(buttons, 0, previousButtons, 0, BUTTON_COUNT);
+        deltaX = 0;
+        deltaY = 0;
+    }
+
+    // Copies the backend's current state into this frame
+    public void sampleBackend() {
+        if (backend == null) return;
+
+        for (int i = 0; i < KEY_COUNT; i++) {
+            // A tap shorter than a frame is never seen as held, keep it for one tick so it isn't lost
+            keys[i] = backend.isKeyPressed(i) || backend.isKeyJustPressed(i);
+        }
+        for (int i = 0; i < BUTTON_COUNT; i++) {
+            buttons[i] = backend.isButtonPressed(i) || backend.isButtonJustPressed(i);
+        }
+        mouseX = backend.getX();
+        mouseY = backend.getY();
+        deltaX = backend.getDeltaX();
+        deltaY = backend.getDeltaY();
+    }
+
+    public void setKey(int keycode, boolean pressed) {
+        if (keycode >= 0 && keycode < KEY_COUNT) {
+            keys[keycode] = pressed;
+        }
+    }
+
+    public void setButton(int button, boolean pressed) {
+        if (button >= 0 && button < BUTTON_COUNT) {
+            buttons[button] = pressed;
+        }
+    }
+
+    public void releaseAll() {
+        Arrays.fill(keys, false);
+        Arrays.fill(buttons, false);
+    }
+
+    // Moves the cursor and accumulates the movement into this tick's delta
+    public void setMouse(int x, int y) {
+        deltaX += x - mouseX;
+        deltaY += y - mouseY;
+        mouseX = x;
+        mouseY = y;
+    }
+
+    public void setMouse(int x, int y, int deltaX, int deltaY) {
+        this.mouseX = x;
+        this.mouseY = y;
+        this.deltaX = deltaX;
+        this.deltaY = deltaY;
+    }
+
+    @Override
+    public boolean isKeyPressed(int key) {
+        if (key == Input.Keys.ANY_KEY) {
+            for (boolean pressed : keys) {
+                if (pressed) return true;
+            }
+            return false;
+        }
+        return key >= 0 && key < KEY_COUNT && keys[key];
+    }
+
+    @Override
+    public boolean isKeyJustPressed(int key) {
+        if (key == Input.Keys.ANY_KEY) {
+            for (int i = 0; i < KEY_COUNT; i++) {
+                if (keys[i] && !previousKeys[i]) return true;
+            }
+            return false;
+        }
+        return key >= 0 && key < KEY_COUNT && keys[key] && !previousKeys[key];
+    }
+
+    @Override
+    public boolean isButtonPressed(int button) {
+        return button >= 0 && button < BUTTON_COUNT && buttons[button];
+    }
+
+    @Override
+    public boolean isButtonJustPressed(int button) {
+        return button >= 0 && button < BUTTON_COUNT && buttons[button] && !previousButtons[button];
+    }
+
+    @Override
+    public boolean isTouched() {
+        for (boolean pressed : buttons) {
+            if (pressed) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isTouched(int pointer) {
+        return pointer == 0 && isTouched();
+    }
+
+    @Override
+    public boolean justTouched() {
+        for (int i = 0; i < BUTTON_COUNT; i++) {
+            if (buttons[i] && !previousButtons[i]) return true;
+        }
+        return false;
+    }
+
+    @Override public int getX() { return mouseX; }
+    @Override public int getX(int pointer) { return mouseX; }
+    @Override public int getY() { return mouseY; }
+    @Override public int getY(int pointer) { return mouseY; }
+    @Override public int getDeltaX() { return deltaX; }
+    @Override public int getDeltaX(int pointer) { return deltaX; }
+    @Override public int getDeltaY() { return deltaY; }
+    @Override public int getDeltaY(int pointer) { return deltaY; }
+    @Override public int getMaxPointers() { return 1; }
+    @Override public float getPressure() { return isTouched() ? 1f : 0f; }
+    @Override public float getPressure(int pointer) { return isTouched(pointer) ? 1f : 0f; }
+
+    // The frame owns the cursor; warping the real one still works, but doesn't change what this tick reports
+    @Override
+    public void setCursorPosition(int x, int y) {
+        if (backend != null) backend.setCursorPosition(x, y);
+    }
+
+    @Override
+    public void setCursorCatched(boolean catched) {
+        if (backend != null) backend.setCursorCatched(catched);
+    }
+
+    @Override
+    public boolean isCursorCatched() {
+        return backend != null && backend.isCursorCatched();
+    }
+
+    @Override
+    public void setInputProcessor(InputProcessor processor) {
+        this.processor = processor;
+        if (backend != null) backend.setInputProcessor(processor);
+    }
+
+    @Override
+    public InputProcessor getInputProcessor() {
+        return processor;
+    }
+
+    @Override
+    public long getCurrentEventTime() {
+        return backend != null ? backend.getCurrentEventTime() : 0L;
+    }
+
+    @Override
+    public void getTextInput(TextInputListener listener, String title, String text, String hint) {
+        if (backend != null) backend.getTextInput(listener, title, text, hint);
+    }
+
+    @Override
+    public void getTextInput(TextInputListener listener, String title, String text, String hint, OnscreenKeyboardType type) {
+        if (backend != null) backend.getTextInput(listener, title, text, hint, type);
+    }
+
+    @Override public void setOnscreenKeyboardVisible(boolean visible) {}
+    @Override public void setOnscreenKeyboardVisible(boolean visible, OnscreenKeyboardType type) {}
+    @Override public void vibrate(int milliseconds) {}
+    @Override public void vibrate(int milliseconds, boolean fallback) {}
+    @Override public void vibrate(int milliseconds, int amplitude, boolean fallback) {}
+    @Override public void vibrate(VibrationType vibrationType) {}
+
+    @Override public float getAccelerometerX() { return 0f; }
+    @Override public float getAccelerometerY() { return 0f; }
+    @Override public float getAccelerometerZ() { return 0f; }
+    @Override public float getGyroscopeX() { return 0f; }
+    @Override public float getGyroscopeY() { return 0f; }
+    @Override public float getGyroscopeZ() { return 0f; }
+    @Override public float getAzimuth() { return 0f; }
+    @Override public float getPitch() { return 0f; }
+    @Override public float getRoll() { return 0f; }
+    @Override public void getRotationMatrix(float[] matrix) {}
+    @Override public int getRotation() { return 0; }
+    @Override public Orientation getNativeOrientation() { return Orientation.Landscape; }
+
+    @Override
+    public boolean isPeripheralAvailable(Peripheral peripheral) {
+        return backend != null && backend.isPeripheralAvailable(peripheral);
+    }
+}
@@ -0,0 +1,58 @@
+package managers;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.MathUtils;
+
+public class GameRandom {
+    private static boolean seeded = false;
+    private static long seed;
+    private static long streamCount;
+
+    public static synchronized void setSeed(long newSeed) {
+        seed = newSeed;
+        seeded = true;
+        streamCount = 0;
+        MathUtils.random.setSeed(newSeed);
+    }
+
+    public static synchronized void clearSeed() {
+        seeded = false;
+        streamCount = 0;
+    }
+
+    public static boolean isSeeded() {
+        return seeded;
+    }
+
+    public static long getSeed() {
+        return seed;
+    }
+
+    public static synchronized Random newRandom() {
+        if (!seeded) {
+            return new Random();
+        }
+        // Each stream is derived from the seed and creation order, so runs only match if objects are created in the same order
+        streamCount++;
+        return new Random(mix(seed + streamCount * 0x9E3779B97F4A7C15L));
+    }
+
+    public static Random forChunk(int chunkX, int chunkY) {
+        if (!seeded) {
+            return new Random();
+        }
+        // Chunks are generated off-thread in whatever order the player walks, so they get a position-derived stream instead
+        return new Random(chunkSeed(seed, chunkX, chunkY));
+    }
+
+    public static long chunkSeed(long worldSeed, int chunkX, int chunkY) {
+        return mix(worldSeed ^ (((long) chunkX << 32) | (chunkY & 0xFFFFFFFFL)));
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,85 @@
+package managers;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class InputRecorder {
+    private final DataOutputStream out;
+    private final boolean[] keys = new boolean[FrameInput.KEY_COUNT];
+    private final int[] changedKeys = new int[FrameInput.KEY_COUNT];
+    private int buttonMask;
+    private int mouseX, mouseY;
+    private int frameMicros = -1;
+    private long frames;
+
+    public InputRecorder(OutputStream stream, InputRecording header) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(stream));
+        header.writeHeader(out);
+    }
+
+    public void writeFrame(FrameInput input, int micros) throws IOException {
+        int changedCount = 0;
+        for (int i = 0; i < FrameInput.KEY_COUNT; i++) {
+            boolean pressed = input.isKeyPressed(i);
+            if (pressed != keys[i]) {
+                keys[i] = pressed;
+                changedKeys[changedCount++] = i;
+            }
+        }
+
+        int buttons = 0;
+        for (int i = 0; i < FrameInput.BUTTON_COUNT; i++) {
+            if (input.isButtonPressed(i)) buttons |= 1 << i;
+        }
+
+        int dx = input.getX() - mouseX;
+        int dy = input.getY() - mouseY;
+        int deltaX = input.getDeltaX();
+        int deltaY = input.getDeltaY();
+
+        int flags = 0;
+        if (changedCount > 0) flags |= InputRecording.FRAME_KEYS;
+        if (buttons != buttonMask) flags |= InputRecording.FRAME_BUTTONS;
+        if (dx != 0 || dy != 0) flags |= InputRecording.FRAME_MOUSE;
+        if (deltaX != 0 || deltaY != 0) flags |= InputRecording.FRAME_DELTAS;
+        if (micros != frameMicros) flags |= InputRecording.FRAME_TIME;
+
+        out.writeByte(flags);
+        if (changedCount > 0) {
+            InputRecording.writeVarInt(out, changedCount);
+            for (int i = 0; i < changedCount; i++) {
+                InputRecording.writeVarInt(out, changedKeys[i]);
+            }
+        }
+        if (buttons != buttonMask) {
+            out.writeByte(buttons);
+            buttonMask = buttons;
+        }
+        if (dx != 0 || dy != 0) {
+            InputRecording.writeSignedVarInt(out, dx);
+            InputRecording.writeSignedVarInt(out, dy);
+            mouseX += dx;
+            mouseY += dy;
+        }
+        if (deltaX != 0 || deltaY != 0) {
+            InputRecording.writeSignedVarInt(out, deltaX);
+            InputRecording.writeSignedVarInt(out, deltaY);
+        }
+        if (micros != frameMicros) {
+            InputRecording.writeVarInt(out, micros);
+            frameMicros = micros;
+        }
+        frames++;
+    }
+
+    public long getFrameCount() {
+        return frames;
+    }
+
+    public void close() throws IOException {
+        out.writeByte(InputRecording.END_OF_STREAM);
+        out.close();
+    }
+}
@@ -0,0 +1,111 @@
+package managers;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+
+import entities.PlayerClass;
+
+/*
+ * Binary layout of an input recording. Everything a run needs to start identically is in the header,
+ * followed by one frame per tick:
+ *
+ *   flags       1 byte, which of the sections below are present
+ *   keys        varint count + varint keycodes that changed state since the previous frame
+ *   buttons     1 byte mask of held mouse buttons
+ *   mouse       zigzag varint x/y movement since the previous frame
+ *   deltas      zigzag varint raw mouse deltas reported this frame
+ *   time        varint frame time in microseconds, only when it differs from the previous frame
+ *
+ * A frame with nothing new is a single byte, so an idle minute at 60 fps costs about 3.5 KB.
+ */
+public class InputRecording {
+    public static final int MAGIC = 0x54505250; // "TPRP"
+    public static final int VERSION = 1;
+
+    static final int FRAME_KEYS = 1;
+    static final int FRAME_BUTTONS = 1 << 1;
+    static final int FRAME_MOUSE = 1 << 2;
+    static final int FRAME_DELTAS = 1 << 3;
+    static final int FRAME_TIME = 1 << 4;
+    static final int END_OF_STREAM = 0xFF;
+
+    public final long seed;
+    public final int gameMode;
+    public final PlayerClass playerClass;
+    public final int screenWidth;
+    public final int screenHeight;
+
+    public InputRecording(long seed, int gameMode, PlayerClass playerClass, int screenWidth, int screenHeight) {
+        this.seed = seed;
+        this.gameMode = gameMode;
+        this.playerClass = playerClass;
+        this.screenWidth = screenWidth;
+        this.screenHeight = screenHeight;
+    }
+
+    void writeHeader(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeLong(seed);
+        out.writeByte(gameMode);
+        out.writeUTF(playerClass.name());
+        out.writeShort(screenWidth);
+        out.writeShort(screenHeight);
+    }
+
+    static InputRecording readHeader(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported recording version " + version);
+        }
+
+        long seed = in.readLong();
+        int gameMode = in.readUnsignedByte();
+        PlayerClass playerClass = PlayerClass.valueOf(in.readUTF());
+        int width = in.readUnsignedShort();
+        int height = in.readUnsignedShort();
+        return new InputRecording(seed, gameMode, playerClass, width, height);
+    }
+
+    // Reads just the header, for launchers that need the screen size before the game starts
+    public static InputRecording peekHeader(InputStream stream) throws IOException {
+        try (DataInputStream in = new DataInputStream(stream)) {
+            return readHeader(in);
+        }
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    static void writeSignedVarInt(DataOutput out, int value) throws IOException {
+        writeVarInt(out, (value << 1) ^ (value >> 31));
+    }
+
+    static int readSignedVarInt(DataInput in) throws IOException {
+        int raw = readVarInt(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+}
@@ -0,0 +1,94 @@
+package managers;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class InputReplayer {
+    private final DataInputStream in;
+    private final InputRecording header;
+    private final boolean[] keys = new boolean[FrameInput.KEY_COUNT];
+    private int buttonMask;
+    private int mouseX, mouseY;
+    private int frameMicros;
+    private long frames;
+    private boolean finished = false;
+
+    public InputReplayer(InputStream stream) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(stream));
+        this.header = InputRecording.readHeader(in);
+    }
+
+    public InputRecording getHeader() {
+        return header;
+    }
+
+    // Applies the next recorded frame to the input; returns false once the recording has run out
+    public boolean readFrame(FrameInput input) throws IOException {
+        if (finished) return false;
+
+        int flags;
+        try {
+            flags = in.readUnsignedByte();
+        } catch (EOFException e) {
+            // A recording cut short by a crash still replays up to its last complete frame
+            flags = InputRecording.END_OF_STREAM;
+        }
+        if (flags == InputRecording.END_OF_STREAM) {
+            finished = true;
+            return false;
+        }
+
+        if ((flags & InputRecording.FRAME_KEYS) != 0) {
+            int count = InputRecording.readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                int key = InputRecording.readVarInt(in);
+                keys[key] = !keys[key];
+            }
+        }
+        if ((flags & InputRecording.FRAME_BUTTONS) != 0) {
+            buttonMask = in.readUnsignedByte();
+        }
+        if ((flags & InputRecording.FRAME_MOUSE) != 0) {
+            mouseX += InputRecording.readSignedVarInt(in);
+            mouseY += InputRecording.readSignedVarInt(in);
+        }
+        int deltaX = 0, deltaY = 0;
+        if ((flags & InputRecording.FRAME_DELTAS) != 0) {
+            deltaX = InputRecording.readSignedVarInt(in);
+            deltaY = InputRecording.readSignedVarInt(in);
+        }
+        if ((flags & InputRecording.FRAME_TIME) != 0) {
+            frameMicros = InputRecording.readVarInt(in);
+        }
+
+        for (int i = 0; i < FrameInput.KEY_COUNT; i++) {
+            input.setKey(i, keys[i]);
+        }
+        for (int i = 0; i < FrameInput.BUTTON_COUNT; i++) {
+            input.setButton(i, (buttonMask & (1 << i)) != 0);
+        }
+        input.setMouse(mouseX, mouseY, deltaX, deltaY);
+
+        frames++;
+        return true;
+    }
+
+    public float getFrameDelta() {
+        return frameMicros / 1_000_000f;
+    }
+
+    public long getFrameCount() {
+        return frames;
+    }
+
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            System.err.println("InputReplayer: Error closing recording - " + e.getMessage());
+        }
+    }
+}
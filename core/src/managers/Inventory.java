@@ -1,9 +1,7 @@
 package managers;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
@@ -13,6 +11,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 
+import config.RunSnapshot;
 import config.Storage;
 import config.SaveManager;
 import entities.PlayerClass;
@@ -85,7 +84,10 @@ public class Inventory {
 
     private final Color DESCRIPTION_COLOR = new Color(1f, 0.4f, 0.7f, 1f);
 
-    private Map<Integer, Integer> itemCounts;
+    // Stack size per slot, 0 for an empty slot
+    private final int[] itemCounts = new int[MAX_SLOTS];
+    private final Item[] sortedItems = new Item[MAX_SLOTS];
+    private final int[] sortedCounts = new int[MAX_SLOTS];
     private Item[] safeItems;
 
     private float cachedPanelX, cachedPanelY, cachedPanelWidth, cachedPanelHeight;
@@ -99,7 +101,6 @@ public class Inventory {
         this.items = new Item[MAX_SLOTS];
         this.safeItems = new Item[SAFE_SLOTS];
         this.coins = 0;
-        this.itemCounts = new HashMap<>();
         this.equipment = new Equipment();
         this.shapeRenderer = new ShapeRenderer();
         this.font = Storage.assetManager.get("fonts/CascadiaBold.fnt", BitmapFont.class);
@@ -146,8 +147,7 @@ public class Inventory {
 
         for (int i = 0; i < MAX_SLOTS; i++) {
             if (items[i] != null && items[i].canStackWith(item)) {
-                int currentCount = itemCounts.getOrDefault(i, 1);
-                itemCounts.put(i, currentCount + 1);
+                itemCounts[i]++;
                 return true;
             }
         }
@@ -155,7 +155,7 @@ public class Inventory {
         for (int i = 0; i < MAX_SLOTS; i++) {
             if (items[i] == null) {
                 items[i] = item;
-                itemCounts.put(i, 1);
+                itemCounts[i] = 1;
                 return true;
             }
         }
@@ -165,12 +165,11 @@ public class Inventory {
 
     public void removeItem(int slot) {
         if (slot >= 0 && slot < MAX_SLOTS && items[slot] != null) {
-            int count = itemCounts.getOrDefault(slot, 1);
-            if (count > 1) {
-                itemCounts.put(slot, count - 1);
+            if (itemCounts[slot] > 1) {
+                itemCounts[slot]--;
             } else {
                 items[slot] = null;
-                itemCounts.remove(slot);
+                itemCounts[slot] = 0;
             }
         }
     }
@@ -178,19 +177,18 @@ public class Inventory {
     public void removeItemCompletely(int slot) {
         if (slot >= 0 && slot < MAX_SLOTS) {
             items[slot] = null;
-            itemCounts.remove(slot);
+            itemCounts[slot] = 0;
         }
     }
 
     public void removeItemByReference(Item item) {
         for (int i = 0; i < MAX_SLOTS; i++) {
             if (items[i] != null && items[i].canStackWith(item)) {
-                int count = itemCounts.getOrDefault(i, 1);
-                if (count > 1) {
-                    itemCounts.put(i, count - 1);
+                if (itemCounts[i] > 1) {
+                    itemCounts[i]--;
                 } else {
                     items[i] = null;
-                    itemCounts.remove(i);
+                    itemCounts[i] = 0;
                 }
                 return;
             }
@@ -202,7 +200,7 @@ public class Inventory {
 
         for (int i = 0; i < MAX_SLOTS; i++) {
             if (items[i] != null && items[i].canStackWith(consumable)) {
-                return itemCounts.getOrDefault(i, 0);
+                return itemCounts[i];
             }
         }
         return 0;
@@ -216,37 +214,27 @@ public class Inventory {
     }
 
     public int getItemCount(int slot) {
-        return itemCounts.getOrDefault(slot, 0);
+        if (slot < 0 || slot >= MAX_SLOTS) return 0;
+        return itemCounts[slot];
     }
 
-    // Sort inventory by item type: WEAPON -> OFFHAND -> ARMOR -> CONSUMABLE
+    // Sort inventory by item type: WEAPON -> OFFHAND -> ARMOR -> CONSUMABLE, keeping the order within a type
     public void sortInventory() {
-        List<ItemWithCount> allItems = new ArrayList<>();
-
-        for (int i = 0; i < MAX_SLOTS; i++) {
-            if (items[i] != null) {
-                allItems.add(new ItemWithCount(items[i], itemCounts.getOrDefault(i, 1)));
+        int slotIndex = 0;
+        for (int priority = 0; priority <= 4; priority++) {
+            for (int i = 0; i < MAX_SLOTS; i++) {
+                if (items[i] != null && getTypePriority(items[i]) == priority) {
+                    sortedItems[slotIndex] = items[i];
+                    sortedCounts[slotIndex] = itemCounts[i];
+                    slotIndex++;
+                }
             }
         }
 
-        allItems.sort((a, b) -> {
-            int priorityA = getTypePriority(a.item);
-            int priorityB = getTypePriority(b.item);
-            return Integer.compare(priorityA, priorityB);
-        });
-
         for (int i = 0; i < MAX_SLOTS; i++) {
-            items[i] = null;
-        }
-        itemCounts.clear();
-
-        int slotIndex = 0;
-        for (ItemWithCount iwc : allItems) {
-            if (slotIndex < MAX_SLOTS) {
-                items[slotIndex] = iwc.item;
-                itemCounts.put(slotIndex, iwc.count);
-                slotIndex++;
-            }
+            items[i] = i < slotIndex ? sortedItems[i] : null;
+            itemCounts[i] = i < slotIndex ? sortedCounts[i] : 0;
+            sortedItems[i] = null;
         }
     }
 
@@ -267,16 +255,6 @@ public class Inventory {
         }
     }
 
-    private static class ItemWithCount {
-        Item item;
-        int count;
-
-        ItemWithCount(Item item, int count) {
-            this.item = item;
-            this.count = count;
-        }
-    }
-
     // Drag and drop methods
     private void startDrag(int slot, float mouseX, float mouseY) {
         if (slot >= 0 && slot < MAX_SLOTS && items[slot] != null) {
@@ -323,7 +301,7 @@ public class Inventory {
             if (targetSlot >= 0) {
                 if (items[targetSlot] == null) {
                     items[targetSlot] = draggedItem;
-                    itemCounts.put(targetSlot, 1);
+                    itemCounts[targetSlot] = 1;
                     safeItems[dragSourceSafeSlot] = null;
                     syncSafeStorageToSave();
                     cancelDrag();
@@ -333,7 +311,7 @@ public class Inventory {
                 if (isEquippableItem(items[targetSlot])) {
                     Item temp = items[targetSlot];
                     items[targetSlot] = draggedItem;
-                    itemCounts.put(targetSlot, 1);
+                    itemCounts[targetSlot] = 1;
                     safeItems[dragSourceSafeSlot] = temp;
                     syncSafeStorageToSave();
                     cancelDrag();
@@ -395,21 +373,13 @@ public class Inventory {
 
     private void swapItems(int slot1, int slot2) {
         Item temp = items[slot1];
-        int count1 = itemCounts.getOrDefault(slot1, 1);
-        int count2 = itemCounts.getOrDefault(slot2, 1);
+        int count1 = itemCounts[slot1];
 
         items[slot1] = items[slot2];
         items[slot2] = temp;
 
-        itemCounts.remove(slot1);
-        itemCounts.remove(slot2);
-
-        if (items[slot1] != null) {
-            itemCounts.put(slot1, count2);
-        }
-        if (items[slot2] != null) {
-            itemCounts.put(slot2, count1);
-        }
+        itemCounts[slot1] = itemCounts[slot2];
+        itemCounts[slot2] = count1;
     }
 
     private void swapSafeItems(int slot1, int slot2) {
@@ -426,10 +396,7 @@ public class Inventory {
         safeItems[safeSlot] = inventoryItem;
         items[inventorySlot] = safeItem;
 
-        itemCounts.remove(inventorySlot);
-        if (safeItem != null) {
-            itemCounts.put(inventorySlot, 1);
-        }
+        itemCounts[inventorySlot] = safeItem != null ? 1 : 0;
     }
 
     private int getSlotAtPosition(float mouseX, float mouseY) {
@@ -1426,7 +1393,7 @@ public class Inventory {
 
                 items[i].renderIcon(batch, slotX + 5, slotY + 5, SLOT_SIZE - 10);
 
-                int count = itemCounts.getOrDefault(i, 1);
+                int count = itemCounts[i];
                 if (count > 1) {
                     font.getData().setScale(0.6f);
                     font.setColor(Color.YELLOW);
@@ -1549,6 +1516,54 @@ public class Inventory {
         return inventoryOpen;
     }
 
+    public void captureTo(RunSnapshot snapshot) {
+        snapshot.coins = coins;
+        snapshot.inventoryItems = new String[MAX_SLOTS];
+        snapshot.inventoryCounts = new int[MAX_SLOTS];
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            if (items[i] != null) {
+                snapshot.inventoryItems[i] = items[i].getItemId();
+                snapshot.inventoryCounts[i] = itemCounts[i];
+            }
+        }
+
+        EquipmentSlot[] slots = EquipmentSlot.values();
+        snapshot.equippedItems = new String[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            Item item = equipment.getEquippedItem(slots[i]);
+            snapshot.equippedItems[i] = item != null ? item.getItemId() : null;
+        }
+    }
+
+    public void restoreFrom(RunSnapshot snapshot, entities.Player player) {
+        ItemRegistry registry = ItemRegistry.getInstance();
+        coins = snapshot.coins;
+
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            items[i] = null;
+            itemCounts[i] = 0;
+        }
+        for (int i = 0; i < Math.min(MAX_SLOTS, snapshot.inventoryItems.length); i++) {
+            if (snapshot.inventoryItems[i] == null) continue;
+
+            Item item = registry.createItem(snapshot.inventoryItems[i], new Vector2(0f, 0f));
+            if (item != null) {
+                items[i] = item;
+                itemCounts[i] = Math.max(1, snapshot.inventoryCounts[i]);
+            }
+        }
+
+        EquipmentSlot[] slots = EquipmentSlot.values();
+        for (int i = 0; i < Math.min(slots.length, snapshot.equippedItems.length); i++) {
+            if (snapshot.equippedItems[i] == null) continue;
+
+            Item item = registry.createItem(snapshot.equippedItems[i], new Vector2(0f, 0f));
+            if (item != null) {
+                equipment.equipItem(item, player);
+            }
+        }
+    }
+
     public void transferSafeStorageToStash() {
         String[] stashSlots = SaveManager.getSafeStashSlots();
         int stashIndex = 0;
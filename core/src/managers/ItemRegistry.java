@@ -1,6 +1,8 @@
 package managers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.badlogic.gdx.graphics.Texture;
@@ -9,9 +11,22 @@ import com.badlogic.gdx.math.Vector2;
 import config.Storage;
 import items.*;
 
+/*
+ * The item catalog. Every definition gets a dense index when it is registered, and items, loot tables
+ * and the spawner refer to definitions by that index rather than by their string id. A definition is
+ * shared by every item made from it and is not changed once registered; an Item only carries its own
+ * position, body and pickup state.
+ *
+ * Random drops are compiled here too: each gear family gets its prefixed variants as an index array in
+ * GEAR_PREFIXES order, and "buff_potion" is a group of the three buff potions with an alias table to pick
+ * one by weight.
+ */
 public class ItemRegistry {
     private static ItemRegistry instance;
     private Map<String, ItemDefinition> itemDefinitions;
+    private final List<ItemDefinition> catalog = new ArrayList<>();
+    private final Map<String, int[]> prefixVariants = new HashMap<>();
+    private final Map<String, VariantGroup> variantGroups = new HashMap<>();
 
     public static final String VALKYRIE = "valkyrie";
     public static final String PROTECTOR = "protector";
@@ -20,6 +35,8 @@ public class ItemRegistry {
     public static final String DECEPTOR = "deceptor";
     public static final String SPECIAL = "special";
 
+    public static final String[] GEAR_PREFIXES = {"valkyries_", "protectors_", "barbarians_", "berserkers_", "deceptors_"};
+
     public static class ItemDefinition {
         public String id;
         public String name;
@@ -41,6 +58,11 @@ public class ItemRegistry {
         public boolean luckyClover;
         public String gearType;
 
+        // Position in the catalog, assigned by registerItem()
+        public int index = -1;
+        private Texture texture;
+        private Texture iconTexture;
+
         public ItemDefinition(String id, String name, String description,
                               Item.ItemType type, String texturePath, String iconPath) {
             this.id = id;
@@ -129,11 +151,37 @@ public class ItemRegistry {
             this.gearType = gearType;
             return this;
         }
+
+        // Looked up the first time an item of this definition is drawn, then shared by all of them
+        public Texture getTexture() {
+            if (texture == null) {
+                texture = Storage.assetManager.get(texturePath, Texture.class);
+            }
+            return texture;
+        }
+
+        public Texture getIconTexture() {
+            if (iconTexture == null) {
+                iconTexture = Storage.assetManager.get(iconPath, Texture.class);
+            }
+            return iconTexture;
+        }
+    }
+
+    public static class VariantGroup {
+        public final int[] items;
+        public final AliasTable picker;
+
+        VariantGroup(int[] items, AliasTable picker) {
+            this.items = items;
+            this.picker = picker;
+        }
     }
 
     private ItemRegistry() {
         itemDefinitions = new HashMap<>();
         registerDefaultItems();
+        compileVariants();
     }
 
     public static ItemRegistry getInstance() {
@@ -588,7 +636,61 @@ public class ItemRegistry {
     }
 
     public void registerItem(ItemDefinition definition) {
-        itemDefinitions.put(definition.id, definition);
+        ItemDefinition replaced = itemDefinitions.put(definition.id, definition);
+        if (replaced != null) {
+            definition.index = replaced.index;
+            catalog.set(definition.index, definition);
+        } else {
+            definition.index = catalog.size();
+            catalog.add(definition);
+        }
+    }
+
+    private void compileVariants() {
+        String firstPrefix = GEAR_PREFIXES[0];
+        for (int i = 0; i < catalog.size(); i++) {
+            String id = catalog.get(i).id;
+            if (!id.startsWith(firstPrefix)) continue;
+
+            String baseId = id.substring(firstPrefix.length());
+            int[] variants = new int[GEAR_PREFIXES.length];
+            boolean complete = true;
+            for (int p = 0; p < GEAR_PREFIXES.length; p++) {
+                variants[p] = getIndex(GEAR_PREFIXES[p] + baseId);
+                complete &= variants[p] >= 0;
+            }
+            if (complete) {
+                prefixVariants.put(baseId, variants);
+            }
+        }
+
+        registerVariantGroup("buff_potion", "attack_potion", "dex_potion", "defense_potion");
+    }
+
+    public void registerVariantGroup(String groupId, String... itemIds) {
+        float[] weights = new float[itemIds.length];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = 1f;
+        }
+        registerVariantGroup(groupId, itemIds, weights);
+    }
+
+    public void registerVariantGroup(String groupId, String[] itemIds, float[] weights) {
+        int[] variants = new int[itemIds.length];
+        for (int i = 0; i < itemIds.length; i++) {
+            variants[i] = getIndex(itemIds[i]);
+        }
+        variantGroups.put(groupId, new VariantGroup(variants, new AliasTable(weights)));
+    }
+
+    // The prefixed variants of a gear family such as "iron_sword", in GEAR_PREFIXES order, or null
+    public int[] getPrefixVariants(String baseId) {
+        return prefixVariants.get(baseId);
+    }
+
+    // The items a group id such as "buff_potion" stands for, or null
+    public VariantGroup getVariantGroup(String groupId) {
+        return variantGroups.get(groupId);
     }
 
     public Item createItem(String itemId, Vector2 position) {
@@ -597,61 +699,58 @@ public class ItemRegistry {
             System.err.println("Item not found: " + itemId);
             return null;
         }
+        return createItem(def.index, position.x, position.y);
+    }
 
-        Texture texture = Storage.assetManager.get(def.texturePath, Texture.class);
-        Texture iconTexture = Storage.assetManager.get(def.iconPath, Texture.class);
+    public Item createItem(int index, float x, float y) {
+        ItemDefinition def = getDefinition(index);
+        if (def == null) {
+            System.err.println("Item not found: " + index);
+            return null;
+        }
 
-        Item item;
         switch (def.type) {
             case WEAPON:
-                ItemTypes.WeaponItem weapon = new ItemTypes.WeaponItem(def.name, def.description, texture, iconTexture,
-                        position, def.damage, def.defense, def.bonusVitality, def.bonusDex, def.buyValue, def.sellValue);
-                weapon.setGearType(def.gearType);
-                item = weapon;
-                break;
-
+                return new ItemTypes.WeaponItem(def, x, y);
             case OFFHAND:
-                ItemTypes.OffhandItem offhand = new ItemTypes.OffhandItem(def.name, def.description, texture, iconTexture,
-                        position, def.damage, def.defense, def.bonusVitality, def.bonusDex, def.buyValue, def.sellValue);
-                offhand.setGearType(def.gearType);
-                item = offhand;
-                break;
-
+                return new ItemTypes.OffhandItem(def, x, y);
             case ARMOR:
-                ItemTypes.ArmorItem armor = new ItemTypes.ArmorItem(def.name, def.description, texture, iconTexture,
-                        position, def.defense, def.damage, def.bonusVitality, def.bonusDex, def.buyValue, def.sellValue);
-                armor.setGearType(def.gearType);
-                item = armor;
-                break;
-
+                return new ItemTypes.ArmorItem(def, x, y);
             case CONSUMABLE:
-                item = new ItemTypes.ConsumableItem(def.name, def.description, texture, iconTexture,
-                        position, def.healthRestore, def.buyValue, def.sellValue);
-                break;
-
+                return new ItemTypes.ConsumableItem(def, x, y);
             case COIN:
-                item = new ItemTypes.CoinItem(texture, iconTexture, position, def.buyValue);
-                break;
-
+                return new ItemTypes.CoinItem(def, x, y);
             default:
-                item = null;
-                break;
-        }
-
-        if (item != null) {
-            item.setItemId(def.id);
+                return null;
         }
-        return item;
     }
 
     public String[] getAllItemIds() {
-        return itemDefinitions.keySet().toArray(new String[0]);
+        String[] ids = new String[catalog.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = catalog.get(i).id;
+        }
+        return ids;
     }
 
     public ItemDefinition getDefinition(String itemId) {
         return itemDefinitions.get(itemId);
     }
 
+    public ItemDefinition getDefinition(int index) {
+        return index >= 0 && index < catalog.size() ? catalog.get(index) : null;
+    }
+
+    // The catalog index of an item id, or -1 if there is no such item
+    public int getIndex(String itemId) {
+        ItemDefinition def = itemDefinitions.get(itemId);
+        return def != null ? def.index : -1;
+    }
+
+    public int getItemCount() {
+        return catalog.size();
+    }
+
     public boolean hasItem(String itemId) {
         return itemDefinitions.containsKey(itemId);
     }
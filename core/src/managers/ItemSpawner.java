@@ -1,11 +1,11 @@
 package managers;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
@@ -23,12 +23,23 @@ public class ItemSpawner {
     private final Random random;
     private final float PICKUP_RADIUS = 25f;
 
+    // Items wait here until the world is unlocked; the entries are pooled, so a drop storm allocates nothing but the items
     private List<PendingItem> pendingItems;
+    private final TrackedPool<PendingItem> pendingItemPool;
 
-    public static class WorldItem {
+    // Coins never get a body; they merge into stacks and are picked up by the magnet
+    private final CoinDrops coinDrops = new CoinDrops();
+
+    // Picked up items and their bodies are recycled; bodies are pooled per size and wait deactivated
+    private final TrackedPool<WorldItem> worldItemPool;
+    private final List<ItemBodyPool> bodyPools = new ArrayList<>();
+    private final List<Item> pickedUpItems = new ArrayList<>();
+
+    public static class WorldItem implements RenderQueue.Drawable {
         public Item item;
         public Body body;
         public float lifetime;
+        private ItemBodyPool bodyPool;
 
         public WorldItem(Item item, Body body) {
             this.item = item;
@@ -54,108 +65,144 @@ public class ItemSpawner {
         }
     }
 
-    private static class PendingItem {
-        String itemId;
-        Vector2 position;
-        Vector2 velocity;
-
-        PendingItem(String itemId, Vector2 position) {
-            this.itemId = itemId;
-            this.position = position;
-            this.velocity = null;
+    private class ItemBodyPool extends TrackedPool<Body> {
+        final float width;
+        final float height;
+
+        ItemBodyPool(float width, float height) {
+            super("item_body_" + (int) width + "x" + (int) height, 16, 256);
+            this.width = width;
+            this.height = height;
         }
 
-        PendingItem(String itemId, Vector2 position, Vector2 velocity) {
-            this.itemId = itemId;
-            this.position = position;
-            this.velocity = velocity;
+        @Override
+        protected Body create() {
+            return createItemBody(Vector2.Zero, width, height);
+        }
+
+        @Override
+        protected void reset(Body body) {
+            body.setLinearVelocity(0, 0);
+            BodyCommandBuffer.getInstance().setActive(body, false);
+        }
+
+        @Override
+        protected void discard(Body body) {
+            BodyCommandBuffer.getInstance().destroy(body);
         }
     }
 
+    private static class PendingItem {
+        int itemIndex;
+        float x, y;
+    }
+
     public ItemSpawner(World world) {
         this.world = world;
         this.worldItems = new ArrayList<>();
         this.pendingItems = new ArrayList<>();
         this.itemRegistry = ItemRegistry.getInstance();
-        this.random = new Random();
-    }
-
-    public WorldItem spawnItem(String itemId, Vector2 position) {
-        if (itemId.equals("coin")) {
-            combinePendingCoins(position);
-        } else {
-            pendingItems.add(new PendingItem(itemId, new Vector2(position)));
-        }
-        return null;
-    }
-
-    private void combinePendingCoins(Vector2 position) {
-        final float COMBINE_RADIUS = 50f;
-        final int COINS_PER_PILE = 5;
-
-        int nearbyCoins = 1;
-        Vector2 centerPosition = new Vector2(position);
+        this.random = GameRandom.newRandom();
 
-        List<PendingItem> toRemove = new ArrayList<>();
-
-        for (PendingItem pending : pendingItems) {
-            if (pending.itemId.equals("coin")) {
-                float dist = pending.position.dst(position);
-                if (dist < COMBINE_RADIUS) {
-                    nearbyCoins++;
-                    centerPosition.add(pending.position);
-                    toRemove.add(pending);
-                }
+        this.worldItemPool = new TrackedPool<WorldItem>("world_item", 32, 512) {
+            @Override
+            protected WorldItem create() {
+                return new WorldItem(null, null);
             }
-        }
 
-        pendingItems.removeAll(toRemove);
+            @Override
+            protected void reset(WorldItem worldItem) {
+                worldItem.item = null;
+                worldItem.body = null;
+                worldItem.bodyPool = null;
+                worldItem.lifetime = 0f;
+            }
+        };
 
-        int numPiles = nearbyCoins / COINS_PER_PILE;
-        int remainderCoins = nearbyCoins % COINS_PER_PILE;
+        this.pendingItemPool = new TrackedPool<PendingItem>("pending_item", 16, 256) {
+            @Override
+            protected PendingItem create() {
+                return new PendingItem();
+            }
 
-        centerPosition.scl(1f / nearbyCoins);
+            @Override
+            protected void reset(PendingItem pending) {
+                pending.itemIndex = -1;
+            }
+        };
+    }
 
-        for (int i = 0; i < numPiles; i++) {
-            float offsetX = (random.nextFloat() - 0.5f) * 10f;
-            float offsetY = (random.nextFloat() - 0.5f) * 10f;
-            Vector2 pilePos = new Vector2(centerPosition.x + offsetX, centerPosition.y + offsetY);
-            pendingItems.add(new PendingItem("coin_pile", pilePos));
+    public WorldItem spawnItem(String itemId, Vector2 position) {
+        int itemIndex = itemRegistry.getIndex(itemId);
+        if (itemIndex < 0) {
+            System.err.println("Item not found: " + itemId);
+            return null;
         }
+        return spawnItem(itemIndex, position.x, position.y);
+    }
 
-        for (int i = 0; i < remainderCoins; i++) {
-            float offsetX = (random.nextFloat() - 0.5f) * 15f;
-            float offsetY = (random.nextFloat() - 0.5f) * 15f;
-            Vector2 coinPos = new Vector2(centerPosition.x + offsetX, centerPosition.y + offsetY);
-            pendingItems.add(new PendingItem("coin", coinPos));
+    public WorldItem spawnItem(int itemIndex, float x, float y) {
+        ItemRegistry.ItemDefinition definition = itemRegistry.getDefinition(itemIndex);
+        if (definition == null) {
+            System.err.println("Item not found: " + itemIndex);
+        } else if (definition.type == Item.ItemType.COIN) {
+            coinDrops.drop(x, y, definition.buyValue);
+        } else {
+            PendingItem pending = pendingItemPool.obtain();
+            pending.itemIndex = itemIndex;
+            pending.x = x;
+            pending.y = y;
+            pendingItems.add(pending);
         }
+        return null;
+    }
+
+    public void dropCoins(Vector2 position, int value) {
+        coinDrops.drop(position.x, position.y, value);
     }
 
-    private WorldItem spawnItemNow(String itemId, Vector2 position, Vector2 velocity) {
-        Item item = itemRegistry.createItem(itemId, position);
+    public void dropCoins(float x, float y, int value) {
+        coinDrops.drop(x, y, value);
+    }
+
+    private WorldItem spawnItemNow(int itemIndex, float x, float y) {
+        Item item = itemRegistry.createItem(itemIndex, x, y);
         if (item == null) {
             return null;
         }
 
-        Body body = createItemBody(position, item.getBounds().width, item.getBounds().height);
-        item.setBody(body);
+        float width = item.getBounds().width;
+        float height = item.getBounds().height;
+        ItemBodyPool bodyPool = getBodyPool(width, height);
 
-        if (velocity != null) {
-            body.setLinearVelocity(velocity);
-        }
+        Body body = bodyPool.obtain();
+        body.setTransform(x + width / 2f, y + height / 2f, 0);
+        body.setLinearVelocity(0, 0);
+        BodyCommandBuffer.getInstance().setActive(body, true);
+        body.setAwake(true);
+        item.setBody(body);
 
-        WorldItem worldItem = new WorldItem(item, body);
+        WorldItem worldItem = worldItemPool.obtain();
+        worldItem.item = item;
+        worldItem.body = body;
+        worldItem.bodyPool = bodyPool;
         worldItems.add(worldItem);
 
         return worldItem;
     }
 
     public WorldItem spawnItemWithOffset(String itemId, Vector2 position, float maxOffset) {
+        return spawnItemWithOffset(itemRegistry.getIndex(itemId), position, maxOffset);
+    }
+
+    public WorldItem spawnItemWithOffset(int itemIndex, Vector2 position, float maxOffset) {
+        return spawnItemWithOffset(itemIndex, position.x, position.y, maxOffset);
+    }
+
+    public WorldItem spawnItemWithOffset(int itemIndex, float x, float y, float maxOffset) {
         float offsetX = (random.nextFloat() - 0.5f) * maxOffset * 2;
         float offsetY = (random.nextFloat() - 0.5f) * maxOffset * 2;
-        Vector2 spawnPos = new Vector2(position.x + offsetX, position.y + offsetY);
-
-        return spawnItem(itemId, spawnPos);
+        return spawnItem(itemIndex, x + offsetX, y + offsetY);
     }
 
     public WorldItem dropItem(Item item, Vector2 playerPosition) {
@@ -164,26 +211,49 @@ public class ItemSpawner {
         }
 
         float dropDistance = 30f;
-        Vector2 dropPosition = new Vector2(
-                playerPosition.x + dropDistance,
-                playerPosition.y
-        );
+        return spawnItem(item.getItemIndex(), playerPosition.x + dropDistance, playerPosition.y);
+    }
 
-        pendingItems.add(new PendingItem(item.getName().toLowerCase().replace(" ", "_"),
-                dropPosition));
+    private ItemBodyPool getBodyPool(float width, float height) {
+        for (int i = 0; i < bodyPools.size(); i++) {
+            ItemBodyPool pool = bodyPools.get(i);
+            if (pool.width == width && pool.height == height) {
+                return pool;
+            }
+        }
+        ItemBodyPool pool = new ItemBodyPool(width, height);
+        bodyPools.add(pool);
+        return pool;
+    }
 
-        return null;
+    private void releaseWorldItem(WorldItem worldItem) {
+        if (worldItem.item != null && worldItem.item.getBody() == worldItem.body) {
+            worldItem.item.setBody(null);
+        }
+        if (worldItem.body != null) {
+            if (worldItem.bodyPool != null) {
+                worldItem.bodyPool.free(worldItem.body);
+            } else {
+                BodyCommandBuffer.getInstance().destroy(worldItem.body);
+            }
+        }
+        worldItemPool.free(worldItem);
     }
 
+    // The returned list is reused by the next call
     public List<Item> checkPickups(Player player, Inventory inventory) {
-        List<Item> pickedUpItems = new ArrayList<>();
+        pickedUpItems.clear();
         Vector2 playerPos = player.getPosition();
 
         float coinMultiplier = player.getStats().getCoinMultiplier();
 
-        Iterator<WorldItem> iterator = worldItems.iterator();
-        while (iterator.hasNext()) {
-            WorldItem worldItem = iterator.next();
+        int coinValue = coinDrops.collect(playerPos.x, playerPos.y);
+        if (coinValue > 0) {
+            inventory.addCoins((int) (coinValue * coinMultiplier));
+        }
+
+        for (int i = 0; i < worldItems.size(); i++) {
+            WorldItem worldItem = worldItems.get(i);
 
             if (worldItem.item.isPlayerNear(playerPos, PICKUP_RADIUS)) {
                 boolean added = false;
@@ -198,12 +268,8 @@ public class ItemSpawner {
                     worldItem.item.setPickedUp(true);
                     pickedUpItems.add(worldItem.item);
 
-                    if (worldItem.body != null && !world.isLocked()) {
-                        world.destroyBody(worldItem.body);
-                        worldItem.body = null;
-                    }
-
-                    iterator.remove();
+                    worldItems.remove(i--);
+                    releaseWorldItem(worldItem);
                 }
             }
         }
@@ -259,22 +325,44 @@ public class ItemSpawner {
         return body;
     }
 
-    public void update(float delta) {
+    public void update(float delta, Player player) {
+        if (player != null) {
+            Vector2 playerPos = player.getPosition();
+            coinDrops.update(delta, playerPos.x, playerPos.y);
+        }
+
         if (!pendingItems.isEmpty() && !world.isLocked()) {
-            for (PendingItem pending : pendingItems) {
-                spawnItemNow(pending.itemId, pending.position, pending.velocity);
+            for (int i = 0; i < pendingItems.size(); i++) {
+                PendingItem pending = pendingItems.get(i);
+                spawnItemNow(pending.itemIndex, pending.x, pending.y);
+                pendingItemPool.free(pending);
             }
             pendingItems.clear();
         }
 
-        for (WorldItem worldItem : worldItems) {
-            worldItem.update(delta);
+        for (int i = 0; i < worldItems.size(); i++) {
+            worldItems.get(i).update(delta);
         }
     }
 
     public void render(SpriteBatch batch) {
-        for (WorldItem worldItem : worldItems) {
-            worldItem.render(batch);
+        coinDrops.render(batch);
+        for (int i = 0; i < worldItems.size(); i++) {
+            worldItems.get(i).render(batch);
+        }
+    }
+
+    // Coins lie flat under everything standing; dropped items sort with the rest of the world
+    public void submit(RenderQueue queue, Rectangle view) {
+        queue.submit(coinDrops, RenderQueue.LAYER_FLOOR, 0f);
+        for (int i = 0; i < worldItems.size(); i++) {
+            WorldItem worldItem = worldItems.get(i);
+            if (worldItem.item == null) continue;
+
+            Rectangle bounds = worldItem.item.getBounds();
+            if (bounds.overlaps(view)) {
+                queue.submit(worldItem, RenderQueue.LAYER_WORLD, bounds.y + bounds.height / 2f);
+            }
         }
     }
 
@@ -282,13 +370,19 @@ public class ItemSpawner {
         return worldItems;
     }
 
+    public CoinDrops getCoinDrops() {
+        return coinDrops;
+    }
+
     public void clear() {
+        coinDrops.clear();
         for (WorldItem worldItem : worldItems) {
-            if (worldItem.body != null && !world.isLocked()) {
-                world.destroyBody(worldItem.body);
-            }
+            releaseWorldItem(worldItem);
         }
         worldItems.clear();
+        for (int i = 0; i < pendingItems.size(); i++) {
+            pendingItemPool.free(pendingItems.get(i));
+        }
         pendingItems.clear();
     }
 }
\ No newline at end of file
@@ -0,0 +1,212 @@
+package managers;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import config.Storage;
+
+/*
+ * Dungeon lighting as a light map. The lights submitted for a frame are drawn additively into a frame
+ * buffer at a quarter of the screen resolution, and one shader pass multiplies the scene by it. The
+ * composite costs the same however many lights there are; each light is only one quad in the small
+ * buffer, with its falloff worked out in the light shader.
+ *
+ * The scene keeps the ambient level where nothing is lit, and a fully lit spot doubles it, which is
+ * what the single player light used to do.
+ *
+ * The frame buffer and shader are created on the first render, so the headless runs never need them.
+ */
+public class LightMap {
+    private static final int DOWNSCALE = 4;
+    private static final int INITIAL_CAPACITY = 32;
+
+    private static final String VERTEX_SHADER =
+            "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+            "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+            "uniform mat4 u_projTrans;\n" +
+            "varying vec2 v_texCoords;\n" +
+            "void main() {\n" +
+            "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+            "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+            "}\n";
+
+    private static final String FRAGMENT_SHADER =
+            "#ifdef GL_ES\n" +
+            "precision mediump float;\n" +
+            "#endif\n" +
+            "varying vec2 v_texCoords;\n" +
+            "uniform sampler2D u_texture;\n" +
+            "uniform float u_ambient;\n" +
+            "void main() {\n" +
+            "    vec3 light = texture2D(u_texture, v_texCoords).rgb;\n" +
+            "    gl_FragColor = vec4(min(vec3(u_ambient) * (1.0 + light), 1.0), 1.0);\n" +
+            "}\n";
+
+    private static final String LIGHT_VERTEX_SHADER =
+            "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+            "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+            "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+            "uniform mat4 u_projTrans;\n" +
+            "varying vec4 v_color;\n" +
+            "varying vec2 v_texCoords;\n" +
+            "void main() {\n" +
+            "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+            "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+            "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+            "}\n";
+
+    // Quadratic falloff in alpha across the quad, so lights add up smoothly where they overlap
+    private static final String LIGHT_FRAGMENT_SHADER =
+            "#ifdef GL_ES\n" +
+            "precision mediump float;\n" +
+            "#endif\n" +
+            "varying vec4 v_color;\n" +
+            "varying vec2 v_texCoords;\n" +
+            "void main() {\n" +
+            "    float t = max(1.0 - length(v_texCoords * 2.0 - 1.0), 0.0);\n" +
+            "    gl_FragColor = vec4(v_color.rgb, v_color.a * t * t);\n" +
+            "}\n";
+
+    private FrameBuffer frameBuffer;
+    private ShaderProgram compositeShader;
+    private ShaderProgram lightShader;
+
+    private int count = 0;
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] radius = new float[INITIAL_CAPACITY];
+    private float[] r = new float[INITIAL_CAPACITY];
+    private float[] g = new float[INITIAL_CAPACITY];
+    private float[] b = new float[INITIAL_CAPACITY];
+
+    public void begin() {
+        count = 0;
+    }
+
+    public void add(float x, float y, float radius, float r, float g, float b, float intensity) {
+        if (radius <= 0f || intensity <= 0f) return;
+
+        if (count == this.x.length) {
+            int capacity = count * 2;
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+            this.radius = Arrays.copyOf(this.radius, capacity);
+            this.r = Arrays.copyOf(this.r, capacity);
+            this.g = Arrays.copyOf(this.g, capacity);
+            this.b = Arrays.copyOf(this.b, capacity);
+        }
+
+        int i = count++;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.radius[i] = radius;
+        this.r[i] = r * intensity;
+        this.g[i] = g * intensity;
+        this.b[i] = b * intensity;
+    }
+
+    // Called while the batch is drawing with the camera's projection; leaves it drawing with the default blend,
+    // back on the post processor's world buffer
+    public void render(SpriteBatch batch, OrthographicCamera camera, Viewport viewport, float ambientDarkness,
+                       PostProcessor postProcessor) {
+        if (!ensureResources()) return;
+
+        float viewWidth = camera.viewportWidth * camera.zoom;
+        float viewHeight = camera.viewportHeight * camera.zoom;
+        float viewX = camera.position.x - viewWidth / 2f;
+        float viewY = camera.position.y - viewHeight / 2f;
+
+        batch.end();
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(0f, 0f, 0f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+        // Any texture will do for the light quads; the shader only reads their texture coordinates
+        Texture quadTexture = Storage.assetManager.get("white_pixel.png", Texture.class);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+        batch.setShader(lightShader);
+        batch.begin();
+        for (int i = 0; i < count; i++) {
+            float lightRadius = radius[i];
+            if (x[i] + lightRadius < viewX || x[i] - lightRadius > viewX + viewWidth ||
+                    y[i] + lightRadius < viewY || y[i] - lightRadius > viewY + viewHeight) {
+                continue;
+            }
+
+            batch.setColor(r[i], g[i], b[i], 1f);
+            batch.draw(quadTexture, x[i] - lightRadius, y[i] - lightRadius, lightRadius * 2f, lightRadius * 2f);
+        }
+        batch.setColor(1f, 1f, 1f, 1f);
+        batch.end();
+
+        frameBuffer.end();
+        postProcessor.resumeWorld(viewport);
+
+        batch.setBlendFunction(GL20.GL_DST_COLOR, GL20.GL_ZERO);
+        batch.setShader(compositeShader);
+        batch.begin();
+        compositeShader.setUniformf("u_ambient", 1f - ambientDarkness);
+        Texture lightTexture = frameBuffer.getColorBufferTexture();
+        batch.draw(lightTexture, viewX, viewY, viewWidth, viewHeight,
+                0, 0, lightTexture.getWidth(), lightTexture.getHeight(), false, true);
+        batch.end();
+
+        batch.setShader(null);
+        batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+        batch.begin();
+    }
+
+    private boolean ensureResources() {
+        if (compositeShader == null) {
+            compositeShader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+            if (!compositeShader.isCompiled()) {
+                System.err.println("LightMap: Composite shader failed to compile - " + compositeShader.getLog());
+            }
+            lightShader = new ShaderProgram(LIGHT_VERTEX_SHADER, LIGHT_FRAGMENT_SHADER);
+            if (!lightShader.isCompiled()) {
+                System.err.println("LightMap: Light shader failed to compile - " + lightShader.getLog());
+            }
+        }
+        if (!compositeShader.isCompiled() || !lightShader.isCompiled()) return false;
+
+        int bufferWidth = Math.max(1, Gdx.graphics.getBackBufferWidth() / DOWNSCALE);
+        int bufferHeight = Math.max(1, Gdx.graphics.getBackBufferHeight() / DOWNSCALE);
+        if (frameBuffer == null || frameBuffer.getWidth() != bufferWidth || frameBuffer.getHeight() != bufferHeight) {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+            }
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, bufferWidth, bufferHeight, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        }
+        return true;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public void dispose() {
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+        if (compositeShader != null) {
+            compositeShader.dispose();
+            compositeShader = null;
+        }
+        if (lightShader != null) {
+            lightShader.dispose();
+            lightShader = null;
+        }
+    }
+}
@@ -7,15 +7,36 @@ import java.util.Random;
 import com.badlogic.gdx.math.Vector2;
 import items.Item;
 
+/*
+ * Loot is rolled per entry: every entry has its own drop chance, so a kill can drop several things. The
+ * entries are built up with addDrop() and compiled into flat arrays by compile(), which the registry calls
+ * once at startup and spawnLoot() calls again if the table was changed since.
+ *
+ * A typed entry drops one variant of its item: a gear family rolls one of the GEAR_PREFIXES, and a
+ * variant group such as "buff_potion" picks a member through its alias table.
+ */
 public class LootTable {
+    private static final AliasTable PREFIX_PICKER = AliasTable.uniform(ItemRegistry.GEAR_PREFIXES.length);
+    private static final float DROP_SPREAD = 20f;
+
     private List<LootEntry> entries;
     private int guaranteedCoins;
     private Random random;
 
+    private boolean compiled = false;
+    private int entryCount;
+    private float[] dropChances;
+    private int[] minQuantities;
+    private int[] quantitySpans;
+    private boolean[] typed;
+    private int[] itemIndices;
+    private int[][] prefixVariants;
+    private ItemRegistry.VariantGroup[] variantGroups;
+
     public LootTable() {
         this.entries = new ArrayList<>();
         this.guaranteedCoins = 0;
-        this.random = new Random();
+        this.random = GameRandom.newRandom();
     }
 
     public static class LootEntry {
@@ -48,11 +69,13 @@ public class LootTable {
 
     public LootTable addDrop(Item.ItemType itemType, String itemId, float dropChance) {
         entries.add(new LootEntry(itemType, itemId, dropChance, 1, 1));
+        compiled = false;
         return this;
     }
 
     public LootTable addDrop(String itemId, float dropChance, int minQuantity, int maxQuantity) {
         entries.add(new LootEntry(null, itemId, dropChance, minQuantity, maxQuantity));
+        compiled = false;
         return this;
     }
 
@@ -61,82 +84,90 @@ public class LootTable {
         return this;
     }
 
-    private String randomizeItemId(Item.ItemType itemType, String baseItemId) {
-        if (itemType == null) {
-            return baseItemId;
+    public void compile() {
+        ItemRegistry registry = ItemRegistry.getInstance();
+        entryCount = entries.size();
+        dropChances = new float[entryCount];
+        minQuantities = new int[entryCount];
+        quantitySpans = new int[entryCount];
+        typed = new boolean[entryCount];
+        itemIndices = new int[entryCount];
+        prefixVariants = new int[entryCount][];
+        variantGroups = new ItemRegistry.VariantGroup[entryCount];
+
+        for (int i = 0; i < entryCount; i++) {
+            LootEntry entry = entries.get(i);
+            dropChances[i] = entry.dropChance;
+            minQuantities[i] = entry.minQuantity;
+            quantitySpans[i] = Math.max(0, entry.maxQuantity - entry.minQuantity);
+            typed[i] = entry.itemType != null;
+            itemIndices[i] = registry.getIndex(entry.itemId);
+            prefixVariants[i] = registry.getPrefixVariants(entry.itemId);
+            variantGroups[i] = registry.getVariantGroup(entry.itemId);
         }
+        compiled = true;
+    }
 
-        String[] prefixes = {"valkyries_", "protectors_", "barbarians_", "berserkers_", "deceptors_"};
-        String randomPrefix = prefixes[random.nextInt(5)];
-
-        switch (itemType) {
-            case WEAPON:
-                if (baseItemId.equals("iron_sword")) {
-                    return randomPrefix + "iron_sword";
-                } else if (baseItemId.equals("iron_spear")) {
-                    return randomPrefix + "iron_spear";
-                }
-                break;
-
-            case ARMOR:
-                if (baseItemId.equals("iron_helmet")) {
-                    return randomPrefix + "iron_helmet";
-                } else if (baseItemId.equals("iron_armor")) {
-                    return randomPrefix + "iron_armor";
-                } else if (baseItemId.equals("iron_gloves")) {
-                    return randomPrefix + "iron_gloves";
-                } else if (baseItemId.equals("iron_boots")) {
-                    return randomPrefix + "iron_boots";
-                }
-                break;
-
-            case OFFHAND:
-                if (baseItemId.equals("iron_shield")) {
-                    return randomPrefix + "iron_shield";
-                }
-                break;
-            case CONSUMABLE:
-                if (baseItemId.equals("buff_potion")) {
-                    int buff = random.nextInt(3);
-                    if (buff == 0)
-                        return "attack_potion";
-                    else if (buff == 1)
-                        return "dex_potion";
-                    else
-                        return "defense_potion";
-                }
-                break;
-            default:
-                break;
+    private int randomizeItem(int entry) {
+        if (!typed[entry]) {
+            return itemIndices[entry];
         }
 
-        return baseItemId;
+        // Typed drops always draw a prefix, even when they have no variants, so seeded runs roll the same loot
+        int prefix = PREFIX_PICKER.sample(random);
+        if (prefixVariants[entry] != null) {
+            return prefixVariants[entry][prefix];
+        }
+        ItemRegistry.VariantGroup group = variantGroups[entry];
+        if (group != null) {
+            return group.items[group.picker.sample(random)];
+        }
+        return itemIndices[entry];
     }
 
     public void spawnLoot(ItemSpawner itemSpawner, Vector2 position) {
+        spawnLoot(itemSpawner, position.x, position.y);
+    }
+
+    public void spawnLoot(ItemSpawner itemSpawner, float x, float y) {
+        if (!compiled) {
+            compile();
+        }
+
         if (guaranteedCoins > 0) {
-            String coinType = guaranteedCoins >= 5 ? "coin_pile" : "coin";
-            for (int i = 0; i < Math.min(guaranteedCoins, 5); i++) {
-                itemSpawner.spawnItemWithOffset(coinType, position, 15f);
-            }
+            // Same value as the old drop of up to five coins or coin piles, as a single stack
+            int coinValue = guaranteedCoins >= 5 ? Math.min(guaranteedCoins, 5) * 5 : guaranteedCoins;
+            itemSpawner.dropCoins(x, y, coinValue);
         }
 
-        for (LootEntry entry : entries) {
-            if (random.nextFloat() <= entry.dropChance) {
-                int quantity = entry.minQuantity;
-                if (entry.maxQuantity > entry.minQuantity) {
-                    quantity += random.nextInt(entry.maxQuantity - entry.minQuantity + 1);
+        for (int e = 0; e < entryCount; e++) {
+            if (random.nextFloat() <= dropChances[e]) {
+                int quantity = minQuantities[e];
+                if (quantitySpans[e] > 0) {
+                    quantity += random.nextInt(quantitySpans[e] + 1);
                 }
 
-                String finalItemId = randomizeItemId(entry.itemType, entry.itemId);
+                int itemIndex = randomizeItem(e);
 
                 for (int i = 0; i < quantity; i++) {
-                    itemSpawner.spawnItemWithOffset(finalItemId, position, 20f);
+                    itemSpawner.spawnItemWithOffset(itemIndex, x, y, DROP_SPREAD);
                 }
             }
         }
     }
 
+    // Rolls loot for count kills at once, such as a clump caught by one attack. Kills are rolled in order,
+    // so the result is the same as calling spawnLoot() for each of them.
+    public void spawnLoot(ItemSpawner itemSpawner, float[] x, float[] y, int offset, int count) {
+        for (int i = offset; i < offset + count; i++) {
+            spawnLoot(itemSpawner, x[i], y[i]);
+        }
+    }
+
+    public int getGuaranteedCoins() {
+        return guaranteedCoins;
+    }
+
     public List<LootEntry> getEntries() {
         return entries;
     }
@@ -1,18 +1,29 @@
 package managers;
 
 import config.GameScreen;
+import entities.LootTableType;
 import items.Item;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
+// Loot tables by LootTableType, compiled once they are registered. Deaths during a frame are queued and
+// rolled together by spawnQueuedLoot(), a run of kills of the same type at a time.
 public class LootTableRegistry {
     private static LootTableRegistry instance;
-    private Map<String, LootTable> lootTables;
+    private final LootTable[] lootTables = new LootTable[LootTableType.values().length];
+
+    private LootTableType[] queuedTypes = new LootTableType[16];
+    private float[] queuedX = new float[16];
+    private float[] queuedY = new float[16];
+    private int queuedCount = 0;
 
     private LootTableRegistry() {
-        this.lootTables = new HashMap<>();
         registerDefaultLootTables();
+        for (LootTable table : lootTables) {
+            if (table != null) {
+                table.compile();
+            }
+        }
     }
 
     public static LootTableRegistry getInstance() {
@@ -30,7 +41,7 @@ public class LootTableRegistry {
                     .addDrop(Item.ItemType.WEAPON,"iron_sword", 0.02f)
                     .addDrop(Item.ItemType.WEAPON,"iron_spear", 0.02f)
                     .addDrop(Item.ItemType.ARMOR, "iron_boots", 0.02f);
-            registerLootTable("basic_enemy", basicEnemy);
+            registerLootTable(LootTableType.BASIC_ENEMY, basicEnemy);
 
             LootTable meleeEnemy = new LootTable()
                     .addDrop(Item.ItemType.CONSUMABLE, "buff_potion", 0.01f)
@@ -39,7 +50,7 @@ public class LootTableRegistry {
                     .addDrop(Item.ItemType.WEAPON,"iron_spear", 0.02f)
                     .addDrop(Item.ItemType.ARMOR, "iron_gloves", 0.02f);
 
-            registerLootTable("melee_enemy", meleeEnemy);
+            registerLootTable(LootTableType.MELEE_ENEMY, meleeEnemy);
 
             LootTable rangedEnemy = new LootTable()
                     .addDrop(Item.ItemType.CONSUMABLE, "buff_potion", 0.01f)
@@ -47,7 +58,7 @@ public class LootTableRegistry {
                     .addDrop(Item.ItemType.WEAPON,"iron_sword", 0.02f)
                     .addDrop(Item.ItemType.WEAPON,"iron_spear", 0.02f)
                     .addDrop(Item.ItemType.ARMOR, "iron_helmet", 0.02f);
-            registerLootTable("ranged_enemy", rangedEnemy);
+            registerLootTable(LootTableType.RANGED_ENEMY, rangedEnemy);
 
             LootTable dungeonEnemy = new LootTable()
                     .addDrop(Item.ItemType.CONSUMABLE, "buff_potion", 0.02f)
@@ -55,7 +66,7 @@ public class LootTableRegistry {
                     .addDrop(Item.ItemType.WEAPON,"iron_sword", 0.02f)
                     .addDrop(Item.ItemType.WEAPON,"iron_spear", 0.02f)
                     .addDrop(Item.ItemType.ARMOR, "iron_armor", 0.02f);
-            registerLootTable("dungeon_enemy", dungeonEnemy);
+            registerLootTable(LootTableType.DUNGEON_ENEMY, dungeonEnemy);
         } else {
             LootTable basicEnemy = new LootTable()
                     .setGuaranteedCoins(1)
@@ -63,7 +74,7 @@ public class LootTableRegistry {
                     .addDrop("attack_potion", 0.01f, 1, 1)
                     .addDrop("lucky_clover", 0.005f, 1, 1)
                     .addDrop(Item.ItemType.CONSUMABLE, "small_health_potion", 0.15f);
-            registerLootTable("basic_enemy", basicEnemy);
+            registerLootTable(LootTableType.BASIC_ENEMY, basicEnemy);
 
             LootTable meleeEnemy = new LootTable()
                     .setGuaranteedCoins(1)
@@ -71,7 +82,7 @@ public class LootTableRegistry {
                     .addDrop(Item.ItemType.CONSUMABLE, "buff_potion", 0.01f)
                     .addDrop("lucky_clover", 0.005f, 1, 1)
                     .addDrop(Item.ItemType.CONSUMABLE, "health_potion", 0.05f);
-            registerLootTable("melee_enemy", meleeEnemy);
+            registerLootTable(LootTableType.MELEE_ENEMY, meleeEnemy);
 
             LootTable rangedEnemy = new LootTable()
                     .setGuaranteedCoins(1) // Always drops 1 coin
@@ -79,7 +90,7 @@ public class LootTableRegistry {
                     .addDrop(Item.ItemType.CONSUMABLE, "buff_potion", 0.01f)
                     .addDrop("lucky_clover", 0.005f, 1, 1)
                     .addDrop(Item.ItemType.CONSUMABLE, "small_health_potion", 0.1f);
-            registerLootTable("ranged_enemy", rangedEnemy);
+            registerLootTable(LootTableType.RANGED_ENEMY, rangedEnemy);
 
             LootTable dungeonEnemy = new LootTable()
                     .setGuaranteedCoins(2)
@@ -88,7 +99,7 @@ public class LootTableRegistry {
                     .addDrop(Item.ItemType.CONSUMABLE, "buff_potion", 0.02f)
                     .addDrop("lucky_clover", 0.001f, 1, 1)
                     .addDrop(Item.ItemType.CONSUMABLE, "health_potion", 0.05f);
-            registerLootTable("dungeon_enemy", dungeonEnemy);
+            registerLootTable(LootTableType.DUNGEON_ENEMY, dungeonEnemy);
         }
 
         LootTable boss = new LootTable()
@@ -98,7 +109,7 @@ public class LootTableRegistry {
                 .addDrop(Item.ItemType.WEAPON,"iron_sword", 0.005f)
                 .addDrop(Item.ItemType.ARMOR, "iron_armor", 0.005f)
                 .addDrop("health_potion", 1.0f, 1, 3);
-        registerLootTable("boss", boss);
+        registerLootTable(LootTableType.BOSS, boss);
 
         LootTable megaBoss = new LootTable()
                 .setGuaranteedCoins(5)
@@ -108,7 +119,7 @@ public class LootTableRegistry {
                 .addDrop(Item.ItemType.ARMOR, "iron_armor", 0.2f)
                 .addDrop(Item.ItemType.CONSUMABLE, "buff_potion", 0.5f)
                 .addDrop("health_potion", 1.0f, 2, 3);
-        registerLootTable("mega_boss", megaBoss);
+        registerLootTable(LootTableType.MEGA_BOSS, megaBoss);
 
         LootTable lootGoblin = new LootTable()
                 .setGuaranteedCoins(1)
@@ -116,36 +127,75 @@ public class LootTableRegistry {
                 .addDrop("coin", 1.0f, 1, 5)
                 .addDrop(Item.ItemType.CONSUMABLE, "buff_potion", 0.01f);
 
-        registerLootTable("loot_goblin", lootGoblin);
+        registerLootTable(LootTableType.LOOT_GOBLIN, lootGoblin);
 
         LootTable eliteEnemy = new LootTable()
                 .setGuaranteedCoins(3);
-        registerLootTable("elite_enemy", eliteEnemy);
+        registerLootTable(LootTableType.ELITE_ENEMY, eliteEnemy);
 
         LootTable destructible = new LootTable()
                 .addDrop("coin", 0.5f, 1, 1);
-        registerLootTable("destructible", destructible);
+        registerLootTable(LootTableType.DESTRUCTIBLE, destructible);
+    }
+
+    public void registerLootTable(LootTableType type, LootTable lootTable) {
+        lootTables[type.ordinal()] = lootTable;
     }
 
-    public void registerLootTable(String enemyType, LootTable lootTable) {
-        lootTables.put(enemyType, lootTable);
+    public LootTable getLootTable(LootTableType type) {
+        return type != null ? lootTables[type.ordinal()] : null;
     }
 
     public LootTable getLootTable(String enemyType) {
-        return lootTables.get(enemyType);
+        return getLootTable(LootTableType.fromId(enemyType));
     }
 
-    public boolean hasLootTable(String enemyType) {
-        return lootTables.containsKey(enemyType);
+    public boolean hasLootTable(LootTableType type) {
+        return getLootTable(type) != null;
     }
 
-    public void spawnLoot(String enemyType, ItemSpawner itemSpawner,
+    public void spawnLoot(LootTableType type, ItemSpawner itemSpawner,
                           com.badlogic.gdx.math.Vector2 position) {
-        LootTable table = getLootTable(enemyType);
+        LootTable table = getLootTable(type);
         if (table != null) {
             table.spawnLoot(itemSpawner, position);
         } else {
-            System.err.println("No loot table found for enemy type: " + enemyType);
+            System.err.println("No loot table found for enemy type: " + type);
         }
     }
+
+    public void queueLoot(LootTableType type, float x, float y) {
+        if (queuedCount == queuedTypes.length) {
+            queuedTypes = Arrays.copyOf(queuedTypes, queuedCount * 2);
+            queuedX = Arrays.copyOf(queuedX, queuedCount * 2);
+            queuedY = Arrays.copyOf(queuedY, queuedCount * 2);
+        }
+        queuedTypes[queuedCount] = type;
+        queuedX[queuedCount] = x;
+        queuedY[queuedCount] = y;
+        queuedCount++;
+    }
+
+    // Rolls everything queued since the last call, in the order it was queued
+    public void spawnQueuedLoot(ItemSpawner itemSpawner) {
+        int start = 0;
+        while (start < queuedCount) {
+            LootTableType type = queuedTypes[start];
+            int end = start + 1;
+            while (end < queuedCount && queuedTypes[end] == type) {
+                end++;
+            }
+
+            LootTable table = getLootTable(type);
+            if (table != null) {
+                table.spawnLoot(itemSpawner, queuedX, queuedY, start, end - start);
+            } else {
+                System.err.println("No loot table found for enemy type: " + type);
+            }
+            start = end;
+        }
+
+        Arrays.fill(queuedTypes, 0, queuedCount, null);
+        queuedCount = 0;
+    }
 }
\ No newline at end of file
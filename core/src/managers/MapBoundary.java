@@ -88,19 +88,11 @@ public class MapBoundary {
     }
 
     public void disable() {
-        for (Body body : boundaryBodies) {
-            if (body != null) {
-                body.setActive(false);
-            }
-        }
+        BodyCommandBuffer.getInstance().setActive(boundaryBodies, false);
     }
 
     public void enable() {
-        for (Body body : boundaryBodies) {
-            if (body != null) {
-                body.setActive(true);
-            }
-        }
+        BodyCommandBuffer.getInstance().setActive(boundaryBodies, true);
     }
 
     public void render(SpriteBatch batch) {
@@ -87,7 +87,7 @@ public class MerchantShop {
         this.font = Storage.assetManager.get("fonts/CascadiaBold.fnt", BitmapFont.class);
         this.coinIconTexture = Storage.assetManager.get("icons/items/Coin.png", Texture.class);
         this.itemRegistry = ItemRegistry.getInstance();
-        this.random = new Random();
+        this.random = GameRandom.newRandom();
         this.shopItems = new Item[TOTAL_SHOP_SLOTS];
 
         randomizeShopInventory();
@@ -143,6 +143,22 @@ public class MerchantShop {
         }
     }
 
+    // Item ids of the current stock, null where an item has been bought
+    public String[] getStockIds() {
+        String[] ids = new String[TOTAL_SHOP_SLOTS];
+        for (int i = 0; i < TOTAL_SHOP_SLOTS; i++) {
+            ids[i] = shopItems[i] != null ? shopItems[i].getItemId() : null;
+        }
+        return ids;
+    }
+
+    public void setStock(String[] ids) {
+        for (int i = 0; i < TOTAL_SHOP_SLOTS; i++) {
+            String id = i < ids.length ? ids[i] : null;
+            shopItems[i] = id != null ? itemRegistry.createItem(id, new com.badlogic.gdx.math.Vector2(0, 0)) : null;
+        }
+    }
+
     public void update(float delta) {
         if (!isOpen || player == null) return;
 
@@ -0,0 +1,248 @@
+package managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Music;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Opens music tracks only when something asks for them. A track is registered by path and gets its
+ * decoder the first time it is played or prefetched; prefetching lets a likely next track, like the
+ * dungeon's when the player walks up to a portal, be opened before it is needed.
+ *
+ * Switching tracks crossfades: the new one fades in while the old one fades out and is stopped. Tracks
+ * that have not played for a while are disposed, and so is the least recently used one when too many
+ * are open, so only the current track and the ones around it hold a decoder.
+ */
+public class MusicStreamer {
+    private static final float CROSSFADE_SECONDS = 1.5f;
+    private static final float RELEASE_AFTER_SECONDS = 45f;
+    private static final int MAX_OPEN_TRACKS = 3;
+
+    private final Map<String, String> paths = new HashMap<>();
+    private final Map<String, Music> open = new HashMap<>();
+    private final Map<String, Float> lastUsed = new HashMap<>();
+
+    private String currentKey;
+    private Music current;
+    private float currentLevel;
+
+    private String previousKey;
+    private Music previous;
+    private float previousLevel;
+
+    private float volume = 1f;
+    private float time = 0f;
+    private float lastReleaseCheck = 0f;
+
+    public void register(String key, String path) {
+        paths.put(key, path);
+    }
+
+    public void prefetch(String key) {
+        open(key);
+    }
+
+    public boolean play(String key) {
+        if (key.equals(currentKey) && current != null) {
+            if (!current.isPlaying()) {
+                current.play();
+            }
+            return true;
+        }
+
+        // Going back to the track that is fading out picks it up from where it is
+        if (key.equals(previousKey) && previous != null) {
+            String fadingKey = currentKey;
+            Music fading = current;
+            float fadingLevel = currentLevel;
+            currentKey = previousKey;
+            current = previous;
+            currentLevel = previousLevel;
+            previousKey = fadingKey;
+            previous = fading;
+            previousLevel = fadingLevel;
+            if (!current.isPlaying()) {
+                current.play();
+            }
+            applyVolume();
+            return true;
+        }
+
+        Music music = open(key);
+        if (music == null) return false;
+
+        // After stop() the key of the stopped track is still set, but there is nothing left to fade out
+        stopPrevious();
+        if (current != null) {
+            previousKey = currentKey;
+            previous = current;
+            previousLevel = currentLevel;
+            if (!previous.isPlaying()) {
+                stopPrevious();
+            }
+        }
+
+        currentKey = key;
+        current = music;
+        currentLevel = 0f;
+        applyVolume();
+        current.play();
+        return true;
+    }
+
+    public void update(float delta) {
+        time += delta;
+
+        if (current != null && currentLevel < 1f && current.isPlaying()) {
+            currentLevel = Math.min(1f, currentLevel + delta / CROSSFADE_SECONDS);
+        }
+        if (previous != null) {
+            previousLevel -= delta / CROSSFADE_SECONDS;
+            if (previousLevel <= 0f) {
+                stopPrevious();
+            }
+        }
+        applyVolume();
+
+        if (time - lastReleaseCheck >= 1f) {
+            lastReleaseCheck = time;
+            releaseIdle();
+        }
+    }
+
+    public void stop() {
+        stopPrevious();
+        if (current != null) {
+            current.stop();
+            current = null;
+            lastUsed.put(currentKey, time);
+        }
+        currentLevel = 0f;
+    }
+
+    // A pause skips the rest of any crossfade
+    public void pause() {
+        stopPrevious();
+        if (current != null && current.isPlaying()) {
+            current.pause();
+        }
+    }
+
+    public void resume() {
+        if (current != null && !current.isPlaying()) {
+            currentLevel = 1f;
+            applyVolume();
+            current.play();
+        }
+    }
+
+    public void setVolume(float volume) {
+        this.volume = volume;
+        applyVolume();
+    }
+
+    public String getCurrentKey() {
+        return currentKey;
+    }
+
+    public boolean isPlaying() {
+        return current != null && current.isPlaying();
+    }
+
+    public int getOpenTracks() {
+        return open.size();
+    }
+
+    private Music open(String key) {
+        lastUsed.put(key, time);
+
+        Music music = open.get(key);
+        if (music != null) return music;
+
+        String path = paths.get(key);
+        if (path == null) {
+            System.err.println("MusicStreamer: Music not found - " + key);
+            return null;
+        }
+
+        if (open.size() >= MAX_OPEN_TRACKS) {
+            releaseLeastRecent(key);
+        }
+
+        try {
+            music = Gdx.audio.newMusic(Gdx.files.internal(path));
+            music.setLooping(true);
+            open.put(key, music);
+            return music;
+        } catch (Exception e) {
+            System.err.println("MusicStreamer: Error opening " + path + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void applyVolume() {
+        if (current != null) current.setVolume(volume * currentLevel);
+        if (previous != null) previous.setVolume(volume * Math.max(0f, previousLevel));
+    }
+
+    private void stopPrevious() {
+        if (previous != null) {
+            previous.stop();
+            previous = null;
+            lastUsed.put(previousKey, time);
+        }
+        previousKey = null;
+        previousLevel = 0f;
+    }
+
+    private void releaseIdle() {
+        String idle = null;
+        for (String key : open.keySet()) {
+            if (isInUse(key)) continue;
+            if (time - lastUsed.get(key) >= RELEASE_AFTER_SECONDS) {
+                idle = key;
+                break;
+            }
+        }
+        // At most one per check, which is plenty for a handful of tracks
+        if (idle != null) {
+            release(idle);
+        }
+    }
+
+    private void releaseLeastRecent(String keep) {
+        String oldest = null;
+        for (String key : open.keySet()) {
+            if (key.equals(keep) || isInUse(key)) continue;
+            if (oldest == null || lastUsed.get(key) < lastUsed.get(oldest)) {
+                oldest = key;
+            }
+        }
+        if (oldest != null) {
+            release(oldest);
+        }
+    }
+
+    private boolean isInUse(String key) {
+        return (key.equals(currentKey) && current != null) || key.equals(previousKey);
+    }
+
+    private void release(String key) {
+        Music music = open.remove(key);
+        if (music != null) {
+            music.dispose();
+        }
+    }
+
+    public void dispose() {
+        stop();
+        for (Music music : open.values()) {
+            music.dispose();
+        }
+        open.clear();
+        lastUsed.clear();
+        currentKey = null;
+    }
+}
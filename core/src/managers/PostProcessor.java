@@ -0,0 +1,197 @@
+package managers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.HdpiUtils;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import ui.ScreenShake;
+
+/*
+ * Screen effects applied to the world pass on the GPU. The world is drawn into a frame buffer the size
+ * of the back buffer, and one shader pass copies it to the screen with the screen shake offset, the low
+ * health vignette and the damage flash applied. Nothing is generated on the CPU, so a resize only
+ * recreates the frame buffer.
+ *
+ * The HUD is drawn after the composite, straight to the screen, so it neither shakes nor gets tinted.
+ *
+ * Like LightMap, the frame buffer and shader are created on the first frame that needs them.
+ */
+public class PostProcessor {
+    private static final float FLASH_DURATION = 0.2f;
+    private static final float INNER_RADIUS = 0.55f;
+    private static final float OUTER_RADIUS = 1.0f;
+
+    private static final String VERTEX_SHADER =
+            "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+            "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+            "uniform mat4 u_projTrans;\n" +
+            "varying vec2 v_texCoords;\n" +
+            "void main() {\n" +
+            "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+            "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+            "}\n";
+
+    // u_region is the part of the buffer the viewport covers, as origin and size in texture coordinates
+    private static final String FRAGMENT_SHADER =
+            "#ifdef GL_ES\n" +
+            "precision mediump float;\n" +
+            "#endif\n" +
+            "varying vec2 v_texCoords;\n" +
+            "uniform sampler2D u_texture;\n" +
+            "uniform vec4 u_region;\n" +
+            "uniform vec2 u_offset;\n" +
+            "uniform vec4 u_vignette;\n" +
+            "uniform vec4 u_flash;\n" +
+            "void main() {\n" +
+            "    vec2 uv = clamp(v_texCoords + u_offset, u_region.xy, u_region.xy + u_region.zw);\n" +
+            "    vec3 scene = texture2D(u_texture, uv).rgb;\n" +
+            "    float r = length(((v_texCoords - u_region.xy) / u_region.zw - 0.5) * 2.0);\n" +
+            "    float edge = clamp((r - " + INNER_RADIUS + ") / (" + (OUTER_RADIUS - INNER_RADIUS) + "), 0.0, 1.0);\n" +
+            "    scene = mix(scene, u_vignette.rgb, edge * u_vignette.a);\n" +
+            "    scene = mix(scene, u_flash.rgb, u_flash.a);\n" +
+            "    gl_FragColor = vec4(scene, 1.0);\n" +
+            "}\n";
+
+    private FrameBuffer frameBuffer;
+    private ShaderProgram shader;
+    private boolean capturing = false;
+
+    private final Matrix4 compositeProjection = new Matrix4().setToOrtho2D(0, 0, 1, 1);
+    private final Matrix4 savedProjection = new Matrix4();
+
+    private float vignetteR, vignetteG, vignetteB, vignetteAlpha;
+
+    private float flashR, flashG, flashB, flashAlpha;
+    private float flashTimer = 0f;
+
+    public void update(float delta) {
+        if (flashTimer > 0f) {
+            flashTimer = Math.max(0f, flashTimer - delta);
+        }
+    }
+
+    public void setVignette(float r, float g, float b, float alpha) {
+        vignetteR = r;
+        vignetteG = g;
+        vignetteB = b;
+        vignetteAlpha = alpha;
+    }
+
+    // Fades out linearly over FLASH_DURATION; a new flash restarts it
+    public void flash(float r, float g, float b, float alpha) {
+        flashR = r;
+        flashG = g;
+        flashB = b;
+        flashAlpha = alpha;
+        flashTimer = FLASH_DURATION;
+    }
+
+    // Called before the world batch begins; the world is drawn into the frame buffer until endWorld
+    public void beginWorld(Viewport viewport) {
+        capturing = ensureResources();
+        if (!capturing) return;
+
+        frameBuffer.begin();
+        Gdx.gl.glClearColor(55 / 255f, 55 / 255f, 55 / 255f, 1f);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        viewport.apply();
+    }
+
+    // For passes that draw into their own frame buffer in the middle of the world, which unbinds this one
+    public void resumeWorld(Viewport viewport) {
+        if (capturing) {
+            frameBuffer.bind();
+        }
+        viewport.apply();
+    }
+
+    // Called after the world batch has ended; draws the world to the screen with the effects applied
+    public void endWorld(SpriteBatch batch, OrthographicCamera camera, Viewport viewport) {
+        if (!capturing) return;
+        capturing = false;
+
+        // end() leaves the whole back buffer as the GL viewport; the composite belongs in the viewport's box
+        frameBuffer.end();
+        viewport.apply();
+
+        Texture texture = frameBuffer.getColorBufferTexture();
+        int textureWidth = texture.getWidth();
+        int textureHeight = texture.getHeight();
+        // The viewport's box is in logical pixels and the buffer in back buffer pixels
+        int srcX = HdpiUtils.toBackBufferX(viewport.getScreenX());
+        int srcY = HdpiUtils.toBackBufferY(viewport.getScreenY());
+        int srcWidth = Math.min(HdpiUtils.toBackBufferX(viewport.getScreenWidth()), textureWidth - srcX);
+        int srcHeight = Math.min(HdpiUtils.toBackBufferY(viewport.getScreenHeight()), textureHeight - srcY);
+        if (srcWidth <= 0 || srcHeight <= 0) return;
+
+        float regionX = srcX / (float) textureWidth;
+        float regionY = srcY / (float) textureHeight;
+        float regionWidth = srcWidth / (float) textureWidth;
+        float regionHeight = srcHeight / (float) textureHeight;
+
+        // Moving the camera by the shake is the same as sampling the captured world that far over
+        Vector3 shake = ScreenShake.getPos();
+        float offsetX = shake.x / (camera.viewportWidth * camera.zoom) * regionWidth;
+        float offsetY = shake.y / (camera.viewportHeight * camera.zoom) * regionHeight;
+
+        float flash = flashTimer > 0f ? flashAlpha * (flashTimer / FLASH_DURATION) : 0f;
+
+        savedProjection.set(batch.getProjectionMatrix());
+        batch.setProjectionMatrix(compositeProjection);
+        batch.setShader(shader);
+        batch.disableBlending();
+        batch.begin();
+        shader.setUniformf("u_region", regionX, regionY, regionWidth, regionHeight);
+        shader.setUniformf("u_offset", offsetX, offsetY);
+        shader.setUniformf("u_vignette", vignetteR, vignetteG, vignetteB, vignetteAlpha);
+        shader.setUniformf("u_flash", flashR, flashG, flashB, flash);
+        batch.draw(texture, 0, 0, 1, 1, srcX, srcY, srcWidth, srcHeight, false, true);
+        batch.end();
+
+        batch.enableBlending();
+        batch.setShader(null);
+        batch.setProjectionMatrix(savedProjection);
+    }
+
+    private boolean ensureResources() {
+        if (shader == null) {
+            shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+            if (!shader.isCompiled()) {
+                System.err.println("PostProcessor: Shader failed to compile - " + shader.getLog());
+            }
+        }
+        if (!shader.isCompiled()) return false;
+
+        int bufferWidth = Math.max(1, Gdx.graphics.getBackBufferWidth());
+        int bufferHeight = Math.max(1, Gdx.graphics.getBackBufferHeight());
+        if (frameBuffer == null || frameBuffer.getWidth() != bufferWidth || frameBuffer.getHeight() != bufferHeight) {
+            if (frameBuffer != null) {
+                frameBuffer.dispose();
+            }
+            frameBuffer = new FrameBuffer(Pixmap.Format.RGB888, bufferWidth, bufferHeight, false);
+            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Nearest, Texture.TextureFilter.Nearest);
+        }
+        return true;
+    }
+
+    public void dispose() {
+        capturing = false;
+        if (frameBuffer != null) {
+            frameBuffer.dispose();
+            frameBuffer = null;
+        }
+        if (shader != null) {
+            shader.dispose();
+            shader = null;
+        }
+    }
+}
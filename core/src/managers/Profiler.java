@@ -0,0 +1,368 @@
+package managers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.physics.box2d.World;
+
+public class Profiler {
+
+    private static Profiler instance;
+
+    public static final int PHYSICS = 0;
+    public static final int CONTACTS = 1;
+    public static final int AI = 2;
+    public static final int PATHFINDING = 3;
+    public static final int CHUNK_GEN = 4;
+    public static final int CHUNK_COMMIT = 5;
+    public static final int WORLD_RENDER = 6;
+    public static final int HUD = 7;
+    public static final int MINIMAP = 8;
+    public static final int PROJECTILES = 9;
+    public static final int SNAPSHOT = 10;
+    public static final int SCOPE_COUNT = 11;
+
+    private static final String[] SCOPE_NAMES = {
+            "physics", "contacts", "ai", "pathfinding", "chunk_gen",
+            "chunk_commit", "world_render", "hud", "minimap", "projectiles", "snapshot"
+    };
+
+    public static final int HISTORY_SIZE = 240;
+    private static final int MAX_DEPTH = 16;
+
+    private boolean enabled = false;
+    private boolean frameOpen = false;
+
+    // Exclusive nanoseconds per scope for the frame currently being recorded
+    private final long[] frameNanos = new long[SCOPE_COUNT];
+    private final AtomicLongArray asyncNanos = new AtomicLongArray(SCOPE_COUNT);
+
+    private final int[] scopeStack = new int[MAX_DEPTH];
+    private final long[] scopeStart = new long[MAX_DEPTH];
+    private int depth = 0;
+
+    private long frameStart;
+
+    private final float[][] history = new float[SCOPE_COUNT][HISTORY_SIZE];
+    private final float[] frameHistory = new float[HISTORY_SIZE];
+    private int historyIndex = 0;
+    private long frameCount = 0;
+
+    private GLProfiler glProfiler;
+    private World world;
+    private ActivationRegion activationRegion;
+
+    private int renderCalls;
+    private int totalRenderCalls;
+    private int lastTotalRenderCalls;
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    private int bodyCount;
+    private int contactCount;
+    private int bodyOps;
+    private int activeEnemies;
+    private int dormantEnemies;
+    private int activeVoices;
+    private int culledSounds;
+    private int musicTracks;
+
+    private Writer csvWriter;
+    private FileHandle csvFile;
+
+    private Profiler() {
+        if (Boolean.getBoolean("toppy.profile")) {
+            enabled = true;
+        }
+    }
+
+    public static Profiler getInstance() {
+        if (instance == null) {
+            instance = new Profiler();
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+
+        this.enabled = enabled;
+        depth = 0;
+        frameOpen = false;
+
+        if (glProfiler != null) {
+            if (enabled) {
+                glProfiler.enable();
+            } else {
+                glProfiler.disable();
+            }
+        }
+
+        if (!enabled) {
+            stopCsv();
+        }
+    }
+
+    public void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public void setWorld(World world) {
+        this.world = world;
+    }
+
+    public void setActivationRegion(ActivationRegion activationRegion) {
+        this.activationRegion = activationRegion;
+    }
+
+    public void beginFrame() {
+        if (!enabled) return;
+
+        if (glProfiler == null && Gdx.graphics != null) {
+            glProfiler = new GLProfiler(Gdx.graphics);
+            glProfiler.enable();
+        }
+        if (glProfiler != null) {
+            glProfiler.reset();
+        }
+
+        for (int i = 0; i < SCOPE_COUNT; i++) {
+            frameNanos[i] = 0L;
+        }
+        depth = 0;
+        frameOpen = true;
+        frameStart = System.nanoTime();
+    }
+
+    public void begin(int scope) {
+        if (!frameOpen || depth >= MAX_DEPTH) return;
+
+        long now = System.nanoTime();
+        if (depth > 0) {
+            int parent = scopeStack[depth - 1];
+            frameNanos[parent] += now - scopeStart[depth - 1];
+        }
+
+        scopeStack[depth] = scope;
+        scopeStart[depth] = now;
+        depth++;
+    }
+
+    public void end(int scope) {
+        if (!frameOpen || depth == 0) return;
+
+        if (scopeStack[depth - 1] != scope) {
+            // Unbalanced scopes (early return inside a scope) are closed up to the requested one
+            while (depth > 0 && scopeStack[depth - 1] != scope) {
+                end(scopeStack[depth - 1]);
+            }
+            if (depth == 0) return;
+        }
+
+        long now = System.nanoTime();
+        depth--;
+        frameNanos[scope] += now - scopeStart[depth];
+
+        if (depth > 0) {
+            scopeStart[depth - 1] = now;
+        }
+    }
+
+    public void addAsync(int scope, long nanos) {
+        if (!enabled) return;
+        asyncNanos.addAndGet(scope, nanos);
+    }
+
+    public void endFrame(SpriteBatch batch) {
+        if (!frameOpen) return;
+
+        while (depth > 0) {
+            end(scopeStack[depth - 1]);
+        }
+        frameOpen = false;
+
+        long frameTime = System.nanoTime() - frameStart;
+
+        for (int i = 0; i < SCOPE_COUNT; i++) {
+            long nanos = frameNanos[i] + asyncNanos.getAndSet(i, 0L);
+            history[i][historyIndex] = nanos / 1_000_000f;
+        }
+        frameHistory[historyIndex] = frameTime / 1_000_000f;
+
+        if (batch != null) {
+            // SpriteBatch.renderCalls only covers the last begin/end pair, so diff the running total instead
+            renderCalls = batch.totalRenderCalls - lastTotalRenderCalls;
+            totalRenderCalls = batch.totalRenderCalls;
+            lastTotalRenderCalls = batch.totalRenderCalls;
+        }
+        if (glProfiler != null) {
+            drawCalls = glProfiler.getDrawCalls();
+            textureBindings = glProfiler.getTextureBindings();
+            shaderSwitches = glProfiler.getShaderSwitches();
+        }
+        if (world != null) {
+            bodyCount = world.getBodyCount();
+            contactCount = world.getContactCount();
+        }
+        bodyOps = BodyCommandBuffer.getInstance().takeFrameOps();
+        if (activationRegion != null) {
+            activeEnemies = activationRegion.getActiveCount();
+            dormantEnemies = activationRegion.getDormantCount();
+        }
+        activeVoices = VoiceManager.getInstance().getActiveVoices();
+        culledSounds = VoiceManager.getInstance().getCulledPerSecond();
+        musicTracks = SoundManager.getInstance().getOpenMusicTracks();
+
+        writeCsvRow();
+
+        historyIndex = (historyIndex + 1) % HISTORY_SIZE;
+        frameCount++;
+    }
+
+    public void startCsv() {
+        if (csvWriter != null) return;
+
+        try {
+            csvFile = Gdx.files.local("profiler_" + System.currentTimeMillis() + ".csv");
+            csvWriter = csvFile.writer(false, "UTF-8");
+
+            StringBuilder header = new StringBuilder("frame,frame_ms");
+            for (String name : SCOPE_NAMES) {
+                header.append(',').append(name).append("_ms");
+            }
+            header.append(",render_calls,total_render_calls,draw_calls,texture_bindings,shader_switches,bodies,contacts,body_ops,active_enemies,dormant_enemies,voices,culled_sounds_per_sec,music_tracks\n");
+            csvWriter.write(header.toString());
+
+            System.out.println("Profiler: Recording to " + csvFile.path());
+        } catch (Exception e) {
+            System.err.println("Profiler: Could not open CSV file - " + e.getMessage());
+            csvWriter = null;
+            csvFile = null;
+        }
+    }
+
+    public void stopCsv() {
+        if (csvWriter == null) return;
+
+        try {
+            csvWriter.close();
+            System.out.println("Profiler: Trace saved to " + csvFile.path());
+        } catch (IOException e) {
+            System.err.println("Profiler: Error closing CSV file - " + e.getMessage());
+        }
+        csvWriter = null;
+        csvFile = null;
+    }
+
+    public void toggleCsv() {
+        if (csvWriter == null) {
+            startCsv();
+        } else {
+            stopCsv();
+        }
+    }
+
+    public boolean isRecordingCsv() {
+        return csvWriter != null;
+    }
+
+    private void writeCsvRow() {
+        if (csvWriter == null) return;
+
+        try {
+            StringBuilder row = new StringBuilder(160);
+            row.append(frameCount).append(',').append(frameHistory[historyIndex]);
+            for (int i = 0; i < SCOPE_COUNT; i++) {
+                row.append(',').append(history[i][historyIndex]);
+            }
+            row.append(',').append(renderCalls)
+                    .append(',').append(totalRenderCalls)
+                    .append(',').append(drawCalls)
+                    .append(',').append(textureBindings)
+                    .append(',').append(shaderSwitches)
+                    .append(',').append(bodyCount)
+                    .append(',').append(contactCount)
+                    .append(',').append(bodyOps)
+                    .append(',').append(activeEnemies)
+                    .append(',').append(dormantEnemies)
+                    .append(',').append(activeVoices)
+                    .append(',').append(culledSounds)
+                    .append(',').append(musicTracks)
+                    .append('\n');
+            csvWriter.write(row.toString());
+        } catch (IOException e) {
+            System.err.println("Profiler: Error writing CSV row - " + e.getMessage());
+            stopCsv();
+        }
+    }
+
+    public static String getScopeName(int scope) {
+        return SCOPE_NAMES[scope];
+    }
+
+    public float getScopeMillis(int scope, int framesAgo) {
+        return history[scope][historyOffset(framesAgo)];
+    }
+
+    public float getFrameMillis(int framesAgo) {
+        return frameHistory[historyOffset(framesAgo)];
+    }
+
+    public float getAverageScopeMillis(int scope) {
+        int frames = (int) Math.min(frameCount, HISTORY_SIZE);
+        if (frames == 0) return 0f;
+
+        float total = 0f;
+        for (int i = 0; i < frames; i++) {
+            total += history[scope][i];
+        }
+        return total / frames;
+    }
+
+    public int getRecordedFrames() {
+        return (int) Math.min(frameCount, HISTORY_SIZE);
+    }
+
+    private int historyOffset(int framesAgo) {
+        // historyIndex points at the next slot to write, so the latest frame is one behind it
+        int index = historyIndex - 1 - framesAgo;
+        while (index < 0) {
+            index += HISTORY_SIZE;
+        }
+        return index;
+    }
+
+    public int getRenderCalls() { return renderCalls; }
+    public int getTotalRenderCalls() { return totalRenderCalls; }
+    public int getDrawCalls() { return drawCalls; }
+    public int getTextureBindings() { return textureBindings; }
+    public int getShaderSwitches() { return shaderSwitches; }
+    public int getBodyCount() { return bodyCount; }
+    public int getContactCount() { return contactCount; }
+    public int getBodyOps() { return bodyOps; }
+    public int getActiveEnemies() { return activeEnemies; }
+    public int getDormantEnemies() { return dormantEnemies; }
+    public int getActiveVoices() { return activeVoices; }
+    public int getCulledSounds() { return culledSounds; }
+    public int getMusicTracks() { return musicTracks; }
+
+    public void dispose() {
+        stopCsv();
+        if (glProfiler != null) {
+            glProfiler.disable();
+            glProfiler = null;
+        }
+        world = null;
+        depth = 0;
+        frameOpen = false;
+    }
+}
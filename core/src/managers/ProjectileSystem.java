@@ -0,0 +1,285 @@
+package managers;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.World;
+
+import config.Storage;
+import entities.Player;
+
+/*
+ * Every enemy and boss projectile in flight, kept as parallel arrays. Projectiles have no Box2D body;
+ * they move kinematically each tick and resolve hits with a swept-circle test against the player, and
+ * against ability shields found through the world's broadphase.
+ *
+ * Live projectiles are packed into [0, count) and removed by swapping in the last one, so firing and
+ * expiring never allocate. The arrays only grow, doubling when full.
+ */
+public class ProjectileSystem {
+    private static ProjectileSystem instance;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float SIZE = 6f;
+    public static final float DEFAULT_HIT_RADIUS = 10f;
+    // Speed a shield adds when it deflects a projectile, what the old 500 impulse gave a projectile body
+    private static final float DEFLECT_SPEED = 175f;
+
+    private int count = 0;
+    private float[] x, y;
+    private float[] vx, vy;
+    private float[] startX, startY;
+    private float[] maxDistance2;
+    private float[] hitRadius2;
+    private float[] rotation;
+    private int[] damage;
+    private float[] r, g, b;
+    private Texture[] textures;
+    private boolean[] deflected;
+
+    private Texture glowTexture;
+
+    // Scratch state for the shield query, so the callback is allocated once
+    private float queryX, queryY;
+    private boolean shieldHit;
+    private final Vector2 shieldCenter = new Vector2();
+    private final QueryCallback shieldQuery = new QueryCallback() {
+        @Override
+        public boolean reportFixture(Fixture fixture) {
+            if (fixture.getFilterData().categoryBits != CollisionFilter.ABILITY) return true;
+
+            Vector2 center = fixture.getBody().getPosition();
+            float reach = fixture.getShape().getRadius() + SIZE / 2f;
+            if (Vector2.dst2(queryX, queryY, center.x, center.y) > reach * reach) return true;
+
+            shieldCenter.set(center);
+            shieldHit = true;
+            return false;
+        }
+    };
+
+    private ProjectileSystem() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public static ProjectileSystem getInstance() {
+        if (instance == null) {
+            instance = new ProjectileSystem();
+        }
+        return instance;
+    }
+
+    private void allocate(int capacity) {
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        vx = grow(vx, capacity);
+        vy = grow(vy, capacity);
+        startX = grow(startX, capacity);
+        startY = grow(startY, capacity);
+        maxDistance2 = grow(maxDistance2, capacity);
+        hitRadius2 = grow(hitRadius2, capacity);
+        rotation = grow(rotation, capacity);
+        r = grow(r, capacity);
+        g = grow(g, capacity);
+        b = grow(b, capacity);
+        damage = damage == null ? new int[capacity] : Arrays.copyOf(damage, capacity);
+        textures = textures == null ? new Texture[capacity] : Arrays.copyOf(textures, capacity);
+        deflected = deflected == null ? new boolean[capacity] : Arrays.copyOf(deflected, capacity);
+    }
+
+    private static float[] grow(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    public void fire(float fromX, float fromY, float dirX, float dirY, float speed, float range,
+                     int projectileDamage, Color color, Texture texture) {
+        fire(fromX, fromY, dirX, dirY, speed, range, projectileDamage, color, texture, DEFAULT_HIT_RADIUS);
+    }
+
+    // Texture may be null, in which case the projectile is drawn as a glow in the given color
+    public void fire(float fromX, float fromY, float dirX, float dirY, float speed, float range,
+                     int projectileDamage, Color color, Texture texture, float hitRadius) {
+        float length = (float) Math.sqrt(dirX * dirX + dirY * dirY);
+        if (length == 0f) return;
+
+        if (count == x.length) {
+            allocate(x.length * 2);
+        }
+
+        int i = count++;
+        x[i] = fromX;
+        y[i] = fromY;
+        vx[i] = dirX / length * speed;
+        vy[i] = dirY / length * speed;
+        startX[i] = fromX;
+        startY[i] = fromY;
+        maxDistance2[i] = range * range;
+        hitRadius2[i] = hitRadius * hitRadius;
+        rotation[i] = MathUtils.atan2(dirY, dirX) * MathUtils.radiansToDegrees;
+        damage[i] = projectileDamage;
+        r[i] = color.r;
+        g[i] = color.g;
+        b[i] = color.b;
+        textures[i] = texture;
+        deflected[i] = false;
+    }
+
+    public void update(float delta, World world, Player player) {
+        Vector2 playerPos = player.getPosition();
+
+        int i = 0;
+        while (i < count) {
+            float fromX = x[i];
+            float fromY = y[i];
+            float toX = fromX + vx[i] * delta;
+            float toY = fromY + vy[i] * delta;
+            x[i] = toX;
+            y[i] = toY;
+
+            if (!deflected[i]) {
+                if (world != null && hitsShield(world, toX, toY)) {
+                    deflect(i);
+                } else if (segmentDistance2(fromX, fromY, toX, toY, playerPos.x, playerPos.y) < hitRadius2[i]) {
+                    if (!player.isInvulnerable()) {
+                        player.getStats().takeDamage(damage[i]);
+                        player.onTakeDamage();
+                    }
+                    remove(i);
+                    continue;
+                }
+            }
+
+            float dx = toX - startX[i];
+            float dy = toY - startY[i];
+            if (dx * dx + dy * dy >= maxDistance2[i]) {
+                remove(i);
+                continue;
+            }
+            i++;
+        }
+    }
+
+    private boolean hitsShield(World world, float px, float py) {
+        queryX = px;
+        queryY = py;
+        shieldHit = false;
+        float half = SIZE / 2f;
+        world.QueryAABB(shieldQuery, px - half, py - half, px + half, py + half);
+        return shieldHit;
+    }
+
+    // Pushes the projectile away from the shield; a deflected projectile can no longer hit the player
+    private void deflect(int i) {
+        float dx = x[i] - shieldCenter.x;
+        float dy = y[i] - shieldCenter.y;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+        if (length > 0f) {
+            vx[i] += dx / length * DEFLECT_SPEED;
+            vy[i] += dy / length * DEFLECT_SPEED;
+        }
+        rotation[i] = MathUtils.atan2(vy[i], vx[i]) * MathUtils.radiansToDegrees;
+        deflected[i] = true;
+    }
+
+    private static float segmentDistance2(float ax, float ay, float bx, float by, float px, float py) {
+        float abx = bx - ax;
+        float aby = by - ay;
+        float length2 = abx * abx + aby * aby;
+        float t = length2 > 0f ? ((px - ax) * abx + (py - ay) * aby) / length2 : 0f;
+        t = MathUtils.clamp(t, 0f, 1f);
+        float cx = ax + abx * t - px;
+        float cy = ay + aby * t - py;
+        return cx * cx + cy * cy;
+    }
+
+    private void remove(int i) {
+        int last = --count;
+        if (i != last) {
+            x[i] = x[last];
+            y[i] = y[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            startX[i] = startX[last];
+            startY[i] = startY[last];
+            maxDistance2[i] = maxDistance2[last];
+            hitRadius2[i] = hitRadius2[last];
+            rotation[i] = rotation[last];
+            damage[i] = damage[last];
+            r[i] = r[last];
+            g[i] = g[last];
+            b[i] = b[last];
+            textures[i] = textures[last];
+            deflected[i] = deflected[last];
+        }
+        textures[last] = null;
+    }
+
+    public void render(SpriteBatch batch) {
+        if (count == 0) return;
+
+        for (int i = 0; i < count; i++) {
+            Texture texture = textures[i];
+            if (texture != null) {
+                float width = texture.getWidth();
+                float height = texture.getHeight();
+                float scale = SIZE * 2 / Math.max(width, height);
+                float drawWidth = width * scale;
+                float drawHeight = height * scale;
+
+                batch.setColor(1, 1, 1, 1);
+                batch.draw(texture,
+                        x[i] - drawWidth / 2, y[i] - drawHeight / 2,
+                        drawWidth / 2, drawHeight / 2,
+                        drawWidth, drawHeight,
+                        1f, 1f,
+                        rotation[i],
+                        0, 0,
+                        (int) width, (int) height,
+                        false, false);
+            } else {
+                if (glowTexture == null) {
+                    glowTexture = Storage.assetManager.get("tiles/hpBar.png", Texture.class);
+                }
+
+                batch.setColor(r[i], g[i], b[i], 0.3f);
+                batch.draw(glowTexture, x[i] - SIZE, y[i] - SIZE, SIZE * 2, SIZE * 2);
+
+                batch.setColor(r[i], g[i], b[i], 0.8f);
+                batch.draw(glowTexture, x[i] - SIZE / 2, y[i] - SIZE / 2, SIZE, SIZE);
+
+                batch.setColor(1f, 1f, 1f, 0.9f);
+                batch.draw(glowTexture, x[i] - SIZE / 4, y[i] - SIZE / 4, SIZE / 2, SIZE / 2);
+            }
+        }
+        batch.setColor(1, 1, 1, 1);
+    }
+
+    // Only the untextured glow orbs give off light, in their own color
+    public void submitLights(LightMap lights) {
+        for (int i = 0; i < count; i++) {
+            if (textures[i] == null) {
+                lights.add(x[i], y[i], SIZE * 3f, r[i], g[i], b[i], 0.8f);
+            }
+        }
+    }
+
+    public int getActiveCount() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return x.length;
+    }
+
+    // Drops everything in flight, on area transitions and when a run ends
+    public void clear() {
+        Arrays.fill(textures, 0, count, null);
+        count = 0;
+    }
+}
@@ -0,0 +1,142 @@
+package managers;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/*
+ * Everything in the overworld that has to be depth sorted is submitted here once per frame and drawn in a
+ * single pass. Each entry gets a 48 bit key, layer first, then Y from the top of the map down, then the
+ * texture, and the entries are radix sorted on it. Sprites that share a layer and a Y end up next to each
+ * other per texture, and the ground layer, which is submitted with Y 0, is grouped by texture alone.
+ *
+ * The sort is stable, so entries with equal keys keep their submission order.
+ */
+public class RenderQueue {
+    public static final int LAYER_GROUND = 0;
+    public static final int LAYER_FLOOR = 1;
+    public static final int LAYER_WORLD = 2;
+
+    // Anything that draws itself; the key is computed from the Y it is submitted with
+    public interface Drawable {
+        void render(SpriteBatch batch);
+    }
+
+    private static final int KEY_BITS = 48;
+    private static final int Y_SHIFT = 16;
+    private static final int LAYER_SHIFT = 40;
+    private static final float Y_PRECISION = 4f;
+    private static final float Y_ORIGIN = (1 << 23) / Y_PRECISION;
+    private static final int MAX_Y_KEY = (1 << 24) - 1;
+    private static final int INITIAL_CAPACITY = 512;
+
+    private Texture[] textures = new Texture[INITIAL_CAPACITY];
+    private Drawable[] drawables = new Drawable[INITIAL_CAPACITY];
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] width = new float[INITIAL_CAPACITY];
+    private float[] height = new float[INITIAL_CAPACITY];
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] order = new int[INITIAL_CAPACITY];
+    private int[] scratch = new int[INITIAL_CAPACITY];
+    private final int[] histogram = new int[256];
+    private int count = 0;
+
+    public void begin() {
+        Arrays.fill(textures, 0, count, null);
+        Arrays.fill(drawables, 0, count, null);
+        count = 0;
+    }
+
+    public void submit(Texture texture, float x, float y, float width, float height, int layer, float sortY) {
+        int index = add(layer, sortY, System.identityHashCode(texture));
+        textures[index] = texture;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.width[index] = width;
+        this.height[index] = height;
+    }
+
+    public void submit(Drawable drawable, int layer, float sortY) {
+        int index = add(layer, sortY, System.identityHashCode(drawable.getClass()));
+        drawables[index] = drawable;
+    }
+
+    private int add(int layer, float sortY, int page) {
+        if (count == keys.length) {
+            grow();
+        }
+
+        int yKey = (int) ((Y_ORIGIN - sortY) * Y_PRECISION);
+        if (yKey < 0) yKey = 0;
+        if (yKey > MAX_Y_KEY) yKey = MAX_Y_KEY;
+
+        keys[count] = ((long) layer << LAYER_SHIFT) | ((long) yKey << Y_SHIFT) | (page & 0xFFFF);
+        return count++;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        textures = Arrays.copyOf(textures, capacity);
+        drawables = Arrays.copyOf(drawables, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        order = new int[capacity];
+        scratch = new int[capacity];
+    }
+
+    public void flush(SpriteBatch batch) {
+        int[] sorted = sort();
+        for (int i = 0; i < count; i++) {
+            int index = sorted[i];
+            if (drawables[index] != null) {
+                drawables[index].render(batch);
+            } else {
+                batch.draw(textures[index], x[index], y[index], width[index], height[index]);
+            }
+        }
+    }
+
+    // LSD radix sort of the entry indices, a byte per pass; passes where every key has the same byte are skipped
+    private int[] sort() {
+        int[] src = order;
+        int[] dst = scratch;
+        for (int i = 0; i < count; i++) {
+            src[i] = i;
+        }
+        if (count < 2) return src;
+
+        for (int shift = 0; shift < KEY_BITS; shift += 8) {
+            Arrays.fill(histogram, 0);
+            for (int i = 0; i < count; i++) {
+                histogram[(int) (keys[i] >>> shift) & 0xFF]++;
+            }
+            if (histogram[(int) (keys[0] >>> shift) & 0xFF] == count) continue;
+
+            int offset = 0;
+            for (int b = 0; b < 256; b++) {
+                int bucket = histogram[b];
+                histogram[b] = offset;
+                offset += bucket;
+            }
+
+            for (int i = 0; i < count; i++) {
+                int index = src[i];
+                dst[histogram[(int) (keys[index] >>> shift) & 0xFF]++] = index;
+            }
+
+            int[] swap = src;
+            src = dst;
+            dst = swap;
+        }
+        return src;
+    }
+
+    public int size() {
+        return count;
+    }
+}
@@ -0,0 +1,217 @@
+package managers;
+
+import java.io.IOException;
+import java.util.Random;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
+
+import config.GameScreen;
+import config.Storage;
+
+/*
+ * Records or replays the input of a run, one frame per tick.
+ *
+ * A run starts when a GameProj is created and ends when it is disposed. While recording or replaying,
+ * Gdx.input is swapped for a FrameInput so every system sees the same key, button and mouse state for the
+ * whole tick, and all game RNGs are seeded from the recording header.
+ *
+ * Start the desktop game with --record to write replays/replay_<time>.rec for each run, or --replay <file>
+ * to play one back with the profiler attached. Replays assume the same save data (keybindings, stash)
+ * and the window is resized to the recorded size, since mouse aim is in screen pixels.
+ */
+public class ReplayManager {
+    private static ReplayManager instance;
+
+    private FileHandle recordTarget;
+    private boolean recordEveryRun;
+    private FileHandle replaySource;
+
+    private FrameInput frameInput;
+    private Input previousInput;
+    private InputRecorder recorder;
+    private InputReplayer replayer;
+    private FileHandle activeFile;
+
+    private ReplayManager() {
+        if (Boolean.getBoolean("toppy.record")) {
+            recordEveryRun = true;
+        }
+        String replayPath = System.getProperty("toppy.replay");
+        if (replayPath != null && !replayPath.isEmpty() && Gdx.files != null) {
+            replaySource = Gdx.files.absolute(replayPath);
+        }
+    }
+
+    public static ReplayManager getInstance() {
+        if (instance == null) {
+            instance = new ReplayManager();
+        }
+        return instance;
+    }
+
+    // Records the next run to the given file, instead of a timestamped one
+    public void recordTo(FileHandle file) {
+        recordTarget = file;
+        replaySource = null;
+    }
+
+    public void replayFrom(FileHandle file) {
+        replaySource = file;
+        recordTarget = null;
+        recordEveryRun = false;
+    }
+
+    public boolean isRecording() {
+        return recorder != null;
+    }
+
+    public boolean isReplaying() {
+        return replayer != null;
+    }
+
+    // The device actually being used, for debug keys that should never be recorded or replayed
+    public Input getLiveInput() {
+        if (frameInput != null && frameInput.getBackend() != null) {
+            return frameInput.getBackend();
+        }
+        return Gdx.input;
+    }
+
+    // Call right before the GameProj for a new run is created, since the seed has to be set before anything rolls
+    public void beginRun() {
+        endRun();
+
+        if (replaySource != null) {
+            startReplay(replaySource);
+            replaySource = null;
+        } else if (recordTarget != null || recordEveryRun) {
+            FileHandle file = recordTarget != null ? recordTarget
+                    : Gdx.files.local("replays/replay_" + System.currentTimeMillis() + ".rec");
+            recordTarget = null;
+            startRecording(file);
+        }
+    }
+
+    private void startReplay(FileHandle file) {
+        try {
+            replayer = new InputReplayer(file.read());
+        } catch (Exception e) {
+            System.err.println("ReplayManager: Could not open replay - " + e.getMessage());
+            replayer = null;
+            return;
+        }
+
+        InputRecording header = replayer.getHeader();
+        GameRandom.setSeed(header.seed);
+        GameScreen.setGameMode(header.gameMode);
+        Storage.setSelectedPlayerClass(header.playerClass);
+
+        if (Gdx.graphics.getWidth() != header.screenWidth || Gdx.graphics.getHeight() != header.screenHeight) {
+            Gdx.graphics.setWindowedMode(header.screenWidth, header.screenHeight);
+        }
+
+        installFrameInput();
+        activeFile = file;
+
+        Profiler profiler = Profiler.getInstance();
+        profiler.setEnabled(true);
+        profiler.startCsv();
+
+        System.out.println("ReplayManager: Replaying " + file.path() + " (seed " + header.seed + ")");
+    }
+
+    private void startRecording(FileHandle file) {
+        if (!GameRandom.isSeeded()) {
+            GameRandom.setSeed(new Random().nextLong());
+        }
+
+        InputRecording header = new InputRecording(GameRandom.getSeed(), GameScreen.getGameMode(),
+                Storage.getSelectedPlayerClass(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        try {
+            recorder = new InputRecorder(file.write(false), header);
+        } catch (Exception e) {
+            System.err.println("ReplayManager: Could not start recording - " + e.getMessage());
+            recorder = null;
+            return;
+        }
+
+        installFrameInput();
+        activeFile = file;
+        System.out.println("ReplayManager: Recording to " + file.path() + " (seed " + header.seed + ")");
+    }
+
+    private void installFrameInput() {
+        previousInput = Gdx.input;
+        // Headless runs install their own FrameInput and drive it from an input policy
+        frameInput = Gdx.input instanceof FrameInput ? (FrameInput) Gdx.input : new FrameInput(Gdx.input);
+        Gdx.input = frameInput;
+    }
+
+    // Advances input by one tick and returns the frame time the game should use for it
+    public float beginTick(float delta) {
+        if (replayer != null) {
+            frameInput.beginTick();
+            try {
+                if (replayer.readFrame(frameInput)) {
+                    return replayer.getFrameDelta();
+                }
+            } catch (IOException e) {
+                System.err.println("ReplayManager: Error reading replay - " + e.getMessage());
+            }
+
+            System.out.println("ReplayManager: Replay finished after " + replayer.getFrameCount() + " frames");
+            endRun();
+            return delta;
+        }
+
+        if (recorder != null) {
+            if (frameInput.getBackend() != null) {
+                frameInput.beginTick();
+                frameInput.sampleBackend();
+            }
+
+            // The game runs on the quantized frame time, so the replay hands it exactly the same float
+            int micros = Math.round(delta * 1_000_000f);
+            try {
+                recorder.writeFrame(frameInput, micros);
+            } catch (IOException e) {
+                System.err.println("ReplayManager: Error writing recording - " + e.getMessage());
+                endRun();
+                return delta;
+            }
+            return micros / 1_000_000f;
+        }
+
+        return delta;
+    }
+
+    public void endRun() {
+        if (recorder != null) {
+            try {
+                recorder.close();
+                System.out.println("ReplayManager: Saved " + recorder.getFrameCount() + " frames to " + activeFile.path());
+            } catch (IOException e) {
+                System.err.println("ReplayManager: Error closing recording - " + e.getMessage());
+            }
+            recorder = null;
+        }
+
+        if (replayer != null) {
+            replayer.close();
+            replayer = null;
+            Profiler.getInstance().stopCsv();
+        }
+
+        if (frameInput != null) {
+            if (Gdx.input == frameInput && previousInput != frameInput) {
+                Gdx.input = previousInput;
+            }
+            frameInput = null;
+            previousInput = null;
+            GameRandom.clearSeed();
+        }
+        activeFile = null;
+    }
+}
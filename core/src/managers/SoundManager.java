@@ -1,8 +1,6 @@
 package managers;
 
-import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.utils.Disposable;
 
@@ -16,22 +14,16 @@ public class SoundManager implements Disposable {
 
     private static SoundManager instance;
 
-    private Map<String, Music> musicTracks;
-    private Music currentMusic;
-    private String currentMusicKey;
+    private final MusicStreamer music = new MusicStreamer();
 
-    private Map<String, Sound> soundEffects;
+    private final VoiceManager voices = VoiceManager.getInstance();
+    private Map<String, Integer> soundEffects;
 
     private float musicVolume = 0.0f;
     private float sfxVolume = 0.3f;
     private boolean musicEnabled = true;
     private boolean sfxEnabled = true;
 
-    private float sfxCooldown = 0f;
-    private static final float SFX_SOUND_COOLDOWN_TIME = 0.05f;
-    private float hitSoundCooldown = 0f;
-    private static final float HIT_SOUND_COOLDOWN_TIME = 0.1f;
-
     public static final String MUSIC_FOREST = "forest";
     public static final String MUSIC_DUNGEON = "dungeon";
     public static final String MUSIC_BOSS = "boss";
@@ -63,14 +55,16 @@ public class SoundManager implements Disposable {
     public static final String SFX_BUTTON = "button_sound";
     public static final String SFX_ENEMY_HIT = "enemyHit_sound";
     public static final String SFX_LEVEL_UP = "levelUp_sound";
+    public static final String SFX_GRASS_RUNNING = "grassRunning_sound";
+    public static final String SFX_STONE_RUNNING = "stoneRunning_sound";
+
+    private static final float GRASS_RUNNING_VOLUME = 0.6f;
+    private static final float STONE_RUNNING_VOLUME = 0.4f;
 
-    private Music grassRunningSound;
-    private boolean isGrassRunningPlaying = false;
-    private Music stoneRunningSound;
-    private boolean isStoneRunningPlaying = false;
+    private long grassRunningId = -1;
+    private long stoneRunningId = -1;
 
     private SoundManager() {
-        musicTracks = new HashMap<>();
         soundEffects = new HashMap<>();
         loadAudio();
 
@@ -90,120 +84,50 @@ public class SoundManager implements Disposable {
         this.musicEnabled = SaveManager.isMusicEnabled();
         this.sfxEnabled = SaveManager.isSfxEnabled();
 
-        if (currentMusic != null) {
-            currentMusic.setVolume(musicVolume);
-        }
+        music.setVolume(musicVolume);
 
-        if (grassRunningSound != null) {
-            grassRunningSound.setVolume(sfxVolume * 0.6f);
-        }
-        if (stoneRunningSound != null) {
-            stoneRunningSound.setVolume(sfxVolume * 0.4f);
-        }
+        updateRunningVolume();
     }
 
     private void loadAudio() {
         try {
-            Music forestMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/ForestSong.mp3"));
-            forestMusic.setLooping(true);
-            musicTracks.put(MUSIC_FOREST, forestMusic);
-
-            Music dungeonMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/DungeonSong.mp3"));
-            dungeonMusic.setLooping(true);
-            musicTracks.put(MUSIC_DUNGEON, dungeonMusic);
-
-            Music bossMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/BossSong.mp3"));
-            bossMusic.setLooping(true);
-            musicTracks.put(MUSIC_BOSS, bossMusic);
-
-            Music menuMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/MainMenuSong.mp3"));
-            menuMusic.setLooping(true);
-            musicTracks.put(MUSIC_MENU, menuMusic);
-
-            Music endlessMusic = Gdx.audio.newMusic(Gdx.files.internal("sounds/EndlessSong.mp3"));
-            endlessMusic.setLooping(true);
-            musicTracks.put(MUSIC_ENDLESS, endlessMusic);
-
-            Sound hitSound = Gdx.audio.newSound(Gdx.files.internal("sounds/SwordSwing.mp3"));
-            soundEffects.put(SFX_ENTITY_HIT, hitSound);
-
-            Sound pickupSound = Gdx.audio.newSound(Gdx.files.internal("sounds/ItemPickup.mp3"));
-            soundEffects.put(SFX_PICKUP_ITEM, pickupSound);
-
-            Sound pullSound = Gdx.audio.newSound(Gdx.files.internal("sounds/PullSound.mp3"));
-            soundEffects.put(SFX_PULL_ABILITY, pullSound);
-
-            Sound smiteSound = Gdx.audio.newSound(Gdx.files.internal("sounds/HolyBlast.mp3"));
-            soundEffects.put(SFX_SMITE_ABILITY, smiteSound);
-
-            Sound blinkSound = Gdx.audio.newSound(Gdx.files.internal("sounds/BlinkSound.mp3"));
-            soundEffects.put(SFX_BLINK_ABILITY, blinkSound);
-
-            Sound prayerSound = Gdx.audio.newSound(Gdx.files.internal("sounds/PrayerSound.mp3"));
-            soundEffects.put(SFX_PRAYER_ABILITY, prayerSound);
-
-            Sound coinSound = Gdx.audio.newSound(Gdx.files.internal("sounds/CoinPickup.wav"));
-            soundEffects.put(SFX_PICKUP_COIN, coinSound);
-
-            Sound consecrateSound = Gdx.audio.newSound(Gdx.files.internal("sounds/ConsecratedGround.wav"));
-            soundEffects.put(SFX_CONSECRATE, consecrateSound);
-
-            Sound shieldSound = Gdx.audio.newSound(Gdx.files.internal("sounds/ShieldBash.wav"));
-            soundEffects.put(SFX_SHIELD_BASH, shieldSound);
-
-            Sound smokebombSound = Gdx.audio.newSound(Gdx.files.internal("sounds/SmokeBomb.mp3"));
-            soundEffects.put(SFX_SMOKEBOMB_ABILITY, smokebombSound);
-
-            Sound sprintSound = Gdx.audio.newSound(Gdx.files.internal("sounds/SprintAbility.mp3"));
-            soundEffects.put(SFX_SPRINT_ABILITY, sprintSound);
-
-            Sound potionSound = Gdx.audio.newSound(Gdx.files.internal("sounds/Health.mp3"));
-            soundEffects.put(SFX_USE_POTION, potionSound);
-
-            Sound lemmySound = Gdx.audio.newSound(Gdx.files.internal("sounds/Lemmy.mp3"));
-            soundEffects.put(SFX_LEMMY, lemmySound);
-
-            Sound spearSound = Gdx.audio.newSound(Gdx.files.internal("sounds/SpearAttack.mp3"));
-            soundEffects.put(SFX_SPEAR, spearSound);
-
-            Sound whirlwindSound = Gdx.audio.newSound(Gdx.files.internal("sounds/Whirlwind.mp3"));
-            soundEffects.put(SFX_WHIRLWIND_ABILITY, whirlwindSound);
-
-            Sound doubleSwingSound = Gdx.audio.newSound(Gdx.files.internal("sounds/DoubleSwing.mp3"));
-            soundEffects.put(SFX_DOUBLE_SWING_ABILITY, doubleSwingSound);
-
-            Sound groundSlamSound = Gdx.audio.newSound(Gdx.files.internal("sounds/GroundSlam.mp3"));
-            soundEffects.put(SFX_GROUND_SLAM_ABILITY, groundSlamSound);
-
-            Sound blazingFurySound = Gdx.audio.newSound(Gdx.files.internal("sounds/BlazingFury.mp3"));
-            soundEffects.put(SFX_BLAZING_FURY_ABILITY, blazingFurySound);
-
-            Sound bubbleSound = Gdx.audio.newSound(Gdx.files.internal("sounds/Bubble.mp3"));
-            soundEffects.put(SFX_BUBBLE_ABILITY, bubbleSound);
-
-            Sound lifeLeechSound = Gdx.audio.newSound(Gdx.files.internal("sounds/LifeLeech.mp3"));
-            soundEffects.put(SFX_LIFE_LEECH_ABILITY, lifeLeechSound);
-
-            Sound holyAuraSound = Gdx.audio.newSound(Gdx.files.internal("sounds/HolyAura.mp3"));
-            soundEffects.put(SFX_HOLY_AURA_ABILITY, holyAuraSound);
-
-            Sound holyBlessingSound = Gdx.audio.newSound(Gdx.files.internal("sounds/HolyBlessing.mp3"));
-            soundEffects.put(SFX_HOLY_BLESSING_ABILITY, holyBlessingSound);
-
-            Sound buttonSound = Gdx.audio.newSound(Gdx.files.internal("sounds/ButtonPress.mp3"));
-            soundEffects.put(SFX_BUTTON, buttonSound);
-
-            Sound enemyHitSound = Gdx.audio.newSound(Gdx.files.internal("sounds/EnemyHit.mp3"));
-            soundEffects.put(SFX_ENEMY_HIT, enemyHitSound);
-
-            Sound levelUpSound = Gdx.audio.newSound(Gdx.files.internal("sounds/LevelUp.mp3"));
-            soundEffects.put(SFX_LEVEL_UP, levelUpSound);
-
-            grassRunningSound = Gdx.audio.newMusic(Gdx.files.internal("sounds/GrassRunning.mp3"));
-            grassRunningSound.setLooping(true);
-
-            stoneRunningSound = Gdx.audio.newMusic(Gdx.files.internal("sounds/StoneWalking.mp3"));
-            stoneRunningSound.setLooping(true);
+            // Music is only opened when a track is first played or prefetched
+            music.register(MUSIC_FOREST, "sounds/ForestSong.mp3");
+            music.register(MUSIC_DUNGEON, "sounds/DungeonSong.mp3");
+            music.register(MUSIC_BOSS, "sounds/BossSong.mp3");
+            music.register(MUSIC_MENU, "sounds/MainMenuSong.mp3");
+            music.register(MUSIC_ENDLESS, "sounds/EndlessSong.mp3");
+
+            // Lengths are the clips' own, rounded up; a voice stays taken for that long
+            loadSound(SFX_ENTITY_HIT, "sounds/SwordSwing.mp3", 0.8f, 3, 0.05f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_PICKUP_ITEM, "sounds/ItemPickup.mp3", 0.5f, 2, 0.05f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_PULL_ABILITY, "sounds/PullSound.mp3", 1.1f, 2, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_SMITE_ABILITY, "sounds/HolyBlast.mp3", 1.2f, 2, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_BLINK_ABILITY, "sounds/BlinkSound.mp3", 1.3f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_PRAYER_ABILITY, "sounds/PrayerSound.mp3", 2.2f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_PICKUP_COIN, "sounds/CoinPickup.wav", 0.4f, 2, 0.05f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_CONSECRATE, "sounds/ConsecratedGround.wav", 0.7f, 2, 0.05f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_SHIELD_BASH, "sounds/ShieldBash.wav", 0.2f, 3, 0.05f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_SMOKEBOMB_ABILITY, "sounds/SmokeBomb.mp3", 1.4f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_SPRINT_ABILITY, "sounds/SprintAbility.mp3", 1.1f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_USE_POTION, "sounds/Health.mp3", 0.9f, 1, 0.05f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_LEMMY, "sounds/Lemmy.mp3", 1f, 2, 0f, VoiceManager.PRIORITY_LOW);
+            loadSound(SFX_SPEAR, "sounds/SpearAttack.mp3", 0.7f, 3, 0.05f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_WHIRLWIND_ABILITY, "sounds/Whirlwind.mp3", 3.1f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_DOUBLE_SWING_ABILITY, "sounds/DoubleSwing.mp3", 0.9f, 2, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_GROUND_SLAM_ABILITY, "sounds/GroundSlam.mp3", 0.7f, 2, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_BLAZING_FURY_ABILITY, "sounds/BlazingFury.mp3", 0.7f, 2, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_BUBBLE_ABILITY, "sounds/Bubble.mp3", 0.7f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_LIFE_LEECH_ABILITY, "sounds/LifeLeech.mp3", 1.1f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_HOLY_AURA_ABILITY, "sounds/HolyAura.mp3", 0.7f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_HOLY_BLESSING_ABILITY, "sounds/HolyBlessing.mp3", 0.7f, 1, 0f, VoiceManager.PRIORITY_NORMAL);
+            loadSound(SFX_BUTTON, "sounds/ButtonPress.mp3", 0.3f, 2, 0f, VoiceManager.PRIORITY_HIGH);
+            loadSound(SFX_ENEMY_HIT, "sounds/EnemyHit.mp3", 0.1f, 3, 0.1f, VoiceManager.PRIORITY_LOW);
+            loadSound(SFX_LEVEL_UP, "sounds/LevelUp.mp3", 0.7f, 1, 0f, VoiceManager.PRIORITY_HIGH);
+
+            // Footsteps are short clips looped in place
+            loadSound(SFX_GRASS_RUNNING, "sounds/GrassRunning.mp3", 0.6f, 1, 0f, VoiceManager.PRIORITY_HIGH);
+            loadSound(SFX_STONE_RUNNING, "sounds/StoneWalking.mp3", 0.5f, 1, 0f, VoiceManager.PRIORITY_HIGH);
 
             System.out.println("SoundManager: All audio loaded successfully");
         } catch (Exception e) {
@@ -211,34 +135,32 @@ public class SoundManager implements Disposable {
         }
     }
 
+    private void loadSound(String key, String path, float length, int maxVoices, float retrigger, int priority) {
+        Sound sound = Gdx.audio.newSound(Gdx.files.internal(path));
+        soundEffects.put(key, voices.register(sound, length, maxVoices, retrigger, priority));
+    }
+
+    // Runs on real time from GameScreen, so crossfades carry on through menus and pauses
     public void update(float delta) {
-        if (sfxCooldown > 0) {
-            sfxCooldown -= delta;
-        }
+        music.update(delta);
+    }
 
-        if (hitSoundCooldown > 0) {
-            hitSoundCooldown -= delta;
-        }
+    // Positioned sounds are heard from here, normally the player
+    public void setListenerPosition(float x, float y) {
+        voices.setListener(x, y);
     }
 
     public void playMusic(String musicKey) {
         if (!musicEnabled) return;
 
-        if (musicKey.equals(currentMusicKey) && currentMusic != null && currentMusic.isPlaying()) {
-            return;
-        }
+        music.play(musicKey);
+    }
 
-        stopMusic();
+    // Opens a track that is likely to play soon, so switching to it doesn't wait on the decoder
+    public void prefetchMusic(String musicKey) {
+        if (!musicEnabled) return;
 
-        Music music = musicTracks.get(musicKey);
-        if (music != null) {
-            music.setVolume(musicVolume);
-            music.play();
-            currentMusic = music;
-            currentMusicKey = musicKey;
-        } else {
-            System.err.println("SoundManager: Music not found - " + musicKey);
-        }
+        music.prefetch(musicKey);
     }
 
     public void playForestMusic() {
@@ -267,30 +189,25 @@ public class SoundManager implements Disposable {
     }
 
     public void stopMusic() {
-        if (currentMusic != null) {
-            currentMusic.stop();
-            currentMusic = null;
-        }
+        music.stop();
     }
 
     public void pauseMusic() {
-        if (currentMusic != null && currentMusic.isPlaying()) {
-            currentMusic.pause();
-        }
+        music.pause();
     }
 
     public void resumeMusic() {
-        if (musicEnabled && currentMusic != null && !currentMusic.isPlaying()) {
-            currentMusic.play();
+        if (musicEnabled) {
+            music.resume();
         }
     }
 
     public void playSound(String sfxKey) {
         if (!sfxEnabled) return;
 
-        Sound sound = soundEffects.get(sfxKey);
+        Integer sound = soundEffects.get(sfxKey);
         if (sound != null) {
-            sound.play(sfxVolume);
+            voices.play(sound, sfxVolume);
         } else {
             System.err.println("SoundManager: Sound not found - " + sfxKey);
         }
@@ -299,9 +216,19 @@ public class SoundManager implements Disposable {
     public void playSound(String sfxKey, float volume) {
         if (!sfxEnabled) return;
 
-        Sound sound = soundEffects.get(sfxKey);
+        Integer sound = soundEffects.get(sfxKey);
         if (sound != null) {
-            sound.play(volume * sfxVolume);
+            voices.play(sound, volume * sfxVolume);
+        }
+    }
+
+    // Attenuated and panned by where the sound is relative to the listener
+    public void playSound(String sfxKey, float volume, float x, float y) {
+        if (!sfxEnabled) return;
+
+        Integer sound = soundEffects.get(sfxKey);
+        if (sound != null) {
+            voices.play(sound, volume * sfxVolume, x, y);
         }
     }
 
@@ -310,33 +237,21 @@ public class SoundManager implements Disposable {
 
         switch (weapon) {
             case "Sword":
-                if (sfxCooldown <= 0) {
-                    playSound(SFX_ENTITY_HIT);
-                    sfxCooldown = SFX_SOUND_COOLDOWN_TIME;
-                }
+                playSound(SFX_ENTITY_HIT);
                 break;
             case "Shield":
-                if (sfxCooldown <= 0) {
-                    playSound(SFX_SHIELD_BASH, 1.4f);
-                    sfxCooldown = SFX_SOUND_COOLDOWN_TIME;
-                }
+                playSound(SFX_SHIELD_BASH, 1.4f);
                 break;
             case "Spear":
-                if (sfxCooldown <= 0) {
-                    playSound(SFX_SPEAR, 0.6f);
-                    sfxCooldown = SFX_SOUND_COOLDOWN_TIME;
-                }
+                playSound(SFX_SPEAR, 0.6f);
                 break;
         }
     }
 
-    public void playEnemyHitSound() {
+    public void playEnemyHitSound(float x, float y) {
         if (!sfxEnabled) return;
 
-        if (hitSoundCooldown <= 0) {
-            playSound(SFX_ENEMY_HIT, 0.3f);
-            hitSoundCooldown = HIT_SOUND_COOLDOWN_TIME;
-        }
+        playSound(SFX_ENEMY_HIT, 0.3f, x, y);
     }
 
     public void playLevelUpSound() {
@@ -351,37 +266,28 @@ public class SoundManager implements Disposable {
         playSound(SFX_BUTTON);
     }
 
-    public void playLemmyHitSound() {
+    public void playLemmyHitSound(float x, float y) {
         if (!sfxEnabled) return;
 
-        playSound(SFX_LEMMY, 1.5f);
+        playSound(SFX_LEMMY, 1.5f, x, y);
     }
 
     public void playPotionSound() {
         if (!sfxEnabled) return;
 
-        if (sfxCooldown <= 0) {
-            playSound(SFX_USE_POTION);
-            sfxCooldown = SFX_SOUND_COOLDOWN_TIME;
-        }
+        playSound(SFX_USE_POTION);
     }
 
     public void playPickupSound() {
         if (!sfxEnabled) return;
 
-        if (sfxCooldown <= 0) {
-            playSound(SFX_PICKUP_ITEM);
-            sfxCooldown = SFX_SOUND_COOLDOWN_TIME;
-        }
+        playSound(SFX_PICKUP_ITEM);
     }
 
     public void playPickupCoinSound() {
         if (!sfxEnabled) return;
 
-        if (sfxCooldown <= 0) {
-            playSound(SFX_PICKUP_COIN);
-            sfxCooldown = SFX_SOUND_COOLDOWN_TIME;
-        }
+        playSound(SFX_PICKUP_COIN);
     }
 
     public void playAbilitySound(String ability) {
@@ -401,10 +307,7 @@ public class SoundManager implements Disposable {
                 playSound(SFX_PRAYER_ABILITY);
                 break;
             case "Consecrate":
-                if (sfxCooldown <= 0) {
-                    playSound(SFX_CONSECRATE, 1.5f);
-                    sfxCooldown = SFX_SOUND_COOLDOWN_TIME;
-                }
+                playSound(SFX_CONSECRATE, 1.5f);
                 break;
             case "SmokeBomb":
                 playSound(SFX_SMOKEBOMB_ABILITY);
@@ -442,42 +345,51 @@ public class SoundManager implements Disposable {
     public void startGrassRunning() {
         if (!sfxEnabled) return;
 
-        if (grassRunningSound != null && !isGrassRunningPlaying) {
-            grassRunningSound.setVolume(sfxVolume * 0.6f);
-            grassRunningSound.play();
-            isGrassRunningPlaying = true;
+        Integer sound = soundEffects.get(SFX_GRASS_RUNNING);
+        if (sound != null && grassRunningId == -1) {
+            grassRunningId = voices.loop(sound, sfxVolume * GRASS_RUNNING_VOLUME);
         }
     }
 
     public void stopGrassRunning() {
-        if (grassRunningSound != null && isGrassRunningPlaying) {
-            grassRunningSound.stop();
-            isGrassRunningPlaying = false;
+        Integer sound = soundEffects.get(SFX_GRASS_RUNNING);
+        if (sound != null && grassRunningId != -1) {
+            voices.stop(sound, grassRunningId);
+            grassRunningId = -1;
         }
     }
 
     public void startStoneRunning() {
         if (!sfxEnabled) return;
 
-        if (stoneRunningSound != null && !isStoneRunningPlaying) {
-            stoneRunningSound.setVolume(sfxVolume * 0.4f);
-            stoneRunningSound.play();
-            isStoneRunningPlaying = true;
+        Integer sound = soundEffects.get(SFX_STONE_RUNNING);
+        if (sound != null && stoneRunningId == -1) {
+            stoneRunningId = voices.loop(sound, sfxVolume * STONE_RUNNING_VOLUME);
         }
     }
 
     public void stopStoneRunning() {
-        if (stoneRunningSound != null && isStoneRunningPlaying) {
-            stoneRunningSound.stop();
-            isStoneRunningPlaying = false;
+        Integer sound = soundEffects.get(SFX_STONE_RUNNING);
+        if (sound != null && stoneRunningId != -1) {
+            voices.stop(sound, stoneRunningId);
+            stoneRunningId = -1;
+        }
+    }
+
+    private void updateRunningVolume() {
+        if (soundEffects == null) return;
+
+        if (grassRunningId != -1) {
+            voices.setVolume(soundEffects.get(SFX_GRASS_RUNNING), grassRunningId, sfxVolume * GRASS_RUNNING_VOLUME);
+        }
+        if (stoneRunningId != -1) {
+            voices.setVolume(soundEffects.get(SFX_STONE_RUNNING), stoneRunningId, sfxVolume * STONE_RUNNING_VOLUME);
         }
     }
 
     public void setMusicVolume(float volume) {
         this.musicVolume = Math.max(0f, Math.min(1f, volume));
-        if (currentMusic != null) {
-            currentMusic.setVolume(musicVolume);
-        }
+        music.setVolume(musicVolume);
         SaveManager.setMusicVolume(this.musicVolume);
     }
 
@@ -487,14 +399,7 @@ public class SoundManager implements Disposable {
 
     public void setSfxVolume(float volume) {
         this.sfxVolume = Math.max(0f, Math.min(1f, volume));
-
-        if (grassRunningSound != null) {
-            grassRunningSound.setVolume(sfxVolume * 0.6f);
-        }
-
-        if (stoneRunningSound != null) {
-            stoneRunningSound.setVolume(sfxVolume * 0.6f);
-        }
+        updateRunningVolume();
 
         SaveManager.setSfxVolume(this.sfxVolume);
     }
@@ -527,8 +432,8 @@ public class SoundManager implements Disposable {
     public void toggleMusic() {
         setMusicEnabled(!musicEnabled);
         if (musicEnabled) {
-            if (currentMusicKey != null) {
-                playMusic(currentMusicKey);
+            if (music.getCurrentKey() != null) {
+                playMusic(music.getCurrentKey());
             } else {
                 switch (GameScreen.getCurrentScreen()) {
                     case 0:
@@ -556,43 +461,27 @@ public class SoundManager implements Disposable {
     }
 
     public String getCurrentMusicKey() {
-        return currentMusicKey;
+        return music.getCurrentKey();
     }
 
     public boolean isMusicPlaying() {
-        return currentMusic != null && currentMusic.isPlaying();
+        return music.isPlaying();
+    }
+
+    public int getOpenMusicTracks() {
+        return music.getOpenTracks();
     }
 
     @Override
     public void dispose() {
         stopGrassRunning();
-        if (grassRunningSound != null) {
-            grassRunningSound.dispose();
-            grassRunningSound = null;
-        }
-
         stopStoneRunning();
-        if (stoneRunningSound != null) {
-            stoneRunningSound.dispose();
-            stoneRunningSound = null;
-        }
 
-        for (Music music : musicTracks.values()) {
-            if (music != null) {
-                music.dispose();
-            }
-        }
-        musicTracks.clear();
+        music.dispose();
 
-        for (Sound sound : soundEffects.values()) {
-            if (sound != null) {
-                sound.dispose();
-            }
-        }
+        voices.dispose();
         soundEffects.clear();
 
-        currentMusic = null;
-        currentMusicKey = null;
         instance = null;
     }
 
@@ -0,0 +1,70 @@
+package managers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.badlogic.gdx.utils.Pool;
+
+// A Pool that counts how often obtain() was served from the free list. Pools register by name, so the
+// latest pool with a given name is the one reported.
+public abstract class TrackedPool<T> extends Pool<T> {
+    private static final Map<String, TrackedPool<?>> registry = new LinkedHashMap<>();
+
+    private final String name;
+    private long obtained;
+    private long created;
+
+    public TrackedPool(String name, int initialCapacity, int max) {
+        super(initialCapacity, max);
+        this.name = name;
+        registry.put(name, this);
+    }
+
+    protected abstract T create();
+
+    @Override
+    protected final T newObject() {
+        created++;
+        return create();
+    }
+
+    @Override
+    public T obtain() {
+        obtained++;
+        return super.obtain();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getObtained() {
+        return obtained;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public float getHitRate() {
+        if (obtained == 0) return 0f;
+        return Math.max(0f, (obtained - created) / (float) obtained);
+    }
+
+    public void resetStats() {
+        obtained = 0;
+        created = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.1f%% hit (%d obtained, %d created, %d free, %d peak)",
+                name, getHitRate() * 100f, obtained, created, getFree(), peak);
+    }
+
+    public static List<TrackedPool<?>> getPools() {
+        return new ArrayList<>(registry.values());
+    }
+}
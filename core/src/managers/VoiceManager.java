@@ -0,0 +1,260 @@
+package managers;
+
+import com.badlogic.gdx.audio.Sound;
+
+/*
+ * Decides which sound effects actually get a voice. The audio backend only has a handful of sources, and
+ * a clump of enemies hit on the same frame would otherwise fire one play each.
+ *
+ * Every sound is registered with its length, how many voices it may hold at once, how soon it may start
+ * again and a priority. A play is culled when it comes too soon after the last one, when distance makes
+ * it inaudible, or when every voice is busy with something of higher priority. Otherwise it takes a free
+ * voice, or steals the oldest voice of the same sound once that sound is at its cap, or the oldest of the
+ * lowest priority when all voices are busy.
+ *
+ * Sound gives no way to ask whether a play has finished, so a voice is held for the registered length.
+ * Positioned plays are attenuated and panned against the listener, which is the player.
+ */
+public class VoiceManager {
+    private static VoiceManager instance;
+
+    public static final int PRIORITY_LOW = 0;
+    public static final int PRIORITY_NORMAL = 1;
+    public static final int PRIORITY_HIGH = 2;
+
+    // The desktop backend opens 16 sources by default
+    private static final int MAX_VOICES = 16;
+    private static final int MAX_SOUNDS = 64;
+
+    private static final float FULL_VOLUME_DISTANCE = 48f;
+    private static final float SILENT_DISTANCE = 260f;
+    private static final float PAN_DISTANCE = 160f;
+    private static final float MAX_PAN = 0.6f;
+    private static final float MIN_AUDIBLE_VOLUME = 0.01f;
+
+    private final Sound[] sounds = new Sound[MAX_SOUNDS];
+    private final float[] soundLength = new float[MAX_SOUNDS];
+    private final int[] soundMaxVoices = new int[MAX_SOUNDS];
+    private final float[] soundRetrigger = new float[MAX_SOUNDS];
+    private final int[] soundPriority = new int[MAX_SOUNDS];
+    private final float[] soundLastStart = new float[MAX_SOUNDS];
+    private int soundCount = 0;
+
+    // A free voice has sound -1
+    private final int[] voiceSound = new int[MAX_VOICES];
+    private final long[] voiceId = new long[MAX_VOICES];
+    private final float[] voiceStart = new float[MAX_VOICES];
+    private final float[] voiceEnd = new float[MAX_VOICES];
+    private int activeVoices = 0;
+
+    private float listenerX;
+    private float listenerY;
+    private boolean hasListener = false;
+
+    private final long startNanos = System.nanoTime();
+    private float culledWindowStart = 0f;
+    private int culledInWindow = 0;
+    private int culledPerSecond = 0;
+
+    private VoiceManager() {
+        for (int i = 0; i < MAX_VOICES; i++) {
+            voiceSound[i] = -1;
+        }
+    }
+
+    public static VoiceManager getInstance() {
+        if (instance == null) {
+            instance = new VoiceManager();
+        }
+        return instance;
+    }
+
+    public int register(Sound sound, float length, int maxVoices, float retrigger, int priority) {
+        if (soundCount == MAX_SOUNDS) {
+            throw new IllegalStateException("VoiceManager: Too many sounds registered");
+        }
+        int index = soundCount++;
+        sounds[index] = sound;
+        soundLength[index] = length;
+        soundMaxVoices[index] = Math.max(1, Math.min(maxVoices, MAX_VOICES));
+        soundRetrigger[index] = retrigger;
+        soundPriority[index] = priority;
+        soundLastStart[index] = -Float.MAX_VALUE;
+        return index;
+    }
+
+    public void setListener(float x, float y) {
+        listenerX = x;
+        listenerY = y;
+        hasListener = true;
+    }
+
+    public long play(int sound, float volume) {
+        return start(sound, volume, 0f, false);
+    }
+
+    public long play(int sound, float volume, float x, float y) {
+        if (!hasListener) {
+            return start(sound, volume, 0f, false);
+        }
+
+        float dx = x - listenerX;
+        float dy = y - listenerY;
+        float distance = (float) Math.sqrt(dx * dx + dy * dy);
+        float gain;
+        if (distance <= FULL_VOLUME_DISTANCE) {
+            gain = 1f;
+        } else if (distance >= SILENT_DISTANCE) {
+            gain = 0f;
+        } else {
+            float t = (distance - FULL_VOLUME_DISTANCE) / (SILENT_DISTANCE - FULL_VOLUME_DISTANCE);
+            gain = (1f - t) * (1f - t);
+        }
+
+        float pan = Math.max(-1f, Math.min(1f, dx / PAN_DISTANCE)) * MAX_PAN;
+        return start(sound, volume * gain, pan, false);
+    }
+
+    // Loops hold their voice until stopped
+    public long loop(int sound, float volume) {
+        return start(sound, volume, 0f, true);
+    }
+
+    public void stop(int sound, long id) {
+        for (int i = 0; i < MAX_VOICES; i++) {
+            if (voiceSound[i] == sound && voiceId[i] == id) {
+                sounds[sound].stop(id);
+                release(i);
+                return;
+            }
+        }
+    }
+
+    public void setVolume(int sound, long id, float volume) {
+        sounds[sound].setVolume(id, volume);
+    }
+
+    private long start(int sound, float volume, float pan, boolean looping) {
+        float now = now();
+        expireVoices(now);
+
+        if (now - soundLastStart[sound] < soundRetrigger[sound] || volume < MIN_AUDIBLE_VOLUME) {
+            cull(now);
+            return -1;
+        }
+
+        int voice = -1;
+        int sameSound = 0;
+        int oldestSameSound = -1;
+        for (int i = 0; i < MAX_VOICES; i++) {
+            if (voiceSound[i] == -1) {
+                if (voice == -1) voice = i;
+            } else if (voiceSound[i] == sound) {
+                sameSound++;
+                if (oldestSameSound == -1 || voiceStart[i] < voiceStart[oldestSameSound]) {
+                    oldestSameSound = i;
+                }
+            }
+        }
+
+        if (sameSound >= soundMaxVoices[sound]) {
+            voice = oldestSameSound;
+            steal(voice);
+        } else if (voice == -1) {
+            int victim = -1;
+            for (int i = 0; i < MAX_VOICES; i++) {
+                if (victim == -1) {
+                    victim = i;
+                    continue;
+                }
+                int priority = soundPriority[voiceSound[i]];
+                int victimPriority = soundPriority[voiceSound[victim]];
+                if (priority < victimPriority || (priority == victimPriority && voiceStart[i] < voiceStart[victim])) {
+                    victim = i;
+                }
+            }
+            if (soundPriority[voiceSound[victim]] > soundPriority[sound]) {
+                cull(now);
+                return -1;
+            }
+            voice = victim;
+            steal(voice);
+        }
+
+        long id = looping ? sounds[sound].loop(volume, 1f, pan) : sounds[sound].play(volume, 1f, pan);
+        if (id == -1) {
+            cull(now);
+            return -1;
+        }
+
+        soundLastStart[sound] = now;
+        voiceSound[voice] = sound;
+        voiceId[voice] = id;
+        voiceStart[voice] = now;
+        voiceEnd[voice] = looping ? Float.MAX_VALUE : now + soundLength[sound];
+        activeVoices++;
+        return id;
+    }
+
+    private void expireVoices(float now) {
+        for (int i = 0; i < MAX_VOICES; i++) {
+            if (voiceSound[i] != -1 && voiceEnd[i] <= now) {
+                release(i);
+            }
+        }
+    }
+
+    private void steal(int voice) {
+        sounds[voiceSound[voice]].stop(voiceId[voice]);
+        release(voice);
+    }
+
+    private void release(int voice) {
+        voiceSound[voice] = -1;
+        activeVoices--;
+    }
+
+    private void cull(float now) {
+        rollCulledWindow(now);
+        culledInWindow++;
+    }
+
+    private void rollCulledWindow(float now) {
+        if (now - culledWindowStart >= 1f) {
+            // A window with nothing in it for a while reads as zero rather than the last busy second
+            culledPerSecond = now - culledWindowStart < 2f ? culledInWindow : 0;
+            culledInWindow = 0;
+            culledWindowStart = now;
+        }
+    }
+
+    private float now() {
+        return (System.nanoTime() - startNanos) / 1_000_000_000f;
+    }
+
+    public int getActiveVoices() {
+        expireVoices(now());
+        return activeVoices;
+    }
+
+    // Plays culled over the last full second
+    public int getCulledPerSecond() {
+        rollCulledWindow(now());
+        return culledPerSecond;
+    }
+
+    // Stops every voice and disposes the registered sounds
+    public void dispose() {
+        for (int i = 0; i < MAX_VOICES; i++) {
+            if (voiceSound[i] != -1) {
+                sounds[voiceSound[i]].stop(voiceId[i]);
+                release(i);
+            }
+        }
+        for (int i = 0; i < soundCount; i++) {
+            sounds[i].dispose();
+            sounds[i] = null;
+        }
+        soundCount = 0;
+    }
+}
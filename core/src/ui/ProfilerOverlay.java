@@ -0,0 +1,142 @@
+package ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import config.Storage;
+import managers.Profiler;
+
+public class ProfilerOverlay {
+    private static final float GRAPH_WIDTH = 360f;
+    private static final float GRAPH_HEIGHT = 120f;
+    private static final float PADDING = 10f;
+    private static final float TARGET_FRAME_MS = 1000f / 60f;
+    private static final float GRAPH_RANGE_MS = TARGET_FRAME_MS * 2f;
+
+    private static final Color[] SCOPE_COLORS = {
+            new Color(0.2f, 0.6f, 1f, 0.9f),   // physics
+            new Color(0.1f, 0.9f, 0.9f, 0.9f), // contacts
+            new Color(1f, 0.4f, 0.2f, 0.9f),   // ai
+            new Color(1f, 0.8f, 0.1f, 0.9f),   // pathfinding
+            new Color(0.6f, 0.3f, 0.9f, 0.9f), // chunk gen
+            new Color(0.9f, 0.3f, 0.8f, 0.9f), // chunk commit
+            new Color(0.3f, 0.9f, 0.3f, 0.9f), // world render
+            new Color(0.9f, 0.9f, 0.9f, 0.9f), // hud
+            new Color(0.5f, 0.7f, 0.5f, 0.9f), // minimap
+            new Color(1f, 0.6f, 0.6f, 0.9f),   // projectiles
+            new Color(0.6f, 0.6f, 1f, 0.9f)    // snapshot
+    };
+
+    private final Viewport hudViewport;
+    private final Texture pixel;
+    private final BitmapFont font;
+    private final StringBuilder text = new StringBuilder(64);
+    private final StringBuilder formatBuffer = new StringBuilder(16);
+
+    public ProfilerOverlay(Viewport hudViewport) {
+        this.hudViewport = hudViewport;
+        this.pixel = Storage.assetManager.get("white_pixel.png", Texture.class);
+        this.font = Storage.assetManager.get("fonts/CascadiaBold.fnt", BitmapFont.class);
+    }
+
+    public void render(SpriteBatch batch) {
+        Profiler profiler = Profiler.getInstance();
+        if (!profiler.isEnabled()) return;
+
+        float graphX = hudViewport.getWorldWidth() - GRAPH_WIDTH - PADDING;
+        float graphY = 40f;
+
+        batch.setColor(0f, 0f, 0f, 0.6f);
+        batch.draw(pixel, graphX - PADDING, graphY - PADDING,
+                GRAPH_WIDTH + PADDING * 2, GRAPH_HEIGHT + 250f);
+
+        int frames = profiler.getRecordedFrames();
+        float barWidth = GRAPH_WIDTH / Profiler.HISTORY_SIZE;
+        float msToPixels = GRAPH_HEIGHT / GRAPH_RANGE_MS;
+
+        for (int i = 0; i < frames; i++) {
+            float x = graphX + GRAPH_WIDTH - (i + 1) * barWidth;
+            float y = graphY;
+
+            for (int scope = 0; scope < Profiler.SCOPE_COUNT; scope++) {
+                float height = Math.min(profiler.getScopeMillis(scope, i) * msToPixels, graphY + GRAPH_HEIGHT - y);
+                if (height <= 0f) continue;
+
+                batch.setColor(SCOPE_COLORS[scope]);
+                batch.draw(pixel, x, y, barWidth, height);
+                y += height;
+            }
+
+            float frameHeight = Math.min(profiler.getFrameMillis(i) * msToPixels, GRAPH_HEIGHT);
+            batch.setColor(1f, 1f, 1f, 0.35f);
+            batch.draw(pixel, x, graphY + frameHeight, barWidth, 1f);
+        }
+
+        batch.setColor(1f, 0.2f, 0.2f, 0.8f);
+        batch.draw(pixel, graphX, graphY + TARGET_FRAME_MS * msToPixels, GRAPH_WIDTH, 1f);
+        batch.setColor(Color.WHITE);
+
+        font.getData().setScale(0.4f);
+        float textY = graphY + GRAPH_HEIGHT + 230f;
+        float lineHeight = 14f;
+
+        text.setLength(0);
+        text.append("frame ").append(format(profiler.getFrameMillis(0))).append(" ms");
+        if (profiler.isRecordingCsv()) {
+            text.append("  [REC]");
+        }
+        font.setColor(Color.WHITE);
+        font.draw(batch, text, graphX, textY);
+        textY -= lineHeight;
+
+        for (int scope = 0; scope < Profiler.SCOPE_COUNT; scope++) {
+            text.setLength(0);
+            text.append(Profiler.getScopeName(scope)).append(": ")
+                    .append(format(profiler.getScopeMillis(scope, 0))).append(" ms (avg ")
+                    .append(format(profiler.getAverageScopeMillis(scope))).append(')');
+            font.setColor(SCOPE_COLORS[scope]);
+            font.draw(batch, text, graphX, textY);
+            textY -= lineHeight;
+        }
+
+        font.setColor(Color.WHITE);
+        text.setLength(0);
+        text.append("batches ").append(profiler.getRenderCalls())
+                .append("  draws ").append(profiler.getDrawCalls())
+                .append("  tex binds ").append(profiler.getTextureBindings());
+        font.draw(batch, text, graphX, textY);
+        textY -= lineHeight;
+
+        text.setLength(0);
+        text.append("bodies ").append(profiler.getBodyCount())
+                .append("  contacts ").append(profiler.getContactCount())
+                .append("  body ops ").append(profiler.getBodyOps())
+                .append("  awake ").append(profiler.getActiveEnemies())
+                .append('/').append(profiler.getActiveEnemies() + profiler.getDormantEnemies());
+        font.draw(batch, text, graphX, textY);
+        textY -= lineHeight;
+
+        text.setLength(0);
+        text.append("voices ").append(profiler.getActiveVoices())
+                .append("  culled/s ").append(profiler.getCulledSounds())
+                .append("  music open ").append(profiler.getMusicTracks());
+        font.draw(batch, text, graphX, textY);
+
+        font.getData().setScale(1f);
+    }
+
+    private StringBuilder format(float millis) {
+        // Two decimal places without String.format so the overlay doesn't allocate every frame
+        int hundredths = Math.round(millis * 100f);
+        StringBuilder out = formatBuffer;
+        out.setLength(0);
+        out.append(hundredths / 100).append('.');
+        int fraction = hundredths % 100;
+        if (fraction < 10) out.append('0');
+        out.append(fraction);
+        return out;
+    }
+}
@@ -3,6 +3,7 @@ package ui;
 import java.util.Random;
 import com.badlogic.gdx.math.Vector3;
 import config.SaveManager;
+import managers.GameRandom;
 
 public class ScreenShake {
     private static float time = 0;
@@ -22,7 +23,7 @@ public class ScreenShake {
         }
 
         if (cooldownTimer <= 0) {
-            random = new Random();
+            random = GameRandom.newRandom();
             power = rumblePower;
             time = rumbleLength;
             currentTime = 0;
@@ -35,7 +36,7 @@ public class ScreenShake {
             cooldownTimer -= delta;
         }
 
-        if (currentTime <= time) {
+        if (time > 0 && currentTime <= time) {
             currentPower = power * ((time - currentTime) / time);
 
             if (random != null) {
@@ -7,6 +7,16 @@ import config.Boot;
 // Please note that on macOS your application needs to be started with the -XstartOnFirstThread JVM argument
 public class DesktopLauncher {
 	public static void main (String[] arg) {
+		for (int i = 0; i < arg.length; i++) {
+			if (arg[i].equals("--profile")) {
+				System.setProperty("toppy.profile", "true");
+			} else if (arg[i].equals("--record")) {
+				System.setProperty("toppy.record", "true");
+			} else if (arg[i].equals("--replay") && i + 1 < arg.length) {
+				System.setProperty("toppy.replay", arg[++i]);
+			}
+		}
+
 		Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
 		config.setForegroundFPS(60);
 		config.setIdleFPS(30);
@@ -0,0 +1,118 @@
+package headless;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+
+import config.Storage;
+import entities.Player;
+import managers.AnimationManager;
+import managers.Box2DWorld;
+
+public final class HeadlessEnvironment {
+    public static final int PLAYER_SIZE = 32;
+    public static final int SCREEN_WIDTH = 1280;
+    public static final int SCREEN_HEIGHT = 720;
+    public static final float STEP = 1 / 60f;
+
+    private static boolean initialized = false;
+
+    private HeadlessEnvironment() {}
+
+    // For benchmarks: boots the backend and assets, then hands control back to the calling thread
+    public static synchronized void init() {
+        if (initialized) return;
+
+        CountDownLatch ready = new CountDownLatch(1);
+        // Negative rate skips the application loop, the caller drives everything itself
+        start(new ApplicationListener() {
+            @Override public void create() { ready.countDown(); }
+            @Override public void resize(int width, int height) {}
+            @Override public void render() {}
+            @Override public void pause() {}
+            @Override public void resume() {}
+            @Override public void dispose() {}
+        }, -1);
+
+        try {
+            ready.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Storage.getInstance();
+        initialized = true;
+    }
+
+    // For simulations: runs the listener on the application thread, ticking as fast as updatesPerSecond allows
+    public static HeadlessApplication start(ApplicationListener listener, int updatesPerSecond) {
+        return start(listener, updatesPerSecond, SCREEN_WIDTH, SCREEN_HEIGHT);
+    }
+
+    public static HeadlessApplication start(ApplicationListener listener, int updatesPerSecond, int width, int height) {
+        GL20 gl = createStubGL();
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = updatesPerSecond;
+
+        return new HeadlessApplication(new ApplicationListener() {
+            @Override
+            public void create() {
+                // The backend installs its own MockGraphics, swap in one with a fixed step before the game sees it
+                Gdx.graphics = new HeadlessGraphics(gl, STEP, width, height);
+                listener.create();
+            }
+
+            @Override public void resize(int width, int height) { listener.resize(width, height); }
+            @Override public void render() { listener.render(); }
+            @Override public void pause() { listener.pause(); }
+            @Override public void resume() { listener.resume(); }
+            @Override public void dispose() { listener.dispose(); }
+        }, config);
+    }
+
+    public static Player createPlayer(Box2DWorld world) {
+        return new Player(world, new AnimationManager(), PLAYER_SIZE, null, null);
+    }
+
+    private static GL20 createStubGL() {
+        AtomicInteger nextHandle = new AtomicInteger(1);
+
+        // Every GL call is a no-op, except the status queries that would otherwise make shaders and FBOs fail
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[]{GL20.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+
+                    if ((name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) && args[2] instanceof IntBuffer) {
+                        int pname = (Integer) args[1];
+                        boolean ok = pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS;
+                        ((IntBuffer) args[2]).put(0, ok ? 1 : 0);
+                        return null;
+                    }
+                    if (name.startsWith("glCreate") || name.startsWith("glGen")) {
+                        if (method.getReturnType() == int.class) {
+                            return nextHandle.getAndIncrement();
+                        }
+                    }
+                    if (name.equals("glCheckFramebufferStatus")) {
+                        return GL20.GL_FRAMEBUFFER_COMPLETE;
+                    }
+
+                    Class<?> type = method.getReturnType();
+                    if (type == int.class) return 0;
+                    if (type == boolean.class) return false;
+                    if (type == float.class) return 0f;
+                    if (type == String.class) return "";
+                    return null;
+                });
+    }
+}
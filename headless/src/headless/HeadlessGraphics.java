@@ -0,0 +1,63 @@
+package headless;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.mock.graphics.MockGraphics;
+import com.badlogic.gdx.graphics.GL20;
+
+// Reports a fixed frame step and a real screen size, so game time advances per tick rather than per wall-clock second
+public class HeadlessGraphics extends MockGraphics {
+    private final float step;
+    private final int width;
+    private final int height;
+    private GL20 gl;
+
+    public HeadlessGraphics(GL20 gl, float step, int width, int height) {
+        this.step = step;
+        this.width = width;
+        this.height = height;
+        setGL20(gl);
+    }
+
+    // MockGraphics drops the GL instance, which breaks GLProfiler; keep it and publish it like the desktop backend does
+    @Override
+    public GL20 getGL20() {
+        return gl;
+    }
+
+    @Override
+    public void setGL20(GL20 gl20) {
+        this.gl = gl20;
+        Gdx.gl = gl20;
+        Gdx.gl20 = gl20;
+    }
+
+    @Override
+    public float getDeltaTime() {
+        return step;
+    }
+
+    @Override
+    public int getFramesPerSecond() {
+        return Math.round(1f / step);
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public int getBackBufferWidth() {
+        return width;
+    }
+
+    @Override
+    public int getBackBufferHeight() {
+        return height;
+    }
+}
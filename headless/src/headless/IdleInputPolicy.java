@@ -0,0 +1,11 @@
+package headless;
+
+import game.GameProj;
+import managers.FrameInput;
+
+public class IdleInputPolicy implements InputPolicy {
+    @Override
+    public void update(long tick, float time, FrameInput input, GameProj game) {
+        input.releaseAll();
+    }
+}
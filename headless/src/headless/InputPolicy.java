@@ -0,0 +1,9 @@
+package headless;
+
+import game.GameProj;
+import managers.FrameInput;
+
+public interface InputPolicy {
+    // Called once per tick before the game updates; set this tick's keys, buttons and mouse on input
+    void update(long tick, float time, FrameInput input, GameProj game);
+}
@@ -0,0 +1,257 @@
+package headless;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import entities.LootTableType;
+import managers.AliasTable;
+import managers.GameRandom;
+import managers.ItemRegistry;
+import managers.ItemSpawner;
+import managers.LootTable;
+import managers.LootTableRegistry;
+
+/*
+ * Checks that the compiled loot tables still drop what the old per-entry roll did. Every registered table
+ * is rolled through LootTable's batch path, and a copy of the old sequential roll walks the same entries
+ * with its own random stream. Per item, the mean drops per kill of the two have to agree within a few
+ * standard errors. Kills are counted in blocks so a multi-quantity drop's spread is part of the error.
+ *
+ * AliasTable is also sampled on its own against a few uneven weight sets with a chi-square test, since
+ * the registered variant groups are all evenly weighted and would not catch a bias.
+ *
+ *   --seed N     seed for both random streams (default 1)
+ *   --kills N    kills rolled per table and path (default 64000)
+ *
+ * Exits with 1 if anything is out of tolerance.
+ */
+public class LootDistributionCheck {
+    private static final int BLOCK = 16;
+    private static final float MAX_DEVIATIONS = 5f;
+    private static final int ALIAS_SAMPLES = 1_000_000;
+    // Upper normal quantile for p = 0.001, for the chi-square critical value
+    private static final double CHI_SQUARE_Z = 3.09;
+
+    private static final float[][] ALIAS_WEIGHTS = {
+            {1f, 2f, 3f, 4f},
+            {0.7f, 0.2f, 0.1f},
+            {5f, 0f, 1f, 1f, 3f},
+            {1f, 1f, 1f},
+    };
+
+    // Counts what a roll spawns instead of spawning it
+    private static class CountingSpawner extends ItemSpawner {
+        final int[] counts;
+        long coins;
+
+        CountingSpawner(int itemCount) {
+            super(null);
+            counts = new int[itemCount];
+        }
+
+        @Override
+        public WorldItem spawnItemWithOffset(int itemIndex, float x, float y, float maxOffset) {
+            // An unknown item spawns nothing in the game either
+            if (itemIndex >= 0) counts[itemIndex]++;
+            return null;
+        }
+
+        @Override
+        public void dropCoins(float x, float y, int value) {
+            coins += value;
+        }
+
+        void reset() {
+            Arrays.fill(counts, 0);
+            coins = 0;
+        }
+    }
+
+    // Sum and sum of squares of the per-block count of every item, plus coins in the last slot
+    private static class Tally {
+        final double[] sum;
+        final double[] sumSquares;
+        int blocks;
+
+        Tally(int slots) {
+            sum = new double[slots];
+            sumSquares = new double[slots];
+        }
+
+        void add(CountingSpawner spawner) {
+            int items = spawner.counts.length;
+            for (int i = 0; i < items; i++) {
+                int count = spawner.counts[i];
+                sum[i] += count;
+                sumSquares[i] += (double) count * count;
+            }
+            sum[items] += spawner.coins;
+            sumSquares[items] += (double) spawner.coins * spawner.coins;
+            blocks++;
+        }
+
+        double mean(int slot) {
+            return sum[slot] / blocks;
+        }
+
+        double variance(int slot) {
+            double mean = mean(slot);
+            return Math.max(0.0, sumSquares[slot] / blocks - mean * mean);
+        }
+    }
+
+    public static void main(String[] args) {
+        long seed = 1;
+        int kills = 64000;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--kills": kills = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        GameRandom.setSeed(seed);
+        HeadlessEnvironment.init();
+
+        int failures = 0;
+        int blocks = Math.max(1, kills / BLOCK);
+        Random reference = GameRandom.newRandom();
+        for (LootTableType type : LootTableType.values()) {
+            LootTable table = LootTableRegistry.getInstance().getLootTable(type);
+            if (table == null) continue;
+            failures += checkTable(type, table, blocks, reference);
+        }
+
+        Random random = new Random(seed);
+        for (float[] weights : ALIAS_WEIGHTS) {
+            failures += checkAlias(weights, random);
+        }
+
+        System.out.println(failures == 0 ? "loot distribution OK" : "loot distribution FAILED: " + failures + " checks out of tolerance");
+        System.exit(failures == 0 ? 0 : 1);
+    }
+
+    private static int checkTable(LootTableType type, LootTable table, int blocks, Random reference) {
+        ItemRegistry registry = ItemRegistry.getInstance();
+        int itemCount = registry.getItemCount();
+        CountingSpawner spawner = new CountingSpawner(itemCount);
+        Tally compiled = new Tally(itemCount + 1);
+        Tally sequential = new Tally(itemCount + 1);
+
+        float[] x = new float[BLOCK];
+        float[] y = new float[BLOCK];
+        for (int b = 0; b < blocks; b++) {
+            spawner.reset();
+            table.spawnLoot(spawner, x, y, 0, BLOCK);
+            compiled.add(spawner);
+
+            spawner.reset();
+            for (int k = 0; k < BLOCK; k++) {
+                rollSequential(table, spawner, reference);
+            }
+            sequential.add(spawner);
+        }
+
+        int failures = 0;
+        int checked = 0;
+        for (int slot = 0; slot <= itemCount; slot++) {
+            double compiledMean = compiled.mean(slot);
+            double sequentialMean = sequential.mean(slot);
+            if (compiledMean == 0.0 && sequentialMean == 0.0) continue;
+            checked++;
+
+            double error = Math.sqrt(compiled.variance(slot) / blocks + sequential.variance(slot) / blocks);
+            double difference = Math.abs(compiledMean - sequentialMean);
+            if (difference > MAX_DEVIATIONS * error) {
+                String name = slot == itemCount ? "coins" : registry.getDefinition(slot).id;
+                System.out.printf("  %-14s %-22s compiled %.5f  sequential %.5f per kill%n", type.getId(), name,
+                        compiledMean / BLOCK, sequentialMean / BLOCK);
+                failures++;
+            }
+        }
+        System.out.printf("%-14s %d kills, %d drops compared, %d out of tolerance%n",
+                type.getId(), blocks * BLOCK, checked, failures);
+        return failures;
+    }
+
+    // The roll as it was before tables were compiled: entry by entry off the entry objects, with
+    // variant groups picked evenly
+    private static void rollSequential(LootTable table, CountingSpawner spawner, Random random) {
+        ItemRegistry registry = ItemRegistry.getInstance();
+        List<LootTable.LootEntry> entries = table.getEntries();
+
+        int guaranteedCoins = table.getGuaranteedCoins();
+        if (guaranteedCoins > 0) {
+            spawner.dropCoins(0f, 0f, guaranteedCoins >= 5 ? Math.min(guaranteedCoins, 5) * 5 : guaranteedCoins);
+        }
+
+        for (int e = 0; e < entries.size(); e++) {
+            LootTable.LootEntry entry = entries.get(e);
+            if (random.nextFloat() > entry.dropChance) continue;
+
+            int quantity = entry.minQuantity;
+            if (entry.maxQuantity > entry.minQuantity) {
+                quantity += random.nextInt(entry.maxQuantity - entry.minQuantity + 1);
+            }
+
+            int itemIndex = registry.getIndex(entry.itemId);
+            if (entry.itemType != null) {
+                int prefix = random.nextInt(ItemRegistry.GEAR_PREFIXES.length);
+                int[] prefixVariants = registry.getPrefixVariants(entry.itemId);
+                ItemRegistry.VariantGroup group = registry.getVariantGroup(entry.itemId);
+                if (prefixVariants != null) {
+                    itemIndex = prefixVariants[prefix];
+                } else if (group != null) {
+                    itemIndex = group.items[random.nextInt(group.items.length)];
+                }
+            }
+
+            for (int i = 0; i < quantity; i++) {
+                spawner.spawnItemWithOffset(itemIndex, 0f, 0f, 0f);
+            }
+        }
+    }
+
+    private static int checkAlias(float[] weights, Random random) {
+        AliasTable table = new AliasTable(weights);
+        long[] counts = new long[weights.length];
+        for (int i = 0; i < ALIAS_SAMPLES; i++) {
+            counts[table.sample(random)]++;
+        }
+
+        float total = 0f;
+        for (float weight : weights) {
+            total += weight;
+        }
+
+        boolean zeroPicked = false;
+        double chiSquare = 0.0;
+        int degrees = -1;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] == 0f) {
+                zeroPicked |= counts[i] > 0;
+                continue;
+            }
+            double expected = (double) ALIAS_SAMPLES * weights[i] / total;
+            double deviation = counts[i] - expected;
+            chiSquare += deviation * deviation / expected;
+            degrees++;
+        }
+
+        // Wilson-Hilferty approximation of the chi-square quantile
+        double critical = 0.0;
+        if (degrees > 0) {
+            double h = 2.0 / (9.0 * degrees);
+            critical = degrees * Math.pow(1.0 - h + CHI_SQUARE_Z * Math.sqrt(h), 3);
+        }
+
+        boolean failed = zeroPicked || chiSquare > critical;
+        System.out.printf("alias %-26s chi^2 %.2f (df %d, limit %.2f)%s%n", Arrays.toString(weights),
+                chiSquare, degrees, critical, zeroPicked ? ", zero weight picked" : "");
+        return failed ? 1 : 0;
+    }
+}
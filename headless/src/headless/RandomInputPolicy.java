@@ -0,0 +1,67 @@
+package headless;
+
+import java.util.Random;
+
+import com.badlogic.gdx.Input;
+
+import config.SaveManager;
+import game.GameProj;
+import managers.FrameInput;
+
+// Wanders, aims and attacks at random, and fires abilities now and then. Only presses gameplay keys, never menus.
+public class RandomInputPolicy implements InputPolicy {
+    private static final int[] MOVE_KEYS = {Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D};
+    private static final String[] ACTIONS = {"ability1", "ability2", "ability3", "ability4", "ability5", "consumable1", "consumable2"};
+    private static final float MIN_DECISION_TIME = 0.5f;
+    private static final float MAX_DECISION_TIME = 2f;
+    private static final float ACTION_CHANCE_PER_TICK = 1f / 90f;
+
+    private final Random random;
+    private float nextDecision = 0f;
+    private int heldAction = -1;
+
+    public RandomInputPolicy(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void update(long tick, float time, FrameInput input, GameProj game) {
+        if (heldAction >= 0) {
+            setAction(input, ACTIONS[heldAction], false);
+            heldAction = -1;
+        }
+
+        if (time >= nextDecision) {
+            nextDecision = time + MIN_DECISION_TIME + random.nextFloat() * (MAX_DECISION_TIME - MIN_DECISION_TIME);
+
+            for (int key : MOVE_KEYS) {
+                input.setKey(key, false);
+            }
+            // One of eight directions or standing still
+            int direction = random.nextInt(9);
+            if (direction < 8) {
+                if (direction == 0 || direction == 1 || direction == 7) input.setKey(Input.Keys.W, true);
+                if (direction == 3 || direction == 4 || direction == 5) input.setKey(Input.Keys.S, true);
+                if (direction == 5 || direction == 6 || direction == 7) input.setKey(Input.Keys.A, true);
+                if (direction == 1 || direction == 2 || direction == 3) input.setKey(Input.Keys.D, true);
+            }
+
+            input.setButton(Input.Buttons.LEFT, random.nextFloat() < 0.7f);
+            input.setMouse(random.nextInt(HeadlessEnvironment.SCREEN_WIDTH), random.nextInt(HeadlessEnvironment.SCREEN_HEIGHT));
+        }
+
+        if (random.nextFloat() < ACTION_CHANCE_PER_TICK) {
+            heldAction = random.nextInt(ACTIONS.length);
+            setAction(input, ACTIONS[heldAction], true);
+        }
+    }
+
+    private void setAction(FrameInput input, String action, boolean pressed) {
+        int[] binding = SaveManager.getKeybinding(action);
+        if (binding == null) return;
+
+        for (int key : binding) {
+            input.setKey(key, pressed);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package headless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.files.FileHandle;
+
+import game.GameProj;
+import managers.FrameInput;
+
+/*
+ * Plays back a plain-text script, one command per line at a time in seconds:
+ *
+ *   0.0  down W          hold a key (Input.Keys constant name) or MOUSE_LEFT / MOUSE_RIGHT
+ *   2.5  up W            release it
+ *   3.0  tap SPACE       press for a single tick
+ *   3.0  mouse 900 200   move the cursor, in screen pixels
+ *   60   loop            start over from the top
+ *
+ * Blank lines and lines starting with # are ignored.
+ */
+public class ScriptedInputPolicy implements InputPolicy {
+    private static class Command {
+        final float time;
+        final String action;
+        final String[] args;
+
+        Command(float time, String action, String[] args) {
+            this.time = time;
+            this.action = action;
+            this.args = args;
+        }
+    }
+
+    private final List<Command> commands = new ArrayList<>();
+    private final List<String> tapped = new ArrayList<>();
+    private int next = 0;
+    private float timeOffset = 0f;
+
+    public ScriptedInputPolicy(FileHandle script) {
+        String[] lines = script.readString("UTF-8").split("\\r?\\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] parts = line.split("\\s+");
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Script line " + (i + 1) + ": expected '<time> <action> ...'");
+            }
+
+            String[] args = new String[parts.length - 2];
+            System.arraycopy(parts, 2, args, 0, args.length);
+            commands.add(new Command(Float.parseFloat(parts[0]), parts[1].toLowerCase(), args));
+        }
+    }
+
+    @Override
+    public void update(long tick, float time, FrameInput input, GameProj game) {
+        for (String target : tapped) {
+            setTarget(input, target, false);
+        }
+        tapped.clear();
+
+        while (next < commands.size() && commands.get(next).time + timeOffset <= time) {
+            Command command = commands.get(next++);
+
+            switch (command.action) {
+                case "down":
+                    setTarget(input, command.args[0], true);
+                    break;
+                case "up":
+                    setTarget(input, command.args[0], false);
+                    break;
+                case "tap":
+                    setTarget(input, command.args[0], true);
+                    tapped.add(command.args[0]);
+                    break;
+                case "mouse":
+                    input.setMouse(Integer.parseInt(command.args[0]), Integer.parseInt(command.args[1]));
+                    break;
+                case "loop":
+                    timeOffset += command.time;
+                    next = 0;
+                    input.releaseAll();
+                    return;
+                default:
+                    System.err.println("ScriptedInputPolicy: Unknown action - " + command.action);
+                    break;
+            }
+        }
+    }
+
+    private void setTarget(FrameInput input, String target, boolean pressed) {
+        if (target.equalsIgnoreCase("MOUSE_LEFT")) {
+            input.setButton(Input.Buttons.LEFT, pressed);
+        } else if (target.equalsIgnoreCase("MOUSE_RIGHT")) {
+            input.setButton(Input.Buttons.RIGHT, pressed);
+        } else {
+            int key = parseKey(target);
+            if (key == -1) {
+                System.err.println("ScriptedInputPolicy: Unknown key - " + target);
+                return;
+            }
+            input.setKey(key, pressed);
+        }
+    }
+
+    private static int parseKey(String name) {
+        try {
+            return Input.Keys.class.getField(name.toUpperCase()).getInt(null);
+        } catch (ReflectiveOperationException e) {
+            return Input.Keys.valueOf(name);
+        }
+    }
+}
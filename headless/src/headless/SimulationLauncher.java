@@ -0,0 +1,234 @@
+package headless;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+
+import config.GameScreen;
+import config.Storage;
+import entities.Player;
+import entities.PlayerClass;
+import entities.PlayerStats;
+import game.GameProj;
+import managers.FrameInput;
+import managers.GameRandom;
+import managers.InputRecording;
+import managers.Profiler;
+import managers.ReplayManager;
+
+/*
+ * Runs the real game loop without a window, as fast as the CPU allows.
+ *
+ *   --mode endless|overworld   game mode to start in (default endless)
+ *   --minutes N                simulated minutes to run (default 10)
+ *   --seed N                   seed for every game RNG and the input policy (default 1)
+ *   --policy random|idle|FILE  input policy; anything else is read as a ScriptedInputPolicy file (default random)
+ *   --class mercenary|paladin  player class (default mercenary)
+ *   --mortal                   end the run when the player dies instead of keeping them topped up
+ *   --profile                  enable the frame profiler and record its CSV trace
+ *   --record FILE              write the run's input to FILE; recording and replaying imply --mortal so neither depends on the harness
+ *   --replay FILE              play back a recording (from here or the desktop game) instead of running a policy;
+ *                              seed, mode and class come from the recording, and it runs to the end unless --minutes is set
+ */
+public class SimulationLauncher extends ApplicationAdapter {
+    private static final int PROGRESS_INTERVAL_SECONDS = 60;
+
+    private long seed;
+    private String mode;
+    private final String policyName;
+    private final long totalTicks;
+    private final PlayerClass playerClass;
+    private final boolean mortal;
+    private final boolean profile;
+    private final String recordPath;
+    private final String replayPath;
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private final FrameInput input = new FrameInput(null);
+    private final SimulationStats stats = new SimulationStats();
+    private InputPolicy policy;
+    private GameProj game;
+    private long tick = 0;
+    private String endReason = "time limit";
+
+    public SimulationLauncher(long seed, String mode, String policyName, float minutes, PlayerClass playerClass,
+                              boolean mortal, boolean profile, String recordPath, String replayPath) {
+        this.seed = seed;
+        this.mode = mode;
+        this.policyName = replayPath != null ? "replay " + replayPath : policyName;
+        this.totalTicks = minutes > 0 ? Math.round(minutes * 60f / HeadlessEnvironment.STEP) : Long.MAX_VALUE;
+        this.playerClass = playerClass;
+        this.mortal = mortal || recordPath != null || replayPath != null;
+        this.profile = profile;
+        this.recordPath = recordPath;
+        this.replayPath = replayPath;
+    }
+
+    @Override
+    public void create() {
+        Gdx.input = input;
+        Storage.getInstance();
+
+        ReplayManager replay = ReplayManager.getInstance();
+        if (replayPath != null) {
+            replay.replayFrom(Gdx.files.absolute(replayPath));
+        } else {
+            GameRandom.setSeed(seed);
+            GameScreen.setGameMode(mode.equals("overworld") ? 1 : 0);
+            Storage.setSelectedPlayerClass(playerClass);
+
+            if (policyName.equals("random")) {
+                policy = new RandomInputPolicy(seed);
+            } else if (policyName.equals("idle")) {
+                policy = new IdleInputPolicy();
+            } else {
+                policy = new ScriptedInputPolicy(Gdx.files.absolute(policyName));
+            }
+
+            if (recordPath != null) {
+                replay.recordTo(Gdx.files.absolute(recordPath));
+            }
+        }
+
+        if (profile) {
+            Profiler.getInstance().setEnabled(true);
+            Profiler.getInstance().startCsv();
+        }
+
+        replay.beginRun();
+        if (replayPath != null) {
+            if (!replay.isReplaying()) {
+                throw new IllegalStateException("Could not start replay of " + replayPath);
+            }
+            seed = GameRandom.getSeed();
+            mode = GameScreen.getGameMode() == 1 ? "overworld" : "endless";
+        }
+
+        game = new GameProj(new FitViewport(GameScreen.SELECTED_WIDTH, GameScreen.SELECTED_HEIGHT), null, null);
+        game.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+
+        System.out.println("Simulation: seed " + seed + ", " + mode + ", policy " + policyName + ", " + totalTicks + " ticks");
+        stats.start();
+    }
+
+    @Override
+    public void render() {
+        if (tick >= totalTicks) {
+            Gdx.app.exit();
+            return;
+        }
+
+        ReplayManager replay = ReplayManager.getInstance();
+        boolean replaying = replay.isReplaying();
+        if (!replaying) {
+            input.beginTick();
+            policy.update(tick, tick * HeadlessEnvironment.STEP, input, game);
+        }
+
+        float delta = replay.beginTick(HeadlessEnvironment.STEP);
+        if (replaying && !replay.isReplaying()) {
+            endReason = "replay finished";
+            tick = totalTicks;
+            return;
+        }
+
+        game.render(delta);
+        stats.sample(game);
+        tick++;
+
+        Player player = game.getPlayer();
+        PlayerStats playerStats = player.getStats();
+        if (playerStats.isDead() || playerStats.getCurrentHealth() < playerStats.getMaxHealth()) {
+            if (mortal) {
+                if (playerStats.isDead()) {
+                    endReason = "player died";
+                    tick = totalTicks;
+                }
+            } else {
+                // Soak runs measure load, not skill, so the player is kept alive
+                playerStats.setCurrentHealth(playerStats.getMaxHealth());
+            }
+        }
+
+        if (tick % (long) (PROGRESS_INTERVAL_SECONDS / HeadlessEnvironment.STEP) == 0) {
+            stats.printProgress(HeadlessEnvironment.STEP);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        stats.stop();
+        stats.printReport(seed, mode, policyName, HeadlessEnvironment.STEP, endReason);
+        // Two runs of the same seed and input should print the same line here
+        Player player = game.getPlayer();
+        System.out.printf("final state      pos %.3f, %.3f, level %d, health %d, entities %d%n",
+                player.getPosition().x, player.getPosition().y, player.getLevel(),
+                player.getStats().getCurrentHealth(), SimulationStats.countEntities(game));
+
+        if (profile) {
+            Profiler.getInstance().stopCsv();
+        }
+        try {
+            game.dispose();
+        } catch (Exception e) {
+            System.err.println("SimulationLauncher: Error disposing game - " + e.getMessage());
+        }
+        ReplayManager.getInstance().endRun();
+        finished.countDown();
+    }
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        long seed = 1L;
+        String mode = "endless";
+        String policy = "random";
+        float minutes = -1f;
+        PlayerClass playerClass = PlayerClass.MERCENARY;
+        boolean mortal = false;
+        boolean profile = false;
+        String recordPath = null;
+        String replayPath = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed": seed = Long.parseLong(args[++i]); break;
+                case "--mode": mode = args[++i].toLowerCase(); break;
+                case "--policy": policy = args[++i]; break;
+                case "--minutes": minutes = Float.parseFloat(args[++i]); break;
+                case "--class": playerClass = PlayerClass.valueOf(args[++i].toUpperCase()); break;
+                case "--mortal": mortal = true; break;
+                case "--profile": profile = true; break;
+                case "--record": recordPath = args[++i]; break;
+                case "--replay": replayPath = args[++i]; break;
+                default:
+                    System.err.println("SimulationLauncher: Unknown argument - " + args[i]);
+                    break;
+            }
+        }
+
+        if (minutes <= 0 && replayPath == null) {
+            minutes = 10f;
+        }
+
+        int width = HeadlessEnvironment.SCREEN_WIDTH;
+        int height = HeadlessEnvironment.SCREEN_HEIGHT;
+        if (replayPath != null) {
+            // Mouse aim is in screen pixels, so the replay needs the screen size it was recorded at
+            InputRecording header = InputRecording.peekHeader(new FileInputStream(replayPath));
+            width = header.screenWidth;
+            height = header.screenHeight;
+        }
+
+        SimulationLauncher launcher = new SimulationLauncher(seed, mode, policy, minutes, playerClass, mortal, profile,
+                recordPath, replayPath);
+        // Zero updates per second runs the loop flat out with no sleeping between ticks
+        HeadlessEnvironment.start(launcher, 0, width, height);
+        launcher.finished.await();
+
+        // Chunk generator and audio threads would otherwise keep the JVM alive
+        System.exit(0);
+    }
+}
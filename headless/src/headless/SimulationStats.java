@@ -0,0 +1,182 @@
+package headless;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import game.GameProj;
+import managers.ActivationRegion;
+import managers.BodyCommandBuffer;
+import managers.Chunk;
+import managers.TrackedPool;
+
+public class SimulationStats {
+    private static final int HEAP_SAMPLE_INTERVAL = 60;
+
+    private final Set<String> heapPools = new HashSet<>();
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener gcListener = this::onGcNotification;
+
+    private long startNanos;
+    private long endNanos;
+    private long ticks;
+    private int peakBodies;
+    private int peakEntities;
+    private int peakAwakeEnemies;
+    private int peakDormantEnemies;
+    private long peakHeapBytes;
+
+    // Written from the JMX notification thread
+    private volatile long gcCount;
+    private volatile long gcTotalMillis;
+    private volatile long gcMaxPauseMillis;
+    private volatile long peakHeapBeforeGc;
+
+    public void start() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool.getName());
+            }
+        }
+
+        // GC notifications carry the heap usage right before each collection, which is the real high-water mark
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter) {
+                NotificationEmitter emitter = (NotificationEmitter) gc;
+                emitter.addNotificationListener(gcListener, null, null);
+                emitters.add(emitter);
+            }
+        }
+
+        startNanos = System.nanoTime();
+    }
+
+    public void sample(GameProj game) {
+        ticks++;
+
+        int bodies = game.getWorld().getWorld().getBodyCount();
+        if (bodies > peakBodies) peakBodies = bodies;
+
+        int entities = countEntities(game);
+        if (entities > peakEntities) peakEntities = entities;
+
+        ActivationRegion activation = game.getActivationRegion();
+        if (activation.getActiveCount() > peakAwakeEnemies) peakAwakeEnemies = activation.getActiveCount();
+        if (activation.getDormantCount() > peakDormantEnemies) peakDormantEnemies = activation.getDormantCount();
+
+        if (ticks % HEAP_SAMPLE_INTERVAL == 0) {
+            long used = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            if (used > peakHeapBytes) peakHeapBytes = used;
+        }
+    }
+
+    public void stop() {
+        endNanos = System.nanoTime();
+
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(gcListener);
+            } catch (Exception e) {
+                System.err.println("SimulationStats: Could not remove GC listener - " + e.getMessage());
+            }
+        }
+        emitters.clear();
+    }
+
+    private void onGcNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) return;
+
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long duration = info.getGcInfo().getDuration();
+
+        gcCount++;
+        gcTotalMillis += duration;
+        if (duration > gcMaxPauseMillis) gcMaxPauseMillis = duration;
+
+        long before = 0L;
+        for (Map.Entry<String, MemoryUsage> entry : info.getGcInfo().getMemoryUsageBeforeGc().entrySet()) {
+            if (heapPools.contains(entry.getKey())) {
+                before += entry.getValue().getUsed();
+            }
+        }
+        if (before > peakHeapBeforeGc) peakHeapBeforeGc = before;
+    }
+
+    public static int countEntities(GameProj game) {
+        int count = 0;
+
+        for (Chunk chunk : game.getChunks().values()) {
+            count += chunk.getEnemies().size();
+            count += chunk.getBossKitty().size();
+            count += chunk.getCyclopsList().size();
+            count += chunk.getLemmys().size();
+        }
+        count += game.getGlobalLemmy().size();
+        if (game.getHerman() != null) count++;
+        if (game.getHermanDuplicate() != null) count++;
+
+        if (game.getCurrentDungeon() != null) {
+            count += game.getCurrentDungeon().getEnemies().size();
+        }
+        if (game.getCurrentEndlessRoom() != null) {
+            count += game.getCurrentEndlessRoom().getEnemies().size();
+        }
+        if (game.getItemSpawner() != null) {
+            count += game.getItemSpawner().getWorldItems().size();
+            count += game.getItemSpawner().getCoinDrops().getActiveCount();
+        }
+
+        return count;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public void printReport(long seed, String mode, String policy, float step, String endReason) {
+        double wallSeconds = (endNanos - startNanos) / 1_000_000_000.0;
+        double simSeconds = ticks * step;
+        long heapPeak = Math.max(peakHeapBytes, peakHeapBeforeGc);
+
+        System.out.println();
+        System.out.println("=== Simulation report ===");
+        System.out.println("seed             " + seed);
+        System.out.println("mode             " + mode);
+        System.out.println("input policy     " + policy);
+        System.out.println("ended            " + endReason);
+        System.out.println("ticks            " + ticks);
+        System.out.printf("simulated time   %.1f s%n", simSeconds);
+        System.out.printf("wall time        %.1f s%n", wallSeconds);
+        System.out.printf("ticks per second %.1f (%.1fx realtime)%n", ticks / wallSeconds, simSeconds / wallSeconds);
+        System.out.println("peak bodies      " + peakBodies);
+        System.out.println("peak entities    " + peakEntities);
+        System.out.println("peak awake       " + peakAwakeEnemies + " enemies, " + peakDormantEnemies + " dormant");
+        System.out.println("body commands    " + BodyCommandBuffer.getInstance());
+        System.out.printf("heap high-water  %.1f MB%n", heapPeak / (1024.0 * 1024.0));
+        System.out.printf("gc pauses        %d, %d ms total, %d ms max%n", gcCount, gcTotalMillis, gcMaxPauseMillis);
+        for (TrackedPool<?> pool : TrackedPool.getPools()) {
+            System.out.println("pool             " + pool);
+        }
+    }
+
+    public void printProgress(float step) {
+        double wallSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long usedHeap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        System.out.printf("[%6.0f s] %.0f ticks/s, peak bodies %d, peak entities %d, heap %.1f MB, gc %d%n",
+                ticks * step, ticks / wallSeconds, peakBodies, peakEntities, usedHeap / (1024.0 * 1024.0), gcCount);
+    }
+}